@@ -175,13 +175,77 @@ def poll2(timeout=0.0, map=None):
                 continue
             readwrite(obj, flags)
 
-poll3 = poll2                           # Alias for backward compatibility
+# One epoll object per socket map, together with the event masks its
+# channels are currently registered with
+_epolls = {}
+
+def _epoll_to_poll_flags(events):
+    flags = 0
+    if events & (select.EPOLLIN | select.EPOLLPRI):
+        flags |= select.POLLIN
+    if events & select.EPOLLOUT:
+        flags |= select.POLLOUT
+    if events & (select.EPOLLERR | select.EPOLLHUP):
+        flags |= select.POLLERR
+    return flags
+
+def _close_epoll(map):
+    pollster, registered = _epolls.pop(id(map), (None, None))
+    if pollster is not None:
+        pollster.close()
+
+def poll3(timeout=0.0, map=None):
+    # Use the epoll() event loop: channels stay registered with one selector
+    # per map across calls, instead of being registered with a new poll
+    # object every time
+    if map is None:
+        map = socket_map
+    if timeout is None:
+        timeout = -1
+    if not map:
+        _close_epoll(map)
+        return
+    pollster, registered = _epolls.get(id(map), (None, None))
+    if pollster is None:
+        pollster, registered = _epolls[id(map)] = select.epoll(), {}
+    for fd in registered.keys():
+        if fd not in map:
+            del registered[fd]
+            try:
+                pollster.unregister(fd)
+            except select.error:
+                pass
+    for fd, obj in map.items():
+        flags = 0
+        if obj.readable():
+            flags |= select.EPOLLIN | select.EPOLLPRI
+        if obj.writable():
+            flags |= select.EPOLLOUT
+        old_flags = registered.get(fd)
+        if old_flags is None:
+            pollster.register(fd, flags)
+        elif old_flags != flags:
+            pollster.modify(fd, flags)
+        registered[fd] = flags
+    try:
+        r = pollster.poll(timeout)
+    except select.error, err:
+        if err[0] != EINTR:
+            raise
+        r = []
+    for fd, events in r:
+        obj = map.get(fd)
+        if obj is None:
+            continue
+        readwrite(obj, _epoll_to_poll_flags(events))
 
 def loop(timeout=30.0, use_poll=True, map=None, count=None):
     if map is None:
         map = socket_map
 
-    if use_poll and hasattr(select, 'poll'):
+    if use_poll and hasattr(select, 'epoll'):
+        poll_fun = poll3
+    elif use_poll and hasattr(select, 'poll'):
         poll_fun = poll2
     else:
         poll_fun = poll
@@ -195,6 +259,9 @@ def loop(timeout=30.0, use_poll=True, map=None, count=None):
             poll_fun(timeout, map)
             count = count - 1
 
+    if not map:
+        _close_epoll(map)
+
 class dispatcher:
 
     debug = False
@@ -495,6 +562,7 @@ def close_all(map=None):
     for x in map.values():
         x.socket.close()
     map.clear()
+    _close_epoll(map)
 
 # Asynchronous File I/O:
 #
@@ -5,7 +5,7 @@ Performance or careful error checking is not an issue.
 
 """
 
-import cStringIO
+import _marshal
 from _marshal import Marshaller, Unmarshaller
 
 def dump(x, f, version=2):
@@ -19,10 +19,7 @@ def load(f, debug=False):
     return u.load()
 
 def dumps(x, version=2):
-    f = cStringIO.StringIO()
-    dump(x, f, version)
-    return f.getvalue()
+    return _marshal.dumps(x, version)
 
 def loads(s):
-    f = cStringIO.StringIO(s)
-    return load(f)
+    return _marshal.loads(s)
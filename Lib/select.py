@@ -14,7 +14,9 @@ import os
 import Queue
 import socket
 
-class error(Exception): pass
+from _select import error, epoll, EPOLLIN, EPOLLPRI, EPOLLOUT, EPOLLERR, \
+     EPOLLHUP, EPOLLRDNORM, EPOLLRDBAND, EPOLLWRNORM, EPOLLWRBAND, EPOLLMSG, \
+     EPOLLONESHOT, EPOLLET
 
 ALL = None
 
@@ -77,6 +77,7 @@ javax.net.ssl.SSLProtocolException
 import org.python.core.io.DatagramSocketIO
 import org.python.core.io.ServerSocketIO
 import org.python.core.io.SocketIO
+from org.python.core.io import SocketBuffers
 from org.python.core.Py import newString as asPyString
 
 class error(Exception): pass
@@ -334,35 +335,32 @@ class _client_socket_impl(_nio_impl):
     def finish_connect(self):
         return self.jchannel.finishConnect()
 
-    def _do_read_net(self, buf):
-        # Need two separate implementations because the java.nio APIs do not support timeouts
-        return self.jsocket.getInputStream().read(buf)
-
-    def _do_read_nio(self, buf):
-        bytebuf = java.nio.ByteBuffer.wrap(buf)
-        count = self.jchannel.read(bytebuf)
-        return count
+    # Need separate implementations for timeout mode because the java.nio APIs do not
+    # support timeouts. SocketBuffers does the transfers without per call allocations.
 
-    def _do_write_net(self, buf):
-        self.jsocket.getOutputStream().write(buf)
-        return len(buf)
+    def recv(self, n):
+        if self.mode == MODE_TIMEOUT:
+            return SocketBuffers.recv(self.jsocket.getInputStream(), n)
+        else:
+            return SocketBuffers.recv(self.jchannel, n)
 
-    def _do_write_nio(self, buf):
-        bytebuf = java.nio.ByteBuffer.wrap(buf)
-        count = self.jchannel.write(bytebuf)
-        return count
+    def recv_into(self, buf, n):
+        if self.mode == MODE_TIMEOUT:
+            return SocketBuffers.recvInto(self.jsocket.getInputStream(), buf, n)
+        else:
+            return SocketBuffers.recvInto(self.jchannel, buf, n)
 
-    def read(self, buf):
+    def send(self, data):
         if self.mode == MODE_TIMEOUT:
-            return self._do_read_net(buf)
+            return SocketBuffers.sendall(self.jsocket.getOutputStream(), data)
         else:
-            return self._do_read_nio(buf)
+            return SocketBuffers.send(self.jchannel, data)
 
-    def write(self, buf):
+    def sendall(self, data):
         if self.mode == MODE_TIMEOUT:
-            return self._do_write_net(buf)
+            return SocketBuffers.sendall(self.jsocket.getOutputStream(), data)
         else:
-            return self._do_write_nio(buf)
+            return SocketBuffers.sendall(self.jchannel, data)
 
     def shutdown(self, how):
         if how in (SHUT_RD, SHUT_RDWR):
@@ -982,41 +980,59 @@ class _tcpsocket(_nonblocking_api_mixin):
             self.istream = self.sock_impl.jsocket.getInputStream()
             self.ostream = self.sock_impl.jsocket.getOutputStream()
 
+    def _check_connected(self):
+        if not self.sock_impl: raise error(errno.ENOTCONN, 'Socket is not connected')
+        if self.sock_impl.jchannel.isConnectionPending():
+            self.sock_impl.jchannel.finishConnect()
+
     def recv(self, n):
         try:
-            if not self.sock_impl: raise error(errno.ENOTCONN, 'Socket is not connected')
-            if self.sock_impl.jchannel.isConnectionPending():
-                self.sock_impl.jchannel.finishConnect()
-            data = jarray.zeros(n, 'b')
-            m = self.sock_impl.read(data)
-            if m == -1:#indicates EOF has been reached, so we just return the empty string
-                return ""
-            elif m <= 0:
+            self._check_connected()
+            data = self.sock_impl.recv(n)
+            if data is None:
                 if self.mode == MODE_NONBLOCKING:
                     raise would_block_error()
                 return ""
-            if m < n:
-                data = data[:m]
-            return data.tostring()
+            return data
+        except java.lang.Exception, jlx:
+            raise _map_exception(jlx)
+
+    def recv_into(self, buf, nbytes=0, flags=0):
+        try:
+            self._check_connected()
+            m = self.sock_impl.recv_into(buf, nbytes)
+            if m == -1:#indicates EOF has been reached, so nothing was read
+                return 0
+            elif m == 0 and self.mode == MODE_NONBLOCKING:
+                raise would_block_error()
+            return m
         except java.lang.Exception, jlx:
             raise _map_exception(jlx)
 
     def recvfrom(self, n):
         return self.recv(n), None
 
+    def recvfrom_into(self, buf, nbytes=0, flags=0):
+        return self.recv_into(buf, nbytes, flags), None
+
     def send(self, s):
         try:
-            if not self.sock_impl: raise error(errno.ENOTCONN, 'Socket is not connected')
-            if self.sock_impl.jchannel.isConnectionPending():
-                self.sock_impl.jchannel.finishConnect()
-            numwritten = self.sock_impl.write(s)
+            self._check_connected()
+            numwritten = self.sock_impl.send(s)
             if numwritten == 0 and self.mode == MODE_NONBLOCKING:
                 raise would_block_error()
             return numwritten
         except java.lang.Exception, jlx:
             raise _map_exception(jlx)
 
-    sendall = send
+    def sendall(self, s):
+        try:
+            self._check_connected()
+            numwritten = self.sock_impl.sendall(s)
+            if numwritten < len(s) and self.mode == MODE_NONBLOCKING:
+                raise would_block_error()
+        except java.lang.Exception, jlx:
+            raise _map_exception(jlx)
 
     def getsockname(self):
         try:
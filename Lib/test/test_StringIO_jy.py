@@ -28,9 +28,86 @@ class TestWrite(unittest.TestCase):
         f.write("uvwxyz")
         self.assertEqual(f.getvalue(), 'abcdef\x00\x00\x00\x00uvwxyz')
 
+    def test_write_across_chunks(self):
+        f = cStringIO.StringIO()
+        data = ''.join([chr(i % 256) for i in range(20000)])
+        f.write(data)
+        f.seek(8000)
+        f.write('x' * 500)
+        expected = data[:8000] + 'x' * 500 + data[8500:]
+        self.assertEqual(f.getvalue(), expected)
+        f.seek(8190)
+        self.assertEqual(f.read(10), expected[8190:8200])
+
+    def test_write_non_byte(self):
+        # chars above \xff are kept as written
+        f = cStringIO.StringIO()
+        f.write('ab\n' * 5000)
+        f.write(u'\u1234\n')
+        f.seek(1)
+        f.write('x')
+        f.seek(15010)
+        f.write('z')
+        expected = 'ax\n' + 'ab\n' * 4999 + u'\u1234\n' + '\x00' * 8 + 'z'
+        self.assertEqual(map(ord, f.getvalue()), map(ord, expected))
+        f.seek(15000)
+        self.assertEqual(map(ord, f.readline()), [0x1234, 10])
+        f.truncate(3)
+        self.assertEqual(f.getvalue(), 'ax\n')
+        f = cStringIO.StringIO(u'a\u1234')
+        self.assertEqual(f.read(1), 'a')
+        f.write('b')
+        self.assertEqual(f.getvalue(), 'ab')
+
+    def test_grow_initial_value(self):
+        # the first chunk is sized from the initial value, and grows
+        for initial in '', 'abc', 'x' * 10000:
+            f = cStringIO.StringIO(initial)
+            f.seek(0, 2)
+            data = ''.join([chr(i % 256) for i in range(20000)])
+            for i in range(0, len(data), 700):
+                f.write(data[i:i + 700])
+            self.assertEqual(f.getvalue(), initial + data)
+
+    def test_truncate_then_write_past_end(self):
+        f = cStringIO.StringIO()
+        f.write('abcdef')
+        f.truncate(2)
+        f.seek(4)
+        f.write('z')
+        self.assertEqual(f.getvalue(), 'ab\x00\x00z')
+
+class TestRead(unittest.TestCase):
+    def test_readline(self):
+        lines = ['x' * i + '\n' for i in range(0, 20000, 997)]
+        for initial in True, False:
+            if initial:
+                f = cStringIO.StringIO(''.join(lines) + 'end')
+            else:
+                f = cStringIO.StringIO()
+                f.writelines(lines)
+                f.write('end')
+                f.seek(0)
+            self.assertEqual(list(f), lines + ['end'])
+            f.seek(0)
+            self.assertEqual(f.readline(5), lines[0])
+            self.assertEqual(f.readline(5), lines[1][:5])
+
+    def test_getvalue_is_shared(self):
+        f = cStringIO.StringIO()
+        f.write('abc')
+        value = f.getvalue()
+        self.assert_(f.getvalue() is value)
+        f.seek(0)
+        self.assert_(f.read() is value)
+        f.write('d')
+        self.assertEqual(f.getvalue(), 'abcd')
+        self.assertEqual(value, 'abc')
+
 def test_main():
     test_support.run_unittest(TestUnicodeInput)
     test_support.run_unittest(TestWrite)
+    test_support.run_unittest(TestRead)
 
 if __name__ == '__main__':
     test_main()
@@ -0,0 +1,49 @@
+"""Misc binascii tests
+
+Made for Jython.
+"""
+import binascii
+import unittest
+from test import test_support
+
+class BinasciiTestCase(unittest.TestCase):
+
+    data = ''.join([chr(i * 7 % 256) for i in xrange(10000)])
+
+    def test_crc32_start(self):
+        # crc32 computes large chunks in bulk and joins them to the start value
+        for size in 0, 1, 31, 32, 4095, 4096, 10000:
+            for split in 0, size / 3, size:
+                start = binascii.crc32(self.data[:split])
+                self.assertEqual(binascii.crc32(self.data[split:size], start),
+                                 binascii.crc32(self.data[:size]))
+        self.assertEqual(binascii.crc32('a'), -390611389)
+        self.assertEqual(binascii.crc32('abc', 0xffffffffL), 899311407)
+        self.assertEqual(binascii.crc32('x' * 5000, 5), -872652624)
+
+    def test_base64(self):
+        for size in range(8) + [57, 10000]:
+            data = self.data[:size]
+            encoded = binascii.b2a_base64(data)
+            self.assertEqual(len(encoded), (size + 2) / 3 * 4 + 1)
+            self.assertEqual(binascii.a2b_base64(encoded), data)
+        self.assertEqual(binascii.b2a_base64('\xff\xfe'), '//4=\n')
+        self.assertEqual(binascii.a2b_base64('YW Jj\nZA=='), 'abcd')
+        self.assertRaises(binascii.Error, binascii.a2b_base64, 'YQ')
+
+    def test_hex(self):
+        hexed = binascii.hexlify(self.data)
+        self.assertEqual(hexed[:8], '00070e15')
+        self.assertEqual(binascii.unhexlify(hexed), self.data)
+        self.assertEqual(binascii.unhexlify(hexed.upper()), self.data)
+        self.assertRaises(TypeError, binascii.unhexlify, '0g')
+        self.assertRaises(TypeError, binascii.unhexlify, '0\xe9')
+        self.assertRaises(TypeError, binascii.unhexlify, '012')
+
+
+def test_main():
+    test_support.run_unittest(BinasciiTestCase)
+
+
+if __name__ == '__main__':
+    test_main()
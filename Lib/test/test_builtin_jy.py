@@ -184,6 +184,25 @@ class ExecEvalTest(unittest.TestCase):
             exec code in ns
             self.assertEqual(ns['bar'], expected)
 
+    def test_compiled_code_reused(self):
+        from org.python.core import CompiledCodeCache
+        source = 'spam = 6 * 7'
+        code = compile(source, '<cached>', 'exec')
+        hits = CompiledCodeCache.getHits()
+        self.assert_(compile(source, '<cached>', 'exec') is code)
+        self.assertEqual(CompiledCodeCache.getHits(), hits + 1)
+        # A different filename, mode or future flags compile anew
+        self.assert_(compile(source, '<other>', 'exec') is not code)
+        self.assert_(compile(source, '<cached>', 'single') is not code)
+        self.assert_(compile(source, '<cached>', 'exec',
+                             __import__('__future__').division.compiler_flag)
+                     is not code)
+        ns = {}
+        exec source in ns
+        self.assertEqual(ns['spam'], 42)
+        self.assertEqual(eval('spam + 1', ns), 43)
+        self.assertEqual(eval('spam + 1', ns), 43)
+
     def test_general_eval(self):
         # Tests that general mappings can be used for the locals argument
 
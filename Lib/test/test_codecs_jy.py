@@ -1,6 +1,9 @@
+import os
 import subprocess
 import sys
 import unittest
+from org.python.core.io import (BinaryIOWrapper, BufferedReader, BufferedWriter, FileIO,
+                                IncrementalDecoder, IncrementalEncoder)
 from test import test_support
 
 class CodecsTestCase(unittest.TestCase):
@@ -20,9 +23,130 @@ class CodecsTestCase(unittest.TestCase):
         self.assertEqual('\\x00'.encode('string-escape'), '\\\\x00')
         self.assertEqual('\\x00'.encode('unicode-escape'), '\\\\x00')
 
+    def test_builtin_aliases(self):
+        for name in 'utf-8', 'UTF8', 'utf_8', 'u8':
+            self.assertEqual('caf\xc3\xa9'.decode(name), u'caf\xe9')
+            self.assertEqual(u'caf\xe9'.encode(name), 'caf\xc3\xa9')
+        for name in 'latin-1', 'ISO-8859-1', 'latin1':
+            self.assertEqual('caf\xe9'.decode(name), u'caf\xe9')
+            self.assertEqual(u'caf\xe9'.encode(name), 'caf\xe9')
+
+    def test_utf8_errors(self):
+        self.assertEqual('\xef\xbf\xbd'.decode('utf-8'), u'\ufffd')
+        self.assertEqual('a\xffb\xc3'.decode('utf-8', 'replace'), u'a\ufffdb\ufffd')
+        self.assertEqual('a\xffb\xc3'.decode('utf-8', 'ignore'), u'ab')
+        self.assertRaises(UnicodeDecodeError, 'a\xffb'.decode, 'utf-8')
+
+    def test_utf16(self):
+        self.assertEqual('\xff\xfea\x00b\x00'.decode('utf-16'), u'ab')
+        self.assertEqual('\xfe\xff\x00a\x00b'.decode('utf-16'), u'ab')
+        self.assertEqual('a\x00b\x00'.decode('utf-16-le'), u'ab')
+        self.assertEqual('a\x00b'.decode('utf-16-le', 'replace'), u'a\ufffd')
+        self.assertEqual('\x00\xd8a\x00'.decode('utf-16-le', 'replace'), u'\ufffd\ufffda')
+        self.assertRaises(UnicodeDecodeError, 'a\x00b'.decode, 'utf-16-le')
+        self.assertEqual(u'ab'.encode('utf-16-be'), '\x00a\x00b')
+
+    def test_utf16_noncharacter(self):
+        # U+FFFE is only special as a leading BOM
+        import _codecs
+        for text in u'\ufffe', u'a\ufffeb', u'\ufeffa\ufffe', u'\ufffe\ufeff':
+            for encoding in 'utf-16', 'utf-16-le', 'utf-16-be':
+                self.assertEqual(text.encode(encoding).decode(encoding), text)
+            for decode, encoding in ((_codecs.utf_16_le_decode, 'utf-16-le'),
+                                     (_codecs.utf_16_be_decode, 'utf-16-be')):
+                data = text.encode(encoding)
+                self.assertEqual(decode(data, 'strict', True), (text, len(data)))
+
+    def test_cp1252(self):
+        self.assertEqual('\x80abc'.decode('cp1252'), u'\u20acabc')
+        self.assertEqual('\x80\x81abc'.decode('cp1252', 'replace'), u'\u20ac\ufffdabc')
+        self.assertRaises(UnicodeDecodeError, '\x81'.decode, 'cp1252')
+        self.assertEqual(u'\u20ac\u0101x'.encode('cp1252', 'replace'), '\x80?x')
+        self.assertEqual(u'\u20ac\u0101x'.encode('cp1252', 'xmlcharrefreplace'),
+                         '\x80&#257;x')
+        self.assertRaises(UnicodeEncodeError, u'\u0101'.encode, 'cp1252')
+
+    def test_utf8_stateful_decode(self):
+        # a sequence cut off at the end of a chunk is left unconsumed
+        import _codecs
+        data = u'caf\xe9 \u20ac \U00010000'.encode('utf-8')
+        for i in range(len(data)):
+            text, consumed = _codecs.utf_8_decode(data[:i], 'strict', False)
+            rest, _ = _codecs.utf_8_decode(data[consumed:], 'strict', True)
+            self.assertEqual(text + rest, u'caf\xe9 \u20ac \U00010000')
+
+
+class IncrementalCodecsTestCase(unittest.TestCase):
+
+    def tearDown(self):
+        if os.path.exists(test_support.TESTFN):
+            os.remove(test_support.TESTFN)
+
+    def test_split_sequences(self):
+        data = u'caf\xe9 \u20ac \U00010000'.encode('utf-8')
+        for i in range(len(data)):
+            decoder = IncrementalDecoder('utf-8')
+            text = decoder.decode(data[:i]) + decoder.decode(data[i:], True)
+            self.assertEqual(text, u'caf\xe9 \u20ac \U00010000')
+
+    def test_errors(self):
+        decoder = IncrementalDecoder('utf-8', 'replace')
+        self.assertEqual(decoder.decode('a\xff\xc3'), u'a\ufffd')
+        self.assertEqual(decoder.decode('', True), u'\ufffd')
+        decoder = IncrementalDecoder('utf-8')
+        self.assertRaises(UnicodeDecodeError, decoder.decode, 'a\xffb')
+        decoder.reset()
+        self.assertRaises(UnicodeDecodeError, decoder.decode, '\xc3', True)
+        self.assertRaises(LookupError, IncrementalDecoder, 'no-such-encoding')
+
+    def test_universal_newlines(self):
+        decoder = IncrementalDecoder('latin-1', None, True)
+        self.assertEqual(decoder.decode('a\rb\r'), u'a\nb\n')
+        self.assertEqual(decoder.decode('\nc\r\nd\n', True), u'c\nd\n')
+
+    def test_encoder(self):
+        encoder = IncrementalEncoder('utf-16-le', None, '\r\n')
+        # the halves of a surrogate pair, split between chunks
+        self.assertEqual(encoder.encode(u'a\n' + unichr(0xd800)), 'a\x00\r\x00\n\x00')
+        self.assertEqual(encoder.encode(unichr(0xdc00), True), '\x00\xd8\x00\xdc')
+        encoder = IncrementalEncoder('cp1252', 'replace')
+        self.assertEqual(encoder.encode(u'\u20ac\u0101', True), '\x80?')
+        self.assertRaises(UnicodeEncodeError, IncrementalEncoder('ascii').encode, u'\xe9')
+
+    def test_file_read(self):
+        text = u'\u20ac' * 5000 + u'\r\nend'
+        f = open(test_support.TESTFN, 'wb')
+        try:
+            f.write(text.encode('utf-8'))
+            f.close()
+            # a small buffer, so sequences are split between reads
+            f = BinaryIOWrapper(BufferedReader(FileIO(test_support.TESTFN, 'r'), 100))
+            decoder = IncrementalDecoder('utf-8', None, True)
+            self.assertEqual(f.read(decoder, 1001) + f.read(decoder, -1),
+                             text.replace(u'\r\n', u'\n'))
+        finally:
+            f.close()
+
+    def test_file_write(self):
+        text = u'\U00010000\n' * 3000
+        f = BinaryIOWrapper(BufferedWriter(FileIO(test_support.TESTFN, 'w'), 100))
+        try:
+            encoder = IncrementalEncoder('utf-16-be', None, '\r\n')
+            # split in the middle of each surrogate pair
+            for i in range(0, len(text), 7):
+                f.write(encoder, text[i:i + 7], False)
+            f.write(encoder, u'', True)
+        finally:
+            f.close()
+        f = open(test_support.TESTFN, 'rb')
+        try:
+            self.assertEqual(f.read(), text.replace(u'\n', u'\r\n').encode('utf-16-be'))
+        finally:
+            f.close()
+
 
 def test_main():
-    test_support.run_unittest(CodecsTestCase)
+    test_support.run_unittest(CodecsTestCase, IncrementalCodecsTestCase)
 
 
 if __name__ == "__main__":
@@ -14,6 +14,13 @@ class MyClass(object):
     pass
 
 
+class DoubledDict(dict):
+
+    def iteritems(self):
+        for key, value in dict.iteritems(self):
+            yield key, value * 2
+
+
 class CPickleTestCase(unittest.TestCase):
 
     def test_zero_long(self):
@@ -89,6 +96,104 @@ class CPickleTestCase(unittest.TestCase):
         finally:
             __builtin__.__import__ = original_import
 
+    def test_streams(self):
+        # several pickles on one stream share the memo, and each load
+        # leaves the stream positioned after its pickle
+        import cStringIO
+        shared = [1, 2]
+        for proto in 0, 1, 2:
+            f = cStringIO.StringIO()
+            pickler = cPickle.Pickler(f, proto)
+            pickler.dump(('x' * 100000, shared))
+            pickler.dump(shared)
+            f.write('trailer')
+            f.seek(0)
+            unpickler = cPickle.Unpickler(f)
+            big, first = unpickler.load()
+            self.assertEqual(big, 'x' * 100000)
+            self.assert_(unpickler.load() is first)
+            self.assertEqual(f.read(), 'trailer')
+
+    def test_object_file(self):
+        class Writer(object):
+            def __init__(self):
+                self.parts = []
+            def write(self, data):
+                self.parts.append(data)
+        data = [range(10000), 'abc' * 50000, {'a': 1.5}]
+        for proto in 0, 1, 2:
+            writer = Writer()
+            cPickle.dump(data, writer, proto)
+            self.assertEqual(''.join(writer.parts), cPickle.dumps(data, proto))
+            self.assertEqual(cPickle.loads(''.join(writer.parts)), data)
+
+    def test_clear_memo(self):
+        import cStringIO
+        f = cStringIO.StringIO()
+        pickler = cPickle.Pickler(f, 2)
+        shared = [1]
+        pickler.dump(shared)
+        pickler.clear_memo()
+        pickler.dump(shared)
+        f.seek(0)
+        unpickler = cPickle.Unpickler(f)
+        self.assert_(unpickler.load() is not unpickler.load())
+
+    def test_arrays(self):
+        import array
+        for typecode, init in [('b', [1, -2]), ('c', 'ab'), ('h', [-300]),
+                               ('i', [-70000]), ('l', [2 ** 40]), ('f', [1.5]),
+                               ('d', [1e300]), ('B', [200]), ('H', [65000]),
+                               ('I', [4000000000L]), ('u', u'ab')]:
+            a = array.array(typecode, init)
+            self.assertEqual(array.array(typecode, a.tostring()), a)
+            for proto in 0, 1, 2:
+                b = cPickle.loads(cPickle.dumps(a, proto))
+                self.assertEqual(b, a)
+                self.assertEqual(b.typecode, typecode)
+                c, d = cPickle.loads(cPickle.dumps([a, a], proto))
+                self.assert_(c is d)
+
+    def test_containers_of_atoms(self):
+        items = [1, 2.5, None, True, 'x', (1, 2.0, 'y'), 10 ** 20] * 500
+        table = dict((i, str(i)) for i in range(3000))
+        for proto in 0, 1, 2:
+            self.assertEqual(cPickle.loads(cPickle.dumps(items, proto)), items)
+            self.assertEqual(cPickle.loads(cPickle.dumps(table, proto)), table)
+            self.assertEqual(cPickle.loads(cPickle.dumps({1: 2}, proto)), {1: 2})
+
+    def test_dict_subclass_iteritems(self):
+        # a subclass's items come from its own iteritems, as with pickle.py
+        d = DoubledDict(a=1, b=2)
+        self.assertEqual(cPickle.loads(cPickle.dumps(d, 2)), {'a': 2, 'b': 4})
+        self.assertEqual(cPickle.loads(cPickle.dumps(d, 2)), pickle.loads(pickle.dumps(d, 2)))
+
+    def test_persistent_id_sees_atoms(self):
+        import cStringIO
+        seen = []
+        def persistent_id(obj):
+            seen.append(obj)
+            return None
+        pickler = cPickle.Pickler(cStringIO.StringIO(), 2)
+        pickler.persistent_id = persistent_id
+        pickler.dump([1, 2.0, None])
+        self.assertEqual(seen, [[1, 2.0, None], 1, 2.0, None])
+
+    def test_truncated(self):
+        self.assertRaises(EOFError, cPickle.loads, cPickle.dumps([1, 2], 2)[:-3])
+        # cut off in the middle of a string
+        import cStringIO
+        for proto in 1, 2:
+            for data in 'x' * 1000, u'y' * 1000:
+                pickled = cPickle.dumps(data, proto)[:-500]
+                self.assertRaises(EOFError, cPickle.loads, pickled)
+                for f in cStringIO.StringIO(pickled), StringIO(pickled):
+                    self.assertRaises(EOFError, cPickle.Unpickler(f).load)
+
+    def test_unpickler_needs_file(self):
+        # only loads reads a str in place, Unpickler takes a file
+        self.assertRaises(TypeError, cPickle.Unpickler, cPickle.dumps(1))
+
 
 
 def test_main():
@@ -0,0 +1,127 @@
+"""Misc _csv tests.
+
+Made for Jython.
+"""
+import _csv
+import cStringIO
+import os
+import unittest
+from test import test_support
+
+class ReaderTestCase(unittest.TestCase):
+
+    def setUp(self):
+        self.lines = ['a,b,c\r\n', '"a,b","c""d",e\r\n', '"multi\r\n', 'line",x\r\n',
+                      '\n', 'a\\,b,c\n', 'last,line']
+
+    def tearDown(self):
+        if os.path.exists(test_support.TESTFN):
+            os.remove(test_support.TESTFN)
+
+    def write_file(self, data):
+        f = open(test_support.TESTFN, 'wb')
+        try:
+            f.write(data)
+        finally:
+            f.close()
+
+    def test_file_matches_lines(self):
+        self.write_file(''.join(self.lines))
+        for kwargs in {}, dict(escapechar='\\'):
+            expected = list(_csv.reader(self.lines, **kwargs))
+            f = open(test_support.TESTFN, 'rb')
+            try:
+                reader = _csv.reader(f, **kwargs)
+                self.assertEqual(list(reader), expected)
+                self.assertEqual(reader.line_num, 7)
+            finally:
+                f.close()
+
+    def test_file_long_lines(self):
+        # lines longer than, and straddling, the blocks the file is read in
+        rows = [[str(i), 'x' * (i * 97 % 70000), '"' * (i % 7)] for i in range(200)]
+        self.write_file(''.join(['%s,"%s","%s"\n' % (a, b, c.replace('"', '""'))
+                                 for a, b, c in rows]))
+        f = open(test_support.TESTFN, 'rb')
+        try:
+            self.assertEqual(list(_csv.reader(f)), rows)
+        finally:
+            f.close()
+
+    def test_file_position(self):
+        # the file is left at the end of each row, like iterating it
+        self.write_file('a,b\na,b\n"c\nd",e\n' + 'x,y\n' * 10)
+        f = open(test_support.TESTFN, 'rb')
+        try:
+            reader = _csv.reader(f)
+            self.assertEqual(reader.next(), ['a', 'b'])
+            self.assertEqual(f.tell(), 4)
+            self.assertEqual(f.readline(), 'a,b\n')
+            self.assertEqual(reader.next(), ['c\nd', 'e'])
+            self.assertEqual(f.tell(), 16)
+            self.assertEqual(f.readline(), 'x,y\n')
+            f.seek(4)
+            self.assertEqual(reader.next(), ['a', 'b'])
+            self.assertEqual(len(list(reader)), 11)
+            self.assertEqual(f.tell(), 56)
+            self.assertEqual(f.readline(), '')
+        finally:
+            f.close()
+
+    def test_intern(self):
+        rows = list(_csv.reader(['US,a,1\n', 'US,b,1\n'], intern=True))
+        self.assertEqual(rows, [['US', 'a', '1'], ['US', 'b', '1']])
+        self.assert_(rows[0][0] is rows[1][0])
+        reader = _csv.reader(['a;b'], delimiter=';', intern=True)
+        self.assertEqual(list(reader), [['a', 'b']])
+
+    def test_errors(self):
+        self.assertRaises(_csv.Error, list, _csv.reader(['a\0b\n']))
+        self.assertRaises(_csv.Error, list, _csv.reader(['"abc']))
+
+
+class WriterTestCase(unittest.TestCase):
+
+    def test_writerows_batches(self):
+        rows = [[i, 'field %d' % i, 'a,b', 'q"q', None, 2.5] for i in range(20000)]
+        f = cStringIO.StringIO()
+        writer = _csv.writer(f)
+        writer.writerows(rows)
+        expected = cStringIO.StringIO()
+        writer = _csv.writer(expected)
+        for row in rows:
+            writer.writerow(row)
+        self.assertEqual(f.getvalue(), expected.getvalue())
+        self.assertEqual(f.getvalue().count('\r\n'), len(rows))
+
+    def test_writerows_error(self):
+        # rows before the bad one are still written
+        f = cStringIO.StringIO()
+        writer = _csv.writer(f, quoting=_csv.QUOTE_NONE)
+        self.assertRaises(_csv.Error, writer.writerows, [['a', 'b'], ['c'], [''], ['d']])
+        self.assertEqual(f.getvalue(), 'a,b\r\nc\r\n')
+
+    def test_quoting(self):
+        f = cStringIO.StringIO()
+        writer = _csv.writer(f, quoting=_csv.QUOTE_NONNUMERIC)
+        writer.writerow([1, 2L, 1.5, 'x', 'y,z', ''])
+        self.assertEqual(f.getvalue(), '1,2,1.5,"x","y,z",""\r\n')
+
+    def test_number_subclasses(self):
+        # bool and other int subclasses are written with their __str__
+        class Spam(int):
+            def __str__(self):
+                return 'spam'
+        for quoting in _csv.QUOTE_MINIMAL, _csv.QUOTE_NONNUMERIC:
+            f = cStringIO.StringIO()
+            writer = _csv.writer(f, quoting=quoting)
+            writer.writerow([True, False, 1, 2L, Spam(3)])
+            self.assertEqual(f.getvalue(), 'True,False,1,2,spam\r\n')
+
+
+def test_main():
+    test_support.run_unittest(ReaderTestCase, WriterTestCase)
+
+
+if __name__ == '__main__':
+    test_main()
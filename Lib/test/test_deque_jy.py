@@ -0,0 +1,128 @@
+"""Misc deque tests.
+
+Made for Jython.
+"""
+import _collections
+import copy
+import cPickle
+import threading
+import time
+import unittest
+from collections import deque
+from java.lang import Thread
+from test import test_support
+
+class DequeTestCase(unittest.TestCase):
+
+    def test_maxlen(self):
+        d = deque(range(10), maxlen=3)
+        self.assertEqual(list(d), [7, 8, 9])
+        self.assertEqual(d.maxlen, 3)
+        d.append(10)
+        self.assertEqual(list(d), [8, 9, 10])
+        d.appendleft(7)
+        self.assertEqual(list(d), [7, 8, 9])
+        d.extend(d)
+        self.assertEqual(list(d), [7, 8, 9])
+        self.assertEqual(repr(d), 'deque([7, 8, 9], maxlen=3)')
+        self.assertEqual(list(deque('abc', maxlen=0)), [])
+        self.assertEqual(deque().maxlen, None)
+        self.assertRaises(ValueError, deque, 'abc', maxlen=-1)
+        # maxlen is keyword only
+        self.assertRaises(TypeError, deque, 'abc', 2)
+
+    def test_maxlen_copy(self):
+        d = deque('abc', maxlen=3)
+        for e in copy.copy(d), cPickle.loads(cPickle.dumps(d, 2)):
+            self.assertEqual(list(e), ['a', 'b', 'c'])
+            self.assertEqual(e.maxlen, 3)
+
+    def test_wraparound(self):
+        d = deque()
+        expected = []
+        for i in range(100):
+            d.append(i)
+            d.append(-i)
+            d.popleft()
+            expected += [i, -i]
+            del expected[0]
+        self.assertEqual(list(d), expected)
+        d.rotate(7)
+        d.rotate(-3)
+        expected = expected[-4:] + expected[:-4]
+        self.assertEqual(list(d), expected)
+        for i in 60, 10, -1:
+            del d[i]
+            del expected[i]
+        self.assertEqual(list(d), expected)
+        d[5] = 'x'
+        self.assertEqual(d[5], 'x')
+
+    def test_popleft_timeout(self):
+        d = deque()
+        start = time.time()
+        self.assertRaises(IndexError, d.popleft, 0.1)
+        self.assert_(time.time() - start >= 0.09)
+        threading.Timer(0.1, d.append, ['x']).start()
+        self.assertEqual(d.popleft(None), 'x')
+        d.append('y')
+        self.assertEqual(d.popleft(5), 'y')
+
+    def test_popleft_interrupted(self):
+        Thread.currentThread().interrupt()
+        self.assertRaises(KeyboardInterrupt, deque().popleft, 5)
+        Thread.interrupted()
+
+    def test_producers_consumers(self):
+        d = deque()
+        n = 100000
+        received = []
+        def produce(start):
+            for i in xrange(start, start + n):
+                if i % 2:
+                    d.append(i)
+                else:
+                    d.extend([i])
+        def consume():
+            items = []
+            for i in xrange(n):
+                items.append(d.popleft(10))
+            received.extend(items)
+        threads = [threading.Thread(target=produce, args=(start,)) for start in (0, n)]
+        threads += [threading.Thread(target=consume) for i in range(2)]
+        for thread in threads:
+            thread.start()
+        for thread in threads:
+            thread.join()
+        self.assertEqual(len(received), 2 * n)
+        self.assert_(sorted(received) == range(2 * n), "lost or repeated items")
+        self.assertEqual(len(d), 0)
+
+    def test_spsc(self):
+        d = _collections.spsc_deque([0])
+        n = 20000
+        def produce():
+            for i in xrange(1, n):
+                d.append(i)
+        producer = threading.Thread(target=produce)
+        producer.start()
+        received = [d.popleft(5) for i in xrange(n)]
+        producer.join()
+        self.assertEqual(received, range(n))
+        self.assertEqual(len(d), 0)
+        self.assertRaises(IndexError, d.popleft)
+        self.assertRaises(TypeError, d.pop)
+        self.assertRaises(TypeError, iter, d)
+        self.assertRaises(ValueError, d.__init__, maxlen=2)
+        d.extend('ab')
+        self.assertEqual(len(d), 2)
+        d.clear()
+        self.assert_(not d)
+
+
+def test_main():
+    test_support.run_unittest(DequeTestCase)
+
+
+if __name__ == '__main__':
+    test_main()
@@ -0,0 +1,167 @@
+"""Tests for select.epoll, the Java event loop behind asyncore
+
+Made for Jython.
+"""
+import errno
+import select
+import socket
+import threading
+import time
+import unittest
+from test import test_support
+
+class EpollTestCase(unittest.TestCase):
+
+    def setUp(self):
+        self.server = socket.socket(socket.AF_INET, socket.SOCK_STREAM)
+        self.server.setsockopt(socket.SOL_SOCKET, socket.SO_REUSEADDR, 1)
+        self.server.bind(("localhost", 0))
+        self.server.listen(5)
+        self.server.setblocking(0)
+        self.client = socket.socket(socket.AF_INET, socket.SOCK_STREAM)
+        self.client.setblocking(0)
+        self.ep = select.epoll()
+
+    def tearDown(self):
+        self.ep.close()
+        self.client.close()
+        self.server.close()
+
+    def connect(self):
+        self.client.connect_ex(self.server.getsockname())
+        self.ep.register(self.server, select.EPOLLIN)
+        self.wait_for(self.server, select.EPOLLIN)
+        conn, addr = self.server.accept()
+        conn.setblocking(0)
+        return conn
+
+    def wait_for(self, obj, events, timeout=5.0):
+        deadline = time.time() + timeout
+        while time.time() < deadline:
+            for ready, mask in self.ep.poll(0.1):
+                if ready is obj and mask & events:
+                    return mask
+        self.fail('%r was not ready for %d in time' % (obj, events))
+
+    def test_register_twice(self):
+        self.ep.register(self.server)
+        self.assertRaises(select.error, self.ep.register, self.server)
+
+    def test_unregister_unknown(self):
+        self.assertRaises(select.error, self.ep.unregister, self.server)
+        self.assertRaises(select.error, self.ep.modify, self.server, select.EPOLLIN)
+
+    def test_blocking_socket(self):
+        self.server.setblocking(1)
+        self.assertRaises(select.error, self.ep.register, self.server)
+
+    def test_level_triggered(self):
+        conn = self.connect()
+        try:
+            self.client.send("data")
+            self.ep.register(conn, select.EPOLLIN)
+            self.wait_for(conn, select.EPOLLIN)
+            # still unread, so still reported
+            self.wait_for(conn, select.EPOLLIN)
+            self.assertEqual(conn.recv(4), "data")
+        finally:
+            conn.close()
+
+    def test_oneshot(self):
+        conn = self.connect()
+        try:
+            self.client.send("data")
+            self.ep.register(conn, select.EPOLLIN | select.EPOLLONESHOT)
+            self.wait_for(conn, select.EPOLLIN)
+            self.assertEqual(self.ep.poll(0.1), [])
+            self.ep.modify(conn, select.EPOLLIN)
+            self.wait_for(conn, select.EPOLLIN)
+        finally:
+            conn.close()
+
+    def test_edge_triggered(self):
+        conn = self.connect()
+        try:
+            self.client.send("data")
+            self.ep.register(conn, select.EPOLLIN | select.EPOLLET)
+            self.wait_for(conn, select.EPOLLIN)
+            # not reported again while it stays ready
+            self.assertEqual(self.ep.poll(0), [])
+            self.assertEqual(conn.recv(4), "data")
+            self.assertRaises(socket.error, conn.recv, 4)
+            self.assertEqual(self.ep.poll(0), [])
+            # ready again once drained: reported again
+            self.client.send("more")
+            self.wait_for(conn, select.EPOLLIN)
+            self.assertEqual(conn.recv(4), "more")
+            # drained and refilled before the next poll: a waiting poll reports it
+            self.client.send("again")
+            time.sleep(0.2)
+            self.assertEqual(conn.recv(5), "again")
+            self.client.send("last")
+            time.sleep(0.2)
+            self.assertEqual(self.ep.poll(5), [(conn, select.EPOLLIN)])
+        finally:
+            conn.close()
+
+    def test_register_during_poll(self):
+        conn = self.connect()
+        try:
+            self.client.send("data")
+            results = []
+            def poll():
+                start = time.time()
+                results.extend(self.ep.poll(10))
+                results.append(time.time() - start)
+            poller = threading.Thread(target=poll)
+            poller.start()
+            time.sleep(0.2)
+            self.ep.register(conn, select.EPOLLIN)
+            poller.join(5)
+            self.assertFalse(poller.isAlive(), "register blocked by a waiting poll")
+            self.assertEqual(results[0], (conn, select.EPOLLIN))
+            self.assert_(results[-1] < 5)
+        finally:
+            conn.close()
+
+    def test_unconnected_socket(self):
+        # registered before it has a channel; picked up by a later poll
+        self.ep.register(self.client, select.EPOLLOUT)
+        self.assertEqual(self.ep.poll(0), [])
+        self.client.connect_ex(self.server.getsockname())
+        self.wait_for(self.client, select.EPOLLOUT)
+
+    def test_closed(self):
+        self.assertFalse(self.ep.closed)
+        self.ep.close()
+        self.assert_(self.ep.closed)
+        self.assertRaises(select.error, self.ep.poll, 0)
+
+    def test_close_during_poll(self):
+        errors = []
+        def poll():
+            try:
+                self.ep.poll(10)
+            except select.error, e:
+                errors.append(e.args[0])
+        self.ep.register(self.server, select.EPOLLIN)
+        poller = threading.Thread(target=poll)
+        poller.start()
+        time.sleep(0.2)
+        self.ep.close()
+        poller.join(5)
+        self.assertFalse(poller.isAlive(), "close didn't wake up a waiting poll")
+        self.assertEqual(errors, [errno.EBADF])
+
+    def test_unsigned_eventmask(self):
+        self.assertEqual(select.EPOLLET, 1L << 31)
+        self.ep.register(self.server, select.EPOLLIN | (1L << 31))
+        self.ep.modify(self.server, select.EPOLLIN | -(1 << 31))
+        self.ep.modify(self.server, select.EPOLLIN | select.EPOLLET)
+        self.assertRaises(OverflowError, self.ep.modify, self.server, 1L << 32)
+
+def test_main():
+    test_support.run_unittest(EpollTestCase)
+
+if __name__ == '__main__':
+    test_main()
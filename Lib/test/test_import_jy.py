@@ -183,6 +183,28 @@ class ImpTestCase(unittest.TestCase):
     def test_sys_modules_deletion(self):
         self.assertRaises(ZeroDivisionError, __import__, 'test.module_deleter')
 
+    def test_new_modules_found(self):
+        # The cached listing of a directory mustn't hide modules created after it
+        # was taken
+        dir = tempfile.mkdtemp()
+        sys.path.insert(0, dir)
+        try:
+            self.assertRaises(ImportError, __import__, 'cached_listing_mod')
+            fp = open(os.path.join(dir, 'cached_listing_mod.py'), 'w')
+            fp.write('value = 1')
+            fp.close()
+            self.assertEquals(__import__('cached_listing_mod').value, 1)
+            os.mkdir(os.path.join(dir, 'cached_listing_pkg'))
+            fp = open(os.path.join(dir, 'cached_listing_pkg', '__init__.py'), 'w')
+            fp.close()
+            imp.invalidate_caches()
+            self.assertEquals(imp.find_module('cached_listing_pkg', [dir])[2][2],
+                              imp.PKG_DIRECTORY)
+        finally:
+            sys.path.remove(dir)
+            sys.modules.pop('cached_listing_mod', None)
+            shutil.rmtree(dir)
+
     #XXX: this is probably a good test to push upstream to CPython.
     if hasattr(os, "symlink"):
         def test_symlinks(self):
@@ -205,10 +227,120 @@ class ImpTestCase(unittest.TestCase):
                 shutil.rmtree(test_support.TESTFN)
                 test_support.unlink(sym)
 
+class ThreadedImportTestCase(unittest.TestCase):
+
+    def setUp(self):
+        self.dir = tempfile.mkdtemp()
+        sys.path.insert(0, self.dir)
+        self.names = []
+
+    def tearDown(self):
+        sys.path.remove(self.dir)
+        for name in self.names:
+            sys.modules.pop(name, None)
+        shutil.rmtree(self.dir)
+
+    def write_module(self, name, source):
+        self.names.append(name)
+        fp = open(os.path.join(self.dir, name + '.py'), 'w')
+        fp.write(source)
+        fp.close()
+
+    def import_in_threads(self, *names):
+        import threading
+        results = {}
+        def target(name):
+            module = __import__(name)
+            results[name] = module.value
+        threads = [threading.Thread(target=target, args=(name,)) for name in names]
+        for thread in threads:
+            thread.start()
+            time.sleep(0.05)
+        for thread in threads:
+            thread.join(10)
+        return results
+
+    def test_waits_for_initialization(self):
+        self.write_module('threaded_slow', 'import time\ntime.sleep(0.3)\nvalue = 1\n')
+        self.assertEquals(self.import_in_threads('threaded_slow', 'threaded_slow'),
+                          {'threaded_slow': 1})
+
+    def test_circular(self):
+        # each thread sees the other's module partially initialized rather than
+        # deadlocking
+        self.write_module('threaded_cyca',
+                          'import time\ntime.sleep(0.3)\nimport threaded_cycb\nvalue = "a"\n')
+        self.write_module('threaded_cycb',
+                          'import time\ntime.sleep(0.3)\nimport threaded_cyca\nvalue = "b"\n')
+        self.assertEquals(self.import_in_threads('threaded_cyca', 'threaded_cycb'),
+                          {'threaded_cyca': 'a', 'threaded_cycb': 'b'})
+
+    def test_circular_before_initialization(self):
+        # threaded_meta's loader imports threaded_metadep before it makes the module, so
+        # the thread importing threaded_metadep finds threaded_meta locked but not in
+        # sys.modules, and loads it itself rather than deadlocking or failing
+        class Loader(object):
+            def find_module(self, name, path=None):
+                if name == 'threaded_meta':
+                    return self
+            def load_module(self, name):
+                time.sleep(0.3)
+                import threaded_metadep
+                module = sys.modules.setdefault(name, imp.new_module(name))
+                module.value = 'meta'
+                return module
+        self.names.append('threaded_meta')
+        self.write_module('threaded_metadep',
+                          'import time\ntime.sleep(0.3)\nimport threaded_meta\n'
+                          'value = "dep"\n')
+        loader = Loader()
+        sys.meta_path.insert(0, loader)
+        try:
+            self.assertEquals(self.import_in_threads('threaded_meta', 'threaded_metadep'),
+                              {'threaded_meta': 'meta', 'threaded_metadep': 'dep'})
+        finally:
+            sys.meta_path.remove(loader)
+
+    def test_import_lock_held_while_importing(self):
+        # A thread holding the import lock waits for threaded_heldx, while the thread
+        # importing it imports threaded_heldy
+        import threading
+        self.write_module('threaded_heldx', 'import time\ntime.sleep(0.3)\n'
+                          'import threaded_heldy\nvalue = threaded_heldy.value\n')
+        self.write_module('threaded_heldy', 'value = "y"\n')
+        results = {}
+        def hold_and_import():
+            imp.acquire_lock()
+            try:
+                results['x'] = __import__('threaded_heldx').value
+            finally:
+                imp.release_lock()
+        threads = [threading.Thread(target=__import__, args=('threaded_heldx',)),
+                   threading.Thread(target=hold_and_import)]
+        for thread in threads:
+            thread.setDaemon(True)
+            thread.start()
+            time.sleep(0.1)
+        for thread in threads:
+            thread.join(10)
+            self.assertFalse(thread.isAlive(), 'deadlocked')
+        self.assertEquals(results, {'x': 'y'})
+
+    def test_import_lock(self):
+        imp.acquire_lock()
+        try:
+            self.assertTrue(imp.lock_held())
+        finally:
+            imp.release_lock()
+        self.assertFalse(imp.lock_held())
+        self.assertRaises(RuntimeError, imp.release_lock)
+
+
 def test_main():
     test_support.run_unittest(MislabeledImportTestCase,
                               OverrideBuiltinsImportTestCase,
-                              ImpTestCase)
+                              ImpTestCase,
+                              ThreadedImportTestCase)
 
 if __name__ == '__main__':
     test_main()
@@ -0,0 +1,52 @@
+"""Misc itertools tests.
+
+Made for Jython.
+"""
+import itertools
+import unittest
+from test import test_support
+
+class ItertoolsTestCase(unittest.TestCase):
+
+    def test_indexed_sources(self):
+        for seq in range(7), tuple(range(7)), xrange(7):
+            self.assertEqual(list(itertools.islice(seq, 1, None, 2)), [1, 3, 5])
+            self.assertEqual(list(itertools.islice(seq, 10, 20)), [])
+            self.assertEqual(list(itertools.chain(seq, seq))[5:9], [5, 6, 0, 1])
+            self.assertEqual(list(itertools.izip(seq, 'abc')), [(0, 'a'), (1, 'b'), (2, 'c')])
+            self.assertEqual(list(itertools.imap(None, seq, seq))[-1], (6, 6))
+            self.assertEqual([k for k, g in itertools.groupby(seq, lambda x: x // 3)],
+                             [0, 1, 2])
+
+    def test_list_changes(self):
+        # lists are read as they are when the element is needed, like their iterators
+        l = [1, 2, 3]
+        it = itertools.islice(l, None)
+        self.assertEqual(it.next(), 1)
+        l.append(4)
+        self.assertEqual(list(it), [2, 3, 4])
+        l.append(5)
+        self.assertEqual(list(it), [])
+
+    def test_length_hint(self):
+        def gen():
+            yield 1
+        self.assertEqual(itertools.islice(range(10), 2, 8, 3).__length_hint__(), 2)
+        self.assertEqual(itertools.islice(gen(), 5).__length_hint__(), -1)
+        self.assertEqual(itertools.chain([1], (2, 3), xrange(4)).__length_hint__(), 7)
+        self.assertEqual(itertools.chain([1], gen()).__length_hint__(), -1)
+        it = itertools.izip(range(5), iter(xrange(3)))
+        it.next()
+        self.assertEqual(it.__length_hint__(), 2)
+        self.assertEqual(itertools.imap(None, range(4)).__length_hint__(), 4)
+        self.assertEqual(itertools.repeat(1, 5).__length_hint__(), 5)
+        self.assertEqual(iter([1, 2, 3]).__length_hint__(), 3)
+        self.assertEqual(len(tuple(itertools.chain(range(100), range(50)))), 150)
+
+
+def test_main():
+    test_support.run_unittest(ItertoolsTestCase)
+
+
+if __name__ == '__main__':
+    test_main()
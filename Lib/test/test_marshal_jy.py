@@ -0,0 +1,45 @@
+"""Misc marshal tests.
+
+Made for Jython.
+"""
+import array
+import cStringIO
+import marshal
+import unittest
+from test import test_support
+
+class MarshalTestCase(unittest.TestCase):
+
+    def test_loads_from_array(self):
+        value = [1, 2.5, 'abc', {'a': (None, 2 ** 70)}]
+        data = marshal.dumps(value)
+        self.assertEqual(marshal.loads(array.array('b', data)), value)
+        self.assertEqual(marshal.loads(array.array('c', data)), value)
+        self.assertRaises(TypeError, marshal.loads, 42)
+
+    def test_old_versions(self):
+        for version in 0, 1, 2:
+            for value in 1.5, -1e300, 2 + 1j:
+                self.assertEqual(marshal.loads(marshal.dumps(value, version)), value)
+
+    def test_streamed_dump(self):
+        # bigger than the marshal buffer, so written out in pieces
+        value = [dict(a=i, b=str(i)) for i in range(20000)] + ['x' * 200000]
+        f = cStringIO.StringIO()
+        marshal.dump(value, f)
+        self.assertEqual(f.getvalue(), marshal.dumps(value))
+        f.seek(0)
+        self.assertEqual(marshal.load(f), value)
+
+    def test_truncated(self):
+        data = marshal.dumps([1, 'abc'])
+        for i in range(len(data)):
+            self.assertRaises(EOFError, marshal.loads, data[:i])
+
+
+def test_main():
+    test_support.run_unittest(MarshalTestCase)
+
+
+if __name__ == '__main__':
+    test_main()
@@ -4,6 +4,7 @@ AMAK: 20050515: This module is the test_socket.py from cpython 2.4, ported to jy
 
 import java
 
+import array
 import unittest
 from test import test_support
 
@@ -807,6 +808,73 @@ class BasicTCPTest(SocketConnectedTest):
         self.serv_conn.send(MSG)
         self.serv_conn.send('and ' + MSG)
 
+class BufferIOTest(SocketConnectedTest):
+    """
+    Test the buffer versions of socket.recv() and socket.send().
+    """
+    def __init__(self, methodName='runTest'):
+        SocketConnectedTest.__init__(self, methodName=methodName)
+
+    def testRecvInto(self):
+        buf = array.array('c', ' '*1024)
+        nbytes = self.cli_conn.recv_into(buf)
+        self.assertEqual(nbytes, len(MSG))
+        msg = buf.tostring()[:len(MSG)]
+        self.assertEqual(msg, MSG)
+
+    def _testRecvInto(self):
+        self.serv_conn.send(MSG)
+
+    def testRecvIntoByteArray(self):
+        buf = array.array('b', [0]*1024)
+        nbytes = self.cli_conn.recv_into(buf, 10)
+        self.assertEqual(nbytes, 10)
+        self.assertEqual(buf.tostring()[:10], MSG[:10])
+        self.assertEqual(buf[10], 0)
+
+    def _testRecvIntoByteArray(self):
+        self.serv_conn.send(array.array('b', MSG))
+
+    def testRecvIntoTimeoutMode(self):
+        self.cli_conn.settimeout(10)
+        buf = array.array('c', ' '*1024)
+        nbytes = self.cli_conn.recv_into(buf)
+        self.assertEqual(buf.tostring()[:nbytes], MSG[:nbytes])
+
+    def _testRecvIntoTimeoutMode(self):
+        self.serv_conn.settimeout(10)
+        self.serv_conn.sendall(MSG)
+
+    def testRecvIntoTooSmall(self):
+        buf = array.array('c', ' '*10)
+        self.assertRaises(ValueError, self.cli_conn.recv_into, buf, 11)
+
+    def _testRecvIntoTooSmall(self):
+        pass
+
+    def testRecvFromInto(self):
+        buf = array.array('c', ' '*1024)
+        nbytes, addr = self.cli_conn.recvfrom_into(buf)
+        self.assertEqual(nbytes, len(MSG))
+        msg = buf.tostring()[:len(MSG)]
+        self.assertEqual(msg, MSG)
+
+    def _testRecvFromInto(self):
+        self.serv_conn.send(MSG)
+
+    def testSendAllLarge(self):
+        msg = ''
+        while 1:
+            read = self.cli_conn.recv(65536)
+            if not read:
+                break
+            msg += read
+        self.assertEqual(msg, 'f' * 100000)
+
+    def _testSendAllLarge(self):
+        self.assertEqual(self.serv_conn.sendall('f' * 100000), None)
+        self.serv_conn.close()
+
 class UDPBindTest(unittest.TestCase):
 
     HOST = HOST
@@ -1813,6 +1881,7 @@ def test_main():
         TestSupportedOptions,
         TestUnsupportedOptions,
         BasicTCPTest,
+        BufferIOTest,
         TCPServerTimeoutTest,
         TCPClientTimeoutTest,
         TestExceptions,
@@ -13,6 +13,29 @@ class AllocateLockTest(unittest.TestCase):
         self.assertEquals(t, type(thread.allocate_lock()),
             "thread.LockType has wrong value")
 
+    def test_acquire_release(self):
+        lock = thread.allocate_lock()
+        self.assertFalse(lock.locked())
+        self.assertTrue(lock.acquire())
+        self.assertTrue(lock.locked())
+        self.assertFalse(lock.acquire(False))
+        lock.release()
+        self.assertFalse(lock.locked())
+        self.assertRaises(ValueError, lock.release)
+
+    def test_release_by_other_thread(self):
+        lock = thread.allocate_lock()
+        lock.acquire()
+        done = CountDownLatch(1)
+        def release():
+            lock.release()
+            done.countDown()
+        thread.start_new_thread(release, ())
+        done.await()
+        # blocks until the other thread has released it
+        self.assertTrue(lock.acquire())
+        lock.release()
+
 class SynchronizeTest(unittest.TestCase):
 
     def test_make_synchronized(self):
@@ -7,6 +7,7 @@ from __future__ import with_statement
 import random
 import subprocess
 import sys
+import _threading
 import threading
 import time
 import unittest
@@ -51,6 +52,84 @@ class TwistedTestCase(unittest.TestCase):
         self.assertEqual(threading.RLock, threading._RLock)
 
 
+class SynchronizerTestCase(unittest.TestCase):
+
+    def test_semaphore(self):
+        for fair in False, True:
+            sem = threading.Semaphore(2, fair=fair)
+            self.assertTrue(sem.acquire())
+            self.assertTrue(sem.acquire(False))
+            self.assertFalse(sem.acquire(False))
+            self.assertFalse(sem.acquire(True, 0.01))
+            sem.release()
+            with sem:
+                self.assertFalse(sem.acquire(False))
+            self.assertTrue(sem.acquire(True, 0.01))
+        self.assertRaises(ValueError, threading.Semaphore, -1)
+
+    def test_semaphore_args(self):
+        # the second positional argument is verbose, as in CPython; fair is keyword only
+        sem = threading.Semaphore(1, None)
+        self.assertTrue(sem.acquire(False))
+        self.assertFalse(sem.acquire(False))
+        self.assertRaises(TypeError, threading.Semaphore, 1, None, True)
+        self.assertRaises(TypeError, threading.BoundedSemaphore, 1, None, True)
+
+    def test_semaphore_subclass(self):
+        for base in threading.Semaphore, _threading.BoundedSemaphore:
+            class Sub(base):
+                def __init__(self, value):
+                    base.__init__(self, value)
+                    self.value = value
+            sem = Sub(2)
+            self.assertEqual(type(sem), Sub)
+            self.assertEqual(sem.value, 2)
+            self.assertTrue(sem.acquire(False))
+            self.assertTrue(sem.acquire(False))
+            self.assertFalse(sem.acquire(False))
+
+    def test_semaphore_wakes_waiter(self):
+        sem = threading.Semaphore(0)
+        acquired = []
+        t = Thread(target=lambda: acquired.append(sem.acquire()))
+        t.start()
+        time.sleep(0.1)
+        sem.release()
+        t.join(5)
+        self.assertEqual(acquired, [True])
+
+    def test_bounded_semaphore(self):
+        sem = threading.BoundedSemaphore(2)
+        self.assertRaises(ValueError, sem.release)
+        sem.acquire()
+        sem.acquire()
+        sem.release()
+        sem.release()
+        self.assertRaises(ValueError, sem.release)
+
+    def test_event(self):
+        event = threading.Event()
+        self.assertFalse(event.isSet())
+        self.assertFalse(event.wait(0.01))
+        t = Thread(target=event.set)
+        t.start()
+        self.assertTrue(event.wait(5))
+        self.assertTrue(event.is_set())
+        self.assertTrue(event.wait())
+        event.clear()
+        self.assertFalse(event.isSet())
+        self.assertFalse(event.wait(0.01))
+
+    def test_timer_cancel(self):
+        called = []
+        timer = threading.Timer(10, called.append, args=[1])
+        timer.start()
+        timer.cancel()
+        timer.join(5)
+        self.assertFalse(timer.isAlive())
+        self.assertEqual(called, [])
+
+
 class JavaIntegrationTestCase(unittest.TestCase):
     """Verifies that Thread.__tojava__ correctly gets the underlying Java thread"""
 
@@ -104,6 +183,7 @@ def test_main():
     test_support.run_unittest(
         JavaIntegrationTestCase,
         MemoryLeakTestCase,
+        SynchronizerTestCase,
         ThreadingTestCase,
         TwistedTestCase)
 
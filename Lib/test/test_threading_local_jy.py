@@ -52,6 +52,56 @@ class ThreadLocalConstructorTestCase(unittest.TestCase):
             errors = threads[i].getErrors()
             self.assertEquals(0, len(errors), errors)
 
+    def test_slots_reused(self):
+        """Locals created after others are collected don't see their values"""
+        from java.lang import System
+        for i in xrange(2000):
+            stale = local()
+            stale.value = i
+            if i % 500 == 0:
+                del stale
+                System.gc()
+                time.sleep(0.01)
+        fresh = local()
+        self.assertFalse(hasattr(fresh, 'value'))
+        fresh.value = 'fresh'
+        self.assertEquals('fresh', fresh.value)
+
+    def test_pool_thread_releases_values(self):
+        """A pool thread drops the values of collected locals once its Python code returns"""
+        import weakref
+        from java.lang import System
+        from java.util.concurrent import Callable, Executors
+
+        class Value(object):
+            pass
+
+        class SetValue(Callable):
+            def __init__(self, local):
+                self.local = local
+            def call(self):
+                self.local.value = Value()
+                return weakref.ref(self.local.value)
+
+        class Noop(Callable):
+            def call(self):
+                pass
+
+        pool = Executors.newSingleThreadExecutor()
+        try:
+            task = SetValue(local())
+            value = pool.submit(task).get()
+            del task
+            for i in range(20):
+                System.gc()
+                time.sleep(0.05)
+                pool.submit(Noop()).get()
+                if value() is None:
+                    break
+            self.assert_(value() is None)
+        finally:
+            pool.shutdown()
+
 
 def test_main():
     test_support.run_unittest(ThreadLocalConstructorTestCase)
@@ -1,13 +1,14 @@
 from java.lang import InterruptedException
 from java.util import Collections, WeakHashMap
-from java.util.concurrent import Semaphore, CyclicBarrier
+from java.util.concurrent import CyclicBarrier
 from java.util.concurrent.locks import ReentrantLock
 from org.python.util import jython
 from org.python.core import Py
 from thread import _newFunctionThread
 from thread import _local as local
-from _threading import Lock, RLock, Condition, _Lock, _RLock, _threads, _active, _jthread_to_pythread, _register_thread, _unregister_thread
+from _threading import Lock, RLock, Condition, _Lock, _RLock, Semaphore, BoundedSemaphore, _threads, _active, _jthread_to_pythread, _register_thread, _unregister_thread
 import java.lang.Thread
+import _threading
 import sys as _sys
 from traceback import print_exc as _print_exc
 
@@ -56,30 +57,6 @@ def settrace(func):
     _trace_hook = func
 
 
-class Semaphore(object):
-    def __init__(self, value=1):
-        if value < 0:
-            raise ValueError("Semaphore initial value must be >= 0")
-        self._semaphore = java.util.concurrent.Semaphore(value)
-
-    def acquire(self, blocking=True):
-        if blocking:
-            self._semaphore.acquire()
-            return True
-        else:
-            return self._semaphore.tryAcquire()
-
-    def __enter__(self):
-        self.acquire()
-        return self
-
-    def release(self):
-        self._semaphore.release()
-
-    def __exit__(self, t, v, tb):
-        self.release()
-
-
 ThreadStates = {
     java.lang.Thread.State.NEW : 'initial',
     java.lang.Thread.State.RUNNABLE: 'started',
@@ -308,102 +285,5 @@ class _Timer(Thread):
         self.finished.set()
 
 
-# NOT USED except by BoundedSemaphore
-class _Semaphore(_Verbose):
-
-    # After Tim Peters' semaphore class, but not quite the same (no maximum)
-
-    def __init__(self, value=1, verbose=None):
-        assert value >= 0, "Semaphore initial value must be >= 0"
-        _Verbose.__init__(self, verbose)
-        self.__cond = Condition(Lock())
-        self.__value = value
-
-    def acquire(self, blocking=1):
-        rc = False
-        self.__cond.acquire()
-        while self.__value == 0:
-            if not blocking:
-                break
-            if __debug__:
-                self._note("%s.acquire(%s): blocked waiting, value=%s",
-                           self, blocking, self.__value)
-            self.__cond.wait()
-        else:
-            self.__value = self.__value - 1
-            if __debug__:
-                self._note("%s.acquire: success, value=%s",
-                           self, self.__value)
-            rc = True
-        self.__cond.release()
-        return rc
-
-    def release(self):
-        self.__cond.acquire()
-        self.__value = self.__value + 1
-        if __debug__:
-            self._note("%s.release: success, value=%s",
-                       self, self.__value)
-        self.__cond.notify()
-        self.__cond.release()
-
-
-def BoundedSemaphore(*args, **kwargs):
-    return _BoundedSemaphore(*args, **kwargs)
-
-class _BoundedSemaphore(_Semaphore):
-    """Semaphore that checks that # releases is <= # acquires"""
-    def __init__(self, value=1, verbose=None):
-        _Semaphore.__init__(self, value, verbose)
-        self._initial_value = value
-
-    def __enter__(self):
-        self.acquire()
-        return self
-
-    def release(self):
-        if self._Semaphore__value >= self._initial_value:
-            raise ValueError, "Semaphore released too many times"
-        return _Semaphore.release(self)
-
-    def __exit__(self, t, v, tb):
-        self.release()
-
-
-def Event(*args, **kwargs):
-    return _Event(*args, **kwargs)
-
-class _Event(_Verbose):
-
-    # After Tim Peters' event class (without is_posted())
-
-    def __init__(self, verbose=None):
-        _Verbose.__init__(self, verbose)
-        self.__cond = Condition(Lock())
-        self.__flag = False
-
-    def isSet(self):
-        return self.__flag
-
-    def set(self):
-        self.__cond.acquire()
-        try:
-            self.__flag = True
-            self.__cond.notifyAll()
-        finally:
-            self.__cond.release()
-
-    def clear(self):
-        self.__cond.acquire()
-        try:
-            self.__flag = False
-        finally:
-            self.__cond.release()
-
-    def wait(self, timeout=None):
-        self.__cond.acquire()
-        try:
-            if not self.__flag:
-                self.__cond.wait(timeout)
-        finally:
-            self.__cond.release()
+def Event(verbose=None):
+    return _threading.Event()
@@ -0,0 +1,5106 @@
+// $ANTLR 3.1.3 Mar 17, 2009 19:23:44 /root/project/grammar/Python.g 2026-10-19 14:21:31
+
+package org.python.antlr;
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+public class PythonLexer extends Lexer {
+    public static final int PRINT=35;
+    public static final int VBAREQUAL=57;
+    public static final int MINUS=76;
+    public static final int TRAILBACKSLASH=6;
+    public static final int SLASHEQUAL=54;
+    public static final int BREAK=14;
+    public static final int IF=26;
+    public static final int LESSEQUAL=68;
+    public static final int ELIF=19;
+    public static final int IN=28;
+    public static final int DOT=10;
+    public static final int LPAREN=43;
+    public static final int IS=29;
+    public static final int AS=12;
+    public static final int AT=42;
+    public static final int PASS=34;
+    public static final int LBRACK=81;
+    public static final int LEADING_WS=8;
+    public static final int LONGINT=87;
+    public static final int SEMI=50;
+    public static final int ASSIGN=46;
+    public static final int CIRCUMFLEXEQUAL=58;
+    public static final int DOUBLESTAREQUAL=61;
+    public static final int COMMENT=96;
+    public static final int INDENT=4;
+    public static final int IMPORT=27;
+    public static final int DELETE=18;
+    public static final int ESC=95;
+    public static final int ALT_NOTEQUAL=69;
+    public static final int RCURLY=84;
+    public static final int COMMA=47;
+    public static final int TRIQUOTE=94;
+    public static final int YIELD=41;
+    public static final int STAREQUAL=53;
+    public static final int GREATER=65;
+    public static final int LCURLY=83;
+    public static final int DOUBLESLASHEQUAL=62;
+    public static final int RAISE=36;
+    public static final int CONTINUE=16;
+    public static final int LEFTSHIFTEQUAL=59;
+    public static final int STAR=48;
+    public static final int PERCENT=78;
+    public static final int STRING=90;
+    public static final int BACKQUOTE=85;
+    public static final int CLASS=15;
+    public static final int FROM=23;
+    public static final int FINALLY=22;
+    public static final int RIGHTSHIFTEQUAL=60;
+    public static final int TRY=38;
+    public static final int NEWLINE=7;
+    public static final int FOR=24;
+    public static final int RPAREN=44;
+    public static final int EXCEPT=20;
+    public static final int RIGHTSHIFT=63;
+    public static final int NAME=9;
+    public static final int LAMBDA=30;
+    public static final int NOTEQUAL=70;
+    public static final int EXEC=21;
+    public static final int NOT=31;
+    public static final int RBRACK=82;
+    public static final int AND=11;
+    public static final int PERCENTEQUAL=55;
+    public static final int LESS=64;
+    public static final int LEFTSHIFT=74;
+    public static final int PLUS=75;
+    public static final int DOUBLESTAR=49;
+    public static final int FLOAT=88;
+    public static final int TRIAPOS=93;
+    public static final int Exponent=92;
+    public static final int DIGITS=91;
+    public static final int INT=86;
+    public static final int DOUBLESLASH=79;
+    public static final int RETURN=37;
+    public static final int GLOBAL=25;
+    public static final int CONTINUED_LINE=97;
+    public static final int WS=98;
+    public static final int EOF=-1;
+    public static final int CIRCUMFLEX=72;
+    public static final int COMPLEX=89;
+    public static final int OR=32;
+    public static final int DEF=17;
+    public static final int ASSERT=13;
+    public static final int AMPEREQUAL=56;
+    public static final int EQUAL=66;
+    public static final int SLASH=77;
+    public static final int AMPER=73;
+    public static final int COLON=45;
+    public static final int ORELSE=33;
+    public static final int WITH=40;
+    public static final int VBAR=71;
+    public static final int PLUSEQUAL=51;
+    public static final int MINUSEQUAL=52;
+    public static final int GREATEREQUAL=67;
+    public static final int WHILE=39;
+    public static final int TILDE=80;
+    public static final int DEDENT=5;
+
+    /** Handles context-sensitive lexing of implicit line joining such as
+     *  the case where newline is ignored in cases like this:
+     *  a = [3,
+     *       4]
+     */
+
+    //For use in partial parsing.
+    public boolean eofWhileNested = false;
+    public boolean partial = false;
+    public boolean single = false;
+
+    int implicitLineJoiningLevel = 0;
+    int startPos=-1;
+
+    //If you want to use another error recovery mechanism change this
+    //and the same one in the parser.
+    private ErrorHandler errorHandler;
+
+        public void setErrorHandler(ErrorHandler eh) {
+            this.errorHandler = eh;
+        }
+
+        /**
+         *  Taken directly from antlr's Lexer.java -- needs to be re-integrated every time
+         *  we upgrade from Antlr (need to consider a Lexer subclass, though the issue would
+         *  remain).
+         */
+        public Token nextToken() {
+            startPos = getCharPositionInLine();
+            while (true) {
+                state.token = null;
+                state.channel = Token.DEFAULT_CHANNEL;
+                state.tokenStartCharIndex = input.index();
+                state.tokenStartCharPositionInLine = input.getCharPositionInLine();
+                state.tokenStartLine = input.getLine();
+                state.text = null;
+                if ( input.LA(1)==CharStream.EOF ) {
+                    if (implicitLineJoiningLevel > 0) {
+                        eofWhileNested = true;
+                    }
+                    return Token.EOF_TOKEN;
+                }
+                try {
+                    mTokens();
+                    if ( state.token==null ) {
+                        emit();
+                    }
+                    else if ( state.token==Token.SKIP_TOKEN ) {
+                        continue;
+                    }
+                    return state.token;
+                } catch (NoViableAltException nva) {
+                    errorHandler.reportError(this, nva);
+                    errorHandler.recover(this, nva); // throw out current char and try again
+                } catch (FailedPredicateException fp) {
+                    //XXX: added this for failed STRINGPART -- the FailedPredicateException
+                    //     hides a NoViableAltException.  This should be the only
+                    //     FailedPredicateException that gets thrown by the lexer.
+                    errorHandler.reportError(this, fp);
+                    errorHandler.recover(this, fp); // throw out current char and try again
+                } catch (RecognitionException re) {
+                    errorHandler.reportError(this, re);
+                    // match() routine has already called recover()
+                }
+            }
+        }
+
+
+    // delegates
+    // delegators
+
+    public PythonLexer() {;} 
+    public PythonLexer(CharStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public PythonLexer(CharStream input, RecognizerSharedState state) {
+        super(input,state);
+
+    }
+    public String getGrammarFileName() { return "/root/project/grammar/Python.g"; }
+
+    // $ANTLR start "AS"
+    public final void mAS() throws RecognitionException {
+        try {
+            int _type = AS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1765:11: ( 'as' )
+            // /root/project/grammar/Python.g:1765:13: 'as'
+            {
+            match("as"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "AS"
+
+    // $ANTLR start "ASSERT"
+    public final void mASSERT() throws RecognitionException {
+        try {
+            int _type = ASSERT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1766:11: ( 'assert' )
+            // /root/project/grammar/Python.g:1766:13: 'assert'
+            {
+            match("assert"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "ASSERT"
+
+    // $ANTLR start "BREAK"
+    public final void mBREAK() throws RecognitionException {
+        try {
+            int _type = BREAK;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1767:11: ( 'break' )
+            // /root/project/grammar/Python.g:1767:13: 'break'
+            {
+            match("break"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "BREAK"
+
+    // $ANTLR start "CLASS"
+    public final void mCLASS() throws RecognitionException {
+        try {
+            int _type = CLASS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1768:11: ( 'class' )
+            // /root/project/grammar/Python.g:1768:13: 'class'
+            {
+            match("class"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "CLASS"
+
+    // $ANTLR start "CONTINUE"
+    public final void mCONTINUE() throws RecognitionException {
+        try {
+            int _type = CONTINUE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1769:11: ( 'continue' )
+            // /root/project/grammar/Python.g:1769:13: 'continue'
+            {
+            match("continue"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "CONTINUE"
+
+    // $ANTLR start "DEF"
+    public final void mDEF() throws RecognitionException {
+        try {
+            int _type = DEF;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1770:11: ( 'def' )
+            // /root/project/grammar/Python.g:1770:13: 'def'
+            {
+            match("def"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "DEF"
+
+    // $ANTLR start "DELETE"
+    public final void mDELETE() throws RecognitionException {
+        try {
+            int _type = DELETE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1771:11: ( 'del' )
+            // /root/project/grammar/Python.g:1771:13: 'del'
+            {
+            match("del"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "DELETE"
+
+    // $ANTLR start "ELIF"
+    public final void mELIF() throws RecognitionException {
+        try {
+            int _type = ELIF;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1772:11: ( 'elif' )
+            // /root/project/grammar/Python.g:1772:13: 'elif'
+            {
+            match("elif"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "ELIF"
+
+    // $ANTLR start "EXCEPT"
+    public final void mEXCEPT() throws RecognitionException {
+        try {
+            int _type = EXCEPT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1773:11: ( 'except' )
+            // /root/project/grammar/Python.g:1773:13: 'except'
+            {
+            match("except"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "EXCEPT"
+
+    // $ANTLR start "EXEC"
+    public final void mEXEC() throws RecognitionException {
+        try {
+            int _type = EXEC;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1774:11: ( 'exec' )
+            // /root/project/grammar/Python.g:1774:13: 'exec'
+            {
+            match("exec"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "EXEC"
+
+    // $ANTLR start "FINALLY"
+    public final void mFINALLY() throws RecognitionException {
+        try {
+            int _type = FINALLY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1775:11: ( 'finally' )
+            // /root/project/grammar/Python.g:1775:13: 'finally'
+            {
+            match("finally"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "FINALLY"
+
+    // $ANTLR start "FROM"
+    public final void mFROM() throws RecognitionException {
+        try {
+            int _type = FROM;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1776:11: ( 'from' )
+            // /root/project/grammar/Python.g:1776:13: 'from'
+            {
+            match("from"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "FROM"
+
+    // $ANTLR start "FOR"
+    public final void mFOR() throws RecognitionException {
+        try {
+            int _type = FOR;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1777:11: ( 'for' )
+            // /root/project/grammar/Python.g:1777:13: 'for'
+            {
+            match("for"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "FOR"
+
+    // $ANTLR start "GLOBAL"
+    public final void mGLOBAL() throws RecognitionException {
+        try {
+            int _type = GLOBAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1778:11: ( 'global' )
+            // /root/project/grammar/Python.g:1778:13: 'global'
+            {
+            match("global"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "GLOBAL"
+
+    // $ANTLR start "IF"
+    public final void mIF() throws RecognitionException {
+        try {
+            int _type = IF;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1779:11: ( 'if' )
+            // /root/project/grammar/Python.g:1779:13: 'if'
+            {
+            match("if"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "IF"
+
+    // $ANTLR start "IMPORT"
+    public final void mIMPORT() throws RecognitionException {
+        try {
+            int _type = IMPORT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1780:11: ( 'import' )
+            // /root/project/grammar/Python.g:1780:13: 'import'
+            {
+            match("import"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "IMPORT"
+
+    // $ANTLR start "IN"
+    public final void mIN() throws RecognitionException {
+        try {
+            int _type = IN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1781:11: ( 'in' )
+            // /root/project/grammar/Python.g:1781:13: 'in'
+            {
+            match("in"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "IN"
+
+    // $ANTLR start "IS"
+    public final void mIS() throws RecognitionException {
+        try {
+            int _type = IS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1782:11: ( 'is' )
+            // /root/project/grammar/Python.g:1782:13: 'is'
+            {
+            match("is"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "IS"
+
+    // $ANTLR start "LAMBDA"
+    public final void mLAMBDA() throws RecognitionException {
+        try {
+            int _type = LAMBDA;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1783:11: ( 'lambda' )
+            // /root/project/grammar/Python.g:1783:13: 'lambda'
+            {
+            match("lambda"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LAMBDA"
+
+    // $ANTLR start "ORELSE"
+    public final void mORELSE() throws RecognitionException {
+        try {
+            int _type = ORELSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1784:11: ( 'else' )
+            // /root/project/grammar/Python.g:1784:13: 'else'
+            {
+            match("else"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "ORELSE"
+
+    // $ANTLR start "PASS"
+    public final void mPASS() throws RecognitionException {
+        try {
+            int _type = PASS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1785:11: ( 'pass' )
+            // /root/project/grammar/Python.g:1785:13: 'pass'
+            {
+            match("pass"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "PASS"
+
+    // $ANTLR start "PRINT"
+    public final void mPRINT() throws RecognitionException {
+        try {
+            int _type = PRINT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1786:11: ( 'print' )
+            // /root/project/grammar/Python.g:1786:13: 'print'
+            {
+            match("print"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "PRINT"
+
+    // $ANTLR start "RAISE"
+    public final void mRAISE() throws RecognitionException {
+        try {
+            int _type = RAISE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1787:11: ( 'raise' )
+            // /root/project/grammar/Python.g:1787:13: 'raise'
+            {
+            match("raise"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "RAISE"
+
+    // $ANTLR start "RETURN"
+    public final void mRETURN() throws RecognitionException {
+        try {
+            int _type = RETURN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1788:11: ( 'return' )
+            // /root/project/grammar/Python.g:1788:13: 'return'
+            {
+            match("return"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "RETURN"
+
+    // $ANTLR start "TRY"
+    public final void mTRY() throws RecognitionException {
+        try {
+            int _type = TRY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1789:11: ( 'try' )
+            // /root/project/grammar/Python.g:1789:13: 'try'
+            {
+            match("try"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "TRY"
+
+    // $ANTLR start "WHILE"
+    public final void mWHILE() throws RecognitionException {
+        try {
+            int _type = WHILE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1790:11: ( 'while' )
+            // /root/project/grammar/Python.g:1790:13: 'while'
+            {
+            match("while"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "WHILE"
+
+    // $ANTLR start "WITH"
+    public final void mWITH() throws RecognitionException {
+        try {
+            int _type = WITH;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1791:11: ( 'with' )
+            // /root/project/grammar/Python.g:1791:13: 'with'
+            {
+            match("with"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "WITH"
+
+    // $ANTLR start "YIELD"
+    public final void mYIELD() throws RecognitionException {
+        try {
+            int _type = YIELD;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1792:11: ( 'yield' )
+            // /root/project/grammar/Python.g:1792:13: 'yield'
+            {
+            match("yield"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "YIELD"
+
+    // $ANTLR start "LPAREN"
+    public final void mLPAREN() throws RecognitionException {
+        try {
+            int _type = LPAREN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1794:11: ( '(' )
+            // /root/project/grammar/Python.g:1794:13: '('
+            {
+            match('('); 
+            implicitLineJoiningLevel++;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LPAREN"
+
+    // $ANTLR start "RPAREN"
+    public final void mRPAREN() throws RecognitionException {
+        try {
+            int _type = RPAREN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1796:11: ( ')' )
+            // /root/project/grammar/Python.g:1796:13: ')'
+            {
+            match(')'); 
+            implicitLineJoiningLevel--;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "RPAREN"
+
+    // $ANTLR start "LBRACK"
+    public final void mLBRACK() throws RecognitionException {
+        try {
+            int _type = LBRACK;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1798:11: ( '[' )
+            // /root/project/grammar/Python.g:1798:13: '['
+            {
+            match('['); 
+            implicitLineJoiningLevel++;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LBRACK"
+
+    // $ANTLR start "RBRACK"
+    public final void mRBRACK() throws RecognitionException {
+        try {
+            int _type = RBRACK;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1800:11: ( ']' )
+            // /root/project/grammar/Python.g:1800:13: ']'
+            {
+            match(']'); 
+            implicitLineJoiningLevel--;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "RBRACK"
+
+    // $ANTLR start "COLON"
+    public final void mCOLON() throws RecognitionException {
+        try {
+            int _type = COLON;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1802:11: ( ':' )
+            // /root/project/grammar/Python.g:1802:13: ':'
+            {
+            match(':'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "COLON"
+
+    // $ANTLR start "COMMA"
+    public final void mCOMMA() throws RecognitionException {
+        try {
+            int _type = COMMA;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1804:10: ( ',' )
+            // /root/project/grammar/Python.g:1804:12: ','
+            {
+            match(','); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "COMMA"
+
+    // $ANTLR start "SEMI"
+    public final void mSEMI() throws RecognitionException {
+        try {
+            int _type = SEMI;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1806:9: ( ';' )
+            // /root/project/grammar/Python.g:1806:11: ';'
+            {
+            match(';'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "SEMI"
+
+    // $ANTLR start "PLUS"
+    public final void mPLUS() throws RecognitionException {
+        try {
+            int _type = PLUS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1808:9: ( '+' )
+            // /root/project/grammar/Python.g:1808:11: '+'
+            {
+            match('+'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "PLUS"
+
+    // $ANTLR start "MINUS"
+    public final void mMINUS() throws RecognitionException {
+        try {
+            int _type = MINUS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1810:10: ( '-' )
+            // /root/project/grammar/Python.g:1810:12: '-'
+            {
+            match('-'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "MINUS"
+
+    // $ANTLR start "STAR"
+    public final void mSTAR() throws RecognitionException {
+        try {
+            int _type = STAR;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1812:9: ( '*' )
+            // /root/project/grammar/Python.g:1812:11: '*'
+            {
+            match('*'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "STAR"
+
+    // $ANTLR start "SLASH"
+    public final void mSLASH() throws RecognitionException {
+        try {
+            int _type = SLASH;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1814:10: ( '/' )
+            // /root/project/grammar/Python.g:1814:12: '/'
+            {
+            match('/'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "SLASH"
+
+    // $ANTLR start "VBAR"
+    public final void mVBAR() throws RecognitionException {
+        try {
+            int _type = VBAR;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1816:9: ( '|' )
+            // /root/project/grammar/Python.g:1816:11: '|'
+            {
+            match('|'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "VBAR"
+
+    // $ANTLR start "AMPER"
+    public final void mAMPER() throws RecognitionException {
+        try {
+            int _type = AMPER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1818:10: ( '&' )
+            // /root/project/grammar/Python.g:1818:12: '&'
+            {
+            match('&'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "AMPER"
+
+    // $ANTLR start "LESS"
+    public final void mLESS() throws RecognitionException {
+        try {
+            int _type = LESS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1820:9: ( '<' )
+            // /root/project/grammar/Python.g:1820:11: '<'
+            {
+            match('<'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LESS"
+
+    // $ANTLR start "GREATER"
+    public final void mGREATER() throws RecognitionException {
+        try {
+            int _type = GREATER;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1822:12: ( '>' )
+            // /root/project/grammar/Python.g:1822:14: '>'
+            {
+            match('>'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "GREATER"
+
+    // $ANTLR start "ASSIGN"
+    public final void mASSIGN() throws RecognitionException {
+        try {
+            int _type = ASSIGN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1824:11: ( '=' )
+            // /root/project/grammar/Python.g:1824:13: '='
+            {
+            match('='); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "ASSIGN"
+
+    // $ANTLR start "PERCENT"
+    public final void mPERCENT() throws RecognitionException {
+        try {
+            int _type = PERCENT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1826:12: ( '%' )
+            // /root/project/grammar/Python.g:1826:14: '%'
+            {
+            match('%'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "PERCENT"
+
+    // $ANTLR start "BACKQUOTE"
+    public final void mBACKQUOTE() throws RecognitionException {
+        try {
+            int _type = BACKQUOTE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1828:14: ( '`' )
+            // /root/project/grammar/Python.g:1828:16: '`'
+            {
+            match('`'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "BACKQUOTE"
+
+    // $ANTLR start "LCURLY"
+    public final void mLCURLY() throws RecognitionException {
+        try {
+            int _type = LCURLY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1830:11: ( '{' )
+            // /root/project/grammar/Python.g:1830:13: '{'
+            {
+            match('{'); 
+            implicitLineJoiningLevel++;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LCURLY"
+
+    // $ANTLR start "RCURLY"
+    public final void mRCURLY() throws RecognitionException {
+        try {
+            int _type = RCURLY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1832:11: ( '}' )
+            // /root/project/grammar/Python.g:1832:13: '}'
+            {
+            match('}'); 
+            implicitLineJoiningLevel--;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "RCURLY"
+
+    // $ANTLR start "CIRCUMFLEX"
+    public final void mCIRCUMFLEX() throws RecognitionException {
+        try {
+            int _type = CIRCUMFLEX;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1834:15: ( '^' )
+            // /root/project/grammar/Python.g:1834:17: '^'
+            {
+            match('^'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "CIRCUMFLEX"
+
+    // $ANTLR start "TILDE"
+    public final void mTILDE() throws RecognitionException {
+        try {
+            int _type = TILDE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1836:10: ( '~' )
+            // /root/project/grammar/Python.g:1836:12: '~'
+            {
+            match('~'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "TILDE"
+
+    // $ANTLR start "EQUAL"
+    public final void mEQUAL() throws RecognitionException {
+        try {
+            int _type = EQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1838:10: ( '==' )
+            // /root/project/grammar/Python.g:1838:12: '=='
+            {
+            match("=="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "EQUAL"
+
+    // $ANTLR start "NOTEQUAL"
+    public final void mNOTEQUAL() throws RecognitionException {
+        try {
+            int _type = NOTEQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1840:13: ( '!=' )
+            // /root/project/grammar/Python.g:1840:15: '!='
+            {
+            match("!="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "NOTEQUAL"
+
+    // $ANTLR start "ALT_NOTEQUAL"
+    public final void mALT_NOTEQUAL() throws RecognitionException {
+        try {
+            int _type = ALT_NOTEQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1842:13: ( '<>' )
+            // /root/project/grammar/Python.g:1842:15: '<>'
+            {
+            match("<>"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "ALT_NOTEQUAL"
+
+    // $ANTLR start "LESSEQUAL"
+    public final void mLESSEQUAL() throws RecognitionException {
+        try {
+            int _type = LESSEQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1844:14: ( '<=' )
+            // /root/project/grammar/Python.g:1844:16: '<='
+            {
+            match("<="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LESSEQUAL"
+
+    // $ANTLR start "LEFTSHIFT"
+    public final void mLEFTSHIFT() throws RecognitionException {
+        try {
+            int _type = LEFTSHIFT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1846:14: ( '<<' )
+            // /root/project/grammar/Python.g:1846:16: '<<'
+            {
+            match("<<"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LEFTSHIFT"
+
+    // $ANTLR start "GREATEREQUAL"
+    public final void mGREATEREQUAL() throws RecognitionException {
+        try {
+            int _type = GREATEREQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1848:17: ( '>=' )
+            // /root/project/grammar/Python.g:1848:19: '>='
+            {
+            match(">="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "GREATEREQUAL"
+
+    // $ANTLR start "RIGHTSHIFT"
+    public final void mRIGHTSHIFT() throws RecognitionException {
+        try {
+            int _type = RIGHTSHIFT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1850:15: ( '>>' )
+            // /root/project/grammar/Python.g:1850:17: '>>'
+            {
+            match(">>"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "RIGHTSHIFT"
+
+    // $ANTLR start "PLUSEQUAL"
+    public final void mPLUSEQUAL() throws RecognitionException {
+        try {
+            int _type = PLUSEQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1852:14: ( '+=' )
+            // /root/project/grammar/Python.g:1852:16: '+='
+            {
+            match("+="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "PLUSEQUAL"
+
+    // $ANTLR start "MINUSEQUAL"
+    public final void mMINUSEQUAL() throws RecognitionException {
+        try {
+            int _type = MINUSEQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1854:15: ( '-=' )
+            // /root/project/grammar/Python.g:1854:17: '-='
+            {
+            match("-="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "MINUSEQUAL"
+
+    // $ANTLR start "DOUBLESTAR"
+    public final void mDOUBLESTAR() throws RecognitionException {
+        try {
+            int _type = DOUBLESTAR;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1856:15: ( '**' )
+            // /root/project/grammar/Python.g:1856:17: '**'
+            {
+            match("**"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "DOUBLESTAR"
+
+    // $ANTLR start "STAREQUAL"
+    public final void mSTAREQUAL() throws RecognitionException {
+        try {
+            int _type = STAREQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1858:14: ( '*=' )
+            // /root/project/grammar/Python.g:1858:16: '*='
+            {
+            match("*="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "STAREQUAL"
+
+    // $ANTLR start "DOUBLESLASH"
+    public final void mDOUBLESLASH() throws RecognitionException {
+        try {
+            int _type = DOUBLESLASH;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1860:16: ( '//' )
+            // /root/project/grammar/Python.g:1860:18: '//'
+            {
+            match("//"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "DOUBLESLASH"
+
+    // $ANTLR start "SLASHEQUAL"
+    public final void mSLASHEQUAL() throws RecognitionException {
+        try {
+            int _type = SLASHEQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1862:15: ( '/=' )
+            // /root/project/grammar/Python.g:1862:17: '/='
+            {
+            match("/="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "SLASHEQUAL"
+
+    // $ANTLR start "VBAREQUAL"
+    public final void mVBAREQUAL() throws RecognitionException {
+        try {
+            int _type = VBAREQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1864:14: ( '|=' )
+            // /root/project/grammar/Python.g:1864:16: '|='
+            {
+            match("|="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "VBAREQUAL"
+
+    // $ANTLR start "PERCENTEQUAL"
+    public final void mPERCENTEQUAL() throws RecognitionException {
+        try {
+            int _type = PERCENTEQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1866:17: ( '%=' )
+            // /root/project/grammar/Python.g:1866:19: '%='
+            {
+            match("%="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "PERCENTEQUAL"
+
+    // $ANTLR start "AMPEREQUAL"
+    public final void mAMPEREQUAL() throws RecognitionException {
+        try {
+            int _type = AMPEREQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1868:15: ( '&=' )
+            // /root/project/grammar/Python.g:1868:17: '&='
+            {
+            match("&="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "AMPEREQUAL"
+
+    // $ANTLR start "CIRCUMFLEXEQUAL"
+    public final void mCIRCUMFLEXEQUAL() throws RecognitionException {
+        try {
+            int _type = CIRCUMFLEXEQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1870:20: ( '^=' )
+            // /root/project/grammar/Python.g:1870:22: '^='
+            {
+            match("^="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "CIRCUMFLEXEQUAL"
+
+    // $ANTLR start "LEFTSHIFTEQUAL"
+    public final void mLEFTSHIFTEQUAL() throws RecognitionException {
+        try {
+            int _type = LEFTSHIFTEQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1872:19: ( '<<=' )
+            // /root/project/grammar/Python.g:1872:21: '<<='
+            {
+            match("<<="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LEFTSHIFTEQUAL"
+
+    // $ANTLR start "RIGHTSHIFTEQUAL"
+    public final void mRIGHTSHIFTEQUAL() throws RecognitionException {
+        try {
+            int _type = RIGHTSHIFTEQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1874:20: ( '>>=' )
+            // /root/project/grammar/Python.g:1874:22: '>>='
+            {
+            match(">>="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "RIGHTSHIFTEQUAL"
+
+    // $ANTLR start "DOUBLESTAREQUAL"
+    public final void mDOUBLESTAREQUAL() throws RecognitionException {
+        try {
+            int _type = DOUBLESTAREQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1876:20: ( '**=' )
+            // /root/project/grammar/Python.g:1876:22: '**='
+            {
+            match("**="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "DOUBLESTAREQUAL"
+
+    // $ANTLR start "DOUBLESLASHEQUAL"
+    public final void mDOUBLESLASHEQUAL() throws RecognitionException {
+        try {
+            int _type = DOUBLESLASHEQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1878:21: ( '//=' )
+            // /root/project/grammar/Python.g:1878:23: '//='
+            {
+            match("//="); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "DOUBLESLASHEQUAL"
+
+    // $ANTLR start "DOT"
+    public final void mDOT() throws RecognitionException {
+        try {
+            int _type = DOT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1880:5: ( '.' )
+            // /root/project/grammar/Python.g:1880:7: '.'
+            {
+            match('.'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "DOT"
+
+    // $ANTLR start "AT"
+    public final void mAT() throws RecognitionException {
+        try {
+            int _type = AT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1882:4: ( '@' )
+            // /root/project/grammar/Python.g:1882:6: '@'
+            {
+            match('@'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "AT"
+
+    // $ANTLR start "AND"
+    public final void mAND() throws RecognitionException {
+        try {
+            int _type = AND;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1884:5: ( 'and' )
+            // /root/project/grammar/Python.g:1884:7: 'and'
+            {
+            match("and"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "AND"
+
+    // $ANTLR start "OR"
+    public final void mOR() throws RecognitionException {
+        try {
+            int _type = OR;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1886:4: ( 'or' )
+            // /root/project/grammar/Python.g:1886:6: 'or'
+            {
+            match("or"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "OR"
+
+    // $ANTLR start "NOT"
+    public final void mNOT() throws RecognitionException {
+        try {
+            int _type = NOT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1888:5: ( 'not' )
+            // /root/project/grammar/Python.g:1888:7: 'not'
+            {
+            match("not"); 
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "NOT"
+
+    // $ANTLR start "FLOAT"
+    public final void mFLOAT() throws RecognitionException {
+        try {
+            int _type = FLOAT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1891:5: ( '.' DIGITS ( Exponent )? | DIGITS '.' Exponent | DIGITS ( '.' ( DIGITS ( Exponent )? )? | Exponent ) )
+            int alt5=3;
+            alt5 = dfa5.predict(input);
+            switch (alt5) {
+                case 1 :
+                    // /root/project/grammar/Python.g:1891:9: '.' DIGITS ( Exponent )?
+                    {
+                    match('.'); 
+                    mDIGITS(); 
+                    // /root/project/grammar/Python.g:1891:20: ( Exponent )?
+                    int alt1=2;
+                    int LA1_0 = input.LA(1);
+
+                    if ( (LA1_0=='E'||LA1_0=='e') ) {
+                        alt1=1;
+                    }
+                    switch (alt1) {
+                        case 1 :
+                            // /root/project/grammar/Python.g:1891:21: Exponent
+                            {
+                            mExponent(); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/grammar/Python.g:1892:9: DIGITS '.' Exponent
+                    {
+                    mDIGITS(); 
+                    match('.'); 
+                    mExponent(); 
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/grammar/Python.g:1893:9: DIGITS ( '.' ( DIGITS ( Exponent )? )? | Exponent )
+                    {
+                    mDIGITS(); 
+                    // /root/project/grammar/Python.g:1893:16: ( '.' ( DIGITS ( Exponent )? )? | Exponent )
+                    int alt4=2;
+                    int LA4_0 = input.LA(1);
+
+                    if ( (LA4_0=='.') ) {
+                        alt4=1;
+                    }
+                    else if ( (LA4_0=='E'||LA4_0=='e') ) {
+                        alt4=2;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 4, 0, input);
+
+                        throw nvae;
+                    }
+                    switch (alt4) {
+                        case 1 :
+                            // /root/project/grammar/Python.g:1893:17: '.' ( DIGITS ( Exponent )? )?
+                            {
+                            match('.'); 
+                            // /root/project/grammar/Python.g:1893:21: ( DIGITS ( Exponent )? )?
+                            int alt3=2;
+                            int LA3_0 = input.LA(1);
+
+                            if ( ((LA3_0>='0' && LA3_0<='9')) ) {
+                                alt3=1;
+                            }
+                            switch (alt3) {
+                                case 1 :
+                                    // /root/project/grammar/Python.g:1893:22: DIGITS ( Exponent )?
+                                    {
+                                    mDIGITS(); 
+                                    // /root/project/grammar/Python.g:1893:29: ( Exponent )?
+                                    int alt2=2;
+                                    int LA2_0 = input.LA(1);
+
+                                    if ( (LA2_0=='E'||LA2_0=='e') ) {
+                                        alt2=1;
+                                    }
+                                    switch (alt2) {
+                                        case 1 :
+                                            // /root/project/grammar/Python.g:1893:30: Exponent
+                                            {
+                                            mExponent(); 
+
+                                            }
+                                            break;
+
+                                    }
+
+
+                                    }
+                                    break;
+
+                            }
+
+
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/grammar/Python.g:1893:45: Exponent
+                            {
+                            mExponent(); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "FLOAT"
+
+    // $ANTLR start "LONGINT"
+    public final void mLONGINT() throws RecognitionException {
+        try {
+            int _type = LONGINT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1897:5: ( INT ( 'l' | 'L' ) )
+            // /root/project/grammar/Python.g:1897:9: INT ( 'l' | 'L' )
+            {
+            mINT(); 
+            if ( input.LA(1)=='L'||input.LA(1)=='l' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LONGINT"
+
+    // $ANTLR start "Exponent"
+    public final void mExponent() throws RecognitionException {
+        try {
+            // /root/project/grammar/Python.g:1902:5: ( ( 'e' | 'E' ) ( '+' | '-' )? DIGITS )
+            // /root/project/grammar/Python.g:1902:10: ( 'e' | 'E' ) ( '+' | '-' )? DIGITS
+            {
+            if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+            // /root/project/grammar/Python.g:1902:22: ( '+' | '-' )?
+            int alt6=2;
+            int LA6_0 = input.LA(1);
+
+            if ( (LA6_0=='+'||LA6_0=='-') ) {
+                alt6=1;
+            }
+            switch (alt6) {
+                case 1 :
+                    // /root/project/grammar/Python.g:
+                    {
+                    if ( input.LA(1)=='+'||input.LA(1)=='-' ) {
+                        input.consume();
+
+                    }
+                    else {
+                        MismatchedSetException mse = new MismatchedSetException(null,input);
+                        recover(mse);
+                        throw mse;}
+
+
+                    }
+                    break;
+
+            }
+
+            mDIGITS(); 
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "Exponent"
+
+    // $ANTLR start "INT"
+    public final void mINT() throws RecognitionException {
+        try {
+            int _type = INT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1905:5: ( '0' ( 'x' | 'X' ) ( '0' .. '9' | 'a' .. 'f' | 'A' .. 'F' )+ | '0' ( '0' .. '7' )* | '1' .. '9' ( DIGITS )* )
+            int alt10=3;
+            int LA10_0 = input.LA(1);
+
+            if ( (LA10_0=='0') ) {
+                int LA10_1 = input.LA(2);
+
+                if ( (LA10_1=='X'||LA10_1=='x') ) {
+                    alt10=1;
+                }
+                else {
+                    alt10=2;}
+            }
+            else if ( ((LA10_0>='1' && LA10_0<='9')) ) {
+                alt10=3;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 10, 0, input);
+
+                throw nvae;
+            }
+            switch (alt10) {
+                case 1 :
+                    // /root/project/grammar/Python.g:1906:9: '0' ( 'x' | 'X' ) ( '0' .. '9' | 'a' .. 'f' | 'A' .. 'F' )+
+                    {
+                    match('0'); 
+                    if ( input.LA(1)=='X'||input.LA(1)=='x' ) {
+                        input.consume();
+
+                    }
+                    else {
+                        MismatchedSetException mse = new MismatchedSetException(null,input);
+                        recover(mse);
+                        throw mse;}
+
+                    // /root/project/grammar/Python.g:1906:25: ( '0' .. '9' | 'a' .. 'f' | 'A' .. 'F' )+
+                    int cnt7=0;
+                    loop7:
+                    do {
+                        int alt7=2;
+                        int LA7_0 = input.LA(1);
+
+                        if ( ((LA7_0>='0' && LA7_0<='9')||(LA7_0>='A' && LA7_0<='F')||(LA7_0>='a' && LA7_0<='f')) ) {
+                            alt7=1;
+                        }
+
+
+                        switch (alt7) {
+                    	case 1 :
+                    	    // /root/project/grammar/Python.g:
+                    	    {
+                    	    if ( (input.LA(1)>='0' && input.LA(1)<='9')||(input.LA(1)>='A' && input.LA(1)<='F')||(input.LA(1)>='a' && input.LA(1)<='f') ) {
+                    	        input.consume();
+
+                    	    }
+                    	    else {
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        recover(mse);
+                    	        throw mse;}
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt7 >= 1 ) break loop7;
+                                EarlyExitException eee =
+                                    new EarlyExitException(7, input);
+                                throw eee;
+                        }
+                        cnt7++;
+                    } while (true);
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/grammar/Python.g:1908:9: '0' ( '0' .. '7' )*
+                    {
+                    match('0'); 
+                    // /root/project/grammar/Python.g:1908:14: ( '0' .. '7' )*
+                    loop8:
+                    do {
+                        int alt8=2;
+                        int LA8_0 = input.LA(1);
+
+                        if ( ((LA8_0>='0' && LA8_0<='7')) ) {
+                            alt8=1;
+                        }
+
+
+                        switch (alt8) {
+                    	case 1 :
+                    	    // /root/project/grammar/Python.g:1908:16: '0' .. '7'
+                    	    {
+                    	    matchRange('0','7'); 
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop8;
+                        }
+                    } while (true);
+
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/grammar/Python.g:1909:9: '1' .. '9' ( DIGITS )*
+                    {
+                    matchRange('1','9'); 
+                    // /root/project/grammar/Python.g:1909:18: ( DIGITS )*
+                    loop9:
+                    do {
+                        int alt9=2;
+                        int LA9_0 = input.LA(1);
+
+                        if ( ((LA9_0>='0' && LA9_0<='9')) ) {
+                            alt9=1;
+                        }
+
+
+                        switch (alt9) {
+                    	case 1 :
+                    	    // /root/project/grammar/Python.g:1909:18: DIGITS
+                    	    {
+                    	    mDIGITS(); 
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop9;
+                        }
+                    } while (true);
+
+
+                    }
+                    break;
+
+            }
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "INT"
+
+    // $ANTLR start "COMPLEX"
+    public final void mCOMPLEX() throws RecognitionException {
+        try {
+            int _type = COMPLEX;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1913:5: ( ( DIGITS )+ ( 'j' | 'J' ) | FLOAT ( 'j' | 'J' ) )
+            int alt12=2;
+            alt12 = dfa12.predict(input);
+            switch (alt12) {
+                case 1 :
+                    // /root/project/grammar/Python.g:1913:9: ( DIGITS )+ ( 'j' | 'J' )
+                    {
+                    // /root/project/grammar/Python.g:1913:9: ( DIGITS )+
+                    int cnt11=0;
+                    loop11:
+                    do {
+                        int alt11=2;
+                        int LA11_0 = input.LA(1);
+
+                        if ( ((LA11_0>='0' && LA11_0<='9')) ) {
+                            alt11=1;
+                        }
+
+
+                        switch (alt11) {
+                    	case 1 :
+                    	    // /root/project/grammar/Python.g:1913:9: DIGITS
+                    	    {
+                    	    mDIGITS(); 
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt11 >= 1 ) break loop11;
+                                EarlyExitException eee =
+                                    new EarlyExitException(11, input);
+                                throw eee;
+                        }
+                        cnt11++;
+                    } while (true);
+
+                    if ( input.LA(1)=='J'||input.LA(1)=='j' ) {
+                        input.consume();
+
+                    }
+                    else {
+                        MismatchedSetException mse = new MismatchedSetException(null,input);
+                        recover(mse);
+                        throw mse;}
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/grammar/Python.g:1914:9: FLOAT ( 'j' | 'J' )
+                    {
+                    mFLOAT(); 
+                    if ( input.LA(1)=='J'||input.LA(1)=='j' ) {
+                        input.consume();
+
+                    }
+                    else {
+                        MismatchedSetException mse = new MismatchedSetException(null,input);
+                        recover(mse);
+                        throw mse;}
+
+
+                    }
+                    break;
+
+            }
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "COMPLEX"
+
+    // $ANTLR start "DIGITS"
+    public final void mDIGITS() throws RecognitionException {
+        try {
+            // /root/project/grammar/Python.g:1918:8: ( ( '0' .. '9' )+ )
+            // /root/project/grammar/Python.g:1918:10: ( '0' .. '9' )+
+            {
+            // /root/project/grammar/Python.g:1918:10: ( '0' .. '9' )+
+            int cnt13=0;
+            loop13:
+            do {
+                int alt13=2;
+                int LA13_0 = input.LA(1);
+
+                if ( ((LA13_0>='0' && LA13_0<='9')) ) {
+                    alt13=1;
+                }
+
+
+                switch (alt13) {
+            	case 1 :
+            	    // /root/project/grammar/Python.g:1918:12: '0' .. '9'
+            	    {
+            	    matchRange('0','9'); 
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt13 >= 1 ) break loop13;
+                        EarlyExitException eee =
+                            new EarlyExitException(13, input);
+                        throw eee;
+                }
+                cnt13++;
+            } while (true);
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "DIGITS"
+
+    // $ANTLR start "NAME"
+    public final void mNAME() throws RecognitionException {
+        try {
+            int _type = NAME;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1920:5: ( ( 'a' .. 'z' | 'A' .. 'Z' | '_' ) ( 'a' .. 'z' | 'A' .. 'Z' | '_' | '0' .. '9' )* )
+            // /root/project/grammar/Python.g:1920:10: ( 'a' .. 'z' | 'A' .. 'Z' | '_' ) ( 'a' .. 'z' | 'A' .. 'Z' | '_' | '0' .. '9' )*
+            {
+            if ( (input.LA(1)>='A' && input.LA(1)<='Z')||input.LA(1)=='_'||(input.LA(1)>='a' && input.LA(1)<='z') ) {
+                input.consume();
+
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;}
+
+            // /root/project/grammar/Python.g:1921:9: ( 'a' .. 'z' | 'A' .. 'Z' | '_' | '0' .. '9' )*
+            loop14:
+            do {
+                int alt14=2;
+                int LA14_0 = input.LA(1);
+
+                if ( ((LA14_0>='0' && LA14_0<='9')||(LA14_0>='A' && LA14_0<='Z')||LA14_0=='_'||(LA14_0>='a' && LA14_0<='z')) ) {
+                    alt14=1;
+                }
+
+
+                switch (alt14) {
+            	case 1 :
+            	    // /root/project/grammar/Python.g:
+            	    {
+            	    if ( (input.LA(1)>='0' && input.LA(1)<='9')||(input.LA(1)>='A' && input.LA(1)<='Z')||input.LA(1)=='_'||(input.LA(1)>='a' && input.LA(1)<='z') ) {
+            	        input.consume();
+
+            	    }
+            	    else {
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;}
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop14;
+                }
+            } while (true);
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "NAME"
+
+    // $ANTLR start "STRING"
+    public final void mSTRING() throws RecognitionException {
+        try {
+            int _type = STRING;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1928:5: ( ( 'r' | 'u' | 'ur' | 'R' | 'U' | 'UR' | 'uR' | 'Ur' )? ( '\\'\\'\\'' ( options {greedy=false; } : TRIAPOS )* '\\'\\'\\'' | '\"\"\"' ( options {greedy=false; } : TRIQUOTE )* '\"\"\"' | '\"' ( ESC | ~ ( '\\\\' | '\\n' | '\"' ) )* '\"' | '\\'' ( ESC | ~ ( '\\\\' | '\\n' | '\\'' ) )* '\\'' ) )
+            // /root/project/grammar/Python.g:1928:9: ( 'r' | 'u' | 'ur' | 'R' | 'U' | 'UR' | 'uR' | 'Ur' )? ( '\\'\\'\\'' ( options {greedy=false; } : TRIAPOS )* '\\'\\'\\'' | '\"\"\"' ( options {greedy=false; } : TRIQUOTE )* '\"\"\"' | '\"' ( ESC | ~ ( '\\\\' | '\\n' | '\"' ) )* '\"' | '\\'' ( ESC | ~ ( '\\\\' | '\\n' | '\\'' ) )* '\\'' )
+            {
+            // /root/project/grammar/Python.g:1928:9: ( 'r' | 'u' | 'ur' | 'R' | 'U' | 'UR' | 'uR' | 'Ur' )?
+            int alt15=9;
+            alt15 = dfa15.predict(input);
+            switch (alt15) {
+                case 1 :
+                    // /root/project/grammar/Python.g:1928:10: 'r'
+                    {
+                    match('r'); 
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/grammar/Python.g:1928:14: 'u'
+                    {
+                    match('u'); 
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/grammar/Python.g:1928:18: 'ur'
+                    {
+                    match("ur"); 
+
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/grammar/Python.g:1928:23: 'R'
+                    {
+                    match('R'); 
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/grammar/Python.g:1928:27: 'U'
+                    {
+                    match('U'); 
+
+                    }
+                    break;
+                case 6 :
+                    // /root/project/grammar/Python.g:1928:31: 'UR'
+                    {
+                    match("UR"); 
+
+
+                    }
+                    break;
+                case 7 :
+                    // /root/project/grammar/Python.g:1928:36: 'uR'
+                    {
+                    match("uR"); 
+
+
+                    }
+                    break;
+                case 8 :
+                    // /root/project/grammar/Python.g:1928:41: 'Ur'
+                    {
+                    match("Ur"); 
+
+
+                    }
+                    break;
+
+            }
+
+            // /root/project/grammar/Python.g:1929:9: ( '\\'\\'\\'' ( options {greedy=false; } : TRIAPOS )* '\\'\\'\\'' | '\"\"\"' ( options {greedy=false; } : TRIQUOTE )* '\"\"\"' | '\"' ( ESC | ~ ( '\\\\' | '\\n' | '\"' ) )* '\"' | '\\'' ( ESC | ~ ( '\\\\' | '\\n' | '\\'' ) )* '\\'' )
+            int alt20=4;
+            int LA20_0 = input.LA(1);
+
+            if ( (LA20_0=='\'') ) {
+                int LA20_1 = input.LA(2);
+
+                if ( (LA20_1=='\'') ) {
+                    int LA20_3 = input.LA(3);
+
+                    if ( (LA20_3=='\'') ) {
+                        alt20=1;
+                    }
+                    else {
+                        alt20=4;}
+                }
+                else if ( ((LA20_1>='\u0000' && LA20_1<='\t')||(LA20_1>='\u000B' && LA20_1<='&')||(LA20_1>='(' && LA20_1<='\uFFFF')) ) {
+                    alt20=4;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 20, 1, input);
+
+                    throw nvae;
+                }
+            }
+            else if ( (LA20_0=='\"') ) {
+                int LA20_2 = input.LA(2);
+
+                if ( (LA20_2=='\"') ) {
+                    int LA20_5 = input.LA(3);
+
+                    if ( (LA20_5=='\"') ) {
+                        alt20=2;
+                    }
+                    else {
+                        alt20=3;}
+                }
+                else if ( ((LA20_2>='\u0000' && LA20_2<='\t')||(LA20_2>='\u000B' && LA20_2<='!')||(LA20_2>='#' && LA20_2<='\uFFFF')) ) {
+                    alt20=3;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 20, 2, input);
+
+                    throw nvae;
+                }
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 20, 0, input);
+
+                throw nvae;
+            }
+            switch (alt20) {
+                case 1 :
+                    // /root/project/grammar/Python.g:1929:13: '\\'\\'\\'' ( options {greedy=false; } : TRIAPOS )* '\\'\\'\\''
+                    {
+                    match("'''"); 
+
+                    // /root/project/grammar/Python.g:1929:22: ( options {greedy=false; } : TRIAPOS )*
+                    loop16:
+                    do {
+                        int alt16=2;
+                        int LA16_0 = input.LA(1);
+
+                        if ( (LA16_0=='\'') ) {
+                            int LA16_1 = input.LA(2);
+
+                            if ( (LA16_1=='\'') ) {
+                                int LA16_3 = input.LA(3);
+
+                                if ( (LA16_3=='\'') ) {
+                                    alt16=2;
+                                }
+                                else if ( ((LA16_3>='\u0000' && LA16_3<='&')||(LA16_3>='(' && LA16_3<='\uFFFF')) ) {
+                                    alt16=1;
+                                }
+
+
+                            }
+                            else if ( ((LA16_1>='\u0000' && LA16_1<='&')||(LA16_1>='(' && LA16_1<='\uFFFF')) ) {
+                                alt16=1;
+                            }
+
+
+                        }
+                        else if ( ((LA16_0>='\u0000' && LA16_0<='&')||(LA16_0>='(' && LA16_0<='\uFFFF')) ) {
+                            alt16=1;
+                        }
+
+
+                        switch (alt16) {
+                    	case 1 :
+                    	    // /root/project/grammar/Python.g:1929:47: TRIAPOS
+                    	    {
+                    	    mTRIAPOS(); 
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop16;
+                        }
+                    } while (true);
+
+                    match("'''"); 
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/grammar/Python.g:1930:13: '\"\"\"' ( options {greedy=false; } : TRIQUOTE )* '\"\"\"'
+                    {
+                    match("\"\"\""); 
+
+                    // /root/project/grammar/Python.g:1930:19: ( options {greedy=false; } : TRIQUOTE )*
+                    loop17:
+                    do {
+                        int alt17=2;
+                        int LA17_0 = input.LA(1);
+
+                        if ( (LA17_0=='\"') ) {
+                            int LA17_1 = input.LA(2);
+
+                            if ( (LA17_1=='\"') ) {
+                                int LA17_3 = input.LA(3);
+
+                                if ( (LA17_3=='\"') ) {
+                                    alt17=2;
+                                }
+                                else if ( ((LA17_3>='\u0000' && LA17_3<='!')||(LA17_3>='#' && LA17_3<='\uFFFF')) ) {
+                                    alt17=1;
+                                }
+
+
+                            }
+                            else if ( ((LA17_1>='\u0000' && LA17_1<='!')||(LA17_1>='#' && LA17_1<='\uFFFF')) ) {
+                                alt17=1;
+                            }
+
+
+                        }
+                        else if ( ((LA17_0>='\u0000' && LA17_0<='!')||(LA17_0>='#' && LA17_0<='\uFFFF')) ) {
+                            alt17=1;
+                        }
+
+
+                        switch (alt17) {
+                    	case 1 :
+                    	    // /root/project/grammar/Python.g:1930:44: TRIQUOTE
+                    	    {
+                    	    mTRIQUOTE(); 
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop17;
+                        }
+                    } while (true);
+
+                    match("\"\"\""); 
+
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/grammar/Python.g:1931:13: '\"' ( ESC | ~ ( '\\\\' | '\\n' | '\"' ) )* '\"'
+                    {
+                    match('\"'); 
+                    // /root/project/grammar/Python.g:1931:17: ( ESC | ~ ( '\\\\' | '\\n' | '\"' ) )*
+                    loop18:
+                    do {
+                        int alt18=3;
+                        int LA18_0 = input.LA(1);
+
+                        if ( (LA18_0=='\\') ) {
+                            alt18=1;
+                        }
+                        else if ( ((LA18_0>='\u0000' && LA18_0<='\t')||(LA18_0>='\u000B' && LA18_0<='!')||(LA18_0>='#' && LA18_0<='[')||(LA18_0>=']' && LA18_0<='\uFFFF')) ) {
+                            alt18=2;
+                        }
+
+
+                        switch (alt18) {
+                    	case 1 :
+                    	    // /root/project/grammar/Python.g:1931:18: ESC
+                    	    {
+                    	    mESC(); 
+
+                    	    }
+                    	    break;
+                    	case 2 :
+                    	    // /root/project/grammar/Python.g:1931:22: ~ ( '\\\\' | '\\n' | '\"' )
+                    	    {
+                    	    if ( (input.LA(1)>='\u0000' && input.LA(1)<='\t')||(input.LA(1)>='\u000B' && input.LA(1)<='!')||(input.LA(1)>='#' && input.LA(1)<='[')||(input.LA(1)>=']' && input.LA(1)<='\uFFFF') ) {
+                    	        input.consume();
+
+                    	    }
+                    	    else {
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        recover(mse);
+                    	        throw mse;}
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop18;
+                        }
+                    } while (true);
+
+                    match('\"'); 
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/grammar/Python.g:1932:13: '\\'' ( ESC | ~ ( '\\\\' | '\\n' | '\\'' ) )* '\\''
+                    {
+                    match('\''); 
+                    // /root/project/grammar/Python.g:1932:18: ( ESC | ~ ( '\\\\' | '\\n' | '\\'' ) )*
+                    loop19:
+                    do {
+                        int alt19=3;
+                        int LA19_0 = input.LA(1);
+
+                        if ( (LA19_0=='\\') ) {
+                            alt19=1;
+                        }
+                        else if ( ((LA19_0>='\u0000' && LA19_0<='\t')||(LA19_0>='\u000B' && LA19_0<='&')||(LA19_0>='(' && LA19_0<='[')||(LA19_0>=']' && LA19_0<='\uFFFF')) ) {
+                            alt19=2;
+                        }
+
+
+                        switch (alt19) {
+                    	case 1 :
+                    	    // /root/project/grammar/Python.g:1932:19: ESC
+                    	    {
+                    	    mESC(); 
+
+                    	    }
+                    	    break;
+                    	case 2 :
+                    	    // /root/project/grammar/Python.g:1932:23: ~ ( '\\\\' | '\\n' | '\\'' )
+                    	    {
+                    	    if ( (input.LA(1)>='\u0000' && input.LA(1)<='\t')||(input.LA(1)>='\u000B' && input.LA(1)<='&')||(input.LA(1)>='(' && input.LA(1)<='[')||(input.LA(1)>=']' && input.LA(1)<='\uFFFF') ) {
+                    	        input.consume();
+
+                    	    }
+                    	    else {
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        recover(mse);
+                    	        throw mse;}
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop19;
+                        }
+                    } while (true);
+
+                    match('\''); 
+
+                    }
+                    break;
+
+            }
+
+
+                       if (state.tokenStartLine != input.getLine()) {
+                           state.tokenStartLine = input.getLine();
+                           state.tokenStartCharPositionInLine = -2;
+                       }
+                    
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "STRING"
+
+    // $ANTLR start "TRIQUOTE"
+    public final void mTRIQUOTE() throws RecognitionException {
+        try {
+            // /root/project/grammar/Python.g:1944:5: ( ( '\"' )? ( '\"' )? ( ESC | ~ ( '\\\\' | '\"' ) )+ )
+            // /root/project/grammar/Python.g:1944:7: ( '\"' )? ( '\"' )? ( ESC | ~ ( '\\\\' | '\"' ) )+
+            {
+            // /root/project/grammar/Python.g:1944:7: ( '\"' )?
+            int alt21=2;
+            int LA21_0 = input.LA(1);
+
+            if ( (LA21_0=='\"') ) {
+                alt21=1;
+            }
+            switch (alt21) {
+                case 1 :
+                    // /root/project/grammar/Python.g:1944:7: '\"'
+                    {
+                    match('\"'); 
+
+                    }
+                    break;
+
+            }
+
+            // /root/project/grammar/Python.g:1944:12: ( '\"' )?
+            int alt22=2;
+            int LA22_0 = input.LA(1);
+
+            if ( (LA22_0=='\"') ) {
+                alt22=1;
+            }
+            switch (alt22) {
+                case 1 :
+                    // /root/project/grammar/Python.g:1944:12: '\"'
+                    {
+                    match('\"'); 
+
+                    }
+                    break;
+
+            }
+
+            // /root/project/grammar/Python.g:1944:17: ( ESC | ~ ( '\\\\' | '\"' ) )+
+            int cnt23=0;
+            loop23:
+            do {
+                int alt23=3;
+                int LA23_0 = input.LA(1);
+
+                if ( (LA23_0=='\\') ) {
+                    alt23=1;
+                }
+                else if ( ((LA23_0>='\u0000' && LA23_0<='!')||(LA23_0>='#' && LA23_0<='[')||(LA23_0>=']' && LA23_0<='\uFFFF')) ) {
+                    alt23=2;
+                }
+
+
+                switch (alt23) {
+            	case 1 :
+            	    // /root/project/grammar/Python.g:1944:18: ESC
+            	    {
+            	    mESC(); 
+
+            	    }
+            	    break;
+            	case 2 :
+            	    // /root/project/grammar/Python.g:1944:22: ~ ( '\\\\' | '\"' )
+            	    {
+            	    if ( (input.LA(1)>='\u0000' && input.LA(1)<='!')||(input.LA(1)>='#' && input.LA(1)<='[')||(input.LA(1)>=']' && input.LA(1)<='\uFFFF') ) {
+            	        input.consume();
+
+            	    }
+            	    else {
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;}
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt23 >= 1 ) break loop23;
+                        EarlyExitException eee =
+                            new EarlyExitException(23, input);
+                        throw eee;
+                }
+                cnt23++;
+            } while (true);
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "TRIQUOTE"
+
+    // $ANTLR start "TRIAPOS"
+    public final void mTRIAPOS() throws RecognitionException {
+        try {
+            // /root/project/grammar/Python.g:1950:5: ( ( '\\'' )? ( '\\'' )? ( ESC | ~ ( '\\\\' | '\\'' ) )+ )
+            // /root/project/grammar/Python.g:1950:7: ( '\\'' )? ( '\\'' )? ( ESC | ~ ( '\\\\' | '\\'' ) )+
+            {
+            // /root/project/grammar/Python.g:1950:7: ( '\\'' )?
+            int alt24=2;
+            int LA24_0 = input.LA(1);
+
+            if ( (LA24_0=='\'') ) {
+                alt24=1;
+            }
+            switch (alt24) {
+                case 1 :
+                    // /root/project/grammar/Python.g:1950:7: '\\''
+                    {
+                    match('\''); 
+
+                    }
+                    break;
+
+            }
+
+            // /root/project/grammar/Python.g:1950:13: ( '\\'' )?
+            int alt25=2;
+            int LA25_0 = input.LA(1);
+
+            if ( (LA25_0=='\'') ) {
+                alt25=1;
+            }
+            switch (alt25) {
+                case 1 :
+                    // /root/project/grammar/Python.g:1950:13: '\\''
+                    {
+                    match('\''); 
+
+                    }
+                    break;
+
+            }
+
+            // /root/project/grammar/Python.g:1950:19: ( ESC | ~ ( '\\\\' | '\\'' ) )+
+            int cnt26=0;
+            loop26:
+            do {
+                int alt26=3;
+                int LA26_0 = input.LA(1);
+
+                if ( (LA26_0=='\\') ) {
+                    alt26=1;
+                }
+                else if ( ((LA26_0>='\u0000' && LA26_0<='&')||(LA26_0>='(' && LA26_0<='[')||(LA26_0>=']' && LA26_0<='\uFFFF')) ) {
+                    alt26=2;
+                }
+
+
+                switch (alt26) {
+            	case 1 :
+            	    // /root/project/grammar/Python.g:1950:20: ESC
+            	    {
+            	    mESC(); 
+
+            	    }
+            	    break;
+            	case 2 :
+            	    // /root/project/grammar/Python.g:1950:24: ~ ( '\\\\' | '\\'' )
+            	    {
+            	    if ( (input.LA(1)>='\u0000' && input.LA(1)<='&')||(input.LA(1)>='(' && input.LA(1)<='[')||(input.LA(1)>=']' && input.LA(1)<='\uFFFF') ) {
+            	        input.consume();
+
+            	    }
+            	    else {
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;}
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt26 >= 1 ) break loop26;
+                        EarlyExitException eee =
+                            new EarlyExitException(26, input);
+                        throw eee;
+                }
+                cnt26++;
+            } while (true);
+
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "TRIAPOS"
+
+    // $ANTLR start "ESC"
+    public final void mESC() throws RecognitionException {
+        try {
+            // /root/project/grammar/Python.g:1955:5: ( '\\\\' . )
+            // /root/project/grammar/Python.g:1955:10: '\\\\' .
+            {
+            match('\\'); 
+            matchAny(); 
+
+            }
+
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "ESC"
+
+    // $ANTLR start "CONTINUED_LINE"
+    public final void mCONTINUED_LINE() throws RecognitionException {
+        try {
+            int _type = CONTINUED_LINE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            Token nl=null;
+
+            // /root/project/grammar/Python.g:1963:5: ( '\\\\' ( '\\r' )? '\\n' ( ' ' | '\\t' )* ( COMMENT | nl= NEWLINE | ) )
+            // /root/project/grammar/Python.g:1963:10: '\\\\' ( '\\r' )? '\\n' ( ' ' | '\\t' )* ( COMMENT | nl= NEWLINE | )
+            {
+            match('\\'); 
+            // /root/project/grammar/Python.g:1963:15: ( '\\r' )?
+            int alt27=2;
+            int LA27_0 = input.LA(1);
+
+            if ( (LA27_0=='\r') ) {
+                alt27=1;
+            }
+            switch (alt27) {
+                case 1 :
+                    // /root/project/grammar/Python.g:1963:16: '\\r'
+                    {
+                    match('\r'); 
+
+                    }
+                    break;
+
+            }
+
+            match('\n'); 
+            // /root/project/grammar/Python.g:1963:28: ( ' ' | '\\t' )*
+            loop28:
+            do {
+                int alt28=2;
+                int LA28_0 = input.LA(1);
+
+                if ( (LA28_0=='\t'||LA28_0==' ') ) {
+                    alt28=1;
+                }
+
+
+                switch (alt28) {
+            	case 1 :
+            	    // /root/project/grammar/Python.g:
+            	    {
+            	    if ( input.LA(1)=='\t'||input.LA(1)==' ' ) {
+            	        input.consume();
+
+            	    }
+            	    else {
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;}
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop28;
+                }
+            } while (true);
+
+             _channel=HIDDEN; 
+            // /root/project/grammar/Python.g:1964:10: ( COMMENT | nl= NEWLINE | )
+            int alt29=3;
+            int LA29_0 = input.LA(1);
+
+            if ( (LA29_0=='\t'||LA29_0==' ') && ((startPos==0))) {
+                alt29=1;
+            }
+            else if ( (LA29_0=='#') ) {
+                alt29=1;
+            }
+            else if ( (LA29_0=='\n'||(LA29_0>='\f' && LA29_0<='\r')) ) {
+                alt29=2;
+            }
+            else {
+                alt29=3;}
+            switch (alt29) {
+                case 1 :
+                    // /root/project/grammar/Python.g:1964:12: COMMENT
+                    {
+                    mCOMMENT(); 
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/grammar/Python.g:1965:12: nl= NEWLINE
+                    {
+                    int nlStart1721 = getCharIndex();
+                    mNEWLINE(); 
+                    nl = new CommonToken(input, Token.INVALID_TOKEN_TYPE, Token.DEFAULT_CHANNEL, nlStart1721, getCharIndex()-1);
+
+                                   emit(new CommonToken(NEWLINE,nl.getText()));
+                               
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/grammar/Python.g:1970:10: 
+                    {
+                    }
+                    break;
+
+            }
+
+
+                           if (input.LA(1) == -1) {
+                               throw new ParseException("unexpected character after line continuation character");
+                           }
+                       
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "CONTINUED_LINE"
+
+    // $ANTLR start "NEWLINE"
+    public final void mNEWLINE() throws RecognitionException {
+        try {
+            int _type = NEWLINE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+
+                int newlines = 0;
+
+            // /root/project/grammar/Python.g:1987:5: ( ( ( '\\u000C' )? ( '\\r' )? '\\n' )+ )
+            // /root/project/grammar/Python.g:1987:9: ( ( '\\u000C' )? ( '\\r' )? '\\n' )+
+            {
+            // /root/project/grammar/Python.g:1987:9: ( ( '\\u000C' )? ( '\\r' )? '\\n' )+
+            int cnt32=0;
+            loop32:
+            do {
+                int alt32=2;
+                int LA32_0 = input.LA(1);
+
+                if ( (LA32_0=='\n'||(LA32_0>='\f' && LA32_0<='\r')) ) {
+                    alt32=1;
+                }
+
+
+                switch (alt32) {
+            	case 1 :
+            	    // /root/project/grammar/Python.g:1987:10: ( '\\u000C' )? ( '\\r' )? '\\n'
+            	    {
+            	    // /root/project/grammar/Python.g:1987:10: ( '\\u000C' )?
+            	    int alt30=2;
+            	    int LA30_0 = input.LA(1);
+
+            	    if ( (LA30_0=='\f') ) {
+            	        alt30=1;
+            	    }
+            	    switch (alt30) {
+            	        case 1 :
+            	            // /root/project/grammar/Python.g:1987:11: '\\u000C'
+            	            {
+            	            match('\f'); 
+
+            	            }
+            	            break;
+
+            	    }
+
+            	    // /root/project/grammar/Python.g:1987:21: ( '\\r' )?
+            	    int alt31=2;
+            	    int LA31_0 = input.LA(1);
+
+            	    if ( (LA31_0=='\r') ) {
+            	        alt31=1;
+            	    }
+            	    switch (alt31) {
+            	        case 1 :
+            	            // /root/project/grammar/Python.g:1987:22: '\\r'
+            	            {
+            	            match('\r'); 
+
+            	            }
+            	            break;
+
+            	    }
+
+            	    match('\n'); 
+            	    newlines++; 
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt32 >= 1 ) break loop32;
+                        EarlyExitException eee =
+                            new EarlyExitException(32, input);
+                        throw eee;
+                }
+                cnt32++;
+            } while (true);
+
+
+                     if ( startPos==0 || implicitLineJoiningLevel>0 )
+                        _channel=HIDDEN;
+                    
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "NEWLINE"
+
+    // $ANTLR start "WS"
+    public final void mWS() throws RecognitionException {
+        try {
+            int _type = WS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/grammar/Python.g:1993:5: ({...}? => ( ' ' | '\\t' | '\\u000C' )+ )
+            // /root/project/grammar/Python.g:1993:10: {...}? => ( ' ' | '\\t' | '\\u000C' )+
+            {
+            if ( !((startPos>0)) ) {
+                throw new FailedPredicateException(input, "WS", "startPos>0");
+            }
+            // /root/project/grammar/Python.g:1993:26: ( ' ' | '\\t' | '\\u000C' )+
+            int cnt33=0;
+            loop33:
+            do {
+                int alt33=2;
+                int LA33_0 = input.LA(1);
+
+                if ( (LA33_0=='\t'||LA33_0=='\f'||LA33_0==' ') ) {
+                    alt33=1;
+                }
+
+
+                switch (alt33) {
+            	case 1 :
+            	    // /root/project/grammar/Python.g:
+            	    {
+            	    if ( input.LA(1)=='\t'||input.LA(1)=='\f'||input.LA(1)==' ' ) {
+            	        input.consume();
+
+            	    }
+            	    else {
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;}
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt33 >= 1 ) break loop33;
+                        EarlyExitException eee =
+                            new EarlyExitException(33, input);
+                        throw eee;
+                }
+                cnt33++;
+            } while (true);
+
+            _channel=HIDDEN;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "WS"
+
+    // $ANTLR start "LEADING_WS"
+    public final void mLEADING_WS() throws RecognitionException {
+        try {
+            int _type = LEADING_WS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+
+                int spaces = 0;
+                int newlines = 0;
+
+            // /root/project/grammar/Python.g:2007:5: ({...}? => ({...}? ( ' ' | '\\t' )+ | ( ' ' | '\\t' )+ ( ( '\\r' )? '\\n' )* ) )
+            // /root/project/grammar/Python.g:2007:9: {...}? => ({...}? ( ' ' | '\\t' )+ | ( ' ' | '\\t' )+ ( ( '\\r' )? '\\n' )* )
+            {
+            if ( !((startPos==0)) ) {
+                throw new FailedPredicateException(input, "LEADING_WS", "startPos==0");
+            }
+            // /root/project/grammar/Python.g:2008:9: ({...}? ( ' ' | '\\t' )+ | ( ' ' | '\\t' )+ ( ( '\\r' )? '\\n' )* )
+            int alt38=2;
+            int LA38_0 = input.LA(1);
+
+            if ( (LA38_0==' ') ) {
+                int LA38_1 = input.LA(2);
+
+                if ( ((implicitLineJoiningLevel>0)) ) {
+                    alt38=1;
+                }
+                else if ( (true) ) {
+                    alt38=2;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 38, 1, input);
+
+                    throw nvae;
+                }
+            }
+            else if ( (LA38_0=='\t') ) {
+                int LA38_2 = input.LA(2);
+
+                if ( ((implicitLineJoiningLevel>0)) ) {
+                    alt38=1;
+                }
+                else if ( (true) ) {
+                    alt38=2;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 38, 2, input);
+
+                    throw nvae;
+                }
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 38, 0, input);
+
+                throw nvae;
+            }
+            switch (alt38) {
+                case 1 :
+                    // /root/project/grammar/Python.g:2008:13: {...}? ( ' ' | '\\t' )+
+                    {
+                    if ( !((implicitLineJoiningLevel>0)) ) {
+                        throw new FailedPredicateException(input, "LEADING_WS", "implicitLineJoiningLevel>0");
+                    }
+                    // /root/project/grammar/Python.g:2008:43: ( ' ' | '\\t' )+
+                    int cnt34=0;
+                    loop34:
+                    do {
+                        int alt34=2;
+                        int LA34_0 = input.LA(1);
+
+                        if ( (LA34_0=='\t'||LA34_0==' ') ) {
+                            alt34=1;
+                        }
+
+
+                        switch (alt34) {
+                    	case 1 :
+                    	    // /root/project/grammar/Python.g:
+                    	    {
+                    	    if ( input.LA(1)=='\t'||input.LA(1)==' ' ) {
+                    	        input.consume();
+
+                    	    }
+                    	    else {
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        recover(mse);
+                    	        throw mse;}
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt34 >= 1 ) break loop34;
+                                EarlyExitException eee =
+                                    new EarlyExitException(34, input);
+                                throw eee;
+                        }
+                        cnt34++;
+                    } while (true);
+
+                    _channel=HIDDEN;
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/grammar/Python.g:2009:14: ( ' ' | '\\t' )+ ( ( '\\r' )? '\\n' )*
+                    {
+                    // /root/project/grammar/Python.g:2009:14: ( ' ' | '\\t' )+
+                    int cnt35=0;
+                    loop35:
+                    do {
+                        int alt35=3;
+                        int LA35_0 = input.LA(1);
+
+                        if ( (LA35_0==' ') ) {
+                            alt35=1;
+                        }
+                        else if ( (LA35_0=='\t') ) {
+                            alt35=2;
+                        }
+
+
+                        switch (alt35) {
+                    	case 1 :
+                    	    // /root/project/grammar/Python.g:2009:20: ' '
+                    	    {
+                    	    match(' '); 
+                    	     spaces++; 
+
+                    	    }
+                    	    break;
+                    	case 2 :
+                    	    // /root/project/grammar/Python.g:2010:19: '\\t'
+                    	    {
+                    	    match('\t'); 
+                    	     spaces += 8; spaces -= (spaces % 8); 
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt35 >= 1 ) break loop35;
+                                EarlyExitException eee =
+                                    new EarlyExitException(35, input);
+                                throw eee;
+                        }
+                        cnt35++;
+                    } while (true);
+
+                    // /root/project/grammar/Python.g:2012:14: ( ( '\\r' )? '\\n' )*
+                    loop37:
+                    do {
+                        int alt37=2;
+                        int LA37_0 = input.LA(1);
+
+                        if ( (LA37_0=='\n'||LA37_0=='\r') ) {
+                            alt37=1;
+                        }
+
+
+                        switch (alt37) {
+                    	case 1 :
+                    	    // /root/project/grammar/Python.g:2012:16: ( '\\r' )? '\\n'
+                    	    {
+                    	    // /root/project/grammar/Python.g:2012:16: ( '\\r' )?
+                    	    int alt36=2;
+                    	    int LA36_0 = input.LA(1);
+
+                    	    if ( (LA36_0=='\r') ) {
+                    	        alt36=1;
+                    	    }
+                    	    switch (alt36) {
+                    	        case 1 :
+                    	            // /root/project/grammar/Python.g:2012:17: '\\r'
+                    	            {
+                    	            match('\r'); 
+
+                    	            }
+                    	            break;
+
+                    	    }
+
+                    	    match('\n'); 
+                    	    newlines++; 
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop37;
+                        }
+                    } while (true);
+
+
+                                       if (input.LA(1) != -1 || newlines == 0) {
+                                           // make a string of n spaces where n is column number - 1
+                                           char[] indentation = new char[spaces];
+                                           for (int i=0; i<spaces; i++) {
+                                               indentation[i] = ' ';
+                                           }
+                                           CommonToken c = new CommonToken(LEADING_WS,new String(indentation));
+                                           c.setLine(input.getLine());
+                                           c.setCharPositionInLine(input.getCharPositionInLine());
+                                           c.setStartIndex(input.index() - 1);
+                                           c.setStopIndex(input.index() - 1);
+                                           emit(c);
+                                           // kill trailing newline if present and then ignore
+                                           if (newlines != 0) {
+                                               if (state.token!=null) {
+                                                   state.token.setChannel(HIDDEN);
+                                               } else {
+                                                   _channel=HIDDEN;
+                                               }
+                                           }
+                                       } else if (this.single && newlines == 1) {
+                                           // This is here for this case in interactive mode:
+                                           //
+                                           // def foo():
+                                           //   print 1
+                                           //   <spaces but no code>
+                                           //
+                                           // The above would complete in interactive mode instead
+                                           // of giving ... to wait for more input.
+                                           //
+                                           throw new ParseException("Trailing space in single mode.");
+                                       } else {
+                                           // make a string of n newlines
+                                           char[] nls = new char[newlines];
+                                           for (int i=0; i<newlines; i++) {
+                                               nls[i] = '\n';
+                                           }
+                                           CommonToken c = new CommonToken(NEWLINE,new String(nls));
+                                           c.setLine(input.getLine());
+                                           c.setCharPositionInLine(input.getCharPositionInLine());
+                                           c.setStartIndex(input.index() - 1);
+                                           c.setStopIndex(input.index() - 1);
+                                           emit(c);
+                                       }
+                                    
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "LEADING_WS"
+
+    // $ANTLR start "COMMENT"
+    public final void mCOMMENT() throws RecognitionException {
+        try {
+            int _type = COMMENT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+
+                _channel=HIDDEN;
+
+            // /root/project/grammar/Python.g:2083:5: ({...}? => ( ' ' | '\\t' )* '#' (~ '\\n' )* ( '\\n' )+ | '#' (~ '\\n' )* )
+            int alt43=2;
+            alt43 = dfa43.predict(input);
+            switch (alt43) {
+                case 1 :
+                    // /root/project/grammar/Python.g:2083:10: {...}? => ( ' ' | '\\t' )* '#' (~ '\\n' )* ( '\\n' )+
+                    {
+                    if ( !((startPos==0)) ) {
+                        throw new FailedPredicateException(input, "COMMENT", "startPos==0");
+                    }
+                    // /root/project/grammar/Python.g:2083:27: ( ' ' | '\\t' )*
+                    loop39:
+                    do {
+                        int alt39=2;
+                        int LA39_0 = input.LA(1);
+
+                        if ( (LA39_0=='\t'||LA39_0==' ') ) {
+                            alt39=1;
+                        }
+
+
+                        switch (alt39) {
+                    	case 1 :
+                    	    // /root/project/grammar/Python.g:
+                    	    {
+                    	    if ( input.LA(1)=='\t'||input.LA(1)==' ' ) {
+                    	        input.consume();
+
+                    	    }
+                    	    else {
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        recover(mse);
+                    	        throw mse;}
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop39;
+                        }
+                    } while (true);
+
+                    match('#'); 
+                    // /root/project/grammar/Python.g:2083:43: (~ '\\n' )*
+                    loop40:
+                    do {
+                        int alt40=2;
+                        int LA40_0 = input.LA(1);
+
+                        if ( ((LA40_0>='\u0000' && LA40_0<='\t')||(LA40_0>='\u000B' && LA40_0<='\uFFFF')) ) {
+                            alt40=1;
+                        }
+
+
+                        switch (alt40) {
+                    	case 1 :
+                    	    // /root/project/grammar/Python.g:2083:44: ~ '\\n'
+                    	    {
+                    	    if ( (input.LA(1)>='\u0000' && input.LA(1)<='\t')||(input.LA(1)>='\u000B' && input.LA(1)<='\uFFFF') ) {
+                    	        input.consume();
+
+                    	    }
+                    	    else {
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        recover(mse);
+                    	        throw mse;}
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop40;
+                        }
+                    } while (true);
+
+                    // /root/project/grammar/Python.g:2083:52: ( '\\n' )+
+                    int cnt41=0;
+                    loop41:
+                    do {
+                        int alt41=2;
+                        int LA41_0 = input.LA(1);
+
+                        if ( (LA41_0=='\n') ) {
+                            alt41=1;
+                        }
+
+
+                        switch (alt41) {
+                    	case 1 :
+                    	    // /root/project/grammar/Python.g:2083:52: '\\n'
+                    	    {
+                    	    match('\n'); 
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt41 >= 1 ) break loop41;
+                                EarlyExitException eee =
+                                    new EarlyExitException(41, input);
+                                throw eee;
+                        }
+                        cnt41++;
+                    } while (true);
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/grammar/Python.g:2084:10: '#' (~ '\\n' )*
+                    {
+                    match('#'); 
+                    // /root/project/grammar/Python.g:2084:14: (~ '\\n' )*
+                    loop42:
+                    do {
+                        int alt42=2;
+                        int LA42_0 = input.LA(1);
+
+                        if ( ((LA42_0>='\u0000' && LA42_0<='\t')||(LA42_0>='\u000B' && LA42_0<='\uFFFF')) ) {
+                            alt42=1;
+                        }
+
+
+                        switch (alt42) {
+                    	case 1 :
+                    	    // /root/project/grammar/Python.g:2084:15: ~ '\\n'
+                    	    {
+                    	    if ( (input.LA(1)>='\u0000' && input.LA(1)<='\t')||(input.LA(1)>='\u000B' && input.LA(1)<='\uFFFF') ) {
+                    	        input.consume();
+
+                    	    }
+                    	    else {
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        recover(mse);
+                    	        throw mse;}
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop42;
+                        }
+                    } while (true);
+
+
+                    }
+                    break;
+
+            }
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        }
+    }
+    // $ANTLR end "COMMENT"
+
+    public void mTokens() throws RecognitionException {
+        // /root/project/grammar/Python.g:1:8: ( AS | ASSERT | BREAK | CLASS | CONTINUE | DEF | DELETE | ELIF | EXCEPT | EXEC | FINALLY | FROM | FOR | GLOBAL | IF | IMPORT | IN | IS | LAMBDA | ORELSE | PASS | PRINT | RAISE | RETURN | TRY | WHILE | WITH | YIELD | LPAREN | RPAREN | LBRACK | RBRACK | COLON | COMMA | SEMI | PLUS | MINUS | STAR | SLASH | VBAR | AMPER | LESS | GREATER | ASSIGN | PERCENT | BACKQUOTE | LCURLY | RCURLY | CIRCUMFLEX | TILDE | EQUAL | NOTEQUAL | ALT_NOTEQUAL | LESSEQUAL | LEFTSHIFT | GREATEREQUAL | RIGHTSHIFT | PLUSEQUAL | MINUSEQUAL | DOUBLESTAR | STAREQUAL | DOUBLESLASH | SLASHEQUAL | VBAREQUAL | PERCENTEQUAL | AMPEREQUAL | CIRCUMFLEXEQUAL | LEFTSHIFTEQUAL | RIGHTSHIFTEQUAL | DOUBLESTAREQUAL | DOUBLESLASHEQUAL | DOT | AT | AND | OR | NOT | FLOAT | LONGINT | INT | COMPLEX | NAME | STRING | CONTINUED_LINE | NEWLINE | WS | LEADING_WS | COMMENT )
+        int alt44=87;
+        alt44 = dfa44.predict(input);
+        switch (alt44) {
+            case 1 :
+                // /root/project/grammar/Python.g:1:10: AS
+                {
+                mAS(); 
+
+                }
+                break;
+            case 2 :
+                // /root/project/grammar/Python.g:1:13: ASSERT
+                {
+                mASSERT(); 
+
+                }
+                break;
+            case 3 :
+                // /root/project/grammar/Python.g:1:20: BREAK
+                {
+                mBREAK(); 
+
+                }
+                break;
+            case 4 :
+                // /root/project/grammar/Python.g:1:26: CLASS
+                {
+                mCLASS(); 
+
+                }
+                break;
+            case 5 :
+                // /root/project/grammar/Python.g:1:32: CONTINUE
+                {
+                mCONTINUE(); 
+
+                }
+                break;
+            case 6 :
+                // /root/project/grammar/Python.g:1:41: DEF
+                {
+                mDEF(); 
+
+                }
+                break;
+            case 7 :
+                // /root/project/grammar/Python.g:1:45: DELETE
+                {
+                mDELETE(); 
+
+                }
+                break;
+            case 8 :
+                // /root/project/grammar/Python.g:1:52: ELIF
+                {
+                mELIF(); 
+
+                }
+                break;
+            case 9 :
+                // /root/project/grammar/Python.g:1:57: EXCEPT
+                {
+                mEXCEPT(); 
+
+                }
+                break;
+            case 10 :
+                // /root/project/grammar/Python.g:1:64: EXEC
+                {
+                mEXEC(); 
+
+                }
+                break;
+            case 11 :
+                // /root/project/grammar/Python.g:1:69: FINALLY
+                {
+                mFINALLY(); 
+
+                }
+                break;
+            case 12 :
+                // /root/project/grammar/Python.g:1:77: FROM
+                {
+                mFROM(); 
+
+                }
+                break;
+            case 13 :
+                // /root/project/grammar/Python.g:1:82: FOR
+                {
+                mFOR(); 
+
+                }
+                break;
+            case 14 :
+                // /root/project/grammar/Python.g:1:86: GLOBAL
+                {
+                mGLOBAL(); 
+
+                }
+                break;
+            case 15 :
+                // /root/project/grammar/Python.g:1:93: IF
+                {
+                mIF(); 
+
+                }
+                break;
+            case 16 :
+                // /root/project/grammar/Python.g:1:96: IMPORT
+                {
+                mIMPORT(); 
+
+                }
+                break;
+            case 17 :
+                // /root/project/grammar/Python.g:1:103: IN
+                {
+                mIN(); 
+
+                }
+                break;
+            case 18 :
+                // /root/project/grammar/Python.g:1:106: IS
+                {
+                mIS(); 
+
+                }
+                break;
+            case 19 :
+                // /root/project/grammar/Python.g:1:109: LAMBDA
+                {
+                mLAMBDA(); 
+
+                }
+                break;
+            case 20 :
+                // /root/project/grammar/Python.g:1:116: ORELSE
+                {
+                mORELSE(); 
+
+                }
+                break;
+            case 21 :
+                // /root/project/grammar/Python.g:1:123: PASS
+                {
+                mPASS(); 
+
+                }
+                break;
+            case 22 :
+                // /root/project/grammar/Python.g:1:128: PRINT
+                {
+                mPRINT(); 
+
+                }
+                break;
+            case 23 :
+                // /root/project/grammar/Python.g:1:134: RAISE
+                {
+                mRAISE(); 
+
+                }
+                break;
+            case 24 :
+                // /root/project/grammar/Python.g:1:140: RETURN
+                {
+                mRETURN(); 
+
+                }
+                break;
+            case 25 :
+                // /root/project/grammar/Python.g:1:147: TRY
+                {
+                mTRY(); 
+
+                }
+                break;
+            case 26 :
+                // /root/project/grammar/Python.g:1:151: WHILE
+                {
+                mWHILE(); 
+
+                }
+                break;
+            case 27 :
+                // /root/project/grammar/Python.g:1:157: WITH
+                {
+                mWITH(); 
+
+                }
+                break;
+            case 28 :
+                // /root/project/grammar/Python.g:1:162: YIELD
+                {
+                mYIELD(); 
+
+                }
+                break;
+            case 29 :
+                // /root/project/grammar/Python.g:1:168: LPAREN
+                {
+                mLPAREN(); 
+
+                }
+                break;
+            case 30 :
+                // /root/project/grammar/Python.g:1:175: RPAREN
+                {
+                mRPAREN(); 
+
+                }
+                break;
+            case 31 :
+                // /root/project/grammar/Python.g:1:182: LBRACK
+                {
+                mLBRACK(); 
+
+                }
+                break;
+            case 32 :
+                // /root/project/grammar/Python.g:1:189: RBRACK
+                {
+                mRBRACK(); 
+
+                }
+                break;
+            case 33 :
+                // /root/project/grammar/Python.g:1:196: COLON
+                {
+                mCOLON(); 
+
+                }
+                break;
+            case 34 :
+                // /root/project/grammar/Python.g:1:202: COMMA
+                {
+                mCOMMA(); 
+
+                }
+                break;
+            case 35 :
+                // /root/project/grammar/Python.g:1:208: SEMI
+                {
+                mSEMI(); 
+
+                }
+                break;
+            case 36 :
+                // /root/project/grammar/Python.g:1:213: PLUS
+                {
+                mPLUS(); 
+
+                }
+                break;
+            case 37 :
+                // /root/project/grammar/Python.g:1:218: MINUS
+                {
+                mMINUS(); 
+
+                }
+                break;
+            case 38 :
+                // /root/project/grammar/Python.g:1:224: STAR
+                {
+                mSTAR(); 
+
+                }
+                break;
+            case 39 :
+                // /root/project/grammar/Python.g:1:229: SLASH
+                {
+                mSLASH(); 
+
+                }
+                break;
+            case 40 :
+                // /root/project/grammar/Python.g:1:235: VBAR
+                {
+                mVBAR(); 
+
+                }
+                break;
+            case 41 :
+                // /root/project/grammar/Python.g:1:240: AMPER
+                {
+                mAMPER(); 
+
+                }
+                break;
+            case 42 :
+                // /root/project/grammar/Python.g:1:246: LESS
+                {
+                mLESS(); 
+
+                }
+                break;
+            case 43 :
+                // /root/project/grammar/Python.g:1:251: GREATER
+                {
+                mGREATER(); 
+
+                }
+                break;
+            case 44 :
+                // /root/project/grammar/Python.g:1:259: ASSIGN
+                {
+                mASSIGN(); 
+
+                }
+                break;
+            case 45 :
+                // /root/project/grammar/Python.g:1:266: PERCENT
+                {
+                mPERCENT(); 
+
+                }
+                break;
+            case 46 :
+                // /root/project/grammar/Python.g:1:274: BACKQUOTE
+                {
+                mBACKQUOTE(); 
+
+                }
+                break;
+            case 47 :
+                // /root/project/grammar/Python.g:1:284: LCURLY
+                {
+                mLCURLY(); 
+
+                }
+                break;
+            case 48 :
+                // /root/project/grammar/Python.g:1:291: RCURLY
+                {
+                mRCURLY(); 
+
+                }
+                break;
+            case 49 :
+                // /root/project/grammar/Python.g:1:298: CIRCUMFLEX
+                {
+                mCIRCUMFLEX(); 
+
+                }
+                break;
+            case 50 :
+                // /root/project/grammar/Python.g:1:309: TILDE
+                {
+                mTILDE(); 
+
+                }
+                break;
+            case 51 :
+                // /root/project/grammar/Python.g:1:315: EQUAL
+                {
+                mEQUAL(); 
+
+                }
+                break;
+            case 52 :
+                // /root/project/grammar/Python.g:1:321: NOTEQUAL
+                {
+                mNOTEQUAL(); 
+
+                }
+                break;
+            case 53 :
+                // /root/project/grammar/Python.g:1:330: ALT_NOTEQUAL
+                {
+                mALT_NOTEQUAL(); 
+
+                }
+                break;
+            case 54 :
+                // /root/project/grammar/Python.g:1:343: LESSEQUAL
+                {
+                mLESSEQUAL(); 
+
+                }
+                break;
+            case 55 :
+                // /root/project/grammar/Python.g:1:353: LEFTSHIFT
+                {
+                mLEFTSHIFT(); 
+
+                }
+                break;
+            case 56 :
+                // /root/project/grammar/Python.g:1:363: GREATEREQUAL
+                {
+                mGREATEREQUAL(); 
+
+                }
+                break;
+            case 57 :
+                // /root/project/grammar/Python.g:1:376: RIGHTSHIFT
+                {
+                mRIGHTSHIFT(); 
+
+                }
+                break;
+            case 58 :
+                // /root/project/grammar/Python.g:1:387: PLUSEQUAL
+                {
+                mPLUSEQUAL(); 
+
+                }
+                break;
+            case 59 :
+                // /root/project/grammar/Python.g:1:397: MINUSEQUAL
+                {
+                mMINUSEQUAL(); 
+
+                }
+                break;
+            case 60 :
+                // /root/project/grammar/Python.g:1:408: DOUBLESTAR
+                {
+                mDOUBLESTAR(); 
+
+                }
+                break;
+            case 61 :
+                // /root/project/grammar/Python.g:1:419: STAREQUAL
+                {
+                mSTAREQUAL(); 
+
+                }
+                break;
+            case 62 :
+                // /root/project/grammar/Python.g:1:429: DOUBLESLASH
+                {
+                mDOUBLESLASH(); 
+
+                }
+                break;
+            case 63 :
+                // /root/project/grammar/Python.g:1:441: SLASHEQUAL
+                {
+                mSLASHEQUAL(); 
+
+                }
+                break;
+            case 64 :
+                // /root/project/grammar/Python.g:1:452: VBAREQUAL
+                {
+                mVBAREQUAL(); 
+
+                }
+                break;
+            case 65 :
+                // /root/project/grammar/Python.g:1:462: PERCENTEQUAL
+                {
+                mPERCENTEQUAL(); 
+
+                }
+                break;
+            case 66 :
+                // /root/project/grammar/Python.g:1:475: AMPEREQUAL
+                {
+                mAMPEREQUAL(); 
+
+                }
+                break;
+            case 67 :
+                // /root/project/grammar/Python.g:1:486: CIRCUMFLEXEQUAL
+                {
+                mCIRCUMFLEXEQUAL(); 
+
+                }
+                break;
+            case 68 :
+                // /root/project/grammar/Python.g:1:502: LEFTSHIFTEQUAL
+                {
+                mLEFTSHIFTEQUAL(); 
+
+                }
+                break;
+            case 69 :
+                // /root/project/grammar/Python.g:1:517: RIGHTSHIFTEQUAL
+                {
+                mRIGHTSHIFTEQUAL(); 
+
+                }
+                break;
+            case 70 :
+                // /root/project/grammar/Python.g:1:533: DOUBLESTAREQUAL
+                {
+                mDOUBLESTAREQUAL(); 
+
+                }
+                break;
+            case 71 :
+                // /root/project/grammar/Python.g:1:549: DOUBLESLASHEQUAL
+                {
+                mDOUBLESLASHEQUAL(); 
+
+                }
+                break;
+            case 72 :
+                // /root/project/grammar/Python.g:1:566: DOT
+                {
+                mDOT(); 
+
+                }
+                break;
+            case 73 :
+                // /root/project/grammar/Python.g:1:570: AT
+                {
+                mAT(); 
+
+                }
+                break;
+            case 74 :
+                // /root/project/grammar/Python.g:1:573: AND
+                {
+                mAND(); 
+
+                }
+                break;
+            case 75 :
+                // /root/project/grammar/Python.g:1:577: OR
+                {
+                mOR(); 
+
+                }
+                break;
+            case 76 :
+                // /root/project/grammar/Python.g:1:580: NOT
+                {
+                mNOT(); 
+
+                }
+                break;
+            case 77 :
+                // /root/project/grammar/Python.g:1:584: FLOAT
+                {
+                mFLOAT(); 
+
+                }
+                break;
+            case 78 :
+                // /root/project/grammar/Python.g:1:590: LONGINT
+                {
+                mLONGINT(); 
+
+                }
+                break;
+            case 79 :
+                // /root/project/grammar/Python.g:1:598: INT
+                {
+                mINT(); 
+
+                }
+                break;
+            case 80 :
+                // /root/project/grammar/Python.g:1:602: COMPLEX
+                {
+                mCOMPLEX(); 
+
+                }
+                break;
+            case 81 :
+                // /root/project/grammar/Python.g:1:610: NAME
+                {
+                mNAME(); 
+
+                }
+                break;
+            case 82 :
+                // /root/project/grammar/Python.g:1:615: STRING
+                {
+                mSTRING(); 
+
+                }
+                break;
+            case 83 :
+                // /root/project/grammar/Python.g:1:622: CONTINUED_LINE
+                {
+                mCONTINUED_LINE(); 
+
+                }
+                break;
+            case 84 :
+                // /root/project/grammar/Python.g:1:637: NEWLINE
+                {
+                mNEWLINE(); 
+
+                }
+                break;
+            case 85 :
+                // /root/project/grammar/Python.g:1:645: WS
+                {
+                mWS(); 
+
+                }
+                break;
+            case 86 :
+                // /root/project/grammar/Python.g:1:648: LEADING_WS
+                {
+                mLEADING_WS(); 
+
+                }
+                break;
+            case 87 :
+                // /root/project/grammar/Python.g:1:659: COMMENT
+                {
+                mCOMMENT(); 
+
+                }
+                break;
+
+        }
+
+    }
+
+
+    protected DFA5 dfa5 = new DFA5(this);
+    protected DFA12 dfa12 = new DFA12(this);
+    protected DFA15 dfa15 = new DFA15(this);
+    protected DFA43 dfa43 = new DFA43(this);
+    protected DFA44 dfa44 = new DFA44(this);
+    static final String DFA5_eotS =
+        "\3\uffff\1\4\2\uffff";
+    static final String DFA5_eofS =
+        "\6\uffff";
+    static final String DFA5_minS =
+        "\1\56\1\uffff\1\56\1\105\2\uffff";
+    static final String DFA5_maxS =
+        "\1\71\1\uffff\2\145\2\uffff";
+    static final String DFA5_acceptS =
+        "\1\uffff\1\1\2\uffff\1\3\1\2";
+    static final String DFA5_specialS =
+        "\6\uffff}>";
+    static final String[] DFA5_transitionS = {
+            "\1\1\1\uffff\12\2",
+            "",
+            "\1\3\1\uffff\12\2\13\uffff\1\4\37\uffff\1\4",
+            "\1\5\37\uffff\1\5",
+            "",
+            ""
+    };
+
+    static final short[] DFA5_eot = DFA.unpackEncodedString(DFA5_eotS);
+    static final short[] DFA5_eof = DFA.unpackEncodedString(DFA5_eofS);
+    static final char[] DFA5_min = DFA.unpackEncodedStringToUnsignedChars(DFA5_minS);
+    static final char[] DFA5_max = DFA.unpackEncodedStringToUnsignedChars(DFA5_maxS);
+    static final short[] DFA5_accept = DFA.unpackEncodedString(DFA5_acceptS);
+    static final short[] DFA5_special = DFA.unpackEncodedString(DFA5_specialS);
+    static final short[][] DFA5_transition;
+
+    static {
+        int numStates = DFA5_transitionS.length;
+        DFA5_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA5_transition[i] = DFA.unpackEncodedString(DFA5_transitionS[i]);
+        }
+    }
+
+    class DFA5 extends DFA {
+
+        public DFA5(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 5;
+            this.eot = DFA5_eot;
+            this.eof = DFA5_eof;
+            this.min = DFA5_min;
+            this.max = DFA5_max;
+            this.accept = DFA5_accept;
+            this.special = DFA5_special;
+            this.transition = DFA5_transition;
+        }
+        public String getDescription() {
+            return "1890:1: FLOAT : ( '.' DIGITS ( Exponent )? | DIGITS '.' Exponent | DIGITS ( '.' ( DIGITS ( Exponent )? )? | Exponent ) );";
+        }
+    }
+    static final String DFA12_eotS =
+        "\4\uffff";
+    static final String DFA12_eofS =
+        "\4\uffff";
+    static final String DFA12_minS =
+        "\2\56\2\uffff";
+    static final String DFA12_maxS =
+        "\1\71\1\152\2\uffff";
+    static final String DFA12_acceptS =
+        "\2\uffff\1\2\1\1";
+    static final String DFA12_specialS =
+        "\4\uffff}>";
+    static final String[] DFA12_transitionS = {
+            "\1\2\1\uffff\12\1",
+            "\1\2\1\uffff\12\1\13\uffff\1\2\4\uffff\1\3\32\uffff\1\2\4\uffff"+
+            "\1\3",
+            "",
+            ""
+    };
+
+    static final short[] DFA12_eot = DFA.unpackEncodedString(DFA12_eotS);
+    static final short[] DFA12_eof = DFA.unpackEncodedString(DFA12_eofS);
+    static final char[] DFA12_min = DFA.unpackEncodedStringToUnsignedChars(DFA12_minS);
+    static final char[] DFA12_max = DFA.unpackEncodedStringToUnsignedChars(DFA12_maxS);
+    static final short[] DFA12_accept = DFA.unpackEncodedString(DFA12_acceptS);
+    static final short[] DFA12_special = DFA.unpackEncodedString(DFA12_specialS);
+    static final short[][] DFA12_transition;
+
+    static {
+        int numStates = DFA12_transitionS.length;
+        DFA12_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA12_transition[i] = DFA.unpackEncodedString(DFA12_transitionS[i]);
+        }
+    }
+
+    class DFA12 extends DFA {
+
+        public DFA12(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 12;
+            this.eot = DFA12_eot;
+            this.eof = DFA12_eof;
+            this.min = DFA12_min;
+            this.max = DFA12_max;
+            this.accept = DFA12_accept;
+            this.special = DFA12_special;
+            this.transition = DFA12_transition;
+        }
+        public String getDescription() {
+            return "1912:1: COMPLEX : ( ( DIGITS )+ ( 'j' | 'J' ) | FLOAT ( 'j' | 'J' ) );";
+        }
+    }
+    static final String DFA15_eotS =
+        "\14\uffff";
+    static final String DFA15_eofS =
+        "\14\uffff";
+    static final String DFA15_minS =
+        "\1\42\1\uffff\1\42\1\uffff\1\42\7\uffff";
+    static final String DFA15_maxS =
+        "\1\165\1\uffff\1\162\1\uffff\1\162\7\uffff";
+    static final String DFA15_acceptS =
+        "\1\uffff\1\1\1\uffff\1\4\1\uffff\1\11\1\3\1\7\1\2\1\6\1\10\1\5";
+    static final String DFA15_specialS =
+        "\14\uffff}>";
+    static final String[] DFA15_transitionS = {
+            "\1\5\4\uffff\1\5\52\uffff\1\3\2\uffff\1\4\34\uffff\1\1\2\uffff"+
+            "\1\2",
+            "",
+            "\1\10\4\uffff\1\10\52\uffff\1\7\37\uffff\1\6",
+            "",
+            "\1\13\4\uffff\1\13\52\uffff\1\11\37\uffff\1\12",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            ""
+    };
+
+    static final short[] DFA15_eot = DFA.unpackEncodedString(DFA15_eotS);
+    static final short[] DFA15_eof = DFA.unpackEncodedString(DFA15_eofS);
+    static final char[] DFA15_min = DFA.unpackEncodedStringToUnsignedChars(DFA15_minS);
+    static final char[] DFA15_max = DFA.unpackEncodedStringToUnsignedChars(DFA15_maxS);
+    static final short[] DFA15_accept = DFA.unpackEncodedString(DFA15_acceptS);
+    static final short[] DFA15_special = DFA.unpackEncodedString(DFA15_specialS);
+    static final short[][] DFA15_transition;
+
+    static {
+        int numStates = DFA15_transitionS.length;
+        DFA15_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA15_transition[i] = DFA.unpackEncodedString(DFA15_transitionS[i]);
+        }
+    }
+
+    class DFA15 extends DFA {
+
+        public DFA15(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 15;
+            this.eot = DFA15_eot;
+            this.eof = DFA15_eof;
+            this.min = DFA15_min;
+            this.max = DFA15_max;
+            this.accept = DFA15_accept;
+            this.special = DFA15_special;
+            this.transition = DFA15_transition;
+        }
+        public String getDescription() {
+            return "1928:9: ( 'r' | 'u' | 'ur' | 'R' | 'U' | 'UR' | 'uR' | 'Ur' )?";
+        }
+    }
+    static final String DFA43_eotS =
+        "\2\uffff\2\4\1\uffff";
+    static final String DFA43_eofS =
+        "\5\uffff";
+    static final String DFA43_minS =
+        "\1\11\1\uffff\2\0\1\uffff";
+    static final String DFA43_maxS =
+        "\1\43\1\uffff\2\uffff\1\uffff";
+    static final String DFA43_acceptS =
+        "\1\uffff\1\1\2\uffff\1\2";
+    static final String DFA43_specialS =
+        "\1\0\1\uffff\1\2\1\1\1\uffff}>";
+    static final String[] DFA43_transitionS = {
+            "\1\1\26\uffff\1\1\2\uffff\1\2",
+            "",
+            "\12\3\1\1\ufff5\3",
+            "\12\3\1\1\ufff5\3",
+            ""
+    };
+
+    static final short[] DFA43_eot = DFA.unpackEncodedString(DFA43_eotS);
+    static final short[] DFA43_eof = DFA.unpackEncodedString(DFA43_eofS);
+    static final char[] DFA43_min = DFA.unpackEncodedStringToUnsignedChars(DFA43_minS);
+    static final char[] DFA43_max = DFA.unpackEncodedStringToUnsignedChars(DFA43_maxS);
+    static final short[] DFA43_accept = DFA.unpackEncodedString(DFA43_acceptS);
+    static final short[] DFA43_special = DFA.unpackEncodedString(DFA43_specialS);
+    static final short[][] DFA43_transition;
+
+    static {
+        int numStates = DFA43_transitionS.length;
+        DFA43_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA43_transition[i] = DFA.unpackEncodedString(DFA43_transitionS[i]);
+        }
+    }
+
+    class DFA43 extends DFA {
+
+        public DFA43(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 43;
+            this.eot = DFA43_eot;
+            this.eof = DFA43_eof;
+            this.min = DFA43_min;
+            this.max = DFA43_max;
+            this.accept = DFA43_accept;
+            this.special = DFA43_special;
+            this.transition = DFA43_transition;
+        }
+        public String getDescription() {
+            return "2062:1: COMMENT : ({...}? => ( ' ' | '\\t' )* '#' (~ '\\n' )* ( '\\n' )+ | '#' (~ '\\n' )* );";
+        }
+        public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
+            IntStream input = _input;
+        	int _s = s;
+            switch ( s ) {
+                    case 0 : 
+                        int LA43_0 = input.LA(1);
+
+                         
+                        int index43_0 = input.index();
+                        input.rewind();
+                        s = -1;
+                        if ( (LA43_0=='\t'||LA43_0==' ') && ((startPos==0))) {s = 1;}
+
+                        else if ( (LA43_0=='#') ) {s = 2;}
+
+                         
+                        input.seek(index43_0);
+                        if ( s>=0 ) return s;
+                        break;
+                    case 1 : 
+                        int LA43_3 = input.LA(1);
+
+                         
+                        int index43_3 = input.index();
+                        input.rewind();
+                        s = -1;
+                        if ( (LA43_3=='\n') && ((startPos==0))) {s = 1;}
+
+                        else if ( ((LA43_3>='\u0000' && LA43_3<='\t')||(LA43_3>='\u000B' && LA43_3<='\uFFFF')) ) {s = 3;}
+
+                        else s = 4;
+
+                         
+                        input.seek(index43_3);
+                        if ( s>=0 ) return s;
+                        break;
+                    case 2 : 
+                        int LA43_2 = input.LA(1);
+
+                         
+                        int index43_2 = input.index();
+                        input.rewind();
+                        s = -1;
+                        if ( ((LA43_2>='\u0000' && LA43_2<='\t')||(LA43_2>='\u000B' && LA43_2<='\uFFFF')) ) {s = 3;}
+
+                        else if ( (LA43_2=='\n') && ((startPos==0))) {s = 1;}
+
+                        else s = 4;
+
+                         
+                        input.seek(index43_2);
+                        if ( s>=0 ) return s;
+                        break;
+            }
+            NoViableAltException nvae =
+                new NoViableAltException(getDescription(), 43, _s, input);
+            error(nvae);
+            throw nvae;
+        }
+    }
+    static final String DFA44_eotS =
+        "\1\uffff\16\57\7\uffff\1\121\1\123\1\126\1\131\1\133\1\135\1\141"+
+        "\1\144\1\146\1\150\3\uffff\1\152\2\uffff\1\153\1\uffff\2\57\2\160"+
+        "\3\57\3\uffff\1\174\1\uffff\1\175\1\u0080\1\uffff\1\u0082\13\57"+
+        "\1\u0091\1\57\1\u0093\1\u0094\11\57\4\uffff\1\u009f\2\uffff\1\u00a1"+
+        "\10\uffff\1\u00a3\2\uffff\1\u00a5\10\uffff\1\u00a6\1\u00a8\1\57"+
+        "\2\uffff\1\u00a6\1\160\4\uffff\1\160\4\57\5\uffff\1\57\1\uffff\1"+
+        "\u00b0\3\57\1\u00b4\1\u00b5\6\57\1\u00bc\1\57\1\uffff\1\57\2\uffff"+
+        "\5\57\1\u00c4\3\57\13\uffff\1\u00ca\1\160\1\u00a6\2\uffff\1\u00a6"+
+        "\1\57\1\uffff\3\57\2\uffff\1\u00d2\1\u00d3\1\57\1\u00d5\1\57\1\u00d7"+
+        "\1\uffff\3\57\1\u00db\3\57\1\uffff\1\57\1\u00e0\1\57\1\uffff\1\u00a6"+
+        "\3\uffff\1\u00a6\1\57\1\u00e5\1\u00e6\1\57\2\uffff\1\57\1\uffff"+
+        "\1\57\1\uffff\3\57\1\uffff\1\u00ed\1\u00ee\1\57\1\u00f0\1\uffff"+
+        "\1\u00f1\1\uffff\1\u00a6\1\u00f2\2\uffff\1\57\1\u00f4\1\57\1\u00f6"+
+        "\1\u00f7\1\u00f8\2\uffff\1\u00f9\3\uffff\1\57\1\uffff\1\u00fb\4"+
+        "\uffff\1\u00fc\2\uffff";
+    static final String DFA44_eofS =
+        "\u00fd\uffff";
+    static final String DFA44_minS =
+        "\1\11\1\156\1\162\1\154\1\145\1\154\1\151\1\154\1\146\2\141\1\42"+
+        "\1\162\1\150\1\151\7\uffff\2\75\1\52\1\57\2\75\1\74\3\75\3\uffff"+
+        "\1\75\2\uffff\1\60\1\uffff\1\162\1\157\2\56\3\42\3\uffff\1\12\1"+
+        "\uffff\2\11\1\uffff\1\60\1\144\1\145\1\141\1\156\1\146\1\151\1\143"+
+        "\1\156\1\157\1\162\1\157\1\60\1\160\2\60\1\155\1\163\2\151\1\164"+
+        "\1\171\1\151\1\164\1\145\4\uffff\1\75\2\uffff\1\75\10\uffff\1\75"+
+        "\2\uffff\1\75\10\uffff\2\60\1\164\1\60\1\uffff\1\60\2\56\1\uffff"+
+        "\1\53\1\uffff\1\56\4\42\1\uffff\1\0\2\uffff\1\0\1\145\1\uffff\1"+
+        "\60\1\141\1\163\1\164\2\60\1\146\2\145\1\143\1\141\1\155\1\60\1"+
+        "\142\1\uffff\1\157\2\uffff\1\142\1\163\1\156\1\163\1\165\1\60\1"+
+        "\154\1\150\1\154\11\uffff\1\53\1\uffff\3\60\1\53\2\60\1\162\1\uffff"+
+        "\1\153\1\163\1\151\2\uffff\2\60\1\160\1\60\1\154\1\60\1\uffff\1"+
+        "\141\1\162\1\144\1\60\1\164\1\145\1\162\1\uffff\1\145\1\60\1\144"+
+        "\2\60\1\uffff\1\53\2\60\1\164\2\60\1\156\2\uffff\1\164\1\uffff\1"+
+        "\154\1\uffff\1\154\1\164\1\141\1\uffff\2\60\1\156\1\60\1\uffff\4"+
+        "\60\2\uffff\1\165\1\60\1\171\3\60\2\uffff\1\60\3\uffff\1\145\1\uffff"+
+        "\1\60\4\uffff\1\60\2\uffff";
+    static final String DFA44_maxS =
+        "\1\176\1\163\1\162\1\157\1\145\1\170\1\162\1\154\1\163\1\141\1\162"+
+        "\1\145\1\162\2\151\7\uffff\6\75\2\76\2\75\3\uffff\1\75\2\uffff\1"+
+        "\71\1\uffff\1\162\1\157\1\170\1\154\1\162\1\47\1\162\3\uffff\1\15"+
+        "\1\uffff\2\43\1\uffff\1\172\1\144\1\145\1\141\1\156\1\154\1\163"+
+        "\1\145\1\156\1\157\1\162\1\157\1\172\1\160\2\172\1\155\1\163\2\151"+
+        "\1\164\1\171\1\151\1\164\1\145\4\uffff\1\75\2\uffff\1\75\10\uffff"+
+        "\1\75\2\uffff\1\75\10\uffff\1\152\1\172\1\164\1\146\1\uffff\1\152"+
+        "\1\154\1\152\1\uffff\1\71\1\uffff\1\154\4\47\1\uffff\1\0\2\uffff"+
+        "\1\0\1\145\1\uffff\1\172\1\141\1\163\1\164\2\172\1\146\2\145\1\143"+
+        "\1\141\1\155\1\172\1\142\1\uffff\1\157\2\uffff\1\142\1\163\1\156"+
+        "\1\163\1\165\1\172\1\154\1\150\1\154\11\uffff\1\71\1\uffff\1\172"+
+        "\1\154\1\152\2\71\1\152\1\162\1\uffff\1\153\1\163\1\151\2\uffff"+
+        "\2\172\1\160\1\172\1\154\1\172\1\uffff\1\141\1\162\1\144\1\172\1"+
+        "\164\1\145\1\162\1\uffff\1\145\1\172\1\144\1\71\1\152\1\uffff\2"+
+        "\71\1\152\1\164\2\172\1\156\2\uffff\1\164\1\uffff\1\154\1\uffff"+
+        "\1\154\1\164\1\141\1\uffff\2\172\1\156\1\172\1\uffff\1\172\1\71"+
+        "\1\152\1\172\2\uffff\1\165\1\172\1\171\3\172\2\uffff\1\172\3\uffff"+
+        "\1\145\1\uffff\1\172\4\uffff\1\172\2\uffff";
+    static final String DFA44_acceptS =
+        "\17\uffff\1\35\1\36\1\37\1\40\1\41\1\42\1\43\12\uffff\1\56\1\57"+
+        "\1\60\1\uffff\1\62\1\64\1\uffff\1\111\7\uffff\1\121\1\122\1\123"+
+        "\1\uffff\1\124\2\uffff\1\127\31\uffff\1\72\1\44\1\73\1\45\1\uffff"+
+        "\1\75\1\46\1\uffff\1\77\1\47\1\100\1\50\1\102\1\51\1\65\1\66\1\uffff"+
+        "\1\52\1\70\1\uffff\1\53\1\63\1\54\1\101\1\55\1\103\1\61\1\110\4"+
+        "\uffff\1\117\3\uffff\1\116\1\uffff\1\120\5\uffff\1\125\1\uffff\1"+
+        "\126\1\127\2\uffff\1\1\16\uffff\1\17\1\uffff\1\21\1\22\11\uffff"+
+        "\1\106\1\74\1\107\1\76\1\104\1\67\1\105\1\71\1\115\1\uffff\1\113"+
+        "\7\uffff\1\112\3\uffff\1\6\1\7\6\uffff\1\15\7\uffff\1\31\5\uffff"+
+        "\1\114\7\uffff\1\10\1\24\1\uffff\1\12\1\uffff\1\14\3\uffff\1\25"+
+        "\4\uffff\1\33\4\uffff\1\3\1\4\6\uffff\1\26\1\27\1\uffff\1\32\1\34"+
+        "\1\2\1\uffff\1\11\1\uffff\1\16\1\20\1\23\1\30\1\uffff\1\13\1\5";
+    static final String DFA44_specialS =
+        "\1\4\61\uffff\1\5\1\uffff\1\2\1\3\107\uffff\1\0\2\uffff\1\1\174"+
+        "\uffff}>";
+    static final String[] DFA44_transitionS = {
+            "\1\65\1\63\1\uffff\1\62\1\63\22\uffff\1\64\1\45\1\60\1\66\1"+
+            "\uffff\1\37\1\33\1\60\1\17\1\20\1\30\1\26\1\24\1\27\1\46\1\31"+
+            "\1\52\11\53\1\23\1\25\1\34\1\36\1\35\1\uffff\1\47\21\57\1\55"+
+            "\2\57\1\56\5\57\1\21\1\61\1\22\1\43\1\57\1\40\1\1\1\2\1\3\1"+
+            "\4\1\5\1\6\1\7\1\57\1\10\2\57\1\11\1\57\1\51\1\50\1\12\1\57"+
+            "\1\13\1\57\1\14\1\54\1\57\1\15\1\57\1\16\1\57\1\41\1\32\1\42"+
+            "\1\44",
+            "\1\70\4\uffff\1\67",
+            "\1\71",
+            "\1\72\2\uffff\1\73",
+            "\1\74",
+            "\1\75\13\uffff\1\76",
+            "\1\77\5\uffff\1\101\2\uffff\1\100",
+            "\1\102",
+            "\1\103\6\uffff\1\104\1\105\4\uffff\1\106",
+            "\1\107",
+            "\1\110\20\uffff\1\111",
+            "\1\60\4\uffff\1\60\71\uffff\1\112\3\uffff\1\113",
+            "\1\114",
+            "\1\115\1\116",
+            "\1\117",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\120",
+            "\1\122",
+            "\1\124\22\uffff\1\125",
+            "\1\127\15\uffff\1\130",
+            "\1\132",
+            "\1\134",
+            "\1\140\1\137\1\136",
+            "\1\142\1\143",
+            "\1\145",
+            "\1\147",
+            "",
+            "",
+            "",
+            "\1\151",
+            "",
+            "",
+            "\12\154",
+            "",
+            "\1\155",
+            "\1\156",
+            "\1\161\1\uffff\10\162\2\163\13\uffff\1\165\4\uffff\1\166\1"+
+            "\uffff\1\164\13\uffff\1\157\14\uffff\1\165\4\uffff\1\166\1\uffff"+
+            "\1\164\13\uffff\1\157",
+            "\1\161\1\uffff\12\167\13\uffff\1\165\4\uffff\1\166\1\uffff"+
+            "\1\164\30\uffff\1\165\4\uffff\1\166\1\uffff\1\164",
+            "\1\60\4\uffff\1\60\52\uffff\1\171\37\uffff\1\170",
+            "\1\60\4\uffff\1\60",
+            "\1\60\4\uffff\1\60\52\uffff\1\172\37\uffff\1\173",
+            "",
+            "",
+            "",
+            "\1\63\2\uffff\1\63",
+            "",
+            "\1\65\1\176\1\uffff\1\174\1\176\22\uffff\1\64\2\uffff\1\177",
+            "\1\65\1\176\1\uffff\1\174\1\176\22\uffff\1\64\2\uffff\1\177",
+            "",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\22\57\1\u0081\7\57",
+            "\1\u0083",
+            "\1\u0084",
+            "\1\u0085",
+            "\1\u0086",
+            "\1\u0087\5\uffff\1\u0088",
+            "\1\u0089\11\uffff\1\u008a",
+            "\1\u008b\1\uffff\1\u008c",
+            "\1\u008d",
+            "\1\u008e",
+            "\1\u008f",
+            "\1\u0090",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\1\u0092",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\1\u0095",
+            "\1\u0096",
+            "\1\u0097",
+            "\1\u0098",
+            "\1\u0099",
+            "\1\u009a",
+            "\1\u009b",
+            "\1\u009c",
+            "\1\u009d",
+            "",
+            "",
+            "",
+            "",
+            "\1\u009e",
+            "",
+            "",
+            "\1\u00a0",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\u00a2",
+            "",
+            "",
+            "\1\u00a4",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\12\154\13\uffff\1\u00a7\4\uffff\1\166\32\uffff\1\u00a7\4\uffff"+
+            "\1\166",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\1\u00a9",
+            "\12\u00aa\7\uffff\6\u00aa\32\uffff\6\u00aa",
+            "",
+            "\12\u00ab\13\uffff\1\u00ac\4\uffff\1\166\32\uffff\1\u00ac\4"+
+            "\uffff\1\166",
+            "\1\161\1\uffff\10\162\2\163\13\uffff\1\165\4\uffff\1\166\1"+
+            "\uffff\1\164\30\uffff\1\165\4\uffff\1\166\1\uffff\1\164",
+            "\1\161\1\uffff\12\163\13\uffff\1\165\4\uffff\1\166\32\uffff"+
+            "\1\165\4\uffff\1\166",
+            "",
+            "\1\u00ad\1\uffff\1\u00ad\2\uffff\12\u00ae",
+            "",
+            "\1\161\1\uffff\12\167\13\uffff\1\165\4\uffff\1\166\1\uffff"+
+            "\1\164\30\uffff\1\165\4\uffff\1\166\1\uffff\1\164",
+            "\1\60\4\uffff\1\60",
+            "\1\60\4\uffff\1\60",
+            "\1\60\4\uffff\1\60",
+            "\1\60\4\uffff\1\60",
+            "",
+            "\1\uffff",
+            "",
+            "",
+            "\1\uffff",
+            "\1\u00af",
+            "",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\1\u00b1",
+            "\1\u00b2",
+            "\1\u00b3",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\1\u00b6",
+            "\1\u00b7",
+            "\1\u00b8",
+            "\1\u00b9",
+            "\1\u00ba",
+            "\1\u00bb",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\1\u00bd",
+            "",
+            "\1\u00be",
+            "",
+            "",
+            "\1\u00bf",
+            "\1\u00c0",
+            "\1\u00c1",
+            "\1\u00c2",
+            "\1\u00c3",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\1\u00c5",
+            "\1\u00c6",
+            "\1\u00c7",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\u00c8\1\uffff\1\u00c8\2\uffff\12\u00c9",
+            "",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\12\u00aa\7\uffff\6\u00aa\5\uffff\1\164\24\uffff\6\u00aa\5"+
+            "\uffff\1\164",
+            "\12\u00ab\13\uffff\1\u00cb\4\uffff\1\166\32\uffff\1\u00cb\4"+
+            "\uffff\1\166",
+            "\1\u00cc\1\uffff\1\u00cc\2\uffff\12\u00cd",
+            "\12\u00ae",
+            "\12\u00ae\20\uffff\1\166\37\uffff\1\166",
+            "\1\u00ce",
+            "",
+            "\1\u00cf",
+            "\1\u00d0",
+            "\1\u00d1",
+            "",
+            "",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\1\u00d4",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\1\u00d6",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "",
+            "\1\u00d8",
+            "\1\u00d9",
+            "\1\u00da",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\1\u00dc",
+            "\1\u00dd",
+            "\1\u00de",
+            "",
+            "\1\u00df",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\1\u00e1",
+            "\12\u00c9",
+            "\12\u00c9\20\uffff\1\166\37\uffff\1\166",
+            "",
+            "\1\u00e2\1\uffff\1\u00e2\2\uffff\12\u00e3",
+            "\12\u00cd",
+            "\12\u00cd\20\uffff\1\166\37\uffff\1\166",
+            "\1\u00e4",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\1\u00e7",
+            "",
+            "",
+            "\1\u00e8",
+            "",
+            "\1\u00e9",
+            "",
+            "\1\u00ea",
+            "\1\u00eb",
+            "\1\u00ec",
+            "",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\1\u00ef",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\12\u00e3",
+            "\12\u00e3\20\uffff\1\166\37\uffff\1\166",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "",
+            "",
+            "\1\u00f3",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\1\u00f5",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "",
+            "",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "",
+            "",
+            "",
+            "\1\u00fa",
+            "",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "",
+            "",
+            "",
+            "",
+            "\12\57\7\uffff\32\57\4\uffff\1\57\1\uffff\32\57",
+            "",
+            ""
+    };
+
+    static final short[] DFA44_eot = DFA.unpackEncodedString(DFA44_eotS);
+    static final short[] DFA44_eof = DFA.unpackEncodedString(DFA44_eofS);
+    static final char[] DFA44_min = DFA.unpackEncodedStringToUnsignedChars(DFA44_minS);
+    static final char[] DFA44_max = DFA.unpackEncodedStringToUnsignedChars(DFA44_maxS);
+    static final short[] DFA44_accept = DFA.unpackEncodedString(DFA44_acceptS);
+    static final short[] DFA44_special = DFA.unpackEncodedString(DFA44_specialS);
+    static final short[][] DFA44_transition;
+
+    static {
+        int numStates = DFA44_transitionS.length;
+        DFA44_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA44_transition[i] = DFA.unpackEncodedString(DFA44_transitionS[i]);
+        }
+    }
+
+    class DFA44 extends DFA {
+
+        public DFA44(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 44;
+            this.eot = DFA44_eot;
+            this.eof = DFA44_eof;
+            this.min = DFA44_min;
+            this.max = DFA44_max;
+            this.accept = DFA44_accept;
+            this.special = DFA44_special;
+            this.transition = DFA44_transition;
+        }
+        public String getDescription() {
+            return "1:1: Tokens : ( AS | ASSERT | BREAK | CLASS | CONTINUE | DEF | DELETE | ELIF | EXCEPT | EXEC | FINALLY | FROM | FOR | GLOBAL | IF | IMPORT | IN | IS | LAMBDA | ORELSE | PASS | PRINT | RAISE | RETURN | TRY | WHILE | WITH | YIELD | LPAREN | RPAREN | LBRACK | RBRACK | COLON | COMMA | SEMI | PLUS | MINUS | STAR | SLASH | VBAR | AMPER | LESS | GREATER | ASSIGN | PERCENT | BACKQUOTE | LCURLY | RCURLY | CIRCUMFLEX | TILDE | EQUAL | NOTEQUAL | ALT_NOTEQUAL | LESSEQUAL | LEFTSHIFT | GREATEREQUAL | RIGHTSHIFT | PLUSEQUAL | MINUSEQUAL | DOUBLESTAR | STAREQUAL | DOUBLESLASH | SLASHEQUAL | VBAREQUAL | PERCENTEQUAL | AMPEREQUAL | CIRCUMFLEXEQUAL | LEFTSHIFTEQUAL | RIGHTSHIFTEQUAL | DOUBLESTAREQUAL | DOUBLESLASHEQUAL | DOT | AT | AND | OR | NOT | FLOAT | LONGINT | INT | COMPLEX | NAME | STRING | CONTINUED_LINE | NEWLINE | WS | LEADING_WS | COMMENT );";
+        }
+        public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
+            IntStream input = _input;
+        	int _s = s;
+            switch ( s ) {
+                    case 0 : 
+                        int LA44_125 = input.LA(1);
+
+                         
+                        int index44_125 = input.index();
+                        input.rewind();
+                        s = -1;
+                        if ( ((startPos>0)) ) {s = 124;}
+
+                        else if ( (((startPos==0)||((startPos==0)&&(implicitLineJoiningLevel>0)))) ) {s = 126;}
+
+                         
+                        input.seek(index44_125);
+                        if ( s>=0 ) return s;
+                        break;
+                    case 1 : 
+                        int LA44_128 = input.LA(1);
+
+                         
+                        int index44_128 = input.index();
+                        input.rewind();
+                        s = -1;
+                        if ( ((startPos>0)) ) {s = 124;}
+
+                        else if ( (((startPos==0)||((startPos==0)&&(implicitLineJoiningLevel>0)))) ) {s = 126;}
+
+                         
+                        input.seek(index44_128);
+                        if ( s>=0 ) return s;
+                        break;
+                    case 2 : 
+                        int LA44_52 = input.LA(1);
+
+                         
+                        int index44_52 = input.index();
+                        input.rewind();
+                        s = -1;
+                        if ( (LA44_52==' ') && (((startPos==0)||(startPos>0)))) {s = 52;}
+
+                        else if ( (LA44_52=='\f') && ((startPos>0))) {s = 124;}
+
+                        else if ( (LA44_52=='\n'||LA44_52=='\r') && ((startPos==0))) {s = 126;}
+
+                        else if ( (LA44_52=='\t') && (((startPos==0)||(startPos>0)))) {s = 53;}
+
+                        else if ( (LA44_52=='#') && ((startPos==0))) {s = 127;}
+
+                        else s = 125;
+
+                         
+                        input.seek(index44_52);
+                        if ( s>=0 ) return s;
+                        break;
+                    case 3 : 
+                        int LA44_53 = input.LA(1);
+
+                         
+                        int index44_53 = input.index();
+                        input.rewind();
+                        s = -1;
+                        if ( (LA44_53==' ') && (((startPos==0)||(startPos>0)))) {s = 52;}
+
+                        else if ( (LA44_53=='\f') && ((startPos>0))) {s = 124;}
+
+                        else if ( (LA44_53=='\n'||LA44_53=='\r') && ((startPos==0))) {s = 126;}
+
+                        else if ( (LA44_53=='\t') && (((startPos==0)||(startPos>0)))) {s = 53;}
+
+                        else if ( (LA44_53=='#') && ((startPos==0))) {s = 127;}
+
+                        else s = 128;
+
+                         
+                        input.seek(index44_53);
+                        if ( s>=0 ) return s;
+                        break;
+                    case 4 : 
+                        int LA44_0 = input.LA(1);
+
+                         
+                        int index44_0 = input.index();
+                        input.rewind();
+                        s = -1;
+                        if ( (LA44_0=='a') ) {s = 1;}
+
+                        else if ( (LA44_0=='b') ) {s = 2;}
+
+                        else if ( (LA44_0=='c') ) {s = 3;}
+
+                        else if ( (LA44_0=='d') ) {s = 4;}
+
+                        else if ( (LA44_0=='e') ) {s = 5;}
+
+                        else if ( (LA44_0=='f') ) {s = 6;}
+
+                        else if ( (LA44_0=='g') ) {s = 7;}
+
+                        else if ( (LA44_0=='i') ) {s = 8;}
+
+                        else if ( (LA44_0=='l') ) {s = 9;}
+
+                        else if ( (LA44_0=='p') ) {s = 10;}
+
+                        else if ( (LA44_0=='r') ) {s = 11;}
+
+                        else if ( (LA44_0=='t') ) {s = 12;}
+
+                        else if ( (LA44_0=='w') ) {s = 13;}
+
+                        else if ( (LA44_0=='y') ) {s = 14;}
+
+                        else if ( (LA44_0=='(') ) {s = 15;}
+
+                        else if ( (LA44_0==')') ) {s = 16;}
+
+                        else if ( (LA44_0=='[') ) {s = 17;}
+
+                        else if ( (LA44_0==']') ) {s = 18;}
+
+                        else if ( (LA44_0==':') ) {s = 19;}
+
+                        else if ( (LA44_0==',') ) {s = 20;}
+
+                        else if ( (LA44_0==';') ) {s = 21;}
+
+                        else if ( (LA44_0=='+') ) {s = 22;}
+
+                        else if ( (LA44_0=='-') ) {s = 23;}
+
+                        else if ( (LA44_0=='*') ) {s = 24;}
+
+                        else if ( (LA44_0=='/') ) {s = 25;}
+
+                        else if ( (LA44_0=='|') ) {s = 26;}
+
+                        else if ( (LA44_0=='&') ) {s = 27;}
+
+                        else if ( (LA44_0=='<') ) {s = 28;}
+
+                        else if ( (LA44_0=='>') ) {s = 29;}
+
+                        else if ( (LA44_0=='=') ) {s = 30;}
+
+                        else if ( (LA44_0=='%') ) {s = 31;}
+
+                        else if ( (LA44_0=='`') ) {s = 32;}
+
+                        else if ( (LA44_0=='{') ) {s = 33;}
+
+                        else if ( (LA44_0=='}') ) {s = 34;}
+
+                        else if ( (LA44_0=='^') ) {s = 35;}
+
+                        else if ( (LA44_0=='~') ) {s = 36;}
+
+                        else if ( (LA44_0=='!') ) {s = 37;}
+
+                        else if ( (LA44_0=='.') ) {s = 38;}
+
+                        else if ( (LA44_0=='@') ) {s = 39;}
+
+                        else if ( (LA44_0=='o') ) {s = 40;}
+
+                        else if ( (LA44_0=='n') ) {s = 41;}
+
+                        else if ( (LA44_0=='0') ) {s = 42;}
+
+                        else if ( ((LA44_0>='1' && LA44_0<='9')) ) {s = 43;}
+
+                        else if ( (LA44_0=='u') ) {s = 44;}
+
+                        else if ( (LA44_0=='R') ) {s = 45;}
+
+                        else if ( (LA44_0=='U') ) {s = 46;}
+
+                        else if ( ((LA44_0>='A' && LA44_0<='Q')||(LA44_0>='S' && LA44_0<='T')||(LA44_0>='V' && LA44_0<='Z')||LA44_0=='_'||LA44_0=='h'||(LA44_0>='j' && LA44_0<='k')||LA44_0=='m'||LA44_0=='q'||LA44_0=='s'||LA44_0=='v'||LA44_0=='x'||LA44_0=='z') ) {s = 47;}
+
+                        else if ( (LA44_0=='\"'||LA44_0=='\'') ) {s = 48;}
+
+                        else if ( (LA44_0=='\\') ) {s = 49;}
+
+                        else if ( (LA44_0=='\f') ) {s = 50;}
+
+                        else if ( (LA44_0=='\n'||LA44_0=='\r') ) {s = 51;}
+
+                        else if ( (LA44_0==' ') && (((startPos==0)||(startPos>0)))) {s = 52;}
+
+                        else if ( (LA44_0=='\t') && (((startPos==0)||(startPos>0)))) {s = 53;}
+
+                        else if ( (LA44_0=='#') ) {s = 54;}
+
+                         
+                        input.seek(index44_0);
+                        if ( s>=0 ) return s;
+                        break;
+                    case 5 : 
+                        int LA44_50 = input.LA(1);
+
+                         
+                        int index44_50 = input.index();
+                        input.rewind();
+                        s = -1;
+                        if ( (LA44_50=='\n'||LA44_50=='\r') ) {s = 51;}
+
+                        else s = 124;
+
+                         
+                        input.seek(index44_50);
+                        if ( s>=0 ) return s;
+                        break;
+            }
+            NoViableAltException nvae =
+                new NoViableAltException(getDescription(), 44, _s, input);
+            error(nvae);
+            throw nvae;
+        }
+    }
+ 
+
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+d = {}
+try:
+    del d['nokey']
+except KeyError:
+    pass
+else:
+    print 'Deleting missing key should raise KeyError!'
@@ -0,0 +1,2 @@
+from java.lang import *
+Class.isArray(Thread)
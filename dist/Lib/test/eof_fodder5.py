@@ -0,0 +1,3 @@
+def f():
+    pass
+# just a comment
\ No newline at end of file
@@ -0,0 +1,4 @@
+from java.util.regex import *
+
+p = Pattern.compile("foo")
+assert p.flags() == 0
@@ -0,0 +1,3 @@
+import sys
+del sys.modules[__name__]
+1 / 0
@@ -0,0 +1,70 @@
+import subprocess
+import sys
+import unittest
+from test import test_support
+
+class CodecsTestCase(unittest.TestCase):
+
+    def test_print_sans_lib(self):
+        """Encodes and decodes using utf-8 after in an environment
+        without the standard library
+
+        Checks that the builtin utf-8 codec is always available:
+        http://bugs.jython.org/issue1458"""
+        subprocess.call([sys.executable, "-J-Dpython.cachedir.skip=true",
+            "-J-Dpython.security.respectJavaAccessibility=false",
+            test_support.findfile('print_sans_lib.py')])
+
+    def test_string_escape_1502(self):
+        # http://bugs.jython.org/issue1502
+        self.assertEqual('\\x00'.encode('string-escape'), '\\\\x00')
+        self.assertEqual('\\x00'.encode('unicode-escape'), '\\\\x00')
+
+    def test_builtin_aliases(self):
+        for name in 'utf-8', 'UTF8', 'utf_8', 'u8':
+            self.assertEqual('caf\xc3\xa9'.decode(name), u'caf\xe9')
+            self.assertEqual(u'caf\xe9'.encode(name), 'caf\xc3\xa9')
+        for name in 'latin-1', 'ISO-8859-1', 'latin1':
+            self.assertEqual('caf\xe9'.decode(name), u'caf\xe9')
+            self.assertEqual(u'caf\xe9'.encode(name), 'caf\xe9')
+
+    def test_utf8_errors(self):
+        self.assertEqual('\xef\xbf\xbd'.decode('utf-8'), u'\ufffd')
+        self.assertEqual('a\xffb\xc3'.decode('utf-8', 'replace'), u'a\ufffdb\ufffd')
+        self.assertEqual('a\xffb\xc3'.decode('utf-8', 'ignore'), u'ab')
+        self.assertRaises(UnicodeDecodeError, 'a\xffb'.decode, 'utf-8')
+
+    def test_utf16(self):
+        self.assertEqual('\xff\xfea\x00b\x00'.decode('utf-16'), u'ab')
+        self.assertEqual('\xfe\xff\x00a\x00b'.decode('utf-16'), u'ab')
+        self.assertEqual('a\x00b\x00'.decode('utf-16-le'), u'ab')
+        self.assertEqual('a\x00b'.decode('utf-16-le', 'replace'), u'a\ufffd')
+        self.assertEqual('\x00\xd8a\x00'.decode('utf-16-le', 'replace'), u'\ufffd\ufffda')
+        self.assertRaises(UnicodeDecodeError, 'a\x00b'.decode, 'utf-16-le')
+        self.assertEqual(u'ab'.encode('utf-16-be'), '\x00a\x00b')
+
+    def test_cp1252(self):
+        self.assertEqual('\x80abc'.decode('cp1252'), u'\u20acabc')
+        self.assertEqual('\x80\x81abc'.decode('cp1252', 'replace'), u'\u20ac\ufffdabc')
+        self.assertRaises(UnicodeDecodeError, '\x81'.decode, 'cp1252')
+        self.assertEqual(u'\u20ac\u0101x'.encode('cp1252', 'replace'), '\x80?x')
+        self.assertEqual(u'\u20ac\u0101x'.encode('cp1252', 'xmlcharrefreplace'),
+                         '\x80&#257;x')
+        self.assertRaises(UnicodeEncodeError, u'\u0101'.encode, 'cp1252')
+
+    def test_utf8_stateful_decode(self):
+        # a sequence cut off at the end of a chunk is left unconsumed
+        import _codecs
+        data = u'caf\xe9 \u20ac \U00010000'.encode('utf-8')
+        for i in range(len(data)):
+            text, consumed = _codecs.utf_8_decode(data[:i], 'strict', False)
+            rest, _ = _codecs.utf_8_decode(data[consumed:], 'strict', True)
+            self.assertEqual(text + rest, u'caf\xe9 \u20ac \U00010000')
+
+
+def test_main():
+    test_support.run_unittest(CodecsTestCase)
+
+
+if __name__ == "__main__":
+    test_main()
@@ -0,0 +1,191 @@
+"""Misc cPickle tests.
+
+Made for Jython.
+"""
+import __builtin__
+import sys
+import cPickle
+import pickle
+import unittest
+from StringIO import StringIO
+from test import test_support
+
+class MyClass(object):
+    pass
+
+
+class CPickleTestCase(unittest.TestCase):
+
+    def test_zero_long(self):
+        self.assertEqual(cPickle.loads(cPickle.dumps(0L, 2)), 0L)
+        self.assertEqual(cPickle.dumps(0L, 2), pickle.dumps(0L, 2))
+
+    def test_cyclic_memoize(self):
+        # http://bugs.python.org/issue998998 - cPickle shouldn't fail
+        # this, though pickle.py still does
+        m = MyClass()
+        m2 = MyClass()
+
+        s = set([m])
+        m.foo = set([m2])
+        m2.foo = s
+
+        s2 = cPickle.loads(cPickle.dumps(s))
+        self.assertEqual(len(s2), 1)
+        m3 = iter(s2).next()
+        self.assertEqual(len(m3.foo), 1)
+        m4 = iter(m3.foo).next()
+        self.assertEqual(m4.foo, s2)
+
+    def test_find_global(self):
+
+        class A(object):
+            def __init__(self, x, y):
+                self.x = x
+                self.y = y
+
+            def __eq__(self, other):
+                if isinstance(other, A) and self.x == other.x and self.y == other.y:
+                    return True
+                return False
+
+        class B(object):
+            def __init__(self, x, y):
+                self.x = x
+                self.y = y
+
+        def restrictive_find_global(module, clsname):
+            if clsname == 'A':
+                return A
+            else:
+                raise pickle.UnpicklingError("Cannot load class", module, clsname)
+
+        a = A("python", "C")
+        a_pickled = cPickle.dumps(a, 2)
+        a_unpickler = cPickle.Unpickler(StringIO(a_pickled))
+        a_unpickler.find_global = restrictive_find_global
+        self.assertEqual(a_unpickler.load(), a)
+
+        b_pickled = cPickle.dumps(B("jython", "java"), 2)
+        b_unpickler = cPickle.Unpickler(StringIO(b_pickled))
+        b_unpickler.find_global = restrictive_find_global
+        self.assertRaises(pickle.UnpicklingError, b_unpickler.load)
+
+
+    def testWithUserDefinedImport(self):
+        """test cPickle calling a user defined import function."""
+        # This tests the fix for http://bugs.jython.org/issue1665
+        # setup
+        original_import = __builtin__.__import__
+        def import_hook(name, _globals=None, locals=None, fromlist=None, level= -1):
+            return original_import(name, _globals, locals, fromlist, level)
+    
+        # test
+        __builtin__.__import__ = import_hook
+        try:
+            if "no_such_module" in sys.modules:
+                del sys.modules["no_such_module"]  # force cPickle to call __import__
+            self.assertRaises(ImportError, cPickle.loads, pickle.GLOBAL + "no_such_module\n" + "no_such_class\n")
+        finally:
+            __builtin__.__import__ = original_import
+
+    def test_streams(self):
+        # several pickles on one stream share the memo, and each load
+        # leaves the stream positioned after its pickle
+        import cStringIO
+        shared = [1, 2]
+        for proto in 0, 1, 2:
+            f = cStringIO.StringIO()
+            pickler = cPickle.Pickler(f, proto)
+            pickler.dump(('x' * 100000, shared))
+            pickler.dump(shared)
+            f.write('trailer')
+            f.seek(0)
+            unpickler = cPickle.Unpickler(f)
+            big, first = unpickler.load()
+            self.assertEqual(big, 'x' * 100000)
+            self.assert_(unpickler.load() is first)
+            self.assertEqual(f.read(), 'trailer')
+
+    def test_object_file(self):
+        class Writer(object):
+            def __init__(self):
+                self.parts = []
+            def write(self, data):
+                self.parts.append(data)
+        data = [range(10000), 'abc' * 50000, {'a': 1.5}]
+        for proto in 0, 1, 2:
+            writer = Writer()
+            cPickle.dump(data, writer, proto)
+            self.assertEqual(''.join(writer.parts), cPickle.dumps(data, proto))
+            self.assertEqual(cPickle.loads(''.join(writer.parts)), data)
+
+    def test_clear_memo(self):
+        import cStringIO
+        f = cStringIO.StringIO()
+        pickler = cPickle.Pickler(f, 2)
+        shared = [1]
+        pickler.dump(shared)
+        pickler.clear_memo()
+        pickler.dump(shared)
+        f.seek(0)
+        unpickler = cPickle.Unpickler(f)
+        self.assert_(unpickler.load() is not unpickler.load())
+
+    def test_arrays(self):
+        import array
+        for typecode, init in [('b', [1, -2]), ('c', 'ab'), ('h', [-300]),
+                               ('i', [-70000]), ('l', [2 ** 40]), ('f', [1.5]),
+                               ('d', [1e300]), ('B', [200]), ('H', [65000]),
+                               ('I', [4000000000L]), ('u', u'ab')]:
+            a = array.array(typecode, init)
+            self.assertEqual(array.array(typecode, a.tostring()), a)
+            for proto in 0, 1, 2:
+                b = cPickle.loads(cPickle.dumps(a, proto))
+                self.assertEqual(b, a)
+                self.assertEqual(b.typecode, typecode)
+                c, d = cPickle.loads(cPickle.dumps([a, a], proto))
+                self.assert_(c is d)
+
+    def test_containers_of_atoms(self):
+        items = [1, 2.5, None, True, 'x', (1, 2.0, 'y'), 10 ** 20] * 500
+        table = dict((i, str(i)) for i in range(3000))
+        for proto in 0, 1, 2:
+            self.assertEqual(cPickle.loads(cPickle.dumps(items, proto)), items)
+            self.assertEqual(cPickle.loads(cPickle.dumps(table, proto)), table)
+            self.assertEqual(cPickle.loads(cPickle.dumps({1: 2}, proto)), {1: 2})
+
+    def test_persistent_id_sees_atoms(self):
+        import cStringIO
+        seen = []
+        def persistent_id(obj):
+            seen.append(obj)
+            return None
+        pickler = cPickle.Pickler(cStringIO.StringIO(), 2)
+        pickler.persistent_id = persistent_id
+        pickler.dump([1, 2.0, None])
+        self.assertEqual(seen, [[1, 2.0, None], 1, 2.0, None])
+
+    def test_truncated(self):
+        self.assertRaises(EOFError, cPickle.loads, cPickle.dumps([1, 2], 2)[:-3])
+        # cut off in the middle of a string
+        import cStringIO
+        for proto in 1, 2:
+            for data in 'x' * 1000, u'y' * 1000:
+                pickled = cPickle.dumps(data, proto)[:-500]
+                self.assertRaises(EOFError, cPickle.loads, pickled)
+                for f in cStringIO.StringIO(pickled), StringIO(pickled):
+                    self.assertRaises(EOFError, cPickle.Unpickler(f).load)
+
+    def test_unpickler_needs_file(self):
+        # only loads reads a str in place, Unpickler takes a file
+        self.assertRaises(TypeError, cPickle.Unpickler, cPickle.dumps(1))
+
+
+
+def test_main():
+    test_support.run_unittest(CPickleTestCase)
+
+
+if __name__ == '__main__':
+    test_main()
@@ -0,0 +1,68 @@
+# encoding: utf-8
+"""Misc hashlib tests
+
+Made for Jython.
+"""
+import _hashlib
+import hashlib
+import os
+import unittest
+from array import array
+from cStringIO import StringIO
+from java.nio import ByteBuffer
+from test import test_support
+
+class HashlibTestCase(unittest.TestCase):
+
+    def test_unicode(self):
+        self.assertEqual(hashlib.md5(u'foo').hexdigest(),
+                         'acbd18db4cc2f85cedef654fccc4a4d8')
+        self.assertRaises(UnicodeEncodeError, hashlib.md5, u'Gráin amháiñ')
+
+    def test_array(self):
+        self.assertEqual(hashlib.sha1(array('c', 'hovercraft')).hexdigest(),
+                         '496df4d8de2c71973d7e917c4fbe57e6ad46d738')
+        intarray = array('i', range(5))
+        self.assertEqual(hashlib.sha1(intarray).hexdigest(),
+                         hashlib.sha1(intarray.tostring()).hexdigest())
+
+    def test_buffers(self):
+        data = 'jython' * 20000
+        expected = hashlib.sha1(data).hexdigest()
+        self.assertEqual(hashlib.sha1(array('b', data)).hexdigest(), expected)
+        buf = ByteBuffer.allocateDirect(len(data))
+        buf.put(array('b', data)).flip()
+        digest = hashlib.sha1()
+        digest.update(buf)
+        self.assertEqual(digest.hexdigest(), expected)
+        # the buffer's position is left alone
+        self.assertEqual(buf.remaining(), len(data))
+
+    def test_file_digest(self):
+        data = ''.join([chr(i % 251) for i in xrange(100000)])
+        f = open(test_support.TESTFN, 'wb')
+        try:
+            f.write(data)
+            f.close()
+            f = open(test_support.TESTFN, 'rb')
+            f.read(10)
+            digest = _hashlib.file_digest(f, 'sha256')
+            self.assertEqual(digest.hexdigest(), hashlib.sha256(data[10:]).hexdigest())
+            self.assertEqual(f.read(), '')
+            f.seek(0)
+            digest = hashlib.md5('prefix')
+            self.assert_(_hashlib.file_digest(f, digest) is digest)
+            self.assertEqual(digest.hexdigest(), hashlib.md5('prefix' + data).hexdigest())
+        finally:
+            f.close()
+            os.remove(test_support.TESTFN)
+        self.assertEqual(_hashlib.file_digest(StringIO(data), 'md5').hexdigest(),
+                         hashlib.md5(data).hexdigest())
+
+
+def test_main():
+    test_support.run_unittest(HashlibTestCase)
+
+
+if __name__ == '__main__':
+    test_main()
@@ -0,0 +1,59 @@
+"""Misc struct tests.
+
+Made for Jython.
+"""
+import array
+import struct
+import unittest
+from java.nio import ByteBuffer
+from test import test_support
+
+class StructTestCase(unittest.TestCase):
+
+    def test_struct(self):
+        s = struct.Struct('<hId')
+        self.assertEqual(s.size, 14)
+        self.assertEqual(s.format, '<hId')
+        data = s.pack(-1, 7, 2.5)
+        self.assertEqual(data, struct.pack('<hId', -1, 7, 2.5))
+        self.assertEqual(s.unpack(data), (-1, 7L, 2.5))
+        self.assertEqual(s.unpack(array.array('b', data)), (-1, 7L, 2.5))
+        self.assertRaises(struct.error, s.unpack, data[:-1])
+        self.assertRaises(struct.error, s.pack, 1, 2)
+        self.assertRaises(struct.error, s.pack, 1, 2, 3.0, 4)
+
+    def test_pack_into_arrays(self):
+        s = struct.Struct('>iH')
+        for typecode in 'bc':
+            a = array.array(typecode, '\0' * 10)
+            s.pack_into(a, 2, -2, 513)
+            self.assertEqual(a.tostring(), '\0\0' + s.pack(-2, 513) + '\0\0')
+            self.assertEqual(s.unpack_from(a, 2), (-2, 513))
+            # negative offsets count from the end
+            s.pack_into(a, -6, 1, 2)
+            self.assertEqual(s.unpack_from(a, 4), (1, 2))
+            self.assertRaises(struct.error, s.pack_into, a, 5, 1, 2)
+            self.assertRaises(struct.error, s.unpack_from, a, 5)
+
+    def test_module_functions(self):
+        a = array.array('b', '\0' * 8)
+        struct.pack_into('<q', a, 0, -3)
+        self.assertEqual(struct.unpack_from('<q', a), (-3,))
+        self.assertEqual(struct.unpack_from('<q', a.tostring(), 0), (-3,))
+        self.assertEqual(struct.unpack_from('>b', 'xyz', 2), (ord('z'),))
+
+    def test_byte_buffers(self):
+        s = struct.Struct('<id')
+        for buf in ByteBuffer.allocate(32), ByteBuffer.allocateDirect(32):
+            s.pack_into(buf, 4, 5, 7.5)
+            self.assertEqual(s.unpack_from(buf, 4), (5, 7.5))
+            self.assertEqual(struct.unpack_from('<i', buf, 4), (5,))
+            self.assertRaises(struct.error, s.unpack_from, buf, 21)
+
+
+def test_main():
+    test_support.run_unittest(StructTestCase)
+
+
+if __name__ == '__main__':
+    test_main()
@@ -0,0 +1,63 @@
+import thread
+import synchronize
+import unittest
+import test.test_support
+from java.lang import Runnable, Thread
+from java.util.concurrent import CountDownLatch
+
+class AllocateLockTest(unittest.TestCase):
+
+    def test_lock_type(self):
+        """thread.LockType should exist"""
+        t = thread.LockType
+        self.assertEquals(t, type(thread.allocate_lock()),
+            "thread.LockType has wrong value")
+
+    def test_acquire_release(self):
+        lock = thread.allocate_lock()
+        self.assertFalse(lock.locked())
+        self.assertTrue(lock.acquire())
+        self.assertTrue(lock.locked())
+        self.assertFalse(lock.acquire(False))
+        lock.release()
+        self.assertFalse(lock.locked())
+        self.assertRaises(ValueError, lock.release)
+
+    def test_release_by_other_thread(self):
+        lock = thread.allocate_lock()
+        lock.acquire()
+        done = CountDownLatch(1)
+        def release():
+            lock.release()
+            done.countDown()
+        thread.start_new_thread(release, ())
+        done.await()
+        # blocks until the other thread has released it
+        self.assertTrue(lock.acquire())
+        lock.release()
+
+class SynchronizeTest(unittest.TestCase):
+
+    def test_make_synchronized(self):
+        doneSignal = CountDownLatch(10)
+        class SynchedRunnable(Runnable):
+            i = 0
+            def run(self):
+                self.i += 1
+                doneSignal.countDown()
+            run = synchronize.make_synchronized(run)
+        runner = SynchedRunnable()
+        for _ in xrange(10):
+            Thread(runner).start()
+        doneSignal.await()
+        self.assertEquals(10, runner.i)
+
+    def test_synchronized_callable(self):
+        self.assertTrue(callable(synchronize.make_synchronized(lambda: None)))
+
+
+def test_main():
+    test.test_support.run_unittest(AllocateLockTest, SynchronizeTest)
+
+if __name__ == "__main__":
+    test_main()
@@ -0,0 +1,192 @@
+"""Misc threading module tests
+
+Made for Jython.
+"""
+from __future__ import with_statement
+
+import random
+import subprocess
+import sys
+import _threading
+import threading
+import time
+import unittest
+
+from subprocess import PIPE, Popen
+from test import test_support
+from threading import Condition, Lock, Thread
+from java.lang import Thread as JThread, InterruptedException
+
+
+class ThreadingTestCase(unittest.TestCase):
+
+    def test_str_name(self):
+        t = Thread(name=1)
+        self.assertEqual(t.getName(), '1')
+        t.setName(2)
+        self.assertEqual(t.getName(), '2')
+
+    # make sure activeCount() gets decremented (see issue 1348)
+    def test_activeCount(self):
+        activeBefore = threading.activeCount()
+        activeCount = 10
+        for i in range(activeCount):
+            t = Thread(target=self._sleep, args=(i,))
+            t.setDaemon(0)
+            t.start()
+        polls = activeCount
+        while activeCount > activeBefore and polls > 0:
+            time.sleep(1)
+            activeCount = threading.activeCount()
+            polls -= 1
+        self.assertTrue(activeCount <= activeBefore, 'activeCount should to be <= %s, instead of %s' % (activeBefore, activeCount))
+
+    def _sleep(self, n):
+        time.sleep(random.random())
+
+
+class TwistedTestCase(unittest.TestCase):
+    
+    def test_needs_underscored_versions(self):
+        self.assertEqual(threading.Lock, threading._Lock)
+        self.assertEqual(threading.RLock, threading._RLock)
+
+
+class SynchronizerTestCase(unittest.TestCase):
+
+    def test_semaphore(self):
+        for fair in False, True:
+            sem = threading.Semaphore(2, fair=fair)
+            self.assertTrue(sem.acquire())
+            self.assertTrue(sem.acquire(False))
+            self.assertFalse(sem.acquire(False))
+            self.assertFalse(sem.acquire(True, 0.01))
+            sem.release()
+            with sem:
+                self.assertFalse(sem.acquire(False))
+            self.assertTrue(sem.acquire(True, 0.01))
+        self.assertRaises(ValueError, threading.Semaphore, -1)
+
+    def test_semaphore_args(self):
+        # the second positional argument is verbose, as in CPython; fair is keyword only
+        sem = threading.Semaphore(1, None)
+        self.assertTrue(sem.acquire(False))
+        self.assertFalse(sem.acquire(False))
+        self.assertRaises(TypeError, threading.Semaphore, 1, None, True)
+        self.assertRaises(TypeError, threading.BoundedSemaphore, 1, None, True)
+
+    def test_semaphore_subclass(self):
+        for base in threading.Semaphore, _threading.BoundedSemaphore:
+            class Sub(base):
+                def __init__(self, value):
+                    base.__init__(self, value)
+                    self.value = value
+            sem = Sub(2)
+            self.assertEqual(type(sem), Sub)
+            self.assertEqual(sem.value, 2)
+            self.assertTrue(sem.acquire(False))
+            self.assertTrue(sem.acquire(False))
+            self.assertFalse(sem.acquire(False))
+
+    def test_semaphore_wakes_waiter(self):
+        sem = threading.Semaphore(0)
+        acquired = []
+        t = Thread(target=lambda: acquired.append(sem.acquire()))
+        t.start()
+        time.sleep(0.1)
+        sem.release()
+        t.join(5)
+        self.assertEqual(acquired, [True])
+
+    def test_bounded_semaphore(self):
+        sem = threading.BoundedSemaphore(2)
+        self.assertRaises(ValueError, sem.release)
+        sem.acquire()
+        sem.acquire()
+        sem.release()
+        sem.release()
+        self.assertRaises(ValueError, sem.release)
+
+    def test_event(self):
+        event = threading.Event()
+        self.assertFalse(event.isSet())
+        self.assertFalse(event.wait(0.01))
+        t = Thread(target=event.set)
+        t.start()
+        self.assertTrue(event.wait(5))
+        self.assertTrue(event.is_set())
+        self.assertTrue(event.wait())
+        event.clear()
+        self.assertFalse(event.isSet())
+        self.assertFalse(event.wait(0.01))
+
+    def test_timer_cancel(self):
+        called = []
+        timer = threading.Timer(10, called.append, args=[1])
+        timer.start()
+        timer.cancel()
+        timer.join(5)
+        self.assertFalse(timer.isAlive())
+        self.assertEqual(called, [])
+
+
+class JavaIntegrationTestCase(unittest.TestCase):
+    """Verifies that Thread.__tojava__ correctly gets the underlying Java thread"""
+
+    def test_interruptible(self):
+
+        def wait_until_interrupted(cv):
+            name = threading.currentThread().getName()
+            with cv:
+                while not JThread.currentThread().isInterrupted():
+                    try:
+                        cv.wait()
+                    except InterruptedException, e:
+                        break
+
+        num_threads = 5
+        unfair_condition = Condition()
+        threads = [
+            Thread(
+                name="thread #%d" % i,
+                target=wait_until_interrupted,
+                args=(unfair_condition,)) 
+            for i in xrange(num_threads)]
+
+        for thread in threads:
+            thread.start()
+        time.sleep(0.1)
+
+        for thread in threads:
+            JThread.interrupt(thread)
+
+        joined_threads = 0
+        for thread in threads:
+            thread.join(1.) # timeout just in case so we don't stall regrtest
+            joined_threads += 1
+        self.assertEqual(joined_threads, num_threads)
+
+
+class MemoryLeakTestCase(unittest.TestCase):
+    def test_socket_server(self):
+        # run socketserver with a small amount of memory; verify it exits cleanly
+
+        
+        rc = subprocess.call([sys.executable,
+                   "-J-Xmx32m",
+                   test_support.findfile("socketserver_test.py")])
+        # stdout=PIPE)
+        self.assertEquals(rc, 0)
+
+
+def test_main():
+    test_support.run_unittest(
+        JavaIntegrationTestCase,
+        MemoryLeakTestCase,
+        SynchronizerTestCase,
+        ThreadingTestCase,
+        TwistedTestCase)
+
+
+if __name__ == "__main__":
+    test_main()
@@ -0,0 +1,111 @@
+"""Test for thread locals"""
+import random
+import sys
+import threading
+import time
+import unittest
+from test import test_support
+from threading import local
+
+class LocalStuff(local):
+    def __init__(self, stuff, foo=1):
+        local.__init__(self)
+        self.stuff = stuff
+        self.foo = foo
+
+class TestThread(threading.Thread):
+    def __init__(self, stuff, name):
+        threading.Thread.__init__(self)
+        self.stuff = stuff
+        self.name = name
+        self.errors = []
+
+    def run(self):
+        for i in xrange(10):
+            try:
+                self.stuff.stuff = self.name
+                myStuff = self.stuff.stuff
+                time.sleep(random.random() * 2)
+                if myStuff != self.stuff.stuff:
+                    self.errors.append("myStuff should equal self.stuff.stuff")
+                if self.stuff.foo != 1:
+                    self.errors.append("foo should be 1")
+            except TypeError, te:
+                self.errors.append("TypeError: %s" % te)
+            except:
+                self.errors.append("unexpected error: %s" % sys.exc_info()[0] )
+
+    def getErrors(self):
+        return self.errors
+
+class ThreadLocalConstructorTestCase(unittest.TestCase):
+
+    def test_construct_locals(self):
+        """Ensures that constructing a local can have arguments"""
+        stuff = LocalStuff("main stuff")
+        threads = []
+        for i in xrange(20):
+            threads.append(TestThread(stuff, name=("thread-%d" % i)))
+            threads[i].start()
+        for i in xrange(20):
+            threads[i].join()
+            errors = threads[i].getErrors()
+            self.assertEquals(0, len(errors), errors)
+
+    def test_slots_reused(self):
+        """Locals created after others are collected don't see their values"""
+        from java.lang import System
+        for i in xrange(2000):
+            stale = local()
+            stale.value = i
+            if i % 500 == 0:
+                del stale
+                System.gc()
+                time.sleep(0.01)
+        fresh = local()
+        self.assertFalse(hasattr(fresh, 'value'))
+        fresh.value = 'fresh'
+        self.assertEquals('fresh', fresh.value)
+
+    def test_pool_thread_releases_values(self):
+        """A pool thread drops the values of collected locals once its Python code returns"""
+        import weakref
+        from java.lang import System
+        from java.util.concurrent import Callable, Executors
+
+        class Value(object):
+            pass
+
+        class SetValue(Callable):
+            def __init__(self, local):
+                self.local = local
+            def call(self):
+                self.local.value = Value()
+                return weakref.ref(self.local.value)
+
+        class Noop(Callable):
+            def call(self):
+                pass
+
+        pool = Executors.newSingleThreadExecutor()
+        try:
+            task = SetValue(local())
+            value = pool.submit(task).get()
+            del task
+            for i in range(20):
+                System.gc()
+                time.sleep(0.05)
+                pool.submit(Noop()).get()
+                if value() is None:
+                    break
+            self.assert_(value() is None)
+        finally:
+            pool.shutdown()
+
+
+def test_main():
+    test_support.run_unittest(ThreadLocalConstructorTestCase)
+
+
+if __name__ == "__main__":
+    test_main()
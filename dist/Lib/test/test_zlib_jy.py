@@ -0,0 +1,97 @@
+"""Misc zlib tests
+
+Made for Jython.
+"""
+import unittest
+import zlib
+from array import array
+from test import test_support
+
+class ArrayTestCase(unittest.TestCase):
+
+    def test_array(self):
+        self._test_array(zlib.compress, zlib.decompress)
+
+    def test_array_compressobj(self):
+        def compress(value):
+            co = zlib.compressobj()
+            return co.compress(value) + co.flush()
+        def decompress(value):
+            dco = zlib.decompressobj()
+            return dco.decompress(value) +  dco.flush()
+        self._test_array(compress, decompress)
+
+    def _test_array(self, compress, decompress):
+        self.assertEqual(compress(array('c', 'jython')), compress('jython'))
+        intarray = array('i', range(5))
+        self.assertEqual(compress(intarray), compress(intarray.tostring()))
+        compressed = array('c', compress('jython'))
+        self.assertEqual('jython', decompress(compressed))
+
+    def test_byte_array(self):
+        data = array('b', 'jython' * 100)
+        self.assertEqual(zlib.decompress(zlib.compress(data)), data.tostring())
+        self.assertEqual(zlib.crc32(data), zlib.crc32(data.tostring()))
+        self.assertEqual(zlib.adler32(data), zlib.adler32(data.tostring()))
+
+
+class StreamingTestCase(unittest.TestCase):
+
+    data = ''.join([chr(i % 251) for i in xrange(100000)])
+
+    def test_adler32_start(self):
+        self.assertEqual(zlib.adler32('thon', zlib.adler32('jy')),
+                         zlib.adler32('jython'))
+
+    def test_max_length(self):
+        co = zlib.compressobj(zlib.Z_BEST_COMPRESSION, zlib.DEFLATED, -zlib.MAX_WBITS)
+        compressed = ''.join([co.compress(self.data[i:i + 1000])
+                              for i in xrange(0, len(self.data), 1000)]) + co.flush()
+        dco = zlib.decompressobj(-zlib.MAX_WBITS)
+        chunks = []
+        while compressed:
+            chunk = dco.decompress(compressed, 4096)
+            self.assert_(len(chunk) <= 4096)
+            chunks.append(chunk)
+            compressed = dco.unconsumed_tail
+        chunks.append(dco.flush())
+        self.assertEqual(''.join(chunks), self.data)
+
+    def test_flush_length(self):
+        # The flush length is a buffer size hint, all pending output is returned
+        dco = zlib.decompressobj()
+        chunk = dco.decompress(zlib.compress(self.data), 16)
+        self.assertEqual(len(chunk), 16)
+        self.assertEqual(chunk + dco.flush(16), self.data)
+        self.assertEqual(dco.unconsumed_tail, '')
+
+    def test_unused_data(self):
+        dco = zlib.decompressobj()
+        self.assertEqual(dco.decompress(zlib.compress(self.data) + 'trailer'), self.data)
+        self.assertEqual(dco.unused_data, 'trailer')
+        self.assertEqual(dco.unconsumed_tail, '')
+
+    def test_flush_modes(self):
+        co = zlib.compressobj()
+        compressed = co.compress(self.data) + co.flush(zlib.Z_SYNC_FLUSH)
+        compressed += co.flush(zlib.Z_FINISH)
+        self.assertEqual(zlib.decompress(compressed), self.data)
+        self.assertRaises(zlib.error, co.compress, 'more')
+        self.assertRaises(ValueError, zlib.compressobj().flush, 42)
+
+    def test_reuse(self):
+        # Deflaters and Inflaters are reset and reused between calls
+        for level in range(zlib.Z_BEST_COMPRESSION + 1):
+            compressed = zlib.compress(self.data, level)
+            self.assertEqual(zlib.decompress(compressed), self.data)
+        self.assertRaises(zlib.error, zlib.compress, 'jython', 10)
+        self.assertRaises(zlib.error, zlib.decompress, 'not compressed')
+        self.assertEqual(zlib.decompress(zlib.compress('jython')), 'jython')
+
+
+def test_main():
+    test_support.run_unittest(ArrayTestCase, StreamingTestCase)
+
+
+if __name__ == '__main__':
+    test_main()
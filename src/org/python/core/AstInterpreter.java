@@ -0,0 +1,701 @@
+/* Copyright (c) Jython Developers */
+package org.python.core;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.python.antlr.PythonTree;
+import org.python.antlr.Visitor;
+import org.python.antlr.ast.Assert;
+import org.python.antlr.ast.Assign;
+import org.python.antlr.ast.Attribute;
+import org.python.antlr.ast.AugAssign;
+import org.python.antlr.ast.BinOp;
+import org.python.antlr.ast.BoolOp;
+import org.python.antlr.ast.Call;
+import org.python.antlr.ast.Compare;
+import org.python.antlr.ast.Delete;
+import org.python.antlr.ast.Dict;
+import org.python.antlr.ast.Ellipsis;
+import org.python.antlr.ast.Exec;
+import org.python.antlr.ast.Expr;
+import org.python.antlr.ast.Expression;
+import org.python.antlr.ast.ExtSlice;
+import org.python.antlr.ast.If;
+import org.python.antlr.ast.IfExp;
+import org.python.antlr.ast.Import;
+import org.python.antlr.ast.ImportFrom;
+import org.python.antlr.ast.Index;
+import org.python.antlr.ast.Interactive;
+import org.python.antlr.ast.List;
+import org.python.antlr.ast.Module;
+import org.python.antlr.ast.Name;
+import org.python.antlr.ast.Num;
+import org.python.antlr.ast.Pass;
+import org.python.antlr.ast.Print;
+import org.python.antlr.ast.Raise;
+import org.python.antlr.ast.Repr;
+import org.python.antlr.ast.Slice;
+import org.python.antlr.ast.Str;
+import org.python.antlr.ast.Subscript;
+import org.python.antlr.ast.Tuple;
+import org.python.antlr.ast.UnaryOp;
+import org.python.antlr.ast.alias;
+import org.python.antlr.ast.boolopType;
+import org.python.antlr.ast.cmpopType;
+import org.python.antlr.ast.keyword;
+import org.python.antlr.ast.operatorType;
+import org.python.antlr.base.expr;
+import org.python.antlr.base.mod;
+import org.python.antlr.base.slice;
+import org.python.antlr.base.stmt;
+
+/**
+ * Runs module level code by walking its tree, doing what the code
+ * {@link org.python.compiler.CodeCompiler} generates for it would do. Only straight-line code
+ * is handled, see {@link #canInterpret}: there are no loops, so a walk over the tree never
+ * takes long enough for bytecode to pay off, and no nested scopes or exception handlers,
+ * which need the compiler's analysis.
+ *
+ * Identifiers from the tree are interned before use, as the constants of compiled code are,
+ * since attribute lookups compare names with ==.
+ */
+class AstInterpreter extends Visitor {
+
+    /** The nodes of the trees that can be interpreted */
+    private static final Set<Class<?>> INTERPRETED = classes(
+            Module.class, Interactive.class, Expression.class, Expr.class, Assign.class,
+            AugAssign.class, Delete.class, Print.class, Pass.class, If.class, Import.class,
+            ImportFrom.class, Raise.class, Assert.class, Exec.class, BoolOp.class,
+            BinOp.class, UnaryOp.class, IfExp.class, Compare.class, Call.class, Repr.class,
+            Num.class, Str.class, Attribute.class, Subscript.class, Name.class, List.class,
+            Tuple.class, Dict.class, Index.class, Slice.class, ExtSlice.class, Ellipsis.class);
+
+    /**
+     * Return a set of classes. (A {@code Class<?>...} parameter, unlike Arrays.asList, makes
+     * an array of a reifiable type, so there's no unchecked warning.)
+     */
+    private static Set<Class<?>> classes(Class<?>... classes) {
+        Set<Class<?>> set = new HashSet<Class<?>>();
+        for (Class<?> c : classes) {
+            set.add(c);
+        }
+        return set;
+    }
+
+    private final PyFrame frame;
+
+    private final ThreadState ts;
+
+    private final boolean printResults;
+
+    private final boolean trueDivision;
+
+    private final int importLevel;
+
+    AstInterpreter(PyFrame frame, ThreadState ts, boolean printResults, CompilerFlags cflags) {
+        this.frame = frame;
+        this.ts = ts;
+        this.printResults = printResults;
+        trueDivision = cflags.isFlagSet(CodeFlag.CO_FUTURE_DIVISION);
+        importLevel = cflags.isFlagSet(CodeFlag.CO_FUTURE_ABSOLUTE_IMPORT)
+                || imp.DEFAULT_LEVEL == 0 ? 0 : -1;
+    }
+
+    /**
+     * Return whether node only holds code this interpreter handles.
+     */
+    static boolean canInterpret(mod node) {
+        Checker checker = new Checker();
+        try {
+            checker.visit(node);
+        } catch (Exception e) {
+            return false;
+        }
+        return checker.interpretable;
+    }
+
+    /**
+     * Run node in the frame, returning the value of an expression and None for statements.
+     */
+    PyObject interpret(mod node) {
+        try {
+            Object ret = visit(node);
+            return ret == null ? Py.None : (PyObject)ret;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw Py.JavaError(e);
+        }
+    }
+
+    private PyObject eval(expr node) throws Exception {
+        return (PyObject)visit(node);
+    }
+
+    private PyObject evalOrNull(expr node) throws Exception {
+        return node == null ? null : eval(node);
+    }
+
+    private PyObject[] eval(java.util.List<? extends PythonTree> nodes) throws Exception {
+        PyObject[] values = new PyObject[nodes.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (PyObject)visit(nodes.get(i));
+        }
+        return values;
+    }
+
+    private void suite(java.util.List<stmt> body) throws Exception {
+        for (stmt s : body) {
+            visit(s);
+        }
+    }
+
+    @Override
+    public Object visitModule(Module node) throws Exception {
+        java.util.List<stmt> body = node.getInternalBody();
+        if (body.size() > 0 && body.get(0) instanceof Expr
+                && ((Expr)body.get(0)).getInternalValue() instanceof Str) {
+            frame.setglobal("__doc__", eval(((Expr)body.get(0)).getInternalValue()));
+        }
+        suite(body);
+        return null;
+    }
+
+    @Override
+    public Object visitInteractive(Interactive node) throws Exception {
+        suite(node.getInternalBody());
+        return null;
+    }
+
+    @Override
+    public Object visitExpression(Expression node) throws Exception {
+        frame.setline(node.getLine());
+        return eval(node.getInternalBody());
+    }
+
+    @Override
+    public Object visitExpr(Expr node) throws Exception {
+        frame.setline(node.getLine());
+        PyObject value = eval(node.getInternalValue());
+        if (printResults) {
+            Py.printResult(value);
+        }
+        return null;
+    }
+
+    @Override
+    public Object visitAssign(Assign node) throws Exception {
+        frame.setline(node.getLine());
+        PyObject value = eval(node.getInternalValue());
+        for (expr target : node.getInternalTargets()) {
+            assign(target, value);
+        }
+        return null;
+    }
+
+    private void assign(expr target, PyObject value) throws Exception {
+        if (target instanceof Name) {
+            frame.setlocal(((Name)target).getInternalId().intern(), value);
+        } else if (target instanceof Attribute) {
+            Attribute attribute = (Attribute)target;
+            eval(attribute.getInternalValue()).__setattr__(attribute.getInternalAttr().intern(),
+                                                           value);
+        } else if (target instanceof Subscript) {
+            Subscript subscript = (Subscript)target;
+            PyObject obj = eval(subscript.getInternalValue());
+            if (subscript.getInternalSlice() instanceof Slice) {
+                Slice s = (Slice)subscript.getInternalSlice();
+                obj.__setslice__(evalOrNull(s.getInternalLower()),
+                                 evalOrNull(s.getInternalUpper()),
+                                 evalOrNull(s.getInternalStep()), value);
+            } else {
+                obj.__setitem__((PyObject)visit(subscript.getInternalSlice()), value);
+            }
+        } else {
+            java.util.List<expr> elts = target instanceof Tuple
+                    ? ((Tuple)target).getInternalElts() : ((List)target).getInternalElts();
+            PyObject[] values = Py.unpackSequence(value, elts.size());
+            for (int i = 0; i < values.length; i++) {
+                assign(elts.get(i), values[i]);
+            }
+        }
+    }
+
+    @Override
+    public Object visitDelete(Delete node) throws Exception {
+        frame.setline(node.getLine());
+        for (expr target : node.getInternalTargets()) {
+            delete(target);
+        }
+        return null;
+    }
+
+    private void delete(expr target) throws Exception {
+        if (target instanceof Name) {
+            frame.dellocal(((Name)target).getInternalId().intern());
+        } else if (target instanceof Attribute) {
+            Attribute attribute = (Attribute)target;
+            eval(attribute.getInternalValue()).__delattr__(attribute.getInternalAttr().intern());
+        } else if (target instanceof Subscript) {
+            Subscript subscript = (Subscript)target;
+            PyObject obj = eval(subscript.getInternalValue());
+            if (subscript.getInternalSlice() instanceof Slice) {
+                Slice s = (Slice)subscript.getInternalSlice();
+                obj.__delslice__(evalOrNull(s.getInternalLower()),
+                                 evalOrNull(s.getInternalUpper()),
+                                 evalOrNull(s.getInternalStep()));
+            } else {
+                obj.__delitem__((PyObject)visit(subscript.getInternalSlice()));
+            }
+        } else {
+            java.util.List<expr> elts = target instanceof Tuple
+                    ? ((Tuple)target).getInternalElts() : ((List)target).getInternalElts();
+            for (expr elt : elts) {
+                delete(elt);
+            }
+        }
+    }
+
+    @Override
+    public Object visitAugAssign(AugAssign node) throws Exception {
+        frame.setline(node.getLine());
+        operatorType op = node.getInternalOp();
+        expr target = node.getInternalTarget();
+        if (target instanceof Name) {
+            String name = ((Name)target).getInternalId().intern();
+            PyObject value = frame.getname(name);
+            frame.setlocal(name, inplace(op, value, eval(node.getInternalValue())));
+        } else if (target instanceof Attribute) {
+            Attribute attribute = (Attribute)target;
+            PyObject obj = eval(attribute.getInternalValue());
+            String name = attribute.getInternalAttr().intern();
+            PyObject value = obj.__getattr__(name);
+            obj.__setattr__(name, inplace(op, value, eval(node.getInternalValue())));
+        } else {
+            Subscript subscript = (Subscript)target;
+            PyObject obj = eval(subscript.getInternalValue());
+            if (subscript.getInternalSlice() instanceof Slice) {
+                Slice s = (Slice)subscript.getInternalSlice();
+                PyObject lower = evalOrNull(s.getInternalLower());
+                PyObject upper = evalOrNull(s.getInternalUpper());
+                PyObject step = evalOrNull(s.getInternalStep());
+                PyObject value = obj.__getslice__(lower, upper, step);
+                obj.__setslice__(lower, upper, step,
+                                 inplace(op, value, eval(node.getInternalValue())));
+            } else {
+                PyObject index = (PyObject)visit(subscript.getInternalSlice());
+                PyObject value = obj.__getitem__(index);
+                obj.__setitem__(index, inplace(op, value, eval(node.getInternalValue())));
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object visitPrint(Print node) throws Exception {
+        frame.setline(node.getLine());
+        PyObject dest = evalOrNull(node.getInternalDest());
+        java.util.List<expr> values = node.getInternalValues();
+        if (values == null || values.size() == 0) {
+            if (dest != null) {
+                Py.printlnv(dest);
+            } else {
+                Py.println();
+            }
+            return null;
+        }
+        for (int i = 0; i < values.size(); i++) {
+            PyObject value = eval(values.get(i));
+            boolean nl = node.getInternalNl() && i == values.size() - 1;
+            if (dest != null) {
+                if (nl) {
+                    Py.println(dest, value);
+                } else {
+                    Py.printComma(dest, value);
+                }
+            } else {
+                if (nl) {
+                    Py.println(value);
+                } else {
+                    Py.printComma(value);
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object visitPass(Pass node) throws Exception {
+        frame.setline(node.getLine());
+        return null;
+    }
+
+    @Override
+    public Object visitIf(If node) throws Exception {
+        frame.setline(node.getInternalTest().getLine());
+        if (eval(node.getInternalTest()).__nonzero__()) {
+            suite(node.getInternalBody());
+        } else if (node.getInternalOrelse() != null) {
+            suite(node.getInternalOrelse());
+        }
+        return null;
+    }
+
+    @Override
+    public Object visitImport(Import node) throws Exception {
+        frame.setline(node.getLine());
+        for (alias a : node.getInternalNames()) {
+            String name = a.getInternalName().intern();
+            if (a.getInternalAsname() != null) {
+                frame.setlocal(a.getInternalAsname().intern(),
+                               imp.importOneAs(name, frame, importLevel));
+            } else {
+                PyObject module = imp.importOne(name, frame, importLevel);
+                if (name.indexOf('.') > 0) {
+                    name = name.substring(0, name.indexOf('.')).intern();
+                }
+                frame.setlocal(name, module);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object visitImportFrom(ImportFrom node) throws Exception {
+        frame.setline(node.getLine());
+        String module = node.getInternalModule().intern();
+        java.util.List<alias> aliases = node.getInternalNames();
+        if (aliases.size() == 1 && aliases.get(0).getInternalName().equals("*")) {
+            imp.importAll(module, frame, importLevel);
+            return null;
+        }
+        String[] names = new String[aliases.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = aliases.get(i).getInternalName().intern();
+        }
+        int level = node.getInternalLevel();
+        PyObject[] values = imp.importFrom(module, names, frame, level == 0 ? importLevel : level);
+        for (int i = 0; i < names.length; i++) {
+            String asname = aliases.get(i).getInternalAsname();
+            frame.setlocal(asname == null ? names[i] : asname.intern(), values[i]);
+        }
+        return null;
+    }
+
+    @Override
+    public Object visitRaise(Raise node) throws Exception {
+        frame.setline(node.getLine());
+        if (node.getInternalType() == null) {
+            throw Py.makeException();
+        }
+        PyObject type = eval(node.getInternalType());
+        if (node.getInternalInst() == null) {
+            throw Py.makeException(type);
+        }
+        PyObject inst = eval(node.getInternalInst());
+        if (node.getInternalTback() == null) {
+            throw Py.makeException(type, inst);
+        }
+        throw Py.makeException(type, inst, eval(node.getInternalTback()));
+    }
+
+    @Override
+    public Object visitAssert(Assert node) throws Exception {
+        frame.setline(node.getLine());
+        if (frame.getglobal("__debug__").__nonzero__()
+                && !eval(node.getInternalTest()).__nonzero__()) {
+            PyObject msg = node.getInternalMsg() == null ? Py.None : eval(node.getInternalMsg());
+            throw Py.makeException(frame.getglobal("AssertionError"), msg);
+        }
+        return null;
+    }
+
+    @Override
+    public Object visitExec(Exec node) throws Exception {
+        frame.setline(node.getLine());
+        Py.exec(eval(node.getInternalBody()), evalOrNull(node.getInternalGlobals()),
+                evalOrNull(node.getInternalLocals()));
+        return null;
+    }
+
+    @Override
+    public Object visitBoolOp(BoolOp node) throws Exception {
+        java.util.List<expr> values = node.getInternalValues();
+        // Or stops at the first true value, And at the first false one
+        boolean stopAt = node.getInternalOp() == boolopType.Or;
+        PyObject value = eval(values.get(0));
+        for (int i = 1; i < values.size(); i++) {
+            if (value.__nonzero__() == stopAt) {
+                break;
+            }
+            value = eval(values.get(i));
+        }
+        return value;
+    }
+
+    @Override
+    public Object visitBinOp(BinOp node) throws Exception {
+        PyObject left = eval(node.getInternalLeft());
+        PyObject right = eval(node.getInternalRight());
+        switch (node.getInternalOp()) {
+            case Add:
+                return left._add(right);
+            case Sub:
+                return left._sub(right);
+            case Mult:
+                return left._mul(right);
+            case Div:
+                return trueDivision ? left._truediv(right) : left._div(right);
+            case Mod:
+                return left._mod(right);
+            case Pow:
+                return left._pow(right);
+            case LShift:
+                return left._lshift(right);
+            case RShift:
+                return left._rshift(right);
+            case BitOr:
+                return left._or(right);
+            case BitXor:
+                return left._xor(right);
+            case BitAnd:
+                return left._and(right);
+            case FloorDiv:
+                return left._floordiv(right);
+        }
+        throw Py.SystemError("unknown binary operator: " + node.getInternalOp());
+    }
+
+    private PyObject inplace(operatorType op, PyObject left, PyObject right) {
+        switch (op) {
+            case Add:
+                return left._iadd(right);
+            case Sub:
+                return left._isub(right);
+            case Mult:
+                return left._imul(right);
+            case Div:
+                return trueDivision ? left._itruediv(right) : left._idiv(right);
+            case Mod:
+                return left._imod(right);
+            case Pow:
+                return left._ipow(right);
+            case LShift:
+                return left._ilshift(right);
+            case RShift:
+                return left._irshift(right);
+            case BitOr:
+                return left._ior(right);
+            case BitXor:
+                return left._ixor(right);
+            case BitAnd:
+                return left._iand(right);
+            case FloorDiv:
+                return left._ifloordiv(right);
+        }
+        throw Py.SystemError("unknown augmented assignment operator: " + op);
+    }
+
+    @Override
+    public Object visitUnaryOp(UnaryOp node) throws Exception {
+        PyObject operand = eval(node.getInternalOperand());
+        switch (node.getInternalOp()) {
+            case Invert:
+                return operand.__invert__();
+            case Not:
+                return operand.__not__();
+            case UAdd:
+                return operand.__pos__();
+            case USub:
+                return operand.__neg__();
+        }
+        throw Py.SystemError("unknown unary operator: " + node.getInternalOp());
+    }
+
+    @Override
+    public Object visitIfExp(IfExp node) throws Exception {
+        if (eval(node.getInternalTest()).__nonzero__()) {
+            return eval(node.getInternalBody());
+        }
+        return eval(node.getInternalOrelse());
+    }
+
+    @Override
+    public Object visitCompare(Compare node) throws Exception {
+        PyObject left = eval(node.getInternalLeft());
+        java.util.List<cmpopType> ops = node.getInternalOps();
+        PyObject result = null;
+        for (int i = 0; i < ops.size(); i++) {
+            PyObject right = eval(node.getInternalComparators().get(i));
+            result = compare(ops.get(i), left, right);
+            if (i < ops.size() - 1 && !result.__nonzero__()) {
+                break;
+            }
+            left = right;
+        }
+        return result;
+    }
+
+    private PyObject compare(cmpopType op, PyObject left, PyObject right) {
+        switch (op) {
+            case Eq:
+                return left._eq(right);
+            case NotEq:
+                return left._ne(right);
+            case Lt:
+                return left._lt(right);
+            case LtE:
+                return left._le(right);
+            case Gt:
+                return left._gt(right);
+            case GtE:
+                return left._ge(right);
+            case Is:
+                return left._is(right);
+            case IsNot:
+                return left._isnot(right);
+            case In:
+                return left._in(right);
+            case NotIn:
+                return left._notin(right);
+        }
+        throw Py.SystemError("unknown comparison operator: " + op);
+    }
+
+    @Override
+    public Object visitCall(Call node) throws Exception {
+        PyObject func = eval(node.getInternalFunc());
+        java.util.List<expr> args = node.getInternalArgs();
+        java.util.List<keyword> keywords = node.getInternalKeywords();
+        PyObject[] values = new PyObject[args.size() + keywords.size()];
+        String[] keys = new String[keywords.size()];
+        for (int i = 0; i < args.size(); i++) {
+            values[i] = eval(args.get(i));
+        }
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keywords.get(i).getInternalArg().intern();
+            values[args.size() + i] = eval(keywords.get(i).getInternalValue());
+        }
+        if (node.getInternalStarargs() != null || node.getInternalKwargs() != null) {
+            PyObject starargs = evalOrNull(node.getInternalStarargs());
+            PyObject kwargs = evalOrNull(node.getInternalKwargs());
+            return func._callextra(values, keys, starargs, kwargs);
+        }
+        return func.__call__(ts, values, keys);
+    }
+
+    @Override
+    public Object visitRepr(Repr node) throws Exception {
+        return eval(node.getInternalValue()).__repr__();
+    }
+
+    @Override
+    public Object visitNum(Num node) throws Exception {
+        return node.getInternalN();
+    }
+
+    @Override
+    public Object visitStr(Str node) throws Exception {
+        return node.getInternalS();
+    }
+
+    @Override
+    public Object visitAttribute(Attribute node) throws Exception {
+        return eval(node.getInternalValue()).__getattr__(node.getInternalAttr().intern());
+    }
+
+    @Override
+    public Object visitSubscript(Subscript node) throws Exception {
+        PyObject obj = eval(node.getInternalValue());
+        if (node.getInternalSlice() instanceof Slice) {
+            Slice s = (Slice)node.getInternalSlice();
+            return obj.__getslice__(evalOrNull(s.getInternalLower()),
+                                    evalOrNull(s.getInternalUpper()),
+                                    evalOrNull(s.getInternalStep()));
+        }
+        return obj.__getitem__((PyObject)visit(node.getInternalSlice()));
+    }
+
+    @Override
+    public Object visitIndex(Index node) throws Exception {
+        return eval(node.getInternalValue());
+    }
+
+    @Override
+    public Object visitSlice(Slice node) throws Exception {
+        return new PySlice(sliceBound(node.getInternalLower()),
+                           sliceBound(node.getInternalUpper()),
+                           sliceBound(node.getInternalStep()));
+    }
+
+    private PyObject sliceBound(expr node) throws Exception {
+        return node == null ? Py.None : eval(node);
+    }
+
+    @Override
+    public Object visitExtSlice(ExtSlice node) throws Exception {
+        java.util.List<slice> dims = node.getInternalDims();
+        return new PyTuple(eval(dims));
+    }
+
+    @Override
+    public Object visitEllipsis(Ellipsis node) throws Exception {
+        return Py.Ellipsis;
+    }
+
+    @Override
+    public Object visitName(Name node) throws Exception {
+        return frame.getname(node.getInternalId().intern());
+    }
+
+    @Override
+    public Object visitList(List node) throws Exception {
+        return new PyList(eval(node.getInternalElts()));
+    }
+
+    @Override
+    public Object visitTuple(Tuple node) throws Exception {
+        return new PyTuple(eval(node.getInternalElts()));
+    }
+
+    @Override
+    public Object visitDict(Dict node) throws Exception {
+        java.util.List<expr> keys = node.getInternalKeys();
+        java.util.List<expr> values = node.getInternalValues();
+        PyObject[] elts = new PyObject[keys.size() * 2];
+        for (int i = 0; i < keys.size(); i++) {
+            elts[i * 2] = eval(keys.get(i));
+            elts[i * 2 + 1] = eval(values.get(i));
+        }
+        return new PyDictionary(elts);
+    }
+
+    /**
+     * Finds nodes the interpreter doesn't handle, and the forms of those it does that the
+     * compiler rejects or treats specially.
+     */
+    private static class Checker extends Visitor {
+
+        boolean interpretable = true;
+
+        @Override
+        public Object visitImportFrom(ImportFrom node) throws Exception {
+            if (node.getInternalModule().equals("__future__")
+                    || node.getInternalNames().get(0).getInternalName().equals("*")
+                            && node.getInternalLevel() > 0) {
+                interpretable = false;
+            }
+            traverse(node);
+            return null;
+        }
+
+        @Override
+        protected Object unhandled_node(PythonTree node) throws Exception {
+            if (!INTERPRETED.contains(node.getClass())) {
+                interpretable = false;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/* Copyright (c) Jython Developers */
+package org.python.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, least recently used cache of the code compiled from strings by compile(), exec,
+ * eval and PythonInterpreter.exec, so that running the same source again doesn't parse it,
+ * generate a class and define it anew. The code is keyed on the source text, filename, mode
+ * and compiler flags; code objects are immutable, so the one compiled first serves them
+ * all. Code dropped from the cache is unloaded with its class once it's otherwise
+ * unreachable.
+ *
+ * The cache holds up to {@link Options#compiledCodeCacheSize} entries (0 disables it).
+ * Sources longer than {@link #MAX_SOURCE_LENGTH} aren't cached, as they're seldom run twice
+ * and would take up a lot of memory for as long as they're kept.
+ */
+public class CompiledCodeCache {
+
+    /** The longest source (in chars) cached */
+    public static final int MAX_SOURCE_LENGTH = 1 << 16;
+
+    private static final Map<Key, Entry> cache = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > Options.compiledCodeCacheSize;
+        }
+    };
+
+    private static long hits;
+
+    private static long misses;
+
+    private CompiledCodeCache() {}
+
+    /**
+     * Return the key to look up and {@link #put} the code compiled from data under, taken
+     * before compiling changes cflags, or null if it's not to be cached.
+     */
+    static Key key(String data, String filename, CompileMode kind, CompilerFlags cflags) {
+        if (Options.compiledCodeCacheSize <= 0 || data.length() > MAX_SOURCE_LENGTH) {
+            return null;
+        }
+        return new Key(data, filename, kind, cflags);
+    }
+
+    /**
+     * Return the code cached under key, or null if there's none. On a hit, cflags is updated
+     * as compiling the code would have done.
+     */
+    static PyCode get(Key key, CompilerFlags cflags) {
+        if (key == null) {
+            return null;
+        }
+        Entry entry;
+        synchronized (cache) {
+            entry = cache.get(key);
+            if (entry == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+        }
+        if (cflags != null) {
+            for (CodeFlag flag : CodeFlag.parse(entry.flags)) {
+                cflags.setFlag(flag);
+            }
+            cflags.encoding = entry.encoding;
+            cflags.source_is_utf8 = entry.sourceIsUtf8;
+        }
+        return entry.code;
+    }
+
+    /**
+     * Cache code under key, with cflags as compiling it left them.
+     */
+    static void put(Key key, CompilerFlags cflags, PyCode code) {
+        if (key == null) {
+            return;
+        }
+        Entry entry = new Entry(code, cflags);
+        synchronized (cache) {
+            cache.put(key, entry);
+        }
+    }
+
+    /**
+     * Empty the cache, for instance because the compiler changed.
+     */
+    public static void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * The number of lookups that found code in the cache.
+     */
+    public static long getHits() {
+        synchronized (cache) {
+            return hits;
+        }
+    }
+
+    /**
+     * The number of lookups that didn't find code in the cache.
+     */
+    public static long getMisses() {
+        synchronized (cache) {
+            return misses;
+        }
+    }
+
+    /**
+     * The number of code objects cached.
+     */
+    public static int getSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Reset the hit and miss counts.
+     */
+    public static void resetStatistics() {
+        synchronized (cache) {
+            hits = misses = 0;
+        }
+    }
+
+    static final class Key {
+
+        private final String data;
+
+        private final String filename;
+
+        private final CompileMode kind;
+
+        /** The compiler flags' bits, or -1 for none */
+        private final int flags;
+
+        private final String encoding;
+
+        private final int hash;
+
+        Key(String data, String filename, CompileMode kind, CompilerFlags cflags) {
+            this.data = data;
+            this.filename = filename;
+            this.kind = kind;
+            flags = cflags == null ? -1 : cflags.toBits();
+            encoding = cflags == null ? null : cflags.encoding;
+            int h = data.hashCode();
+            h = h * 31 + (filename == null ? 0 : filename.hashCode());
+            h = h * 31 + kind.ordinal();
+            h = h * 31 + flags;
+            hash = h * 31 + (encoding == null ? 0 : encoding.hashCode());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key)obj;
+            return hash == other.hash && kind == other.kind && flags == other.flags
+                    && equal(filename, other.filename) && equal(encoding, other.encoding)
+                    && data.equals(other.data);
+        }
+
+        private static boolean equal(String a, String b) {
+            return a == null ? b == null : a.equals(b);
+        }
+    }
+
+    private static final class Entry {
+
+        final PyCode code;
+
+        /** The compiler flags as compiling left them, with any __future__ features set */
+        final int flags;
+
+        final String encoding;
+
+        final boolean sourceIsUtf8;
+
+        Entry(PyCode code, CompilerFlags cflags) {
+            this.code = code;
+            flags = cflags == null ? 0 : cflags.toBits();
+            encoding = cflags == null ? null : cflags.encoding;
+            sourceIsUtf8 = cflags != null && cflags.source_is_utf8;
+        }
+    }
+}
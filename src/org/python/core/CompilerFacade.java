@@ -19,14 +19,31 @@ public class CompilerFacade {
 
     public static void setCompiler(PythonCompiler compiler) {
         CompilerFacade.compiler = compiler;
+        CompiledCodeCache.clear();
     }
 
     private static PythonCompiler loadDefaultCompiler() {
         return new LegacyCompiler();
     }
 
+    /**
+     * Compile node, or, if it's module level code that's cheaper to interpret the first few
+     * times it runs, return code that only compiles it once it's run more often, see
+     * {@link TieredFunctionTable}.
+     */
     public static PyCode compile(mod node, String name, String filename,
             boolean linenumbers, boolean printResults, CompilerFlags cflags) {
+        if (linenumbers) {
+            PyCode code = TieredFunctionTable.newCode(node, name, filename, printResults, cflags);
+            if (code != null) {
+                return code;
+            }
+        }
+        return compileNow(node, name, filename, linenumbers, printResults, cflags);
+    }
+
+    static PyCode compileNow(mod node, String name, String filename,
+            boolean linenumbers, boolean printResults, CompilerFlags cflags) {
         try {
             PythonCodeBundle bundle = compiler.compile(node, name, filename,
                     linenumbers, printResults, cflags);
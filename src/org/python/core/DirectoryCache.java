@@ -0,0 +1,119 @@
+/* Copyright (c) Jython Developers */
+package org.python.core;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.python.core.util.PlatformUtil;
+
+/**
+ * Caches the names in the directories searched for modules and classes, so that looking for
+ * a name a directory doesn't have costs a single stat of the directory rather than one of
+ * each candidate file. A listing is reused while the directory's modification time is
+ * unchanged.
+ *
+ * A directory changed within {@link #RACY_MILLIS} of being listed may change again without
+ * its modification time moving on, so such listings are always taken afresh.
+ * {@link #invalidate} drops every listing, for files created in ways that don't update
+ * their directory's modification time.
+ */
+public class DirectoryCache {
+
+    /** The modification time granularity of the coarsest filesystems in common use */
+    private static final long RACY_MILLIS = 2000;
+
+    private static final ConcurrentHashMap<String, Listing> listings =
+            new ConcurrentHashMap<String, Listing>();
+
+    /**
+     * Return the listing of dir, which may be empty (if it's not a directory).
+     */
+    public static Listing list(File dir) {
+        if (Options.caseok && PlatformUtil.isCaseInsensitive()) {
+            // Names match in any case, so each has to be asked of the filesystem
+            return new Listing(dir, 0, null, false);
+        }
+        String key = dir.getPath();
+        long mtime = dir.lastModified();
+        Listing listing = listings.get(key);
+        if (listing != null && listing.mtime == mtime && !listing.racy) {
+            return listing;
+        }
+        String[] names;
+        try {
+            names = dir.list();
+        } catch (SecurityException e) {
+            names = null;
+        }
+        Set<String> nameSet;
+        if (names == null) {
+            nameSet = Collections.emptySet();
+        } else {
+            nameSet = new HashSet<String>(names.length * 2);
+            Collections.addAll(nameSet, names);
+        }
+        boolean racy = mtime != 0 && System.currentTimeMillis() - mtime < RACY_MILLIS;
+        listing = new Listing(dir, mtime, nameSet, racy);
+        listings.put(key, listing);
+        return listing;
+    }
+
+    /**
+     * Forget all directory listings.
+     */
+    public static void invalidate() {
+        listings.clear();
+    }
+
+    /**
+     * The names in a directory at some moment.
+     */
+    public static class Listing {
+
+        private final File dir;
+
+        private final long mtime;
+
+        /** The names, or null if each has to be checked with the filesystem */
+        private final Set<String> names;
+
+        private final boolean racy;
+
+        Listing(File dir, long mtime, Set<String> names, boolean racy) {
+            this.dir = dir;
+            this.mtime = mtime;
+            this.names = names;
+            this.racy = racy;
+        }
+
+        /**
+         * Return whether the directory has an entry spelt exactly name (or in any case when
+         * the caseok option is set on a case insensitive filesystem).
+         */
+        public boolean contains(String name) {
+            if (names == null) {
+                return new File(dir, name).exists();
+            }
+            return names.contains(name);
+        }
+
+        public boolean isFile(String name) {
+            try {
+                return contains(name) && new File(dir, name).isFile();
+            } catch (SecurityException e) {
+                return false;
+            }
+        }
+
+        public boolean isDirectory(String name) {
+            try {
+                return contains(name) && new File(dir, name).isDirectory();
+            } catch (SecurityException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -25,6 +25,9 @@ public class FunctionThread extends Thread
             }
             Py.stderr.println("Unhandled exception in thread started by " + func);
             Py.printException(exc);
+        } finally {
+            // Release this thread's thread._local values now rather than with the thread
+            Py.getThreadState().clearLocals();
         }
     }
 
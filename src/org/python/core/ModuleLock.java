@@ -0,0 +1,186 @@
+/* Copyright (c) Jython Developers */
+package org.python.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A reentrant lock held while a module is imported, so that threads importing different
+ * modules don't wait for each other, after CPython 3.3's _ModuleLock.
+ *
+ * A thread about to wait for a lock first follows the chain of threads waiting on locks
+ * held by others, starting from the lock's owner. If the chain leads back to itself, as
+ * when two threads import modules that import each other, waiting would deadlock, and
+ * {@link #acquire} fails instead.
+ *
+ * Locks are made and dropped under a lock of their own, not {@link imp#importLock}: a thread
+ * holding that (with imp.acquire_lock) may be waiting for a module another thread is importing.
+ * Threads only wait for the holder of importLock before they start an import, see
+ * {@link #waitForImportLock}.
+ */
+final class ModuleLock {
+
+    /** The locks of the modules being imported, by name */
+    private static final Map<String, ModuleLock> locks =
+            new ConcurrentHashMap<String, ModuleLock>();
+
+    /** The lock each waiting thread waits for */
+    private static final Map<Thread, ModuleLock> blockingOn =
+            new ConcurrentHashMap<Thread, ModuleLock>();
+
+    /** Guards the making and dropping of locks */
+    private static final Object tableLock = new Object();
+
+    /** The number of times each thread holds module locks */
+    private static final ThreadLocal<int[]> held = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[1];
+        }
+    };
+
+    private final String name;
+
+    private volatile Thread owner;
+
+    private int count;
+
+    private int waiters;
+
+    /** The number of threads that got this lock and haven't yet called {@link #done} */
+    private int users;
+
+    private ModuleLock(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Return the lock for the named module, which the caller must pass to {@link #done}
+     * when it's finished with it.
+     */
+    static ModuleLock get(String name) {
+        synchronized (tableLock) {
+            ModuleLock lock = locks.get(name);
+            if (lock == null) {
+                lock = new ModuleLock(name);
+                locks.put(name, lock);
+            }
+            lock.users++;
+            return lock;
+        }
+    }
+
+    /**
+     * Wait while another thread holds {@link imp#importLock}, unless this thread is in the
+     * middle of an import: it may hold the lock of a module the other thread waits for.
+     */
+    static void waitForImportLock() {
+        if (held.get()[0] == 0 && imp.importLock.isLocked()
+                && !imp.importLock.isHeldByCurrentThread()) {
+            imp.importLock.lock();
+            imp.importLock.unlock();
+        }
+    }
+
+    /**
+     * Wait for any import of the named module by another thread to finish, unless that
+     * would deadlock, in which case the module is left partially initialized.
+     */
+    static void waitForImport(String name) {
+        if (!locks.containsKey(name)) {
+            return;
+        }
+        ModuleLock lock = get(name);
+        try {
+            if (lock.acquire()) {
+                lock.release();
+            }
+        } finally {
+            lock.done();
+        }
+    }
+
+    void done() {
+        synchronized (tableLock) {
+            if (--users == 0) {
+                locks.remove(name);
+            }
+        }
+    }
+
+    /**
+     * Acquire this lock, waiting for its owner to release it.
+     *
+     * @return false, without acquiring it, if waiting would deadlock
+     */
+    synchronized boolean acquire() {
+        Thread me = Thread.currentThread();
+        boolean interrupted = false;
+        blockingOn.put(me, this);
+        try {
+            while (true) {
+                if (count == 0 || owner == me) {
+                    owner = me;
+                    count++;
+                    held.get()[0]++;
+                    return true;
+                }
+                if (hasDeadlock(me)) {
+                    return false;
+                }
+                waiters++;
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    // Imports aren't interruptible; pass the interrupt on afterwards
+                    interrupted = true;
+                } finally {
+                    waiters--;
+                }
+            }
+        } finally {
+            blockingOn.remove(me);
+            if (interrupted) {
+                me.interrupt();
+            }
+        }
+    }
+
+    synchronized void release() {
+        if (owner != Thread.currentThread()) {
+            throw Py.RuntimeError("cannot release un-acquired lock");
+        }
+        held.get()[0]--;
+        if (--count == 0) {
+            owner = null;
+            if (waiters > 0) {
+                notify();
+            }
+        }
+    }
+
+    /**
+     * Return whether the owner of this lock waits, directly or through other threads, for
+     * a lock held by me.
+     */
+    private boolean hasDeadlock(Thread me) {
+        Thread thread = owner;
+        // A cycle that doesn't include me is for its own threads to detect
+        for (int i = blockingOn.size(); thread != null && i >= 0; i--) {
+            ModuleLock lock = blockingOn.get(thread);
+            if (lock == null) {
+                return false;
+            }
+            thread = lock.owner;
+            if (thread == me) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "_ModuleLock('" + name + "')";
+    }
+}
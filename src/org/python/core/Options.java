@@ -86,6 +86,21 @@ public class Options {
      */
     public static int divisionWarning = 0;
 
+    /**
+     * The number of code objects compiled from strings by compile(), exec, eval and
+     * PythonInterpreter.exec that are kept for reuse, see {@link CompiledCodeCache}. 0
+     * disables the cache.
+     */
+    public static int compiledCodeCacheSize = 256;
+
+    /**
+     * The number of times module level code compiled at runtime (by compile(), exec, eval,
+     * execfile and PythonInterpreter) is interpreted before it's compiled to Java bytecode.
+     * Only straight-line code is interpreted, code with loops, functions, classes or
+     * exception handlers is compiled straight away. 0 compiles all code straight away.
+     */
+    public static int compileThreshold = 2;
+
     //
     // ####### END OF OPTIONS
     //
@@ -155,6 +170,25 @@ public class Options {
 
         Options.Qnew = getBooleanOption("options.Qnew", Options.Qnew);
 
+        prop = PySystemState.registry.getProperty("python.options.compiledCodeCacheSize");
+        if (prop != null) {
+            try {
+                Options.compiledCodeCacheSize = Integer.parseInt(prop.trim());
+            } catch (NumberFormatException nfe) {
+                throw Py.ValueError("Illegal compiledCodeCacheSize option setting: '" + prop
+                        + "'");
+            }
+        }
+
+        prop = PySystemState.registry.getProperty("python.options.compileThreshold");
+        if (prop != null) {
+            try {
+                Options.compileThreshold = Integer.parseInt(prop.trim());
+            } catch (NumberFormatException nfe) {
+                throw Py.ValueError("Illegal compileThreshold option setting: '" + prop + "'");
+            }
+        }
+
         prop = PySystemState.registry.getProperty("python.divisionWarning");
         if (prop != null) {
             if (prop.equalsIgnoreCase("old")) {
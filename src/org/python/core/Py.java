@@ -1723,19 +1723,28 @@ public final class Py {
      *
      * If the String is properly decoded (from PyUnicode) the PyCF_SOURCE_IS_UTF8 flag
      * should be specified.
+     *
+     * The code may come from the {@link CompiledCodeCache}.
      */
     public static PyCode compile_flags(String data, String filename,
                                          CompileMode kind, CompilerFlags cflags) {
         if (data.contains("\0")) {
             throw Py.TypeError("compile() expected string without null bytes");
         }
+        CompiledCodeCache.Key key = CompiledCodeCache.key(data, filename, kind, cflags);
+        PyCode code = CompiledCodeCache.get(key, cflags);
+        if (code != null) {
+            return code;
+        }
         if (cflags != null && cflags.dont_imply_dedent) {
             data += "\n";
         } else {
             data += "\n\n";
         }
         mod node = ParserFacade.parse(data, kind, filename, cflags);
-        return Py.compile_flags(node, filename, kind, cflags);
+        code = Py.compile_flags(node, filename, kind, cflags);
+        CompiledCodeCache.put(key, cflags, code);
+        return code;
     }
 
     public static PyObject compile_command_flags(String string, String filename,
@@ -1968,7 +1977,12 @@ public final class Py {
         // __len__, with one exception being generators, so avoid the overhead of an
         // exception from __len__ in their case
         int n = 10;
-        if (!(iterable instanceof PyGenerator)) {
+        if (iterable instanceof PyIterator) {
+            int hint = ((PyIterator) iterable).__length_hint__();
+            if (hint >= 0) {
+                n = hint;
+            }
+        } else if (!(iterable instanceof PyGenerator)) {
             try {
                 n = iterable.__len__();
             } catch (PyException pye) {
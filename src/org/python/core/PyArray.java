@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 
 import org.python.core.util.ByteSwapper;
 import org.python.core.util.StringUtil;
@@ -997,7 +998,11 @@ public class PyArray extends PySequence implements Cloneable {
         if((strlen % itemsize) != 0) {
             throw Py.ValueError("string length not a multiple of item size");
         }
-        ByteArrayInputStream bis = new ByteArrayInputStream(StringUtil.toBytes(input));
+        byte[] bytes = StringUtil.toBytes(input);
+        if (fromBytesBulk(bytes)) {
+            return;
+        }
+        ByteArrayInputStream bis = new ByteArrayInputStream(bytes);
         int origsize = delegate.getSize();
         try {
             fromStream(bis);
@@ -1049,6 +1054,17 @@ public class PyArray extends PySequence implements Cloneable {
         return delegate.copyArray();
     }
 
+    /**
+     * Return the internal Java array storage of the PyArray instance without copying it.
+     * Only the first <code>__len__()</code> elements are in use, and the storage is
+     * replaced whenever the array grows.
+     *
+     * @return the <code>Array</code> store.
+     */
+    public Object getArrayStorage() throws PyIgnoreMethodTag {
+        return data;
+    }
+
     /**
      * Getter for the storage size of the array's type.
      * <p />
@@ -1691,6 +1707,109 @@ public class PyArray extends PySequence implements Cloneable {
         return dos.size();
     }
 
+    /**
+     * Convert the machine values of arrays whose storage holds them as they are
+     * written (big-endian, as toStream does) in bulk, rather than one at a time
+     * through a DataOutputStream.
+     *
+     * @return the bytes, or null if the array has another typecode
+     */
+    private byte[] toBytesBulk() {
+        if (!type.isPrimitive()) {
+            return null;
+        }
+        int size = delegate.getSize();
+        byte[] bytes;
+        switch (typecode.charAt(0)) {
+            case 'b':
+                bytes = new byte[size];
+                System.arraycopy(data, 0, bytes, 0, size);
+                return bytes;
+            case 'c':
+                char[] chars = (char[])data;
+                bytes = new byte[size];
+                for (int i = 0; i < size; i++) {
+                    bytes[i] = (byte)chars[i];
+                }
+                return bytes;
+            case 'h':
+                bytes = new byte[size * 2];
+                ByteBuffer.wrap(bytes).asShortBuffer().put((short[])data, 0, size);
+                return bytes;
+            case 'i':
+                bytes = new byte[size * 4];
+                ByteBuffer.wrap(bytes).asIntBuffer().put((int[])data, 0, size);
+                return bytes;
+            case 'l':
+            case 'L':
+                bytes = new byte[size * 8];
+                ByteBuffer.wrap(bytes).asLongBuffer().put((long[])data, 0, size);
+                return bytes;
+            case 'f':
+                bytes = new byte[size * 4];
+                ByteBuffer.wrap(bytes).asFloatBuffer().put((float[])data, 0, size);
+                return bytes;
+            case 'd':
+                bytes = new byte[size * 8];
+                ByteBuffer.wrap(bytes).asDoubleBuffer().put((double[])data, 0, size);
+                return bytes;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * The counterpart of toBytesBulk, appending the machine values in bytes to the
+     * array.
+     *
+     * @return false if the array has a typecode that has to go through fromStream
+     */
+    private boolean fromBytesBulk(byte[] bytes) {
+        if (!type.isPrimitive()) {
+            return false;
+        }
+        char code = typecode.charAt(0);
+        switch (code) {
+            case 'b': case 'c': case 'h': case 'i': case 'l': case 'L': case 'f': case 'd':
+                break;
+            default:
+                return false;
+        }
+        int origsize = delegate.getSize();
+        int count = bytes.length / getStorageSize();
+        delegate.ensureCapacity(origsize + count);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        switch (code) {
+            case 'b':
+                System.arraycopy(bytes, 0, data, origsize, count);
+                break;
+            case 'c':
+                char[] chars = (char[])data;
+                for (int i = 0; i < count; i++) {
+                    chars[origsize + i] = (char)(bytes[i] & 0xff);
+                }
+                break;
+            case 'h':
+                buffer.asShortBuffer().get((short[])data, origsize, count);
+                break;
+            case 'i':
+                buffer.asIntBuffer().get((int[])data, origsize, count);
+                break;
+            case 'l':
+            case 'L':
+                buffer.asLongBuffer().get((long[])data, origsize, count);
+                break;
+            case 'f':
+                buffer.asFloatBuffer().get((float[])data, origsize, count);
+                break;
+            case 'd':
+                buffer.asDoubleBuffer().get((double[])data, origsize, count);
+                break;
+        }
+        delegate.size += count;
+        return true;
+    }
+
     private static byte signedByte(short x) {
         if (x >= 128 && x < 256) {
             return (byte)(x - 256);
@@ -1766,6 +1885,10 @@ public class PyArray extends PySequence implements Cloneable {
      * file by the {@link #tofile(PyObject) tofile()} method.)
      */
     public String tostring() {
+        byte[] bytes = toBytesBulk();
+        if (bytes != null) {
+            return StringUtil.fromBytes(bytes);
+        }
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
         try {
             toStream(bos);
@@ -83,6 +83,9 @@ public abstract class PyBaseCode extends PyCode {
             // Rethrow the exception to the next stack frame
             ts.exception = previous_exception;
             ts.frame = ts.frame.f_back;
+            if (ts.frame == null) {
+                ts.releaseLocals();
+            }
             throw pye;
         }
 
@@ -98,6 +101,9 @@ public abstract class PyBaseCode extends PyCode {
         ts.exception = previous_exception;
 
         ts.frame = ts.frame.f_back;
+        if (ts.frame == null) {
+            ts.releaseLocals();
+        }
 
         // Check for interruption, which is used for restarting the interpreter
         // on Jython
@@ -26,6 +26,19 @@ public class PyFastSequenceIter extends PyIterator {
         return super.next();
     }
 
+    @Override
+    public int __length_hint__() {
+        return fastsequenceiterator___length_hint__();
+    }
+
+    @ExposedMethod(doc = "Private method returning an estimate of len(list(it)).")
+    final int fastsequenceiterator___length_hint__() {
+        if (seq == null) {
+            return 0;
+        }
+        return Math.max(0, seq.__len__() - index);
+    }
+
     @Override
     public PyObject __iternext__() {
         if (seq == null) {
@@ -27,6 +27,14 @@ public abstract class PyIterator extends PyObject implements Iterable<Object> {
         return this;
     }
 
+    /**
+     * Return an estimate of the number of items left, or -1 if unknown. Used to size the
+     * results of list(), tuple() and the like up front.
+     */
+    public int __length_hint__() {
+        return -1;
+    }
+
     public static PyString __doc__next =
         new PyString("x.next() -> the next value, or raise StopIteration");
 
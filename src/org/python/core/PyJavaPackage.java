@@ -129,6 +129,12 @@ public class PyJavaPackage extends PyObject {
         PyObject ret = __dict__.__finditem__(name);
         if (ret != null) return ret;
 
+        String fullName = __name__.length() == 0 ? name : __name__ + '.' + name;
+        if (__mgr__.loadPackages(fullName)) {
+            ret = __dict__.__finditem__(name);
+            if (ret != null) return ret;
+        }
+
         if (__mgr__.packageExists(__name__,name)) {
             __mgr__.notifyPackageImport(__name__,name);
             return addPackage(name);
@@ -109,6 +109,7 @@ public class PyList extends PySequenceList implements List {
         } else if (seq instanceof PyTuple) {
             list.addAll(((PyTuple) seq).getList());
         } else {
+            ensureCapacityFor(seq);
             for (PyObject item : seq.asIterable()) {
                 append(item);
             }
@@ -673,6 +674,7 @@ public class PyList extends PySequenceList implements List {
         if (o instanceof PyList) {
             list.addAll(((PyList) o).list);
         } else {
+            ensureCapacityFor(o);
             for (PyObject item : o.asIterable()) {
                 list.add(item);
             }
@@ -680,6 +682,18 @@ public class PyList extends PySequenceList implements List {
         gListAllocatedStatus = list.size();
     }
 
+    /**
+     * Make room for the items of an iterator that knows how many it has left.
+     */
+    private void ensureCapacityFor(PyObject o) {
+        if (o instanceof PyIterator && list instanceof ArrayList) {
+            int hint = ((PyIterator) o).__length_hint__();
+            if (hint > 0) {
+                ((ArrayList) list).ensureCapacity(list.size() + hint);
+            }
+        }
+    }
+
     @Override
     public PyObject __iadd__(PyObject o) {
         return list___iadd__(o);
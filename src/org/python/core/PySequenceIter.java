@@ -14,6 +14,16 @@ public class PySequenceIter extends PyIterator {
         this.seq = seq;
     }
 
+    @Override
+    public int __length_hint__() {
+        if (seq == null) {
+            return 0;
+        } else if (seq instanceof PySequence) {
+            return Math.max(0, seq.__len__() - index);
+        }
+        return -1;
+    }
+
     public PyObject __iternext__() {
         if (seq == null) {
             return null;
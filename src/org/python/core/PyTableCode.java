@@ -180,6 +180,9 @@ public class PyTableCode extends PyBaseCode
             // Rethrow the exception to the next stack frame
             ts.exception = previous_exception;
             ts.frame = ts.frame.f_back;
+            if (ts.frame == null) {
+                ts.releaseLocals();
+            }
             throw pye;
         }
 
@@ -195,6 +198,9 @@ public class PyTableCode extends PyBaseCode
         ts.exception = previous_exception;
 
         ts.frame = ts.frame.f_back;
+        if (ts.frame == null) {
+            ts.releaseLocals();
+        }
 
         // Check for interruption, which is used for restarting the interpreter
         // on Jython
@@ -56,7 +56,8 @@ public class SyspathJavaLoader extends ClassLoader {
     private byte[] getBytesFromDir(String dir, String name) {
     	try { 
     		File file = getFile(dir, name);
-	        if (file == null) {
+	        if (file == null
+	                || !DirectoryCache.list(file.getParentFile()).isFile(file.getName())) {
 	            return null;
 	        }
 	        return getBytesFromInputStream(new FileInputStream(file), (int)file.length());
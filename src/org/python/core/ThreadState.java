@@ -1,6 +1,7 @@
 // Copyright (c) Corporation for National Research Initiatives
 package org.python.core;
 
+import java.lang.ref.Reference;
 import java.util.LinkedList;
 
 public class ThreadState {
@@ -29,6 +30,15 @@ public class ThreadState {
 
     private PyDictionary compareStateDict;
 
+    /** The values of thread._local instances in this thread, indexed by their slots */
+    private PyObject[] locals;
+
+    /**
+     * The keys of the instances that set each of locals, as slots are reused; a key is
+     * cleared once its instance is collected
+     */
+    private Reference<?>[] localKeys;
+
     public PyObject getInitializingProxy() {
         if (initializingProxies == null) {
             return null;
@@ -86,4 +96,56 @@ public class ThreadState {
         }
         return compareStateDict;
     }
+
+    /**
+     * Return the value stored in slot by the thread._local identified by key, or null if it
+     * hasn't stored one in this thread.
+     */
+    public PyObject getLocal(int slot, Reference<?> key) {
+        if (locals != null && slot < locals.length && localKeys[slot] == key) {
+            return locals[slot];
+        }
+        return null;
+    }
+
+    public void setLocal(int slot, Reference<?> key, PyObject value) {
+        if (locals == null || slot >= locals.length) {
+            int size = Math.max(slot + 1, locals == null ? 8 : locals.length * 2);
+            PyObject[] grownLocals = new PyObject[size];
+            Reference<?>[] grownKeys = new Reference<?>[size];
+            if (locals != null) {
+                System.arraycopy(locals, 0, grownLocals, 0, locals.length);
+                System.arraycopy(localKeys, 0, grownKeys, 0, localKeys.length);
+            }
+            locals = grownLocals;
+            localKeys = grownKeys;
+        }
+        locals[slot] = value;
+        localKeys[slot] = key;
+    }
+
+    /**
+     * Drop the values of thread._local instances that have been collected. Called when the
+     * thread leaves its outermost frame, so that threads which run Python code now and then,
+     * like pool and servlet threads, don't keep them until their slots are reused.
+     */
+    public void releaseLocals() {
+        if (locals == null) {
+            return;
+        }
+        for (int i = 0; i < locals.length; i++) {
+            if (localKeys[i] != null && localKeys[i].get() == null) {
+                locals[i] = null;
+                localKeys[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Drop the values of all thread._local instances in this thread.
+     */
+    public void clearLocals() {
+        locals = null;
+        localKeys = null;
+    }
 }
@@ -0,0 +1,95 @@
+/* Copyright (c) Jython Developers */
+package org.python.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.python.antlr.base.mod;
+
+/**
+ * The function table of module level code compiled at runtime that runs interpreted by an
+ * {@link AstInterpreter} for its first {@link Options#compileThreshold} calls, and is only
+ * compiled to Java bytecode when it's called again. Most such code (exec'd strings, eval'd
+ * expressions, execfile'd configuration) runs once, so this saves generating, defining and
+ * verifying a class for it.
+ */
+class TieredFunctionTable extends PyFunctionTable {
+
+    private final mod node;
+
+    private final String name;
+
+    private final String filename;
+
+    private final boolean printResults;
+
+    private final CompilerFlags cflags;
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    /** The code compiled once the threshold is passed */
+    private volatile PyBaseCode compiled;
+
+    private TieredFunctionTable(mod node, String name, String filename, boolean printResults,
+                                CompilerFlags cflags) {
+        this.node = node;
+        this.name = name;
+        this.filename = filename;
+        this.printResults = printResults;
+        // Keep the flags as they are now, later changes by the caller don't apply
+        this.cflags = new CompilerFlags(cflags == null ? 0 : cflags.toBits());
+        this.cflags.encoding = cflags == null ? null : cflags.encoding;
+    }
+
+    /**
+     * Return tiered code for node, or null if it has to be compiled straight away, either
+     * because tiering is off or because the node holds code the interpreter doesn't handle.
+     */
+    static PyCode newCode(mod node, String name, String filename, boolean printResults,
+                          CompilerFlags cflags) {
+        if (Options.compileThreshold <= 0 || !AstInterpreter.canInterpret(node)) {
+            return null;
+        }
+        TieredFunctionTable funcs =
+                new TieredFunctionTable(node, name, filename, printResults, cflags);
+        // The flags module level code is compiled with, see org.python.compiler.Module
+        int moreflags = 0;
+        if (funcs.cflags.isFlagSet(CodeFlag.CO_GENERATOR_ALLOWED)) {
+            moreflags |= CodeFlag.CO_GENERATOR_ALLOWED.flag;
+        }
+        if (funcs.cflags.isFlagSet(CodeFlag.CO_FUTURE_DIVISION)) {
+            moreflags |= CodeFlag.CO_FUTURE_DIVISION.flag;
+        }
+        return new PyTableCode(0, new String[0], filename, "<module>", 0, false, false, funcs,
+                               0, null, null, 0, moreflags);
+    }
+
+    @Override
+    public PyObject call_function(int index, PyFrame frame, ThreadState ts) {
+        PyBaseCode code = compiled;
+        // Traced code is compiled straight away, so a tracer sees the line events of the
+        // compiled code whatever the threshold
+        if (code == null && (frame.tracefunc != null
+                             || calls.incrementAndGet() > Options.compileThreshold)) {
+            code = compile();
+        }
+        if (code == null) {
+            return new AstInterpreter(frame, ts, printResults, cflags).interpret(node);
+        }
+        // Run the compiled body in the frame already set up for this code
+        if (code instanceof PyTableCode) {
+            PyTableCode tableCode = (PyTableCode)code;
+            return tableCode.funcs.call_function(tableCode.func_id, frame, ts);
+        }
+        return code.interpret(frame, ts);
+    }
+
+    private synchronized PyBaseCode compile() {
+        if (compiled == null) {
+            CompilerFlags flags = new CompilerFlags(cflags.toBits());
+            flags.encoding = cflags.encoding;
+            compiled = (PyBaseCode)CompilerFacade.compileNow(node, name, filename, true,
+                                                             printResults, flags);
+        }
+        return compiled;
+    }
+}
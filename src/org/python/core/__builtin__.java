@@ -1500,6 +1500,9 @@ class CompileFunction extends PyBuiltinFunction {
             cflags.source_is_utf8 = source instanceof PyUnicode;
 
             String data = source.toString();
+            if (!cflags.only_ast) {
+                return Py.compile_flags(data, filename, kind, cflags);
+            }
 
             if (data.contains("\0")) {
                 throw Py.TypeError("compile() expected string without null bytes");
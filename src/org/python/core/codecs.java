@@ -7,12 +7,20 @@
  */
 package org.python.core;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.Map;
 
 import org.python.core.util.StringUtil;
+import org.python.util.Generic;
 
 /**
  * Contains the implementation of the builtin codecs.
@@ -32,6 +40,56 @@ public class codecs {
     private static final Object INIT_LOCK = new Object();
     private static String default_encoding = "ascii";
 
+    /** Normalized names of the builtin codecs, mapped to the codec's canonical name. */
+    private static final Map<String, String> builtinNames = Generic.map();
+
+    /** The Java charsets behind the builtin codecs. */
+    private static final Map<String, Charset> charsets = Generic.map();
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    static {
+        addBuiltin("ascii", Charset.forName("US-ASCII"), "us-ascii", "us_ascii", "646");
+        addBuiltin("latin-1", Charset.forName("ISO-8859-1"), "latin1", "latin_1", "iso-8859-1",
+                   "iso8859-1", "iso_8859_1", "8859", "cp819", "l1");
+        addBuiltin("utf-8", UTF8, "utf8", "utf_8", "u8", "utf");
+        addBuiltin("utf-16", Charset.forName("UTF-16"), "utf16", "utf_16", "u16");
+        addBuiltin("utf-16-le", Charset.forName("UTF-16LE"), "utf-16le", "utf_16_le",
+                   "utf_16le");
+        addBuiltin("utf-16-be", Charset.forName("UTF-16BE"), "utf-16be", "utf_16_be",
+                   "utf_16be");
+        for (int page = 1250; page <= 1258; page++) {
+            String windows = "windows-" + page;
+            if (Charset.isSupported(windows)) {
+                addBuiltin("cp" + page, Charset.forName(windows), windows, "windows_" + page);
+            }
+        }
+    }
+
+    private static void addBuiltin(String name, Charset charset, String... aliases) {
+        builtinNames.put(name, name);
+        for (String alias : aliases) {
+            builtinNames.put(alias, name);
+        }
+        charsets.put(name, charset);
+    }
+
+    /**
+     * Return the canonical name of a builtin codec, one that works without the codec
+     * registry, or null if encoding doesn't name one.
+     */
+    public static String getBuiltinName(String encoding) {
+        return builtinNames.get(normalizestring(encoding));
+    }
+
+    /**
+     * Return the Java charset behind a builtin codec, or null if encoding doesn't name one.
+     */
+    public static Charset getBuiltinCharset(String encoding) {
+        String name = getBuiltinName(encoding);
+        return name == null ? null : charsets.get(name);
+    }
+
     public static String getDefaultEncoding() {
         return default_encoding;
     }
@@ -131,6 +189,14 @@ public class codecs {
             return wrapDecodeResult(PyUnicode_DecodeASCII(v.toString(), v.__len__(), errors));
         }
 
+        /* Shortcut for the other builtin codecs, which don't need the registry */
+        if (!(v instanceof PyUnicode)) {
+            String decoded = decodeBuiltin(v.getString(), encoding, errors);
+            if (decoded != null) {
+                return wrapDecodeResult(decoded);
+            }
+        }
+
         /* Decode via the codec registry */
         PyObject decoder;
         try {
@@ -178,12 +244,11 @@ public class codecs {
             errors = errors.intern();
         }
 
-        /* Shortcuts for common default encodings.  latin-1 must not use the
+        /* Shortcuts for the builtin codecs.  latin-1 must not use the
          * lookup registry for the encodings module to work correctly */
-        if (encoding.equals("latin-1")) {
-            return PyUnicode_EncodeLatin1(v.toString(), v.__len__(), errors);
-        } else if (encoding.equals("ascii")) {
-            return PyUnicode_EncodeASCII(v.toString(), v.__len__(), errors);
+        String builtin = encodeBuiltin(v.getString(), encoding, errors);
+        if (builtin != null) {
+            return builtin;
         }
 
         /* Encode via the codec registry */
@@ -699,6 +764,20 @@ public class codecs {
 
     public static String PyUnicode_DecodeUTF8Stateful(String str, String errors, int[] consumed) {
         int size = str.length();
+        String fast = decodeUTF8Fast(str);
+        if (fast != null) {
+            if (consumed != null) {
+                consumed[0] = size;
+            }
+            return fast;
+        } else if (consumed != null) {
+            // A sequence cut off at the end of the chunk is left for the next call
+            int complete = completeUTF8Length(str);
+            if (complete < size && (fast = decodeUTF8Fast(str.substring(0, complete))) != null) {
+                consumed[0] = complete;
+                return fast;
+            }
+        }
         StringBuilder unicode = new StringBuilder(size);
 
         /* Unpack UTF-8 encoded data */
@@ -805,8 +884,48 @@ public class codecs {
         return unicode.toString();
     }
 
+    /**
+     * Decode well formed UTF-8 through the JDK's decoder.
+     *
+     * @return the decoded string, or null if str needs the full decoder above: it has
+     *         malformed or truncated sequences, a U+FFFD of its own or chars beyond 0xFF
+     */
+    private static String decodeUTF8Fast(String str) {
+        int size = str.length();
+        int bits = 0;
+        for (int i = 0; i < size; i++) {
+            bits |= str.charAt(i);
+        }
+        if (bits < 0x80) {
+            return str;
+        } else if (bits > 0xFF) {
+            return null;
+        }
+        String decoded = new String(StringUtil.toBytes(str), UTF8);
+        return decoded.indexOf(Py_UNICODE_REPLACEMENT_CHARACTER) < 0 ? decoded : null;
+    }
+
+    /**
+     * The length of str without a trailing, incomplete UTF-8 sequence.
+     */
+    private static int completeUTF8Length(String str) {
+        int size = str.length();
+        for (int i = size - 1; i >= 0 && i >= size - 4; i--) {
+            int ch = str.charAt(i);
+            if (ch > 0xFF || ch < 0x80) {
+                break;
+            } else if (ch >= 0xC0) {
+                return i + utf8_code_length[ch] > size ? i : size;
+            }
+        }
+        return size;
+    }
+
     public static String PyUnicode_EncodeUTF8(String str, String errors) {
-        return StringUtil.fromBytes(Charset.forName("UTF-8").encode(str));
+        if (firstAtOrAbove(str, str.length(), 0x80) == str.length()) {
+            return str;
+        }
+        return StringUtil.fromBytes(str.getBytes(UTF8));
     }
 
     public static String PyUnicode_DecodeASCII(String str, int size, String errors) {
@@ -818,6 +937,9 @@ public class codecs {
     }
 
     private static String PyUnicode_DecodeIntLimited(String str, int size, String errors, String encoding, int limit) {
+        if (firstAtOrAbove(str, size, limit) == size) {
+            return size == str.length() ? str : str.substring(0, size);
+        }
         StringBuilder v = new StringBuilder(size);
 
         String reason = "ordinal not in range(" + limit + ")";
@@ -851,6 +973,9 @@ public class codecs {
 
     private static String PyUnicode_EncodeIntLimited(String str, int size,
             String errors, String encoding, int limit) {
+        if (firstAtOrAbove(str, size, limit) == size) {
+            return size == str.length() ? str : str.substring(0, size);
+        }
         String reason = "ordinal not in range(" + limit + ")";
         StringBuilder v = new StringBuilder(size);
         for (int i = 0; i < size; i++) {
@@ -903,6 +1028,200 @@ public class codecs {
         return v.toString();
     }
 
+    /** The index of the first char of str[:size] that is at least limit, or size. */
+    private static int firstAtOrAbove(String str, int size, int limit) {
+        for (int i = 0; i < size; i++) {
+            if (str.charAt(i) >= limit) {
+                return i;
+            }
+        }
+        return size;
+    }
+
+    /* --- Builtin codecs without the registry ------------------------------ */
+
+    /**
+     * Decode str with one of the builtin codecs.
+     *
+     * @param encoding a normalized encoding name
+     * @return the decoded string, or null if encoding isn't a builtin codec
+     */
+    private static String decodeBuiltin(String str, String encoding, String errors) {
+        String name = builtinNames.get(encoding);
+        if (name == null) {
+            return null;
+        } else if (name.equals("ascii")) {
+            return PyUnicode_DecodeASCII(str, str.length(), errors);
+        } else if (name.equals("latin-1")) {
+            return PyUnicode_DecodeLatin1(str, str.length(), errors);
+        } else if (name.equals("utf-8")) {
+            return PyUnicode_DecodeUTF8(str, errors);
+        }
+
+        byte[] bytes = StringUtil.toBytes(str);
+        int offset = 0;
+        Charset charset = charsets.get(name);
+        if (name.equals("utf-16")) {
+            // Handle the byte order mark here so error recovery can't lose track of it
+            if (bytes.length >= 2 && (bytes[0] & 0xff) == 0xff && (bytes[1] & 0xff) == 0xfe) {
+                charset = charsets.get("utf-16-le");
+                offset = 2;
+            } else {
+                if (bytes.length >= 2 && (bytes[0] & 0xff) == 0xfe && (bytes[1] & 0xff) == 0xff) {
+                    offset = 2;
+                }
+                charset = charsets.get("utf-16-be");
+            }
+        }
+        String decoded = new String(bytes, offset, bytes.length - offset, charset);
+        if (decoded.indexOf(Py_UNICODE_REPLACEMENT_CHARACTER) < 0) {
+            return decoded;
+        }
+        return decodeCharset(str, bytes, offset, charset, name, errors);
+    }
+
+    /**
+     * Decode bytes[offset:] with a CharsetDecoder, passing malformed and unmappable input
+     * to the Python error handler.
+     */
+    private static String decodeCharset(String str, byte[] bytes, int offset, Charset charset,
+                                        String encoding, String errors) {
+        CharsetDecoder decoder = charset.newDecoder();
+        ByteBuffer in = ByteBuffer.wrap(bytes, offset, bytes.length - offset);
+        CharBuffer out = CharBuffer.allocate(bytes.length);
+        StringBuilder v = new StringBuilder(bytes.length);
+        while (true) {
+            CoderResult result = decoder.decode(in, out, true);
+            if (result.isUnderflow()) {
+                result = decoder.flush(out);
+            }
+            out.flip();
+            v.append(out);
+            out.clear();
+            if (result.isUnderflow()) {
+                break;
+            } else if (result.isOverflow()) {
+                continue;
+            }
+
+            int start = in.position();
+            int end = start + result.length();
+            if (encoding.startsWith("utf-16")) {
+                if (result.isMalformed() && isReversedMark(bytes, start, charset)) {
+                    // The JDK rejects U+FFFE anywhere, Python only treats it specially as
+                    // a leading BOM, which the caller has already dealt with
+                    v.append('\uFFFE');
+                    in.position(start + 2);
+                    decoder.reset();
+                    continue;
+                }
+                // Only blame the lone surrogate, not the unit after it
+                end = Math.min(end, start + 2);
+            }
+            String reason;
+            if (result.isUnmappable()) {
+                reason = "character maps to <undefined>";
+            } else if (end == bytes.length) {
+                reason = "truncated data";
+            } else {
+                reason = "illegal encoding";
+            }
+            in.position(insertReplacementAndGetResume(v, errors, encoding, str, start, end,
+                                                      reason));
+            decoder.reset();
+        }
+        return v.toString();
+    }
+
+    /**
+     * Return whether bytes[start:start + 2] is U+FFFE in the byte order of the utf-16-le or
+     * utf-16-be charset.
+     */
+    private static boolean isReversedMark(byte[] bytes, int start, Charset charset) {
+        if (start + 1 >= bytes.length) {
+            return false;
+        }
+        int first = bytes[start] & 0xff;
+        int second = bytes[start + 1] & 0xff;
+        if (charset == charsets.get("utf-16-le")) {
+            return first == 0xfe && second == 0xff;
+        }
+        return first == 0xff && second == 0xfe;
+    }
+
+    /**
+     * Encode str with one of the builtin codecs.
+     *
+     * @param encoding a normalized encoding name
+     * @return the encoded string, or null if encoding isn't a builtin codec
+     */
+    private static String encodeBuiltin(String str, String encoding, String errors) {
+        String name = builtinNames.get(encoding);
+        if (name == null) {
+            return null;
+        } else if (name.equals("ascii")) {
+            return PyUnicode_EncodeASCII(str, str.length(), errors);
+        } else if (name.equals("latin-1")) {
+            return PyUnicode_EncodeLatin1(str, str.length(), errors);
+        } else if (name.equals("utf-8")) {
+            return PyUnicode_EncodeUTF8(str, errors);
+        } else if (name.startsWith("utf-16")) {
+            // Like _codecs.encode_UTF16, lone surrogates are replaced rather than reported
+            return StringUtil.fromBytes(charsets.get(name).encode(str));
+        }
+        return encodeCharset(str, charsets.get(name), name, errors);
+    }
+
+    /**
+     * Encode str with a CharsetEncoder, passing unmappable input to the Python error
+     * handler.
+     */
+    private static String encodeCharset(String str, Charset charset, String encoding,
+                                        String errors) {
+        CharsetEncoder encoder = charset.newEncoder();
+        int size = str.length();
+        CharBuffer in = CharBuffer.wrap(str);
+        ByteBuffer out = ByteBuffer.allocate((int)(size * encoder.maxBytesPerChar()) + 16);
+        while (true) {
+            CoderResult result = encoder.encode(in, out, true);
+            if (result.isUnderflow()) {
+                result = encoder.flush(out);
+                if (result.isUnderflow()) {
+                    break;
+                }
+            }
+            if (result.isOverflow()) {
+                out = grow(out, out.capacity());
+                continue;
+            }
+
+            int start = in.position();
+            int end = start + result.length();
+            String reason = "character maps to <undefined>";
+            PyObject replacement = encoding_error(errors, encoding, str, start, end, reason);
+            ByteBuffer replBytes;
+            try {
+                replBytes = encoder.encode(CharBuffer.wrap(replacement.__getitem__(0).toString()));
+            } catch (CharacterCodingException cce) {
+                throw Py.UnicodeEncodeError(encoding, str, start, end, reason);
+            }
+            if (out.remaining() < replBytes.remaining()) {
+                out = grow(out, replBytes.remaining());
+            }
+            out.put(replBytes);
+            in.position(calcNewPosition(size, replacement));
+            encoder.reset();
+        }
+        return StringUtil.fromBytes(out.array(), 0, out.position());
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer, int extra) {
+        ByteBuffer grown = ByteBuffer.allocate(buffer.capacity() + extra);
+        buffer.flip();
+        grown.put(buffer);
+        return grown;
+    }
+
     public static int calcNewPosition(int size, PyObject errorTuple) {
         int newPosition = ((PyInteger) errorTuple.__getitem__(1)).getValue();
         if (newPosition < 0) {
@@ -31,7 +31,12 @@ public class imp {
     /** A non-empty fromlist for __import__'ing sub-modules. */
     private static final PyObject nonEmptyFromlist = new PyTuple(Py.newString("__doc__"));
 
-    /** Synchronizes import operations */
+    /**
+     * Held while making module import locks, so holding it keeps other threads from
+     * starting imports.
+     *
+     * @see ModuleLock
+     */
     public static final ReentrantLock importLock = new ReentrantLock();
 
     private static Object syspathJavaLoaderLock = new Object();
@@ -257,6 +262,9 @@ public class imp {
      * If compiledFilename is null, it's set to the results of
      * makeCompiledFilename(sourcefileName).
      *
+     * The bytes are written to a temporary file that's then renamed, so other
+     * processes and threads loading compiledFilename never see it partly written.
+     *
      * If sourceFilename is null or set to UNKNOWN_SOURCEFILE, then
      * null is returned.
      *
@@ -274,14 +282,27 @@ public class imp {
             compiledFilename = makeCompiledFilename(sourceFilename);
         }
         FileOutputStream fop = null;
+        File temp = null;
         try {
             SecurityManager man = System.getSecurityManager();
             if (man != null) {
                 man.checkWrite(compiledFilename);
             }
-            fop = new FileOutputStream(compiledFilename);
+            File compiled = new File(compiledFilename);
+            temp = File.createTempFile(compiled.getName(), ".tmp", compiled.getAbsoluteFile()
+                    .getParentFile());
+            fop = new FileOutputStream(temp);
             fop.write(compiledSource);
             fop.close();
+            fop = null;
+            if (!temp.renameTo(compiled)) {
+                // Windows won't rename over an existing file
+                compiled.delete();
+                if (!temp.renameTo(compiled)) {
+                    throw new IOException("unable to rename " + temp);
+                }
+            }
+            temp = null;
             return compiledFilename;
         } catch(IOException exc) {
             // If we can't write the cache file, just log and continue
@@ -303,6 +324,9 @@ public class imp {
                                           + compiledFilename + "' due to " + e);
                 }
             }
+            if (temp != null) {
+                temp.delete();
+            }
         }
     }
 
@@ -535,12 +559,14 @@ public class imp {
         File sourceFile = new File(dir, sourceName);
         File compiledFile = new File(dir, compiledName);
 
+        DirectoryCache.Listing listing = DirectoryCache.list(new File(dirName));
         boolean pkg = false;
-        try {
-            pkg = dir.isDirectory() && caseok(dir, name)
-                    && (sourceFile.isFile() || compiledFile.isFile());
-        } catch (SecurityException e) {
-            // ok
+        if (listing.isDirectory(name)) {
+            DirectoryCache.Listing pkgListing = DirectoryCache.list(dir);
+            pkg = pkgListing.isFile(sourceName) || pkgListing.isFile(compiledName);
+            if (pkg) {
+                listing = pkgListing;
+            }
         }
 
         if (!pkg) {
@@ -558,9 +584,9 @@ public class imp {
         }
 
         try {
-            if (sourceFile.isFile() && caseok(sourceFile, sourceName)) {
+            if (listing.isFile(sourceName)) {
                 long pyTime = sourceFile.lastModified();
-                if (compiledFile.isFile() && caseok(compiledFile, compiledName)) {
+                if (listing.isFile(compiledName)) {
                     Py.writeDebug(IMPORT_LOG, "trying precompiled " + compiledFile.getPath());
                     long classTime = compiledFile.lastModified();
                     if (classTime >= pyTime) {
@@ -579,7 +605,7 @@ public class imp {
 
             // If no source, try loading precompiled
             Py.writeDebug(IMPORT_LOG, "trying precompiled with no source " + compiledFile.getPath());
-            if (compiledFile.isFile() && caseok(compiledFile, compiledName)) {
+            if (listing.isFile(compiledName)) {
                 return createFromPyClass(modName, makeStream(compiledFile), true, displaySourceName,
                                          displayCompiledName);
             }
@@ -707,25 +733,61 @@ public class imp {
         PyObject modules = Py.getSystemState().modules;
         PyObject ret = modules.__finditem__(fullName);
         if (ret != null) {
+            // It may still be being initialized by another thread
+            ModuleLock.waitForImport(fullName);
             return ret;
         }
-        if (mod == null) {
-            ret = find_module(fullName.intern(), name, null);
-        } else {
-            ret = mod.impAttr(name.intern());
-        }
-        if (ret == null || ret == Py.None) {
-            if (JavaImportHelper.tryAddPackage(outerFullName, fromlist)) {
+        ModuleLock lock = ModuleLock.get(fullName);
+        try {
+            boolean locked = lock.acquire();
+            try {
                 ret = modules.__finditem__(fullName);
+                if (ret != null) {
+                    // Imported by another thread while this one waited, or, if waiting would
+                    // have deadlocked, still being initialized by it
+                    return ret;
+                }
+                // If waiting would have deadlocked, the owner of the lock waits for this
+                // thread, so load the module here and let the owner find it in sys.modules
+                if (mod == null) {
+                    ret = find_module(fullName.intern(), name, null);
+                } else {
+                    ret = mod.impAttr(name.intern());
+                }
+                if (ret == null || ret == Py.None) {
+                    if (tryAddPackage(outerFullName, fromlist)) {
+                        ret = modules.__finditem__(fullName);
+                    }
+                    return ret;
+                }
+                if (modules.__finditem__(fullName) == null) {
+                    modules.__setitem__(fullName, ret);
+                } else {
+                    ret = modules.__finditem__(fullName);
+                }
+                return ret;
+            } finally {
+                if (locked) {
+                    lock.release();
+                }
             }
-            return ret;
+        } finally {
+            lock.done();
         }
-        if (modules.__finditem__(fullName) == null) {
-            modules.__setitem__(fullName, ret);
-        } else {
-            ret = modules.__finditem__(fullName);
+    }
+
+    /** Held while adding Java packages for failed imports */
+    private static final Object packageLock = new Object();
+
+    /**
+     * Add the Java package for a failed import, as {@link JavaImportHelper#tryAddPackage},
+     * one thread at a time as the package manager isn't made for concurrent use. (Not under
+     * importLock, which a thread waiting for a module this one is importing may hold.)
+     */
+    private static boolean tryAddPackage(String outerFullName, PyObject fromlist) {
+        synchronized (packageLock) {
+            return JavaImportHelper.tryAddPackage(outerFullName, fromlist);
         }
-        return ret;
     }
 
     // never returns null or None
@@ -742,7 +804,7 @@ public class imp {
     private static PyObject import_first(String name, StringBuilder parentNameBuffer, String fullName, PyObject fromlist) {
         PyObject ret = import_next(null, parentNameBuffer, name, fullName, fromlist);
         if (ret == null || ret == Py.None) {
-            if (JavaImportHelper.tryAddPackage(fullName, fromlist)) {
+            if (tryAddPackage(fullName, fromlist)) {
                 ret = import_next(null, parentNameBuffer, name, fullName, fromlist);
             }
         }
@@ -803,6 +865,8 @@ public class imp {
         if (name.length() == 0 && level <= 0) {
             throw Py.ValueError("Empty module name");
         }
+        // A thread holding imp.acquire_lock keeps others from starting imports
+        ModuleLock.waitForImportLock();
         PyObject modules = Py.getSystemState().modules;
         PyObject pkgMod = null;
         String pkgName = null;
@@ -879,12 +943,9 @@ public class imp {
      */
     public static PyObject importName(String name, boolean top,
             PyObject modDict, PyObject fromlist, int level) {
-        importLock.lock();
-        try {
-            return import_name(name, top, modDict, fromlist, level);
-        } finally {
-            importLock.unlock();
-        }
+        // Each module is imported holding its own ModuleLock, so that threads importing
+        // different modules don't wait for each other
+        return import_name(name, top, modDict, fromlist, level);
     }
 
     /**
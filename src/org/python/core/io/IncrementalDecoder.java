@@ -0,0 +1,243 @@
+/* Copyright (c) Jython Developers */
+package org.python.core.io;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+
+import org.python.core.Py;
+import org.python.core.PyException;
+import org.python.core.PyUnicode;
+import org.python.core.codecs;
+import org.python.core.util.StringUtil;
+
+/**
+ * Decodes a stream of bytes, given in chunks, with a java.nio CharsetDecoder.
+ *
+ * A multibyte sequence split between two chunks is held back until the next one arrives
+ * rather than causing the chunk to be decoded again. Universal newline translation (CR
+ * and CRLF to LF) optionally happens in the same pass. Malformed and unmappable input is
+ * passed to the Python error handler named by errors.
+ *
+ * The decode(input, final) and reset() methods follow Python's
+ * codecs.IncrementalDecoder, so instances can stand in for one.
+ *
+ * @see IncrementalEncoder
+ */
+public class IncrementalDecoder {
+
+    /** The size of the char buffer decoded into */
+    private static final int CHUNK_SIZE = 8192;
+
+    /** The name of the codec, as reported in UnicodeDecodeErrors */
+    private final String encoding;
+
+    /** The Python error handler name, null for strict */
+    private final String errors;
+
+    /** Whether CR and CRLF are translated to LF */
+    private final boolean universal;
+
+    private final CharsetDecoder decoder;
+
+    private final CharBuffer chars = CharBuffer.allocate(CHUNK_SIZE);
+
+    /** Bytes of an incomplete sequence left over from the previous chunk */
+    private ByteBuffer carry = ByteBuffer.allocate(16);
+
+    /** Whether the last char decoded was a CR, so a following LF is dropped */
+    private boolean skipNextLF;
+
+    /** The output of the current decode call */
+    private final StringBuilder builder = new StringBuilder();
+
+    /**
+     * Construct an IncrementalDecoder for the named encoding.
+     *
+     * @param encoding a Python codec name or a Java charset name
+     * @param errors the Python error handler name, or null for strict
+     * @param universal whether to translate CR and CRLF to LF
+     */
+    public IncrementalDecoder(String encoding, String errors, boolean universal) {
+        Charset charset = codecs.getBuiltinCharset(encoding);
+        if (charset != null) {
+            encoding = codecs.getBuiltinName(encoding);
+        } else {
+            charset = lookupCharset(encoding);
+        }
+        this.encoding = encoding;
+        this.errors = errors == null ? null : errors.intern();
+        this.universal = universal;
+        decoder = charset.newDecoder();
+        carry.flip();
+    }
+
+    public IncrementalDecoder(String encoding, String errors) {
+        this(encoding, errors, false);
+    }
+
+    public IncrementalDecoder(String encoding) {
+        this(encoding, null, false);
+    }
+
+    static Charset lookupCharset(String encoding) {
+        try {
+            if (Charset.isSupported(encoding)) {
+                return Charset.forName(encoding);
+            }
+        } catch (IllegalArgumentException iae) {
+            // an illegal charset name
+        }
+        throw new PyException(Py.LookupError, "unknown encoding '" + encoding + "'");
+    }
+
+    /**
+     * Decode a chunk of a byte string.
+     *
+     * @param input the next chunk, as a str
+     * @param last true if no more input follows
+     * @return the text decoded so far
+     */
+    public PyUnicode decode(String input, boolean last) {
+        return new PyUnicode(decode(ByteBuffer.wrap(StringUtil.toBytes(input)), last));
+    }
+
+    public PyUnicode decode(String input) {
+        return decode(input, false);
+    }
+
+    /**
+     * Decode the remaining bytes of input, which is left empty.
+     *
+     * @param input the next chunk of bytes
+     * @param last true if no more input follows
+     * @return the text decoded so far
+     */
+    public String decode(ByteBuffer input, boolean last) {
+        ByteBuffer in = input;
+        if (carry.hasRemaining()) {
+            in = ByteBuffer.allocate(carry.remaining() + input.remaining());
+            in.put(carry).put(input).flip();
+            carry.clear().flip();
+        }
+        int base = in.position();
+
+        while (true) {
+            CoderResult result = decoder.decode(in, chars, last);
+            if (result.isUnderflow() && last) {
+                result = decoder.flush(chars);
+            }
+            drain();
+            if (result.isOverflow()) {
+                continue;
+            } else if (result.isUnderflow()) {
+                break;
+            }
+
+            // Call the error handler with the chunk, as a str, as the object being decoded
+            int start = in.position();
+            int end = start + result.length();
+            String reason;
+            if (result.isUnmappable()) {
+                reason = "character maps to <undefined>";
+            } else if (end == in.limit()) {
+                reason = "truncated data";
+            } else {
+                reason = "illegal encoding";
+            }
+            String chunk = chunkString(in, base);
+            StringBuilder replacement = new StringBuilder();
+            int resume = codecs.insertReplacementAndGetResume(replacement, errors, encoding,
+                                                              chunk, start - base, end - base,
+                                                              reason);
+            translate(replacement, 0, replacement.length());
+            in.position(base + resume);
+        }
+
+        if (in.hasRemaining()) {
+            // The start of a sequence that the next chunk completes
+            if (carry.capacity() < in.remaining()) {
+                carry = ByteBuffer.allocate(in.remaining());
+            }
+            carry.clear();
+            carry.put(in).flip();
+        }
+        input.position(input.limit());
+        if (last) {
+            finish();
+        }
+        return drainBuilder();
+    }
+
+    /**
+     * Discard any buffered input and newline state.
+     */
+    public void reset() {
+        decoder.reset();
+        carry.clear().flip();
+        skipNextLF = false;
+        builder.setLength(0);
+    }
+
+    /**
+     * Return whether a partial multibyte sequence is held back for the next chunk.
+     */
+    public boolean hasPending() {
+        return carry.hasRemaining();
+    }
+
+    private void finish() {
+        decoder.reset();
+        skipNextLF = false;
+    }
+
+    /**
+     * Move the decoded chars to the builder, translating newlines on the way.
+     */
+    private void drain() {
+        chars.flip();
+        translate(chars, 0, chars.remaining());
+        chars.clear();
+    }
+
+    private void translate(CharSequence seq, int start, int end) {
+        if (!universal) {
+            builder.append(seq, start, end);
+            return;
+        }
+        for (int i = start; i < end; i++) {
+            char next = seq.charAt(i);
+            if (next == '\r') {
+                next = '\n';
+                skipNextLF = true;
+            } else if (next == '\n' && skipNextLF) {
+                skipNextLF = false;
+                continue;
+            } else {
+                skipNextLF = false;
+            }
+            builder.append(next);
+        }
+    }
+
+    private static String chunkString(ByteBuffer in, int base) {
+        ByteBuffer view = in.duplicate();
+        view.position(base);
+        byte[] bytes = new byte[view.remaining()];
+        view.get(bytes);
+        return StringUtil.fromBytes(bytes);
+    }
+
+    private String drainBuilder() {
+        String result = builder.toString();
+        if (builder.capacity() > CHUNK_SIZE * 4) {
+            builder.setLength(0);
+            builder.trimToSize();
+        } else {
+            builder.setLength(0);
+        }
+        return result;
+    }
+}
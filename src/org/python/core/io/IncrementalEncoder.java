@@ -0,0 +1,214 @@
+/* Copyright (c) Jython Developers */
+package org.python.core.io;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import org.python.core.Py;
+import org.python.core.PyObject;
+import org.python.core.PyString;
+import org.python.core.codecs;
+import org.python.core.util.StringUtil;
+
+/**
+ * Encodes a stream of text, given in chunks, with a java.nio CharsetEncoder.
+ *
+ * A surrogate pair split between two chunks is held back until the next one arrives. LF
+ * is optionally translated to another newline in the same pass. Unmappable input is
+ * passed to the Python error handler named by errors; lone surrogates get the charset's
+ * replacement, as with the builtin utf-8 and utf-16 codecs.
+ *
+ * The encode(input, final) and reset() methods follow Python's
+ * codecs.IncrementalEncoder, so instances can stand in for one.
+ *
+ * @see IncrementalDecoder
+ */
+public class IncrementalEncoder {
+
+    /** The size of the byte buffer encoded into */
+    private static final int CHUNK_SIZE = 8192;
+
+    /** The name of the codec, as reported in UnicodeEncodeErrors */
+    private final String encoding;
+
+    /** The Python error handler name, null for strict */
+    private final String errors;
+
+    /** What LF is written as, or null for no translation */
+    private final String newline;
+
+    private final CharsetEncoder encoder;
+
+    private ByteBuffer bytes = ByteBuffer.allocate(CHUNK_SIZE);
+
+    /** A high surrogate left over from the previous chunk */
+    private String carry = "";
+
+    /**
+     * Construct an IncrementalEncoder for the named encoding.
+     *
+     * @param encoding a Python codec name or a Java charset name
+     * @param errors the Python error handler name, or null for strict
+     * @param newline what to write LF as, or null to leave it alone
+     */
+    public IncrementalEncoder(String encoding, String errors, String newline) {
+        Charset charset = codecs.getBuiltinCharset(encoding);
+        if (charset != null) {
+            encoding = codecs.getBuiltinName(encoding);
+        } else {
+            charset = IncrementalDecoder.lookupCharset(encoding);
+        }
+        this.encoding = encoding;
+        this.errors = errors == null ? null : errors.intern();
+        this.newline = newline == null || newline.equals("\n") ? null : newline;
+        encoder = charset.newEncoder();
+        encoder.onMalformedInput(CodingErrorAction.REPLACE);
+    }
+
+    public IncrementalEncoder(String encoding, String errors) {
+        this(encoding, errors, null);
+    }
+
+    public IncrementalEncoder(String encoding) {
+        this(encoding, null, null);
+    }
+
+    /**
+     * Encode a chunk of text.
+     *
+     * @param input the next chunk
+     * @param last true if no more input follows
+     * @return the bytes encoded so far, as a str
+     */
+    public PyString encode(String input, boolean last) {
+        return new PyString(encodeString(input, last));
+    }
+
+    public PyString encode(String input) {
+        return encode(input, false);
+    }
+
+    /**
+     * Encode a chunk of text.
+     *
+     * @param input the next chunk
+     * @param last true if no more input follows
+     * @return the bytes encoded so far, one per char
+     */
+    public String encodeString(String input, boolean last) {
+        ByteBuffer encoded = encodeBuffer(input, last);
+        return StringUtil.fromBytes(encoded.array(), 0, encoded.limit());
+    }
+
+    /**
+     * Encode a chunk of text.
+     *
+     * @param input the next chunk
+     * @param last true if no more input follows
+     * @return the bytes encoded so far, valid until the next call
+     */
+    public ByteBuffer encodeBuffer(String input, boolean last) {
+        if (carry.length() > 0) {
+            input = carry + input;
+            carry = "";
+        }
+        if (bytes.capacity() > CHUNK_SIZE * 4) {
+            // Don't hang on to the buffer of an earlier, large chunk
+            bytes = ByteBuffer.allocate(CHUNK_SIZE);
+        } else {
+            bytes.clear();
+        }
+        int start = 0;
+        if (newline != null) {
+            int end;
+            while ((end = input.indexOf('\n', start)) != -1) {
+                if (encode(input, start, end, false) != end) {
+                    // A high surrogate with no low half
+                    put(encoder.replacement());
+                }
+                encode(newline, 0, newline.length(), false);
+                start = end + 1;
+            }
+        }
+        int end = encode(input, start, input.length(), last);
+        carry = input.substring(end);
+        if (last) {
+            flush();
+            encoder.reset();
+        }
+        ByteBuffer encoded = bytes.duplicate();
+        encoded.flip();
+        return encoded;
+    }
+
+    /**
+     * Discard any buffered input.
+     */
+    public void reset() {
+        encoder.reset();
+        carry = "";
+    }
+
+    /**
+     * Encode text[start:end] into bytes.
+     *
+     * @return the index of the first char not encoded, end unless text[start:end] ends
+     *         with a high surrogate and last is false
+     */
+    private int encode(String text, int start, int end, boolean last) {
+        CharBuffer in = CharBuffer.wrap(text, start, end);
+        while (true) {
+            CoderResult result = encoder.encode(in, bytes, last);
+            if (result.isOverflow()) {
+                grow(CHUNK_SIZE);
+                continue;
+            } else if (result.isUnderflow()) {
+                break;
+            }
+
+            int errorStart = in.position();
+            int errorEnd = errorStart + result.length();
+            String reason = "character maps to <undefined>";
+            PyObject replacement = codecs.encoding_error(errors, encoding, text, errorStart,
+                                                         errorEnd, reason);
+            ByteBuffer replBytes;
+            try {
+                CharsetEncoder replEncoder = encoder.charset().newEncoder();
+                replBytes = replEncoder.encode(CharBuffer.wrap(replacement.__getitem__(0)
+                                                               .toString()));
+            } catch (CharacterCodingException cce) {
+                throw Py.UnicodeEncodeError(encoding, text, errorStart, errorEnd, reason);
+            }
+            byte[] replArray = new byte[replBytes.remaining()];
+            replBytes.get(replArray);
+            put(replArray);
+            in.position(codecs.calcNewPosition(text.length(), replacement));
+        }
+        return in.position();
+    }
+
+    private void put(byte[] replacement) {
+        if (bytes.remaining() < replacement.length) {
+            grow(replacement.length);
+        }
+        bytes.put(replacement);
+    }
+
+    private void flush() {
+        while (encoder.flush(bytes).isOverflow()) {
+            grow(CHUNK_SIZE);
+        }
+    }
+
+    private void grow(int extra) {
+        ByteBuffer grown = ByteBuffer.allocate(bytes.capacity() + extra);
+        bytes.flip();
+        grown.put(bytes);
+        bytes = grown;
+    }
+}
@@ -0,0 +1,267 @@
+/* Copyright (c) Jython Developers */
+package org.python.core.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+import org.python.core.Py;
+import org.python.core.PyArray;
+import org.python.core.PyObject;
+import org.python.core.PyString;
+import org.python.core.util.StringUtil;
+
+/**
+ * Send and receive paths for socket.py that don't allocate per call.
+ *
+ * Data moves through a direct ByteBuffer and a byte[] scratch area pooled per thread, or,
+ * for byte arrays, straight to and from the array's own storage. IOExceptions are passed
+ * through untouched so socket.py can map them to socket.error.
+ */
+public class SocketBuffers {
+
+    /** Size of the pooled buffers, and the most any one recv call returns. */
+    public static final int BUFFER_SIZE = 32 * 1024;
+
+    private static final ThreadLocal<Buffers> buffers = new ThreadLocal<Buffers>() {
+        @Override
+        protected Buffers initialValue() {
+            return new Buffers();
+        }
+    };
+
+    private static class Buffers {
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        final byte[] scratch = new byte[BUFFER_SIZE];
+    }
+
+    private SocketBuffers() {}
+
+    /**
+     * Receive up to nbytes from a channel.
+     *
+     * @return the bytes received, an empty string at end of stream, or null if nothing
+     *         could be read without blocking
+     */
+    public static PyString recv(ReadableByteChannel channel, int nbytes) throws IOException {
+        Buffers pooled = buffers.get();
+        ByteBuffer direct = pooled.direct;
+        direct.clear();
+        direct.limit(Math.min(nbytes, BUFFER_SIZE));
+        int count = channel.read(direct);
+        if (count == -1) {
+            return Py.EmptyString;
+        } else if (count == 0) {
+            return null;
+        }
+        direct.flip();
+        direct.get(pooled.scratch, 0, count);
+        return new PyString(StringUtil.fromBytes(pooled.scratch, 0, count));
+    }
+
+    /**
+     * Receive up to nbytes from a (socket) InputStream.
+     *
+     * @return the bytes received, an empty string at end of stream
+     */
+    public static PyString recv(InputStream in, int nbytes) throws IOException {
+        byte[] scratch = buffers.get().scratch;
+        int count = in.read(scratch, 0, Math.min(nbytes, BUFFER_SIZE));
+        if (count <= 0) {
+            return Py.EmptyString;
+        }
+        return new PyString(StringUtil.fromBytes(scratch, 0, count));
+    }
+
+    /**
+     * Receive up to nbytes (or len(buffer) if nbytes is 0) from a channel into the start of
+     * buffer, a byte or char array.
+     *
+     * @return the number of bytes received, -1 at end of stream, or 0 if nothing could be
+     *         read without blocking
+     */
+    public static int recvInto(ReadableByteChannel channel, PyObject buffer, int nbytes)
+            throws IOException {
+        PyArray array = checkArray(buffer);
+        nbytes = checkCount(array, nbytes);
+        Object storage = array.getArrayStorage();
+        if (storage instanceof byte[]) {
+            return channel.read(ByteBuffer.wrap((byte[])storage, 0, nbytes));
+        }
+
+        char[] chars = (char[])storage;
+        ByteBuffer direct = buffers.get().direct;
+        int total = 0;
+        while (total < nbytes) {
+            int chunk = Math.min(nbytes - total, BUFFER_SIZE);
+            direct.clear();
+            direct.limit(chunk);
+            int count = channel.read(direct);
+            if (count <= 0) {
+                return total == 0 ? count : total;
+            }
+            direct.flip();
+            for (int i = 0; i < count; i++) {
+                chars[total++] = (char)(direct.get() & 0xff);
+            }
+            if (count < chunk) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Receive up to nbytes (or len(buffer) if nbytes is 0) from a (socket) InputStream into
+     * the start of buffer, a byte or char array.
+     *
+     * @return the number of bytes received, 0 at end of stream
+     */
+    public static int recvInto(InputStream in, PyObject buffer, int nbytes) throws IOException {
+        PyArray array = checkArray(buffer);
+        nbytes = checkCount(array, nbytes);
+        Object storage = array.getArrayStorage();
+        if (storage instanceof byte[]) {
+            return Math.max(in.read((byte[])storage, 0, nbytes), 0);
+        }
+
+        byte[] scratch = buffers.get().scratch;
+        int count = in.read(scratch, 0, Math.min(nbytes, BUFFER_SIZE));
+        char[] chars = (char[])storage;
+        for (int i = 0; i < count; i++) {
+            chars[i] = (char)(scratch[i] & 0xff);
+        }
+        return Math.max(count, 0);
+    }
+
+    /**
+     * Send as much of data as the channel accepts in one go.
+     *
+     * @return the number of bytes sent
+     */
+    public static int send(WritableByteChannel channel, PyObject data) throws IOException {
+        return write(channel, data, false);
+    }
+
+    /**
+     * Send all of data to the channel. A non-blocking channel may still not accept all of it,
+     * in which case the caller has to check the number of bytes sent.
+     *
+     * @return the number of bytes sent
+     */
+    public static int sendall(WritableByteChannel channel, PyObject data) throws IOException {
+        return write(channel, data, true);
+    }
+
+    /**
+     * Send all of data to a (socket) OutputStream.
+     *
+     * @return the number of bytes sent
+     */
+    public static int sendall(OutputStream out, PyObject data) throws IOException {
+        if (data instanceof PyArray) {
+            byte[] bytes = arrayBytes((PyArray)data);
+            if (bytes != null) {
+                int length = data.__len__();
+                out.write(bytes, 0, length);
+                return length;
+            }
+            data = new PyString(((PyArray)data).tostring());
+        }
+        String string = checkString(data);
+        byte[] scratch = buffers.get().scratch;
+        int length = string.length();
+        for (int offset = 0; offset < length; offset += BUFFER_SIZE) {
+            int end = Math.min(offset + BUFFER_SIZE, length);
+            StringUtil.toBytes(string, offset, end, scratch, 0);
+            out.write(scratch, 0, end - offset);
+        }
+        return length;
+    }
+
+    private static int write(WritableByteChannel channel, PyObject data, boolean all)
+            throws IOException {
+        if (data instanceof PyArray) {
+            byte[] bytes = arrayBytes((PyArray)data);
+            if (bytes != null) {
+                ByteBuffer wrapped = ByteBuffer.wrap(bytes, 0, data.__len__());
+                int total = 0;
+                do {
+                    int count = channel.write(wrapped);
+                    if (count == 0) {
+                        break;
+                    }
+                    total += count;
+                } while (all && wrapped.hasRemaining());
+                return total;
+            }
+            data = new PyString(((PyArray)data).tostring());
+        }
+
+        String string = checkString(data);
+        Buffers pooled = buffers.get();
+        ByteBuffer direct = pooled.direct;
+        int length = string.length();
+        int total = 0;
+        while (total < length) {
+            int end = Math.min(total + BUFFER_SIZE, length);
+            StringUtil.toBytes(string, total, end, pooled.scratch, 0);
+            direct.clear();
+            direct.put(pooled.scratch, 0, end - total);
+            direct.flip();
+            do {
+                int count = channel.write(direct);
+                if (count == 0) {
+                    return total;
+                }
+                total += count;
+            } while (all && direct.hasRemaining());
+            if (direct.hasRemaining()) {
+                // a partial send
+                break;
+            }
+        }
+        return total;
+    }
+
+    private static String checkString(PyObject data) {
+        if (!(data instanceof PyString)) {
+            throw Py.TypeError("argument 1 must be string or read-only buffer, not "
+                               + data.getType().fastGetName());
+        }
+        return ((PyString)data).getString();
+    }
+
+    private static byte[] arrayBytes(PyArray array) {
+        Object storage = array.getArrayStorage();
+        return storage instanceof byte[] ? (byte[])storage : null;
+    }
+
+    private static PyArray checkArray(PyObject buffer) {
+        if (buffer instanceof PyArray) {
+            Object storage = ((PyArray)buffer).getArrayStorage();
+            if (storage instanceof byte[] || storage instanceof char[]) {
+                return (PyArray)buffer;
+            }
+        }
+        throw Py.TypeError("argument 1 must be a byte or char array, not "
+                           + buffer.getType().fastGetName());
+    }
+
+    private static int checkCount(PyArray array, int nbytes) {
+        int length = array.__len__();
+        if (nbytes < 0) {
+            throw Py.ValueError("negative buffersize in recv_into");
+        } else if (nbytes == 0) {
+            return length;
+        } else if (nbytes > length) {
+            throw Py.ValueError("buffer too small for requested bytes");
+        }
+        return nbytes;
+    }
+}
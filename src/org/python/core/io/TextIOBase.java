@@ -23,6 +23,9 @@ public abstract class TextIOBase extends IOBase {
     /** The size of chunks read for readline */
     public static final int CHUNK_SIZE = 300;
 
+    /** The size of the chunks passed to an IncrementalDecoder */
+    private static final int DECODE_CHUNK_SIZE = 8192;
+
     /** Byte representation of the Carriage Return character */
     protected static final byte CR_BYTE = 13;
 
@@ -67,6 +70,50 @@ public abstract class TextIOBase extends IOBase {
         return null;
     }
 
+    /**
+     * Read up to size bytes, or until EOF if size is negative, decoding them with the given
+     * decoder.
+     *
+     * The bytes are passed to the decoder a buffer at a time, so only the decoded text is
+     * held in full. A multibyte sequence cut off by size stays in the decoder for the next
+     * call. The stream's own newline translation doesn't apply; the decoder does its own.
+     *
+     * @param decoder an IncrementalDecoder
+     * @param size the number of bytes to read
+     * @return a String containing the decoded text
+     */
+    public String read(IncrementalDecoder decoder, int size) {
+        checkClosed();
+        checkReadable();
+        int remaining = size < 0 ? Integer.MAX_VALUE : size;
+        StringBuilder text = new StringBuilder();
+
+        // Consume the readahead first
+        if (readahead.hasRemaining() && remaining > 0) {
+            int count = Math.min(readahead.remaining(), remaining);
+            ByteBuffer chunk = readahead.duplicate();
+            chunk.limit(chunk.position() + count);
+            text.append(decoder.decode(chunk, false));
+            readahead.position(readahead.position() + count);
+            remaining -= count;
+        }
+
+        ByteBuffer chunk = ByteBuffer.allocate(Math.min(remaining, DECODE_CHUNK_SIZE));
+        while (remaining > 0) {
+            chunk.clear();
+            chunk.limit(Math.min(chunk.capacity(), remaining));
+            if (bufferedIO.read1(chunk) <= 0) {
+                // EOF
+                text.append(decoder.decode(chunk, true));
+                break;
+            }
+            chunk.flip();
+            remaining -= chunk.remaining();
+            text.append(decoder.decode(chunk, false));
+        }
+        return text.toString();
+    }
+
     /**
      * Read until EOF.
      *
@@ -129,6 +176,26 @@ public abstract class TextIOBase extends IOBase {
         return -1;
     }
 
+    /**
+     * Encode text with the given encoder and write the result.
+     *
+     * The stream's own newline translation doesn't apply; the encoder does its own. A high
+     * surrogate ending text stays in the encoder for the next call unless last is true.
+     *
+     * @param encoder an IncrementalEncoder
+     * @param text the text to write
+     * @param last true if no more text follows
+     * @return the number of bytes written
+     */
+    public int write(IncrementalEncoder encoder, String text, boolean last) {
+        checkClosed();
+        checkWritable();
+        if (readahead.hasRemaining()) {
+            clearReadahead();
+        }
+        return bufferedIO.write(encoder.encodeBuffer(text, last));
+    }
+
     @Override
     public long truncate(long pos) {
         long initialPos = tell();
@@ -7,23 +7,20 @@ import org.python.core.Options;
 import org.python.util.Generic;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
-import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Modifier;
 import java.net.URL;
 import java.net.URLConnection;
 import java.security.AccessControlException;
+import java.util.Enumeration;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
 /**
@@ -94,9 +91,21 @@ public abstract class CachedJarsPackageManager extends PackageManager {
         return (acc & Modifier.PUBLIC) != Modifier.PUBLIC;
     }
 
-    private boolean indexModified;
+    /** Whether gathered info is cached, that is, {@link #initCache} has been called */
+    private boolean caching;
 
-    private Map<String,JarXEntry> jarfiles;
+    /** The cache as last read, null if there's none yet */
+    private PackageCacheFile cacheFile;
+
+    /** The jars gathered anew since the cache was read, by canonical path */
+    private Map<String, PackageCacheFile.Jar> modifiedJars;
+
+    private boolean lazy;
+
+    /** Jars added in lazy mode and not yet gathered, in the order they were added */
+    private final List<LazyJar> lazyJars = Generic.list();
+
+    private volatile boolean haveLazyJars;
 
     private static String listToString(List<String> list) {
         int n = list.size();
@@ -112,8 +121,9 @@ public abstract class CachedJarsPackageManager extends PackageManager {
 
     // Add a single class from zipFile to zipPackages
     // Only add valid, public classes
+    // The class is read from zipFile if that's given, otherwise zip is positioned at it
     private void addZipEntry(Map<String, List<String>[]> zipPackages, ZipEntry entry,
-            ZipInputStream zip) throws IOException {
+            ZipFile zipFile, InputStream zip) throws IOException {
         String name = entry.getName();
         // System.err.println("entry: "+name);
         if (!name.endsWith(".class")) {
@@ -145,7 +155,18 @@ public abstract class CachedJarsPackageManager extends PackageManager {
             vec = createGenericStringListArray();
             zipPackages.put(packageName, vec);
         }
-        int access = checkAccess(zip);
+        int access;
+        if (zipFile != null) {
+            // Only the start of the class is read, unlike through a ZipInputStream
+            InputStream in = new BufferedInputStream(zipFile.getInputStream(entry), 1024);
+            try {
+                access = checkAccess(in);
+            } finally {
+                in.close();
+            }
+        } else {
+            access = checkAccess(zip);
+        }
         if ((access != -1) && !filterByAccess(name, access)) {
             vec[0].add(className);
         } else {
@@ -166,11 +187,31 @@ public abstract class CachedJarsPackageManager extends PackageManager {
 
         ZipEntry entry;
         while ((entry = zip.getNextEntry()) != null) {
-            addZipEntry(zipPackages, entry, zip);
+            addZipEntry(zipPackages, entry, null, zip);
             zip.closeEntry();
         }
 
-        // Turn each vector into a comma-separated String
+        return joinClasses(zipPackages);
+    }
+
+    // Extract all of the packages in a single local jarfile
+    private Map<String, String> getZipPackages(File jarfile) throws IOException {
+        Map<String, List<String>[]> zipPackages = Generic.map();
+
+        ZipFile zipFile = new ZipFile(jarfile);
+        try {
+            for (Enumeration<? extends ZipEntry> e = zipFile.entries(); e.hasMoreElements();) {
+                addZipEntry(zipPackages, e.nextElement(), zipFile, null);
+            }
+        } finally {
+            zipFile.close();
+        }
+
+        return joinClasses(zipPackages);
+    }
+
+    // Turn each vector into a comma-separated String
+    private Map<String, String> joinClasses(Map<String, List<String>[]> zipPackages) {
         Map<String, String> transformed = Generic.map();
         for (Entry<String,List<String>[]> kv : zipPackages.entrySet()) {
             List<String>[] vec = kv.getValue();
@@ -187,8 +228,7 @@ public abstract class CachedJarsPackageManager extends PackageManager {
     /**
      * Gathers classes info from jar specified by jarurl URL. Eventually just
      * using previously cached info. Eventually updated info is not cached.
-     * Persistent cache storage access goes through inOpenCacheFile() and
-     * outCreateCacheFile().
+     * Persistent cache storage is in the cache dir, see {@link #initCache}.
      */
     public void addJarToPackages(java.net.URL jarurl) {
         addJarToPackages(jarurl, null, false);
@@ -197,8 +237,8 @@ public abstract class CachedJarsPackageManager extends PackageManager {
     /**
      * Gathers classes info from jar specified by jarurl URL. Eventually just
      * using previously cached info. Eventually updated info is (re-)cached if
-     * param cache is true. Persistent cache storage access goes through
-     * inOpenCacheFile() and outCreateCacheFile().
+     * param cache is true. Persistent cache storage is in the cache dir, see
+     * {@link #initCache}.
      */
     public void addJarToPackages(URL jarurl, boolean cache) {
         addJarToPackages(jarurl, null, cache);
@@ -207,8 +247,7 @@ public abstract class CachedJarsPackageManager extends PackageManager {
     /**
      * Gathers classes info from jar specified by File jarfile. Eventually just
      * using previously cached info. Eventually updated info is not cached.
-     * Persistent cache storage access goes through inOpenCacheFile() and
-     * outCreateCacheFile().
+     * Persistent cache storage is in the cache dir, see {@link #initCache}.
      */
     public void addJarToPackages(File jarfile) {
         addJarToPackages(null, jarfile, false);
@@ -217,16 +256,103 @@ public abstract class CachedJarsPackageManager extends PackageManager {
     /**
      * Gathers classes info from jar specified by File jarfile. Eventually just
      * using previously cached info. Eventually updated info is (re-)cached if
-     * param cache is true. Persistent cache storage access goes through
-     * inOpenCacheFile() and outCreateCacheFile().
+     * param cache is true. Persistent cache storage is in the cache dir, see
+     * {@link #initCache}.
      */
     public void addJarToPackages(File jarfile, boolean cache) {
         addJarToPackages(null, jarfile, cache);
     }
 
     private void addJarToPackages(URL jarurl, File jarfile, boolean cache) {
+        if (lazy) {
+            synchronized (this) {
+                lazyJars.add(new LazyJar(jarurl, jarfile, cache));
+                haveLazyJars = true;
+            }
+            return;
+        }
+        gatherJar(jarurl, jarfile, cache);
+    }
+
+    /**
+     * Sets whether jars added from now on are only gathered when a package they might
+     * contain is first looked up (see {@link #loadPackages}), rather than straight away.
+     */
+    protected void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    /**
+     * Gathers the jars added in lazy mode that might contain package name or packages in
+     * it: those the cache index says have such a package, and those it knows nothing (up
+     * to date) about.
+     */
+    @Override
+    public boolean loadPackages(String name) {
+        if (!haveLazyJars) {
+            return false;
+        }
+        synchronized (this) {
+            boolean loaded = false;
+            boolean cache = false;
+            for (Iterator<LazyJar> it = lazyJars.iterator(); it.hasNext();) {
+                LazyJar jar = it.next();
+                String[] packages = cachedPackages(jar);
+                if (packages != null && !mightContain(packages, name)) {
+                    continue;
+                }
+                it.remove();
+                gatherJar(jar.jarurl, jar.jarfile, jar.cache);
+                loaded = true;
+                cache |= jar.cache;
+            }
+            haveLazyJars = !lazyJars.isEmpty();
+            if (cache) {
+                saveCache();
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * Returns the packages in jar according to the cache, or null if it has no up to date
+     * record of them.
+     */
+    private String[] cachedPackages(LazyJar jar) {
+        if (!caching || jar.jarfile == null) {
+            return null;
+        }
+        try {
+            if (jar.jarcanon == null) {
+                jar.jarcanon = jar.jarfile.getCanonicalPath();
+            }
+        } catch (IOException ioe) {
+            return null;
+        }
+        long mtime = jar.jarfile.lastModified();
+        PackageCacheFile.Jar modified = modifiedJars.get(jar.jarcanon);
+        if (modified != null) {
+            return modified.mtime == mtime ? packageNames(modified.packages) : null;
+        }
+        return cacheFile == null ? null : cacheFile.getPackageNames(jar.jarcanon, mtime);
+    }
+
+    private static boolean mightContain(String[] packages, String name) {
+        int len = name.length();
+        if (len == 0) {
+            return packages.length > 0;
+        }
+        for (String pkg : packages) {
+            if (pkg.startsWith(name) && (pkg.length() == len || pkg.charAt(len) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void gatherJar(URL jarurl, File jarfile, boolean cache) {
         try {
-            boolean caching = this.jarfiles != null;
+            boolean caching = this.caching;
 
             URLConnection jarconn = null;
             boolean localfile = true;
@@ -255,8 +381,7 @@ public abstract class CachedJarsPackageManager extends PackageManager {
 
             long mtime = 0;
             String jarcanon = null;
-            JarXEntry entry = null;
-            boolean brandNew = false;
+            PackageCacheFile.Jar entry = null;
 
             if (caching) {
 
@@ -268,31 +393,14 @@ public abstract class CachedJarsPackageManager extends PackageManager {
                     jarcanon = jarurl.toString();
                 }
 
-                entry = this.jarfiles.get(jarcanon);
-
-                if ((entry == null || !(new File(entry.cachefile).exists()))
-                        && cache) {
-                    message("processing new jar, '" + jarcanon + "'");
-
-                    String jarname;
-                    if (localfile) {
-                        jarname = jarfile.getName();
-                    } else {
-                        jarname = jarurl.getFile();
-                        int slash = jarname.lastIndexOf('/');
-                        if (slash != -1)
-                            jarname = jarname.substring(slash + 1);
-                    }
-                    jarname = jarname.substring(0, jarname.length() - 4);
-
-                    entry = new JarXEntry(jarname);
-                    this.jarfiles.put(jarcanon, entry);
-
-                    brandNew = true;
+                entry = this.modifiedJars.get(jarcanon);
+                if (entry == null && this.cacheFile != null) {
+                    debug("reading cache, '" + jarcanon + "'");
+                    entry = this.cacheFile.get(jarcanon);
                 }
 
                 if (mtime != 0 && entry != null && entry.mtime == mtime) {
-                    zipPackages = readCacheFile(entry, jarcanon);
+                    zipPackages = entry.packages;
                 }
 
             }
@@ -301,25 +409,26 @@ public abstract class CachedJarsPackageManager extends PackageManager {
                 caching = caching && cache;
 
                 if (caching) {
-                    this.indexModified = true;
-                    if (entry.mtime != 0) {
+                    if (entry == null) {
+                        message("processing new jar, '" + jarcanon + "'");
+                    } else {
                         message("processing modified jar, '" + jarcanon + "'");
                     }
-                    entry.mtime = mtime;
                 }
 
-                InputStream jarin;
-                if (jarconn == null) {
-                    jarin = new BufferedInputStream(
-                            new FileInputStream(jarfile));
+                if (localfile) {
+                    zipPackages = getZipPackages(jarfile);
                 } else {
-                    jarin = jarconn.getInputStream();
+                    InputStream jarin = jarconn.getInputStream();
+                    try {
+                        zipPackages = getZipPackages(jarin);
+                    } finally {
+                        jarin.close();
+                    }
                 }
 
-                zipPackages = getZipPackages(jarin);
-
                 if (caching) {
-                    writeCacheFile(entry, jarcanon, zipPackages, brandNew);
+                    this.modifiedJars.put(jarcanon, new PackageCacheFile.Jar(mtime, zipPackages));
                 }
             }
 
@@ -333,6 +442,10 @@ public abstract class CachedJarsPackageManager extends PackageManager {
 
     }
 
+    private static String[] packageNames(Map<String, String> zipPackages) {
+        return zipPackages.keySet().toArray(new String[zipPackages.size()]);
+    }
+
     private void addPackages(Map<String,String> zipPackages, String jarfile) {
         for (Entry<String,String> entry : zipPackages.entrySet()) {
             String pkg = entry.getKey();
@@ -347,269 +460,78 @@ public abstract class CachedJarsPackageManager extends PackageManager {
         }
     }
 
-    // Read in cache file storing package info for a single .jar
-    // Return null and delete this cachefile if it is invalid
-    @SuppressWarnings("empty-statement")
-    private Map<String, String> readCacheFile(JarXEntry entry, String jarcanon) {
-        String cachefile = entry.cachefile;
-        long mtime = entry.mtime;
-
-        debug("reading cache, '" + jarcanon + "'");
-
-        try {
-            DataInputStream istream = inOpenCacheFile(cachefile);
-            String old_jarcanon = istream.readUTF();
-            long old_mtime = istream.readLong();
-            if ((!old_jarcanon.equals(jarcanon)) || (old_mtime != mtime)) {
-                comment("invalid cache file: " + cachefile + ", " + jarcanon
-                        + ":" + old_jarcanon + ", " + mtime + ":" + old_mtime);
-                deleteCacheFile(cachefile);
-                return null;
-            }
-            Map<String, String> packs = Generic.map();
-            try {
-                while (true) {
-                    String packageName = istream.readUTF();
-                    String classes = istream.readUTF();
-                    // XXX: Handle multiple chunks of classes and concatenate them
-                    // together. Multiple chunks were added in 2.5.2 (for #1595) in this
-                    // way to maintain compatibility with the pre 2.5.2 format. In the
-                    // future we should consider changing the cache format to prepend a
-                    // count of chunks to avoid this check
-                    if (packs.containsKey(packageName)) {
-                        classes = packs.get(packageName) + classes;
-                    }
-                    packs.put(packageName, classes);
-                }
-            } catch (EOFException eof) {
-                ;
-            }
-            istream.close();
-
-            return packs;
-        } catch (IOException ioe) {
-            // if (cachefile.exists()) cachefile.delete();
-            return null;
-        }
-    }
-
-    // Write a cache file storing package info for a single .jar
-    private void writeCacheFile(JarXEntry entry, String jarcanon,
-            Map<String,String> zipPackages, boolean brandNew) {
-        try {
-            DataOutputStream ostream = outCreateCacheFile(entry, brandNew);
-            ostream.writeUTF(jarcanon);
-            ostream.writeLong(entry.mtime);
-            comment("rewriting cachefile for '" + jarcanon + "'");
-
-            for (Entry<String,String> kv : zipPackages.entrySet()) {
-                String classes = kv.getValue();
-                // Make sure each package is not larger than 64k
-                for (String part : splitString(classes, 65535)) {
-                    // For each chunk, write the package name followed by the classes. 
-                    ostream.writeUTF(kv.getKey());
-                    ostream.writeUTF(part);
-                }
-            }
-            ostream.close();
-        } catch (IOException ioe) {
-            warning("can't write cache file for '" + jarcanon + "'");
-        }
-    }
-
     /**
-     * Split up a string into several chunks based on a certain size
-     * 
-     *  The writeCacheFile method will use the writeUTF method on a
-     *  DataOutputStream which only allows writing 64k chunks, so use 
-     *  this utility method to split it up
-     * 
-     * @param str - The string to split up into chunks
-     * @param maxLength - The max size a string should be
-     * @return - An array of strings, each of which will not be larger than maxLength
+     * Initializes cache. Reads back what's cached of the jars from the cache dir (see
+     * {@link #useCacheDir}), if it's been set.
      */
-    protected static String[] splitString(String str, int maxLength) {
-        if (str == null) {
-            return null;
-        }
-
-        int len = str.length();
-        if (len <= maxLength) {
-            return new String[] {str};
+    protected void initCache() {
+        this.caching = true;
+        this.modifiedJars = Generic.map();
+        if (this.cachedir == null) {
+            return;
         }
 
-        int chunkCount = (int) Math.ceil((float) len / maxLength);
-        String[] chunks = new String[chunkCount];
-        for (int i = 0; i < chunkCount; i++) {
-            chunks[i] = str.substring(i * maxLength, Math.min(i * maxLength + maxLength, len));
+        File oldIndex = new File(this.cachedir, "packages.idx");
+        if (oldIndex.exists()) {
+            comment("deleting cache files of an older format");
+            File[] files = this.cachedir.listFiles();
+            for (int i = 0; files != null && i < files.length; i++) {
+                if (files[i].getName().endsWith(".pkc")) {
+                    files[i].delete();
+                }
+            }
+            oldIndex.delete();
         }
-        return chunks;
-    }
-
-    /**
-     * Initializes cache. Eventually reads back cache index. Index persistent
-     * storage is accessed through inOpenIndex().
-     */
-    protected void initCache() {
-        this.indexModified = false;
-        this.jarfiles = Generic.map();
 
         try {
-            DataInputStream istream = inOpenIndex();
-            if (istream == null) {
-                return;
-            }
-
-            try {
-                while (true) {
-                    String jarcanon = istream.readUTF();
-                    String cachefile = istream.readUTF();
-                    long mtime = istream.readLong();
-                    this.jarfiles.put(jarcanon, new JarXEntry(cachefile, mtime));
-                }
-            } catch (EOFException eof) {
-                ;
-            }
-            istream.close();
+            this.cacheFile = PackageCacheFile.open(this.cachedir);
         } catch (IOException ioe) {
-            warning("invalid index file");
+            warning("invalid cache file");
         }
-
     }
 
     /**
-     * Write back cache index. Index persistent storage is accessed through
-     * outOpenIndex().
+     * Write back to the cache what's been gathered anew. Other JVMs sharing the cache dir may
+     * be doing so too, so it's done under a lock, along with what they've written.
      */
     public void saveCache() {
-        if (jarfiles == null || !indexModified) {
+        if (modifiedJars == null || modifiedJars.isEmpty() || cachedir == null) {
             return;
         }
 
-        indexModified = false;
-
-        comment("writing modified index file");
+        comment("writing modified cache file");
 
         try {
-            DataOutputStream ostream = outOpenIndex();
-            for (Entry<String,JarXEntry> entry : jarfiles.entrySet()) {
-                String jarcanon = entry.getKey();
-                JarXEntry xentry = entry.getValue();
-                ostream.writeUTF(jarcanon);
-                ostream.writeUTF(xentry.cachefile);
-                ostream.writeLong(xentry.mtime);
-            }
-            ostream.close();
+            cacheFile = PackageCacheFile.update(cachedir, modifiedJars);
         } catch (IOException ioe) {
-            warning("can't write index file");
+            warning("can't write cache file");
         }
+        modifiedJars.clear();
     }
 
-    // hooks for changing cache storage
-
     /**
-     * To pass a cachefile id by ref. And for internal use. See
-     * outCreateCacheFile
+     * A jar added in lazy mode, waiting to be gathered.
      */
-    public static class JarXEntry extends Object {
-        /** cachefile id */
-        public String cachefile;
+    private static class LazyJar {
 
-        public long mtime;
+        final URL jarurl;
 
-        public JarXEntry(String cachefile) {
-            this.cachefile = cachefile;
-        }
+        final File jarfile;
 
-        public JarXEntry(String cachefile, long mtime) {
-            this.cachefile = cachefile;
-            this.mtime = mtime;
-        }
+        final boolean cache;
 
-    }
+        String jarcanon;
 
-    /**
-     * Open cache index for reading from persistent storage - hook. Must Return
-     * null if this is absent. This default impl is part of the off-the-shelf
-     * local file-system cache impl. Can be overriden.
-     */
-    protected DataInputStream inOpenIndex() throws IOException {
-        File indexFile = new File(this.cachedir, "packages.idx");
-
-        if (!indexFile.exists()) {
-            return null;
+        LazyJar(URL jarurl, File jarfile, boolean cache) {
+            this.jarurl = jarurl;
+            this.jarfile = jarfile;
+            this.cache = cache;
         }
 
-        DataInputStream istream = new DataInputStream(new BufferedInputStream(
-                new FileInputStream(indexFile)));
-
-        return istream;
-    }
-
-    /**
-     * Open cache index for writing back to persistent storage - hook. This
-     * default impl is part of the off-the-shelf local file-system cache impl.
-     * Can be overriden.
-     */
-    protected DataOutputStream outOpenIndex() throws IOException {
-        File indexFile = new File(this.cachedir, "packages.idx");
-
-        return new DataOutputStream(new BufferedOutputStream(
-                new FileOutputStream(indexFile)));
-    }
-
-    /**
-     * Open cache file for reading from persistent storage - hook. This default
-     * impl is part of the off-the-shelf local file-system cache impl. Can be
-     * overriden.
-     */
-    protected DataInputStream inOpenCacheFile(String cachefile)
-            throws IOException {
-        return new DataInputStream(new BufferedInputStream(new FileInputStream(
-                cachefile)));
-    }
-
-    /**
-     * Delete (invalidated) cache file from persistent storage - hook. This
-     * default impl is part of the off-the-shelf local file-system cache impl.
-     * Can be overriden.
-     */
-    protected void deleteCacheFile(String cachefile) {
-        new File(cachefile).delete();
-    }
-
-    /**
-     * Create/open cache file for rewriting back to persistent storage - hook.
-     * If create is false, cache file is supposed to exist and must be opened
-     * for rewriting, entry.cachefile is a valid cachefile id. If create is
-     * true, cache file must be created. entry.cachefile is a flat jarname to be
-     * used to produce a valid cachefile id (to be put back in entry.cachefile
-     * on exit). This default impl is part of the off-the-shelf local
-     * file-system cache impl. Can be overriden.
-     */
-    protected DataOutputStream outCreateCacheFile(JarXEntry entry,
-            boolean create) throws IOException {
-        File cachefile = null;
-
-        if (create) {
-            int index = 1;
-            String suffix = "";
-            String jarname = entry.cachefile;
-            while (true) {
-                cachefile = new File(this.cachedir, jarname + suffix + ".pkc");
-                // System.err.println("try cachefile: "+cachefile);
-                if (!cachefile.exists()) {
-                    break;
-                }
-                suffix = "$" + index;
-                index += 1;
-            }
-            entry.cachefile = cachefile.getCanonicalPath();
-        } else
-            cachefile = new File(entry.cachefile);
-
-        return new DataOutputStream(new BufferedOutputStream(
-                new FileOutputStream(cachefile)));
+        @Override
+        public String toString() {
+            return jarfile != null ? jarfile.toString() : jarurl.toString();
+        }
     }
 
     // for default cache (local fs based) impl
@@ -0,0 +1,465 @@
+/* Copyright (c) Jython Developers */
+package org.python.core.packagecache;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.python.util.Generic;
+
+/**
+ * The package cache of {@link CachedJarsPackageManager}: the modification time of each jar
+ * gathered and the classes in each of its packages, in a single binary file that is memory
+ * mapped, so that only the jars looked up are ever decoded.
+ *
+ * The file has a header, a hash table of the jars by canonical path, the jar records and a
+ * table of the (distinct) strings they refer to by index:
+ *
+ * <pre>
+ * header:  magic, version, table size, string count, string table position, jar count
+ * table:   (hash of path, position of record or 0) * table size
+ * record:  path, mtime (long), package count,
+ *          (name, public class count, other class count, classes...) * package count
+ * strings: position of string * string count, (length (short), UTF-8 bytes) * string count
+ * </pre>
+ *
+ * A cache file is never changed once written. An update writes the next generation under a
+ * lock shared by all JVMs using the cache directory, merging in what's been written by
+ * others since this one read it, and deletes the older generations (which on some
+ * platforms fails while another JVM has one mapped, in which case a later update does it).
+ */
+final class PackageCacheFile {
+
+    private static final int MAGIC = 0x4a59504b;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 24;
+
+    private static final String PREFIX = "packages-";
+
+    private static final String SUFFIX = ".cache";
+
+    private static final String LOCK_NAME = "packages.lock";
+
+    private final ByteBuffer buf;
+
+    private final int tableSize;
+
+    private final int stringCount;
+
+    private final int stringTable;
+
+    /** The strings decoded so far, by index */
+    private final String[] strings;
+
+    private PackageCacheFile(ByteBuffer buf) throws IOException {
+        this.buf = buf;
+        if (buf.limit() < HEADER_SIZE || buf.getInt(0) != MAGIC || buf.getInt(4) != VERSION) {
+            throw new IOException("not a package cache file");
+        }
+        tableSize = buf.getInt(8);
+        stringCount = buf.getInt(12);
+        stringTable = buf.getInt(16);
+        if (tableSize <= 0 || (tableSize & (tableSize - 1)) != 0 || stringCount < 0
+                || stringTable < HEADER_SIZE + tableSize * 8
+                || stringTable + stringCount * 4L > buf.limit()) {
+            throw new IOException("corrupt package cache file");
+        }
+        strings = new String[stringCount];
+    }
+
+    /**
+     * A jar's modification time and the classes in each of its packages, as a comma
+     * separated list of the public ones, followed by '@' and a list of the others if
+     * there are any.
+     */
+    static class Jar {
+
+        final long mtime;
+
+        final Map<String, String> packages;
+
+        Jar(long mtime, Map<String, String> packages) {
+            this.mtime = mtime;
+            this.packages = packages;
+        }
+    }
+
+    /**
+     * Open the newest cache file in dir, or return null if there's none.
+     */
+    static PackageCacheFile open(File dir) throws IOException {
+        for (int attempt = 0;; attempt++) {
+            int generation = newestGeneration(dir);
+            if (generation < 0) {
+                return null;
+            }
+            FileInputStream in;
+            try {
+                in = new FileInputStream(cacheFile(dir, generation));
+            } catch (FileNotFoundException fnfe) {
+                // Another JVM just replaced it
+                if (attempt < 2) {
+                    continue;
+                }
+                throw fnfe;
+            }
+            try {
+                FileChannel channel = in.getChannel();
+                return new PackageCacheFile(channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                                                        channel.size()));
+            } finally {
+                in.close();
+            }
+        }
+    }
+
+    /**
+     * Write a new generation of the cache file in dir with jars, and with the other jars in
+     * the current generation (that still exist), and return it opened.
+     */
+    static PackageCacheFile update(File dir, Map<String, Jar> jars) throws IOException {
+        // File locks are held by the JVM, so threads within it have to take turns first
+        synchronized (PackageCacheFile.class) {
+            RandomAccessFile lockFile = new RandomAccessFile(new File(dir, LOCK_NAME), "rw");
+            try {
+                FileLock lock;
+                try {
+                    lock = lockFile.getChannel().lock();
+                } catch (IOException ioe) {
+                    // Not supported by this filesystem, so updates by other JVMs at the same
+                    // time may be lost (though the files written are always whole)
+                    lock = null;
+                }
+                try {
+                    return write(dir, jars);
+                } finally {
+                    if (lock != null) {
+                        lock.release();
+                    }
+                }
+            } finally {
+                lockFile.close();
+            }
+        }
+    }
+
+    private static PackageCacheFile write(File dir, Map<String, Jar> jars) throws IOException {
+        PackageCacheFile current;
+        try {
+            current = open(dir);
+        } catch (IOException ioe) {
+            current = null;
+        }
+        Writer writer = new Writer();
+        for (Entry<String, Jar> entry : jars.entrySet()) {
+            writer.add(entry.getKey(), entry.getValue());
+        }
+        int generation = newestGeneration(dir) + 1;
+        if (current != null) {
+            for (String jarcanon : current.jars()) {
+                if (jars.containsKey(jarcanon)) {
+                    continue;
+                }
+                File jarfile = new File(jarcanon);
+                if (jarfile.isAbsolute() && !jarfile.exists()) {
+                    continue;
+                }
+                Jar jar = current.get(jarcanon);
+                if (jar != null) {
+                    writer.add(jarcanon, jar);
+                }
+            }
+        }
+
+        File tmp = File.createTempFile(PREFIX, ".tmp", dir);
+        try {
+            writer.write(tmp);
+            if (!tmp.renameTo(cacheFile(dir, generation))) {
+                throw new IOException("can't rename " + tmp);
+            }
+        } finally {
+            tmp.delete();
+        }
+        String[] names = dir.list();
+        if (names != null) {
+            for (String name : names) {
+                int older = generationOf(name);
+                if (older >= 0 && older < generation) {
+                    new File(dir, name).delete();
+                }
+            }
+        }
+        return open(dir);
+    }
+
+    private static File cacheFile(File dir, int generation) {
+        return new File(dir, PREFIX + generation + SUFFIX);
+    }
+
+    private static int generationOf(String name) {
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(name.substring(PREFIX.length(),
+                                                   name.length() - SUFFIX.length()));
+        } catch (NumberFormatException nfe) {
+            return -1;
+        }
+    }
+
+    private static int newestGeneration(File dir) {
+        int newest = -1;
+        String[] names = dir.list();
+        if (names != null) {
+            for (String name : names) {
+                newest = Math.max(newest, generationOf(name));
+            }
+        }
+        return newest;
+    }
+
+    /**
+     * Return the position of the record of jar jarcanon, or 0 if there's none.
+     */
+    private int find(String jarcanon) {
+        int hash = jarcanon.hashCode();
+        int mask = tableSize - 1;
+        for (int i = hash & mask, n = 0; n < tableSize; i = (i + 1) & mask, n++) {
+            int slot = HEADER_SIZE + i * 8;
+            int pos = buf.getInt(slot + 4);
+            if (pos == 0) {
+                return 0;
+            }
+            if (buf.getInt(slot) == hash && string(buf.getInt(pos)).equals(jarcanon)) {
+                return pos;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Return the canonical paths of the jars.
+     */
+    synchronized List<String> jars() {
+        List<String> jars = Generic.list();
+        try {
+            for (int i = 0; i < tableSize; i++) {
+                int pos = buf.getInt(HEADER_SIZE + i * 8 + 4);
+                if (pos != 0) {
+                    jars.add(string(buf.getInt(pos)));
+                }
+            }
+        } catch (IndexOutOfBoundsException ioobe) {
+            // A corrupt file; what was read is all there is
+        }
+        return jars;
+    }
+
+    /**
+     * Return the package names in jar jarcanon if it was last modified at mtime, otherwise
+     * null.
+     */
+    synchronized String[] getPackageNames(String jarcanon, long mtime) {
+        try {
+            int pos = find(jarcanon);
+            if (pos == 0 || buf.getLong(pos + 4) != mtime) {
+                return null;
+            }
+            String[] names = new String[count(pos + 12, pos + 16, 12)];
+            pos += 16;
+            for (int i = 0; i < names.length; i++) {
+                names[i] = string(buf.getInt(pos));
+                int publicCount = count(pos + 4, pos + 12, 4);
+                pos += 12 + 4 * (publicCount + count(pos + 8, pos + 12 + 4L * publicCount, 4));
+            }
+            return names;
+        } catch (IndexOutOfBoundsException ioobe) {
+            return null;
+        }
+    }
+
+    /**
+     * Return what's recorded of jar jarcanon, or null if nothing is.
+     */
+    synchronized Jar get(String jarcanon) {
+        try {
+            int pos = find(jarcanon);
+            if (pos == 0) {
+                return null;
+            }
+            long mtime = buf.getLong(pos + 4);
+            int packageCount = count(pos + 12, pos + 16, 12);
+            pos += 16;
+            Map<String, String> packages = Generic.map();
+            StringBuilder classes = new StringBuilder();
+            for (int i = 0; i < packageCount; i++) {
+                String name = string(buf.getInt(pos));
+                int publicCount = count(pos + 4, pos + 12, 4);
+                int classCount = publicCount + count(pos + 8, pos + 12 + 4L * publicCount, 4);
+                pos += 12;
+                classes.setLength(0);
+                for (int j = 0; j < classCount; j++, pos += 4) {
+                    if (j == publicCount) {
+                        classes.append('@');
+                    } else if (j > 0) {
+                        classes.append(',');
+                    }
+                    classes.append(string(buf.getInt(pos)));
+                }
+                packages.put(name, classes.toString());
+            }
+            return new Jar(mtime, packages);
+        } catch (IndexOutOfBoundsException ioobe) {
+            return null;
+        }
+    }
+
+    /**
+     * Return the count at pos, checking that as many items of size bytes fit in the file
+     * from start, so a corrupt file is taken as having nothing recorded rather than making
+     * a huge or negative array.
+     */
+    private int count(int pos, long start, int size) {
+        int count = buf.getInt(pos);
+        if (count < 0 || start + (long)count * size > buf.limit()) {
+            throw new IndexOutOfBoundsException("corrupt package cache file at " + pos);
+        }
+        return count;
+    }
+
+    private String string(int index) {
+        String s = strings[index];
+        if (s == null) {
+            int pos = buf.getInt(stringTable + index * 4);
+            byte[] bytes = new byte[buf.getShort(pos) & 0xffff];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buf.get(pos + 2 + i);
+            }
+            try {
+                s = new String(bytes, "UTF-8");
+            } catch (UnsupportedEncodingException uee) {
+                throw new RuntimeException(uee);
+            }
+            strings[index] = s;
+        }
+        return s;
+    }
+
+    /**
+     * Collects jars and writes them out as a cache file.
+     */
+    private static class Writer {
+
+        private final Map<String, Integer> stringIndex = Generic.map();
+
+        private final List<String> strings = Generic.list();
+
+        private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+
+        private final DataOutputStream records = new DataOutputStream(recordBytes);
+
+        /** The path hash and the position relative to the first of each record */
+        private final List<int[]> jars = Generic.list();
+
+        void add(String jarcanon, Jar jar) throws IOException {
+            jars.add(new int[] {jarcanon.hashCode(), records.size()});
+            records.writeInt(index(jarcanon));
+            records.writeLong(jar.mtime);
+            records.writeInt(jar.packages.size());
+            for (Entry<String, String> entry : jar.packages.entrySet()) {
+                String classes = entry.getValue();
+                int at = classes.indexOf('@');
+                String[] publicClasses = split(at == -1 ? classes : classes.substring(0, at));
+                String[] otherClasses = split(at == -1 ? "" : classes.substring(at + 1));
+                records.writeInt(index(entry.getKey()));
+                records.writeInt(publicClasses.length);
+                records.writeInt(otherClasses.length);
+                for (String name : publicClasses) {
+                    records.writeInt(index(name));
+                }
+                for (String name : otherClasses) {
+                    records.writeInt(index(name));
+                }
+            }
+        }
+
+        private static String[] split(String classes) {
+            return classes.length() == 0 ? new String[0] : classes.split(",");
+        }
+
+        private int index(String s) {
+            Integer index = stringIndex.get(s);
+            if (index == null) {
+                index = strings.size();
+                stringIndex.put(s, index);
+                strings.add(s);
+            }
+            return index;
+        }
+
+        void write(File file) throws IOException {
+            int tableSize = 16;
+            while (tableSize < jars.size() * 2) {
+                tableSize *= 2;
+            }
+            int recordsStart = HEADER_SIZE + tableSize * 8;
+            int stringTable = recordsStart + records.size();
+            int[] table = new int[tableSize * 2];
+            for (int[] jar : jars) {
+                int i = jar[0] & (tableSize - 1);
+                while (table[i * 2 + 1] != 0) {
+                    i = (i + 1) & (tableSize - 1);
+                }
+                table[i * 2] = jar[0];
+                table[i * 2 + 1] = recordsStart + jar[1];
+            }
+
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new FileOutputStream(file)));
+            try {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(tableSize);
+                out.writeInt(strings.size());
+                out.writeInt(stringTable);
+                out.writeInt(jars.size());
+                for (int entry : table) {
+                    out.writeInt(entry);
+                }
+                recordBytes.writeTo(out);
+                byte[][] encoded = new byte[strings.size()][];
+                int pos = stringTable + strings.size() * 4;
+                for (int i = 0; i < encoded.length; i++) {
+                    encoded[i] = strings.get(i).getBytes("UTF-8");
+                    if (encoded[i].length > 0xffff) {
+                        throw new IOException("name too long for the package cache");
+                    }
+                    out.writeInt(pos);
+                    pos += 2 + encoded[i].length;
+                }
+                for (byte[] bytes : encoded) {
+                    out.writeShort(bytes.length);
+                    out.write(bytes);
+                }
+            } finally {
+                out.close();
+            }
+        }
+    }
+}
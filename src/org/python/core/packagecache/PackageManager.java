@@ -41,6 +41,19 @@ public abstract class PackageManager extends Object {
      */
     public abstract boolean packageExists(String pkg, String name);
 
+    /**
+     * Gathers the statically known info about package name and the packages in it, if
+     * that was put off until they were looked up - hook. Called by {@link PyJavaPackage}
+     * before it looks a name up dynamically, and by {@link #basicDoDir}. This default
+     * impl does nothing.
+     *
+     * @param name full package name, "" for all packages
+     * @return true if info was gathered
+     */
+    public boolean loadPackages(String name) {
+        return false;
+    }
+
     /**
      * Reports the specified package content names. Should be overriden. Used by
      * {@link PyJavaPackage#__dir__} and {@link PyJavaPackage#fillDir}.
@@ -83,6 +96,7 @@ public abstract class PackageManager extends Object {
      */
     protected PyList basicDoDir(PyJavaPackage jpkg, boolean instantiate,
             boolean exclpkgs) {
+        loadPackages(jpkg.__name__);
         PyStringMap dict = jpkg.__dict__;
         PyStringMap cls = jpkg.clsSet;
 
@@ -36,6 +36,7 @@ public class SysPackageManager extends PathPackageManager {
     public SysPackageManager(File cachedir, Properties registry) {
         if (useCacheDir(cachedir)) {
             initCache();
+            setLazy(Boolean.valueOf(registry.getProperty("python.packages.lazy", "true")));
             findAllPackages(registry);
             saveCache();
         }
@@ -28,6 +28,33 @@ public class StringUtil {
         }
     }
 
+    /**
+     * Copy the low-order bits of each char of string into dest, from destBegin on.
+     *
+     * @param string a String value
+     * @param dest the array to copy into
+     * @param destBegin the offset in dest of the first byte
+     */
+    public static void toBytes(String string, byte[] dest, int destBegin) {
+        toBytes(string, 0, string.length(), dest, destBegin);
+    }
+
+    /**
+     * Copy the low-order bits of the chars of string from begin to end into dest, from
+     * destBegin on.
+     *
+     * @param string a String value
+     * @param begin the index of the first char to copy
+     * @param end the index after the last char to copy
+     * @param dest the array to copy into
+     * @param destBegin the offset in dest of the first byte
+     */
+    @SuppressWarnings("deprecation")
+    public static void toBytes(String string, int begin, int end, byte[] dest, int destBegin) {
+        // Deprecated like the String constructor fromBytes uses, and as fast
+        string.getBytes(begin, end, dest, destBegin);
+    }
+
     /**
      * Return a new String with chars corresponding to buf from off to
      * off + len.
@@ -39,6 +39,8 @@ public class ExposedTypeProcessor implements Opcodes, PyTypes {
 
     private Type onType;
 
+    private int classVersion;
+
     /**
      * @param in -
      *            an InputStream to bytecode of an ExposedType
@@ -127,6 +129,7 @@ public class ExposedTypeProcessor implements Opcodes, PyTypes {
                           String superName,
                           String[] interfaces) {
             onType = Type.getType("L" + name + ";");
+            classVersion = version;
             super.visit(version, access, name, signature, superName, interfaces);
         }
 
@@ -169,15 +172,15 @@ public class ExposedTypeProcessor implements Opcodes, PyTypes {
                                           descExposers.values(),
                                           newExposer);
             for (MethodExposer exposer : methodExposers) {
-                addInnerClass(exposer.getGeneratedType());
+                addInnerClass(exposer);
             }
             for (DescriptorExposer exposer : descExposers.values()) {
-                addInnerClass(exposer.getGeneratedType());
+                addInnerClass(exposer);
             }
             if (newExposer != null) {
-                addInnerClass(newExposer.getGeneratedType());
+                addInnerClass(newExposer);
             }
-            addInnerClass(typeExposer.getGeneratedType());
+            addInnerClass(typeExposer);
             // Create the builder and add it to PyType's map in a static block
             // if we haven't already added it to a preexisting static block
             if(!generatedStaticBlock) {
@@ -203,6 +206,15 @@ public class ExposedTypeProcessor implements Opcodes, PyTypes {
                                Type.getMethodDescriptor(VOID, new Type[] {CLASS, TYPEBUILDER}));
         }
 
+        /**
+         * Adds an inner class reference to the class exposer generates from the class being
+         * visited, and has it generated in the same class file version.
+         */
+        private void addInnerClass(Exposer exposer) {
+            exposer.setClassVersion(classVersion);
+            addInnerClass(exposer.getGeneratedType());
+        }
+
         /** Adds an inner class reference to inner from the class being visited. */
         private void addInnerClass(Type inner) {
             super.visitInnerClass(inner.getInternalName(),
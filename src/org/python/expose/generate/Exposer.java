@@ -32,6 +32,9 @@ public abstract class Exposer implements Opcodes, PyTypes {
     
     protected Type[] interfacesImplemented;
 
+    /** The class file version of the generated class. */
+    private int classVersion = V1_5;
+
     /** Maps from a primitive type to its wrapper */
     protected static final Map<Type, Type> PRIMITIVES = new HashMap<Type, Type>() {
         {
@@ -74,6 +77,14 @@ public abstract class Exposer implements Opcodes, PyTypes {
         return l.loadClassFromBytes(getClassName(), cw.toByteArray());
     }
 
+    /**
+     * Sets the class file version of the generated class, so it can match that of the class it
+     * exposes: the JVM can't share the data of classes older than Java 6 between processes.
+     */
+    public void setClassVersion(int classVersion) {
+        this.classVersion = classVersion;
+    }
+
     protected Type getGeneratedType() {
         return thisType;
     }
@@ -98,7 +109,7 @@ public abstract class Exposer implements Opcodes, PyTypes {
         for (int i = 0; i < interfaces.length; i++) {
             interfaces[i] = interfacesImplemented[i].getInternalName();
         }
-        cv.visit(V1_5,
+        cv.visit(classVersion,
                  ACC_PUBLIC,
                  getInternalName(),
                  null,
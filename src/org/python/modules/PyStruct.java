@@ -1,10 +1,8 @@
 package org.python.modules;
 
 import org.python.core.Py;
-import org.python.core.PyArray;
 import org.python.core.PyNewWrapper;
 import org.python.core.PyObject;
-import org.python.core.PyString;
 import org.python.core.PyTuple;
 import org.python.core.PyType;
 import org.python.expose.ExposedGet;
@@ -22,7 +20,7 @@ public class PyStruct extends PyObject {
     @ExposedGet
     public final int size;
     
-    private final struct.FormatDef[] format_def;
+    private final struct.CompiledFormat compiled;
 
     @ExposedGet(name = "__class__")
     @Override
@@ -43,8 +41,8 @@ public class PyStruct extends PyObject {
             throw Py.TypeError("Struct() takes exactly 1 argument (" + nargs + " given)");
         }
         format = args[0].toString();
-        format_def = struct.whichtable(format);
-        size = struct.calcsize(format, format_def);
+        compiled = struct.compile(format);
+        size = compiled.size;
     }
     
     @ExposedNew
@@ -55,34 +53,27 @@ public class PyStruct extends PyObject {
 
     @ExposedMethod
     public String pack(PyObject[] args, String[] kwds) {
-        return struct.pack(format, format_def, size, 0, args).toString();
+        return compiled.pack(args, 0).toString();
     }
-    
+
     @ExposedMethod
     final void pack_into(PyObject[] args, String[] kwds) {
-        struct.pack_into(format, format_def, size, 0, args);
+        if (args.length < 2)
+            throw Py.TypeError("pack_into expected buffer and offset arguments");
+        compiled.pack_into(args[0], args[1].asInt(), args, 2);
     }
-  
+
     @ExposedMethod
     public PyTuple unpack(PyObject source) {
-        String s;
-        if (source instanceof PyString)
-            s = source.toString();
-        else if (source instanceof PyArray) 
-            s = ((PyArray)source).tostring();
-        else
-            throw Py.TypeError("unpack of a str or array");
-        if (size != s.length()) 
-            throw struct.StructError("unpack str size does not match format");
-        return struct.unpack(format_def, size, format, new struct.ByteStream(s));
+        return compiled.unpack(source);
     }
-    
-    // xxx - also support byte[], java.nio.(Byte)Buffer at some point?
+
+    /**
+     * Unpack from a string, an array or a java.nio.ByteBuffer (such as a
+     * mapped file) starting at offset.
+     */
     @ExposedMethod(defaults = {"0"})
     public PyTuple unpack_from(PyObject string, int offset) {
-        String s = string.toString();
-        if (size >= (s.length() - offset + 1))
-            throw struct.StructError("unpack_from str size does not match format");
-        return struct.unpack(format_def, size, format, new struct.ByteStream(s, offset));
+        return compiled.unpack_from(string, offset);
     }
-}
\ No newline at end of file
+}
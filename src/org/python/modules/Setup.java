@@ -59,6 +59,8 @@ public class Setup
         "_ast:org.python.antlr.ast.AstModule",
         "_marshal",
         "_threading:org.python.modules._threading._threading",
+        "_select:org.python.modules._select._select",
+        "zlib",
         PosixModule.getOSName() + ":org.python.modules.posix.PosixModule",
         "jffi:org.python.modules.jffi.jffi"
     };
@@ -498,12 +498,15 @@ public class _codecs {
                 continue;
             }
             char ch2 = str.charAt(i + 1);
-            if (ch1 == 0xFE && ch2 == 0xFF) {
-                bo = 1;
-                continue;
-            } else if (ch1 == 0xFF && ch2 == 0xFE) {
-                bo = -1;
-                continue;
+            // Only a leading BOM sets the byte order; elsewhere it's an ordinary character
+            if (i == 0 && bo == 0) {
+                if (ch1 == 0xFE && ch2 == 0xFF) {
+                    bo = 1;
+                    continue;
+                } else if (ch1 == 0xFF && ch2 == 0xFE) {
+                    bo = -1;
+                    continue;
+                }
             }
             int W1;
             if (bo == -1) {
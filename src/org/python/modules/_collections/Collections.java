@@ -8,6 +8,8 @@ import org.python.core.PyObject;
  *               structures.
  *               - deque:  ordered collection accessible from endpoints only
  *               - defaultdict:  dict subclass with a default value factory
+ *               - spsc_deque:  a deque for handing elements from one thread to
+ *                 another without locking
  */
 public class Collections implements ClassDictInit {
 
@@ -15,4 +17,16 @@ public class Collections implements ClassDictInit {
         dict.__setitem__("deque", PyDeque.TYPE);  
         dict.__setitem__("defaultdict", PyDefaultDict.TYPE);
     }
+
+    /**
+     * Return a deque for one producer thread, calling append and extend, and one consumer
+     * thread, calling popleft, that takes no locks; a Jython extension.
+     */
+    public static PyObject spsc_deque() {
+        return PyDeque.newSpsc(null);
+    }
+
+    public static PyObject spsc_deque(PyObject iterable) {
+        return PyDeque.newSpsc(iterable);
+    }
 }
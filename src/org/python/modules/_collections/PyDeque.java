@@ -1,5 +1,6 @@
 package org.python.modules._collections;
 
+import org.python.core.ArgParser;
 import org.python.core.PyIterator;
 import org.python.core.PyObject;
 import org.python.core.PyTuple;
@@ -8,6 +9,7 @@ import org.python.core.Py;
 import org.python.core.PyException;
 import org.python.core.PyBuiltinCallable;
 import org.python.core.ThreadState;
+import org.python.expose.ExposedGet;
 import org.python.expose.ExposedMethod;
 import org.python.expose.ExposedNew;
 import org.python.expose.ExposedType;
@@ -23,41 +25,118 @@ import org.python.expose.MethodType;
  * operations and incur O(n) memory movement costs for pop(0) and insert(0, v) operations which
  * change both the size and position of the underlying data representation.
  * 
- * collections.deque([iterable]) - returns a new deque object initialized left-to-right (using
- * append()) with data from iterable. If iterable is not specified, the new deque is empty.
+ * collections.deque([iterable], maxlen=None) - returns a new deque object initialized
+ * left-to-right (using append()) with data from iterable. If iterable is not specified, the new
+ * deque is empty. A deque with a maxlen discards items from the opposite end as new ones are
+ * added once it is full; maxlen is keyword only.
+ *
+ * The elements are kept in a circular array. Every operation holds the deque's monitor, so
+ * threads can share a deque: each append and pop is atomic (though an extend is a series of
+ * appends), and popleft accepts a timeout, to wait for an element to be appended by another
+ * thread.
+ *
+ * As a Jython extension, _collections.spsc_deque([iterable]) creates a deque for handing
+ * elements from one producer thread, calling append and extend, to one consumer thread, calling
+ * popleft, without locking. Such a deque supports only those methods, len() and clear() (by the
+ * consumer).
  */
 @ExposedType(name = "collections.deque")
 public class PyDeque extends PyObject {
 
     public static final PyType TYPE = PyType.fromClass(PyDeque.class);
 
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** The elements, from head round to head + size - 1; the length is a power of 2. */
+    private PyObject[] elements = new PyObject[INITIAL_CAPACITY];
+
+    private int head = 0;
+
     private int size = 0;
 
-    private Node header = new Node(null, null, null); 
-    
+    /** Changed by every change to the deque other than item assignment. */
+    private int state = 0;
+
+    /** The maximum size, or -1 if unbounded. */
+    private int maxlen = -1;
+
+    /** The number of threads waiting in popleft for an element. */
+    private int waiters = 0;
+
+    /** Where the elements are kept instead in single-producer single-consumer mode. */
+    private SpscQueue spsc;
+
     public PyDeque() {
         this(TYPE);
     }
 
     public PyDeque(PyType subType) {
         super(subType);
-        header.left = header.right = header;
+    }
+
+    /**
+     * Return a new deque for handing elements from one producer thread to one consumer thread
+     * without locking, initialized with the elements of iterable if it's not null.
+     */
+    public static PyDeque newSpsc(PyObject iterable) {
+        PyDeque deque = new PyDeque();
+        deque.spsc = new SpscQueue();
+        if (iterable != null) {
+            deque.deque_extend(iterable);
+        }
+        return deque;
     }
 
     @ExposedNew
     @ExposedMethod
     final void deque___init__(PyObject[] args, String[] kwds) {
-        if (kwds.length > 0) {
-            throw Py.TypeError("deque() does not take keyword arguments");
-        }
-        int nargs = args.length;
+        int nargs = args.length - kwds.length;
         if (nargs > 1) {
+            // maxlen is keyword only
             throw PyBuiltinCallable.DefaultInfo.unexpectedCall(nargs, false, "deque", 0, 1);
         } 
-        if (nargs == 0) {
+        ArgParser ap = new ArgParser("deque", args, kwds, new String[] {"iterable", "maxlen"},
+                                     0);
+        PyObject iterable = ap.getPyObject(0, null);
+        setMaxlen(ap.getPyObject(1, Py.None));
+        if (iterable != null) {
+            deque_extend(iterable);
+        }
+    }
+
+    private synchronized void setMaxlen(PyObject maxlenObj) {
+        if (maxlenObj == Py.None) {
+            maxlen = -1;
             return;
         }
-        deque_extend(args[0]);
+        int newMaxlen = maxlenObj.asInt();
+        if (newMaxlen < 0) {
+            throw Py.ValueError("maxlen must be non-negative");
+        }
+        if (spsc != null) {
+            throw Py.ValueError("maxlen is not supported by a single-producer "
+                                + "single-consumer deque");
+        }
+        maxlen = newMaxlen;
+        while (size > maxlen) {
+            removeFirst();
+        }
+    }
+
+    /**
+     * Raise TypeError if the deque is in single-producer single-consumer mode, which doesn't
+     * support the named operation.
+     */
+    private void checkNotSpsc(String operation) {
+        if (spsc != null) {
+            throw Py.TypeError(operation + " is not supported by a single-producer "
+                               + "single-consumer deque");
+        }
+    }
+
+    @ExposedGet(name = "maxlen")
+    public PyObject getMaxlen() {
+        return maxlen < 0 ? Py.None : Py.newInteger(maxlen);
     }
 
     /**
@@ -65,23 +144,117 @@ public class PyDeque extends PyObject {
      */	
     @ExposedMethod
     final void deque_append(PyObject obj) {
-        addBefore(obj, header);		
+        if (spsc != null) {
+            spsc.offer(obj);
+            return;
+        }
+        append(obj);
+    }
+
+    private synchronized void append(PyObject obj) {
+        if (size == maxlen) {
+            if (maxlen == 0) {
+                return;
+            }
+            removeFirst();
+        }
+        addLast(obj);
+        if (waiters > 0) {
+            notifyAll();
+        }
     }
 
     /**
      * Add obj to the left side of the deque.
      */
     @ExposedMethod
-    final void deque_appendleft(PyObject obj) {		
-        addBefore(obj, header.right);
+    final synchronized void deque_appendleft(PyObject obj) {
+        checkNotSpsc("appendleft()");
+        if (size == maxlen) {
+            if (maxlen == 0) {
+                return;
+            }
+            removeLast();
+        }
+        addFirst(obj);
+        if (waiters > 0) {
+            notifyAll();
+        }
+    }
+
+    private int index(int pos) {
+        return (head + pos) & (elements.length - 1);
     }
 
-    private Node addBefore(PyObject obj, Node node) {
-        Node newNode = new Node(obj, node, node.left);
-        newNode.left.right = newNode;
-        newNode.right.left = newNode;
+    private void addLast(PyObject obj) {
+        if (size == elements.length) {
+            resize(size << 1);
+        }
+        elements[index(size)] = obj;
         size++;
-        return newNode;
+        state++;
+    }
+
+    private void addFirst(PyObject obj) {
+        if (size == elements.length) {
+            resize(size << 1);
+        }
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = obj;
+        size++;
+        state++;
+    }
+
+    private PyObject removeFirst() {
+        PyObject obj = elements[head];
+        elements[head] = null;
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        state++;
+        shrink();
+        return obj;
+    }
+
+    private PyObject removeLast() {
+        int last = index(size - 1);
+        PyObject obj = elements[last];
+        elements[last] = null;
+        size--;
+        state++;
+        shrink();
+        return obj;
+    }
+
+    /**
+     * Remove the element at pos, moving the shorter side across to close the gap.
+     */
+    private void removeAt(int pos) {
+        if (pos < size >> 1) {
+            for (int i = pos; i > 0; i--) {
+                elements[index(i)] = elements[index(i - 1)];
+            }
+            removeFirst();
+        } else {
+            for (int i = pos; i < size - 1; i++) {
+                elements[index(i)] = elements[index(i + 1)];
+            }
+            removeLast();
+        }
+    }
+
+    private void shrink() {
+        if (elements.length > INITIAL_CAPACITY && size < elements.length >> 2) {
+            resize(elements.length >> 1);
+        }
+    }
+
+    private void resize(int capacity) {
+        PyObject[] resized = new PyObject[capacity];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, resized, 0, firstPart);
+        System.arraycopy(elements, 0, resized, firstPart, size - firstPart);
+        elements = resized;
+        head = 0;
     }
 
     /**
@@ -89,16 +262,20 @@ public class PyDeque extends PyObject {
      */
     @ExposedMethod
     final void deque_clear() {
-        Node node = header.right;
-        while (node != header) {
-            Node right = node.right;
-            node.left = null;
-            node.right = null;
-            node.data = null;
-            node = right;
-        }
-        header.right = header.left = header;
+        if (spsc != null) {
+            while (spsc.poll() != null) {
+                ;
+            }
+            return;
+        }
+        clear();
+    }
+
+    private synchronized void clear() {
+        elements = new PyObject[INITIAL_CAPACITY];
+        head = 0;
         size = 0;
+        state++;
     }
 
     /**
@@ -107,6 +284,9 @@ public class PyDeque extends PyObject {
      */
     @ExposedMethod
     final void deque_extend(PyObject iterable) {
+        if (iterable == this) {
+            iterable = new PyTuple(toArray(), false);
+        }
         for (PyObject item : iterable.asIterable()) {
             deque_append(item);			
         } 
@@ -119,63 +299,108 @@ public class PyDeque extends PyObject {
      */
     @ExposedMethod
     final void deque_extendleft(PyObject iterable) {
+        checkNotSpsc("extendleft()");
+        if (iterable == this) {
+            iterable = new PyTuple(toArray(), false);
+        }
         for (PyObject item : iterable.asIterable()) {
             deque_appendleft(item);
         }
     }
 
+    private synchronized PyObject[] toArray() {
+        PyObject[] array = new PyObject[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = elements[index(i)];
+        }
+        return array;
+    }
+
     /**
      * Remove and return an element from the right side of the deque. If no 
      * elements are present, raises an IndexError.
      */
     @ExposedMethod
-    final PyObject deque_pop() {
-        return removeNode(header.left);
+    final synchronized PyObject deque_pop() {
+        checkNotSpsc("pop()");
+        if (size == 0) {
+            throw Py.IndexError("pop from an empty deque");
+        }
+        return removeLast();
     }
 
     /**
      * Remove and return an element from the left side of the deque. If no 
-     * elements are present, raises an IndexError.
+     * elements are present, raises an IndexError, unless a timeout is given: then
+     * wait up to that many seconds (forever if it's None) for one to be appended before
+     * raising the IndexError.
      */
-    @ExposedMethod
-    final PyObject deque_popleft() {
-        return removeNode(header.right);
-    }
+    @ExposedMethod(defaults = {"null"})
+    final PyObject deque_popleft(PyObject timeout) {
+        long nanos = 0;
+        if (timeout == Py.None) {
+            nanos = -1;
+        } else if (timeout != null) {
+            nanos = Math.max(0, (long)(timeout.asDouble() * 1e9));
+        }
 
-    private PyObject removeNode(Node node) {
-        if (node == header) {
+        PyObject obj;
+        try {
+            obj = spsc != null ? spsc.poll(nanos) : poll(nanos);
+        } catch (InterruptedException e) {
+            throw new PyException(Py.KeyboardInterrupt, "interrupted popleft");
+        }
+        if (obj == null) {
             throw Py.IndexError("pop from an empty deque");
         }
-        PyObject obj = node.data;
-        node.left.right = node.right;
-        node.right.left = node.left;
-        node.right = null;
-        node.left = null;
-        node.data = null;
-        size--;
         return obj;
-    } 
+    }
+
+    /**
+     * Remove and return the leftmost element, waiting up to nanos for one to be appended,
+     * forever if nanos is negative. Returns null if none arrives in time.
+     */
+    private synchronized PyObject poll(long nanos) throws InterruptedException {
+        if (size == 0 && nanos != 0) {
+            long deadline = System.nanoTime() + nanos;
+            waiters++;
+            try {
+                while (size == 0) {
+                    if (nanos < 0) {
+                        wait();
+                        continue;
+                    }
+                    long left = deadline - System.nanoTime();
+                    if (left <= 0) {
+                        break;
+                    }
+                    wait(left / 1000000, (int)(left % 1000000));
+                }
+            } finally {
+                waiters--;
+            }
+        }
+        return size == 0 ? null : removeFirst();
+    }
 
     /**
      * Removed the first occurrence of value. If not found, raises a 
      * ValueError.
      */
     @ExposedMethod
-    final PyObject deque_remove(PyObject value) {
+    final synchronized PyObject deque_remove(PyObject value) {
+        checkNotSpsc("remove()");
         int n = size;
-        Node tmp = header.right;
-        boolean match = false;
+        int startState = state;
         for (int i = 0; i < n; i++) {
-            if (tmp.data.equals(value)) { 
-                match = true;
-            }
-            if (n != size) { 
+            boolean match = elements[index(i)].equals(value);
+            if (startState != state) { 
                 throw Py.IndexError("deque mutated during remove().");
             }
             if (match) {
-                return removeNode(tmp);
+                removeAt(i);
+                return Py.None;
             }
-            tmp = tmp.right;
         }
         throw Py.ValueError("deque.remove(x): x not in deque");
     }
@@ -185,7 +410,8 @@ public class PyDeque extends PyObject {
      * left. Rotating one step to the right is equivalent to: d.appendleft(d.pop()).
      */
     @ExposedMethod(defaults = {"1"})
-    final void deque_rotate(int steps) {
+    final synchronized void deque_rotate(int steps) {
+        checkNotSpsc("rotate()");
         if (size == 0) {
             return;
         }
@@ -200,14 +426,23 @@ public class PyDeque extends PyObject {
             }
         }
 
+        int mask = elements.length - 1;
         //rotate right 
         for (int i = 0; i < steps; i++) {
-            deque_appendleft(deque_pop());
+            int last = index(size - 1);
+            PyObject obj = elements[last];
+            elements[last] = null;
+            head = (head - 1) & mask;
+            elements[head] = obj;
         } 
         //rotate left
         for (int i = 0; i > steps; i--) {
-            deque_append(deque_popleft());
+            PyObject obj = elements[head];
+            elements[head] = null;
+            head = (head + 1) & mask;
+            elements[index(size - 1)] = obj;
         } 
+        state++;
     }
 
     public String toString() {
@@ -216,18 +451,24 @@ public class PyDeque extends PyObject {
 
     @ExposedMethod(names = "__repr__")
     final String deque_toString() {
+        checkNotSpsc("repr()");
         ThreadState ts = Py.getThreadState();
         if (!ts.enterRepr(this)) { 
             return "[...]";
         }
+        PyObject[] array = toArray();
         StringBuilder buf = new StringBuilder("deque").append("([");
-        for (Node tmp = header.right; tmp != header; tmp = tmp.right) {
-            buf.append(tmp.data.__repr__().toString());
-            if (tmp.right != header) {
+        for (int i = 0; i < array.length; i++) {
+            buf.append(array[i].__repr__().toString());
+            if (i < array.length - 1) {
                 buf.append(", ");
             }
         }
-        buf.append("])");
+        buf.append("]");
+        if (maxlen >= 0) {
+            buf.append(", maxlen=").append(maxlen);
+        }
+        buf.append(")");
         ts.exitRepr(this);
         return buf.toString();
     }
@@ -238,6 +479,13 @@ public class PyDeque extends PyObject {
 
     @ExposedMethod
     final int deque___len__() {
+        if (spsc != null) {
+            return spsc.size();
+        }
+        return length();
+    }
+
+    private synchronized int length() {
         return size;
     }
 
@@ -247,7 +495,7 @@ public class PyDeque extends PyObject {
 
     @ExposedMethod
     final boolean deque___nonzero__() {
-        return size != 0;
+        return deque___len__() != 0;
     }
 
     public PyObject __finditem__(PyObject key) {
@@ -262,8 +510,8 @@ public class PyDeque extends PyObject {
     }
 
     @ExposedMethod
-    final PyObject deque___getitem__(PyObject index) {
-        return getNode(index).data;				
+    final synchronized PyObject deque___getitem__(PyObject index) {
+        return elements[index(getPosition(index))];
     }	
 
     public void __setitem__(PyObject index, PyObject value) {
@@ -271,10 +519,8 @@ public class PyDeque extends PyObject {
     }
 
     @ExposedMethod
-    final void deque___setitem__(PyObject index, PyObject value) {
-        Node node = getNode(index).right;
-        removeNode(node.left);
-        addBefore(value, node);
+    final synchronized void deque___setitem__(PyObject index, PyObject value) {
+        elements[index(getPosition(index))] = value;
     }	
 
     public void __delitem__(PyObject key) {
@@ -282,11 +528,12 @@ public class PyDeque extends PyObject {
     }
 
     @ExposedMethod
-    final void deque___delitem__(PyObject key) {
-        removeNode(getNode(key));
+    final synchronized void deque___delitem__(PyObject key) {
+        removeAt(getPosition(key));
     }
 
-    private Node getNode(PyObject index) {
+    private int getPosition(PyObject index) {
+        checkNotSpsc("indexing");
         int pos = 0;
         if (!index.isIndex()) {
             throw Py.TypeError(String.format("sequence index must be integer, not '%.200s'",
@@ -300,18 +547,7 @@ public class PyDeque extends PyObject {
         if (pos < 0 || pos >= size) {
             throw Py.IndexError("index out of range: " + index);
         }
-
-        Node tmp = header;
-        if (pos < (size >> 1)) {
-            for (int i = 0; i <= pos; i++) {
-                tmp = tmp.right;
-            }
-        } else {
-            for (int i = size - 1; i >= pos; i--) {
-                tmp = tmp.left;
-            }
-        }
-        return tmp;
+        return pos;
     }
 
     public PyObject __iter__() {
@@ -320,6 +556,7 @@ public class PyDeque extends PyObject {
 
     @ExposedMethod
     final PyObject deque___iter__() {
+        checkNotSpsc("iteration");
         return new PyDequeIter();
     }
 
@@ -460,16 +697,41 @@ public class PyDeque extends PyObject {
 
     @ExposedMethod
     final PyObject deque___reduce__() {
+        checkNotSpsc("pickling");
         PyObject dict = getDict();
         if (dict == null) {
             dict = Py.None;
         }
-        return new PyTuple(getType(), Py.EmptyTuple, dict, __iter__());
+        // maxlen is keyword only, so it's restored by __setstate__
+        PyObject state = maxlen < 0 ? dict : new PyTuple(dict, getMaxlen());
+        return new PyTuple(getType(), Py.EmptyTuple, state, __iter__());
+    }
+
+    /**
+     * Restore the state from __reduce__: the instance dict, or a tuple of it and maxlen.
+     */
+    @ExposedMethod
+    final void deque___setstate__(PyObject state) {
+        PyObject dict = state;
+        if (state instanceof PyTuple && state.__len__() == 2) {
+            dict = state.__getitem__(0);
+            setMaxlen(state.__getitem__(1));
+        }
+        if (dict == Py.None) {
+            return;
+        }
+        PyObject ourDict = fastGetDict();
+        if (ourDict == null) {
+            throw Py.TypeError("deque object has no __dict__ to restore");
+        }
+        ourDict.invoke("update", dict);
     }
 
     @ExposedMethod
     final PyObject deque___copy__() {
-        PyDeque pd = (PyDeque)this.getType().__call__();	
+        checkNotSpsc("copying");
+        PyDeque pd = (PyDeque)getType().__call__(new PyObject[] {getMaxlen()},
+                                                 new String[] {"maxlen"});
         pd.deque_extend(this);
         return pd;
     }
@@ -484,36 +746,39 @@ public class PyDeque extends PyObject {
         return true;
     }
 
-    private static class Node {
-        private Node left;
-        private Node right;
-        private PyObject data;
-
-        Node(PyObject data, Node right, Node left) {
-            this.data = data;
-            this.right = right;
-            this.left = left;
-        }
-    }
-
     private class PyDequeIter extends PyIterator {
 
-        private Node lastReturned = header;
-        private int itersize;
+        private int pos = 0;
+        private final int itersize;
+        private final int iterstate;
 
         public PyDequeIter() {
-            itersize = size;
+            synchronized (PyDeque.this) {
+                itersize = size;
+                iterstate = state;
+            }
         }
 
-        public PyObject __iternext__() {        	   		
-            if (itersize != size) { 
-                throw Py.RuntimeError("deque changed size during iteration");
+        public PyObject __iternext__() {
+            synchronized (PyDeque.this) {
+                if (itersize != size) {
+                    throw Py.RuntimeError("deque changed size during iteration");
+                }
+                if (iterstate != state) {
+                    throw Py.RuntimeError("deque mutated during iteration");
+                }
+                if (pos < size) {
+                    return elements[index(pos++)];
+                }
+                return null;
             }
-            if (lastReturned.right != header) {
-                lastReturned = lastReturned.right;
-                return lastReturned.data;
+        }
+
+        @Override
+        public int __length_hint__() {
+            synchronized (PyDeque.this) {
+                return Math.max(0, size - pos);
             }
-            return null;
         }
     }
 }
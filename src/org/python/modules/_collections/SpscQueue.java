@@ -0,0 +1,128 @@
+/* Copyright (c) Jython Developers */
+package org.python.modules._collections;
+
+import java.util.concurrent.locks.LockSupport;
+
+import org.python.core.PyObject;
+
+/**
+ * An unbounded queue that one thread may add to while another takes from it, without
+ * locking. Elements are kept in linked fixed size chunks; the producer only ever writes the
+ * tail chunk and the consumer only ever reads the head one, and the two hand over through
+ * the volatile counts of elements offered and polled.
+ *
+ * Only one thread at a time may call {@link #offer}, and only one at a time the polling
+ * methods.
+ */
+final class SpscQueue {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private static final class Chunk {
+
+        final PyObject[] items = new PyObject[CHUNK_SIZE];
+
+        volatile Chunk next;
+    }
+
+    /** The number of elements ever offered; written by the producer only. */
+    private volatile long tail;
+
+    /** The number of elements ever polled; written by the consumer only. */
+    private volatile long head;
+
+    /** The chunk the producer fills. */
+    private Chunk tailChunk;
+
+    private int tailIndex;
+
+    /** The chunk the consumer empties. */
+    private Chunk headChunk;
+
+    private int headIndex;
+
+    /** The consumer, while it's parked waiting for an element. */
+    private volatile Thread waiter;
+
+    SpscQueue() {
+        tailChunk = headChunk = new Chunk();
+    }
+
+    /**
+     * Add obj at the tail. Producer only.
+     */
+    void offer(PyObject obj) {
+        if (tailIndex == CHUNK_SIZE) {
+            Chunk chunk = new Chunk();
+            tailChunk.next = chunk;
+            tailChunk = chunk;
+            tailIndex = 0;
+        }
+        tailChunk.items[tailIndex++] = obj;
+        // Publishes the element (and any new chunk) to the consumer
+        tail = tail + 1;
+        Thread consumer = waiter;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Remove and return the head element, or null if there's none. Consumer only.
+     */
+    PyObject poll() {
+        if (head == tail) {
+            return null;
+        }
+        if (headIndex == CHUNK_SIZE) {
+            Chunk next = headChunk.next;
+            headChunk = next;
+            headIndex = 0;
+        }
+        PyObject obj = headChunk.items[headIndex];
+        headChunk.items[headIndex++] = null;
+        head = head + 1;
+        return obj;
+    }
+
+    /**
+     * Remove and return the head element, waiting up to nanos for one to arrive, or forever
+     * if nanos is negative. Returns null if none arrives in time. Consumer only.
+     */
+    PyObject poll(long nanos) throws InterruptedException {
+        PyObject obj = poll();
+        if (obj != null || nanos == 0) {
+            return obj;
+        }
+        long deadline = System.nanoTime() + nanos;
+        waiter = Thread.currentThread();
+        try {
+            // The producer either sees waiter or its element is seen by the poll
+            while ((obj = poll()) == null) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                if (nanos < 0) {
+                    LockSupport.park(this);
+                } else {
+                    long left = deadline - System.nanoTime();
+                    if (left <= 0) {
+                        break;
+                    }
+                    LockSupport.parkNanos(this, left);
+                }
+            }
+        } finally {
+            waiter = null;
+        }
+        return obj;
+    }
+
+    /**
+     * The number of elements, as of some moment during the call.
+     */
+    int size() {
+        long polled = head;
+        return (int)(tail - polled);
+    }
+}
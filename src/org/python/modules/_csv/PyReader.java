@@ -2,6 +2,8 @@
 package org.python.modules._csv;
 
 import org.python.core.Py;
+import org.python.core.PyException;
+import org.python.core.PyFile;
 import org.python.core.PyIterator;
 import org.python.core.PyList;
 import org.python.core.PyObject;
@@ -37,6 +39,9 @@ public class PyReader extends PyIterator {
     /** The underlying input iterator. */
     private PyObject input_iter;
 
+    /** The underlying file, read in blocks rather than through input_iter, or null. */
+    private PyFile input_file;
+
     /** Current CSV parse state. */
     private ParserState state = ParserState.START_RECORD;
 
@@ -44,32 +49,103 @@ public class PyReader extends PyIterator {
     private PyList fields = new PyList();
 
     /** Current field builder in here. */
-    private StringBuffer field = new StringBuffer(INITIAL_BUILDER_CAPACITY);
+    private char[] field = new char[INITIAL_BUILDER_CAPACITY];
+
+    /** The length of the current field. */
+    private int field_len = 0;
 
     /** Whether the field should be treated as numeric. */
     private boolean numeric_field = false;
 
-    /** Initial capacity of the field StringBuilder. */
+    /** The text being parsed: one line, or a block of the input file. */
+    private char[] buffer = new char[0];
+
+    /** The start of the unparsed text in buffer. */
+    private int buffer_pos = 0;
+
+    /** The end of the text in buffer. */
+    private int buffer_end = 0;
+
+    /** The position in input_file of buffer[0]. */
+    private long buffer_offset = 0;
+
+    /** Recently seen short fields, for sharing equal values, or null. */
+    private PyString[] interned;
+
+    /** Initial capacity of the field builder. */
     private static final int INITIAL_BUILDER_CAPACITY = 4096;
 
+    /** How much of an input file is read at a time. */
+    private static final int BLOCK_SIZE = 64 * 1024;
+
+    /** The number of slots in the intern cache; a power of 2. */
+    private static final int INTERN_SIZE = 4096;
+
+    /** The longest field looked up in the intern cache. */
+    private static final int INTERN_MAX_LENGTH = 64;
+
     public PyReader(PyObject input_iter, PyDialect dialect) {
         this.input_iter = input_iter;
         this.dialect = dialect;
     }
 
+    /**
+     * Create a reader.
+     *
+     * When input_iter is a seekable builtin file opened in binary mode the reader takes
+     * its lines from blocks read from the file instead of iterating it. Between rows the
+     * file is positioned at the end of the last record returned, as when iterating it, so
+     * the caller may mix reading rows with the file's own methods. When intern is true
+     * equal short field values share one str object.
+     */
+    public PyReader(PyObject input_iter, PyDialect dialect, boolean intern) {
+        this(input_iter, dialect);
+        if (input_iter.getType() == PyFile.TYPE) {
+            PyFile file = (PyFile)input_iter;
+            // Text mode may translate newlines, so a char offset isn't a file position
+            if (file.mode.indexOf('b') != -1 && file.mode.indexOf('U') == -1) {
+                try {
+                    buffer_offset = file.tell();
+                    input_file = file;
+                } catch (PyException pye) {
+                    // Not seekable: iterate it
+                }
+            }
+        }
+        if (intern) {
+            interned = new PyString[INTERN_SIZE];
+        }
+    }
+
     public PyObject __iternext__() {
-        PyObject lineobj;
+        parse_reset();
+        if (input_file != null) {
+            // Parse from where the file is, dropping the buffer if the caller moved it
+            long pos = input_file.tell();
+            if (pos != buffer_offset + buffer_pos) {
+                buffer_offset = pos;
+                buffer_pos = buffer_end = 0;
+            }
+        }
+        try {
+            return parse_record();
+        } finally {
+            if (input_file != null) {
+                // Leave the file at the end of the text parsed
+                input_file.seek(buffer_offset + buffer_pos, 0);
+            }
+        }
+    }
+
+    private PyObject parse_record() {
         PyObject fields;
-        String line;
         char c;
-        int linelen;
 
-        parse_reset();
         do {
-            lineobj = input_iter.__iternext__();
-            if (lineobj == null) {
+            int end = next_line();
+            if (end < 0) {
                 // End of input OR exception
-                if (field.length() != 0) {
+                if (field_len != 0) {
                     throw _csv.Error("newline inside string");
                 } else {
                     return null;
@@ -77,14 +153,23 @@ public class PyReader extends PyIterator {
             }
 
             line_num++;
-            line = lineobj.toString();
-            linelen = line.length();
-
-            for (int i = 0; i < linelen; i++) {
-                c = line.charAt(i);
+            char[] line = buffer;
+            int start = buffer_pos;
+            buffer_pos = end;
+            for (int i = start; i < end; i++) {
+                c = line[i];
                 if (c == '\0') {
                     throw _csv.Error("line contains NULL byte");
                 }
+                if (state == ParserState.IN_FIELD || state == ParserState.IN_QUOTED_FIELD) {
+                    // Copy the run of ordinary characters in one go
+                    int run = scan_field(line, i, end);
+                    if (run > i) {
+                        parse_add_chars(line, i, run);
+                        i = run - 1;
+                        continue;
+                    }
+                }
                 parse_process_char(c);
             }
             parse_process_char('\0');
@@ -96,6 +181,89 @@ public class PyReader extends PyIterator {
         return fields;
     }
 
+    /**
+     * Make the next line of input the text in buffer from buffer_pos.
+     *
+     * @return the end of the line in buffer, or -1 at the end of the input
+     */
+    private int next_line() {
+        if (input_file == null) {
+            PyObject lineobj = input_iter.__iternext__();
+            if (lineobj == null) {
+                return -1;
+            }
+            String line = lineobj.toString();
+            fill_buffer(line, 0);
+            return buffer_end;
+        }
+
+        for (int i = buffer_pos; i < buffer_end; i++) {
+            if (buffer[i] == '\n') {
+                return i + 1;
+            }
+        }
+        // The rest of the buffer is an incomplete line; read the next block after it
+        int scanned = buffer_end - buffer_pos;
+        input_file.seek(buffer_offset + buffer_end, 0);
+        while (true) {
+            String block = input_file.read(BLOCK_SIZE).toString();
+            if (block.length() == 0) {
+                return buffer_end > buffer_pos ? buffer_end : -1;
+            }
+            fill_buffer(block, buffer_end - buffer_pos);
+            for (int i = buffer_pos + scanned; i < buffer_end; i++) {
+                if (buffer[i] == '\n') {
+                    return i + 1;
+                }
+            }
+            scanned = buffer_end - buffer_pos;
+        }
+    }
+
+    /**
+     * Replace the parsed text in buffer with text, keeping the keep unparsed chars.
+     */
+    private void fill_buffer(String text, int keep) {
+        int len = text.length();
+        char[] dest = buffer;
+        if (keep + len > dest.length) {
+            dest = new char[Math.max(keep + len, dest.length * 2)];
+        }
+        System.arraycopy(buffer, buffer_end - keep, dest, 0, keep);
+        text.getChars(0, len, dest, keep);
+        buffer_offset += buffer_end - keep;
+        buffer = dest;
+        buffer_pos = 0;
+        buffer_end = keep + len;
+    }
+
+    /**
+     * Return the end of the run of chars from start that the current field state adds to
+     * the field without a state change.
+     */
+    private int scan_field(char[] line, int start, int end) {
+        char delimiter = dialect.delimiter;
+        char escapechar = dialect.escapechar;
+        char quotechar = dialect.quotechar;
+        int i = start;
+        if (state == ParserState.IN_FIELD) {
+            for (; i < end; i++) {
+                char c = line[i];
+                if (c == delimiter || c == escapechar || c == '\n' || c == '\r' || c == '\0') {
+                    break;
+                }
+            }
+        } else {
+            for (; i < end; i++) {
+                char c = line[i];
+                if (c == quotechar || c == escapechar || c == '\0') {
+                    break;
+                }
+            }
+        }
+        return i;
+    }
+
     @SuppressWarnings("fallthrough")
     private void parse_process_char(char c) {
         switch (state) {
@@ -240,26 +408,70 @@ public class PyReader extends PyIterator {
     }
 
     private void parse_save_field() {
-        PyObject field;
-
-        field = new PyString(this.field.toString());
+        PyObject field = make_field();
         if (numeric_field) {
             numeric_field = false;
             field = field.__float__();
         }
         fields.append(field);
+        field_len = 0;
+    }
 
-        // XXX: fastest way to clear StringBuffer?
-        this.field = new StringBuffer(INITIAL_BUILDER_CAPACITY);
+    private PyString make_field() {
+        if (interned == null || field_len > INTERN_MAX_LENGTH) {
+            return new PyString(new String(field, 0, field_len));
+        }
+        int hash = 0;
+        for (int i = 0; i < field_len; i++) {
+            hash = 31 * hash + field[i];
+        }
+        int slot = (hash ^ (hash >>> 16)) & (INTERN_SIZE - 1);
+        PyString cached = interned[slot];
+        if (cached != null) {
+            String value = cached.getString();
+            if (value.length() == field_len) {
+                int i = 0;
+                while (i < field_len && value.charAt(i) == field[i]) {
+                    i++;
+                }
+                if (i == field_len) {
+                    return cached;
+                }
+            }
+        }
+        cached = new PyString(new String(field, 0, field_len));
+        interned[slot] = cached;
+        return cached;
     }
 
     private void parse_add_char(char c) {
-        int field_len = field.length();
         if (field_len >= _csv.field_limit) {
             throw _csv.Error(String.format("field larger than field limit (%d)",
                                            _csv.field_limit));
         }
-        field.append(c);
+        if (field_len == field.length) {
+            grow_field(field_len + 1);
+        }
+        field[field_len++] = c;
+    }
+
+    private void parse_add_chars(char[] src, int start, int end) {
+        int len = end - start;
+        if (field_len + len > _csv.field_limit) {
+            throw _csv.Error(String.format("field larger than field limit (%d)",
+                                           _csv.field_limit));
+        }
+        if (field_len + len > field.length) {
+            grow_field(field_len + len);
+        }
+        System.arraycopy(src, start, field, field_len, len);
+        field_len += len;
+    }
+
+    private void grow_field(int size) {
+        char[] grown = new char[Math.max(size, field.length * 2)];
+        System.arraycopy(field, 0, grown, 0, field_len);
+        field = grown;
     }
 
     /**
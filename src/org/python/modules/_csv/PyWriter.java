@@ -3,6 +3,9 @@ package org.python.modules._csv;
 
 import org.python.core.Py;
 import org.python.core.PyException;
+import org.python.core.PyFloat;
+import org.python.core.PyInteger;
+import org.python.core.PyLong;
 import org.python.core.PyObject;
 import org.python.core.PyString;
 import org.python.core.PyType;
@@ -27,11 +30,8 @@ public class PyWriter extends PyObject {
     /** Output lines writer callable. */
     private PyObject writeline;
 
-    /** Buffer for parser.join. */
-    private StringBuffer rec;
-
-    /** Length of record. */
-    private int rec_len = 0;
+    /** Buffer for parser.join, holding a batch of records during writerows. */
+    private StringBuilder rec = new StringBuilder();
 
     /** Number of fields in record. */
     private int num_fields = 0;
@@ -39,6 +39,9 @@ public class PyWriter extends PyObject {
     /** Whether field should be quoted during a join. */
     private boolean quoted = false;
 
+    /** How much of writerows' output is collected before it's written. */
+    private static final int WRITE_BATCH_SIZE = 64 * 1024;
+
     public PyWriter(PyObject writeline, PyDialect dialect) {
         this.writeline = writeline;
         this.dialect = dialect;
@@ -65,12 +68,31 @@ public class PyWriter extends PyObject {
             throw _csv.Error("writerows() argument must be iterable");
         }
 
-        while ((row_obj = row_iter.__iternext__()) != null) {
-            result = writerow(row_obj);
+        // Records are joined into one buffer and written in batches
+        rec.setLength(0);
+        while (true) {
+            int rec_start = rec.length();
+            try {
+                row_obj = row_iter.__iternext__();
+                if (row_obj == null) {
+                    break;
+                }
+                result = join_record(row_obj);
+            } catch (PyException pye) {
+                // Write out the rows before the bad one
+                rec.setLength(rec_start);
+                write_rec();
+                throw pye;
+            }
             if (!result) {
+                rec.setLength(rec_start);
                 break;
             }
+            if (rec.length() >= WRITE_BATCH_SIZE) {
+                write_rec();
+            }
         }
+        write_rec();
     }
 
     public static PyString __doc__writerow = Py.newString(
@@ -86,6 +108,18 @@ public class PyWriter extends PyObject {
 
     @ExposedMethod
     final boolean writer_writerow(PyObject seq) {
+        rec.setLength(0);
+        if (!join_record(seq)) {
+            return false;
+        }
+        write_rec();
+        return true;
+    }
+
+    /**
+     * Append the CSV record for seq to rec.
+     */
+    private boolean join_record(PyObject seq) {
         int len;
         int i;
 
@@ -102,7 +136,6 @@ public class PyWriter extends PyObject {
         join_reset();
         for (i = 0; i < len; i++) {
             PyObject field;
-            boolean append_ok;
             quoted = false;
 
             field = seq.__getitem__(i);
@@ -110,12 +143,18 @@ public class PyWriter extends PyObject {
                 return false;
             }
 
+            // Exact types only: bool and other subclasses go through __float__ and __str__
+            PyType type = field.getType();
+            boolean number = type == PyInteger.TYPE || type == PyLong.TYPE
+                    || type == PyFloat.TYPE;
             switch (dialect.quoting) {
                 case QUOTE_NONNUMERIC:
-                    try {
-                        field.__float__();
-                    } catch (PyException ex) {
-                        quoted = true;
+                    if (!number) {
+                        try {
+                            field.__float__();
+                        } catch (PyException ex) {
+                            quoted = true;
+                        }
                     }
                     break;
                 case QUOTE_ALL:
@@ -126,81 +165,99 @@ public class PyWriter extends PyObject {
             }
 
             if (field instanceof PyString) {
-                append_ok = join_append(field.toString(), len == 1);
+                join_append(field.toString(), len == 1);
             } else if (field == Py.None) {
-                append_ok = join_append("", len == 1);
+                join_append("", len == 1);
+            } else if (type == PyInteger.TYPE) {
+                join_append(String.valueOf(((PyInteger)field).getValue()), len == 1);
             } else {
                 PyObject str = field.__str__();
                 if (str == null) {
                     return false;
                 }
 
-                append_ok = join_append(str.toString(), len == 1);
-            }
-            if (!append_ok) {
-                return false;
+                join_append(str.toString(), len == 1);
             }
         }
 
         // Add line terminator.
-        if (!join_append_lineterminator()) {
-            return false;
-        }
-
-        writeline.__call__(new PyString(rec.toString()));
+        rec.append(dialect.lineterminator);
         return true;
     }
 
+    private void write_rec() {
+        if (rec.length() == 0) {
+            return;
+        }
+        PyString data = new PyString(rec.toString());
+        if (rec.capacity() > WRITE_BATCH_SIZE * 4) {
+            // Don't hang on to the space an unusually large record needed
+            rec = new StringBuilder();
+        } else {
+            rec.setLength(0);
+        }
+        writeline.__call__(data);
+    }
+
     private void join_reset() {
-        rec_len = 0;
         num_fields = 0;
         quoted = false;
-        rec = new StringBuffer();
-    }
-
-    private boolean join_append_lineterminator() {
-        rec.append(dialect.lineterminator);
-        return true;
     }
 
-    private boolean join_append(String field, boolean quote_empty) {
-        int rec_len;
-
-        rec_len = join_append_data(field, quote_empty, false);
-        if (rec_len < 0) {
-            return false;
+    private void join_append(String field, boolean quote_empty) {
+        // If this is not the first field we need a field separator.
+        if (num_fields > 0) {
+            rec.append(dialect.delimiter);
         }
 
-        this.rec_len = join_append_data(field, quote_empty, true);
+        int len = field.length();
+        if (needs_escape(field) || (len == 0 && quote_empty)) {
+            join_append_data(field, quote_empty, false);
+            join_append_data(field, quote_empty, true);
+        } else if (quoted) {
+            rec.append(dialect.quotechar).append(field).append(dialect.quotechar);
+        } else {
+            // Nothing to quote or escape
+            rec.append(field);
+        }
         num_fields++;
+    }
 
-        return true;
+    /**
+     * Whether field has any chars that join_append_data treats specially.
+     */
+    private boolean needs_escape(String field) {
+        char delimiter = dialect.delimiter;
+        char escapechar = dialect.escapechar;
+        char quotechar = dialect.quotechar;
+        String lineterminator = dialect.lineterminator;
+        int len = field.length();
+        for (int i = 0; i < len; i++) {
+            char c = field.charAt(i);
+            if (c == delimiter || c == escapechar || c == quotechar || c == '\0'
+                || lineterminator.indexOf(c) > -1) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * This method behaves differently depending on the value of copy_phase: if copy_phase
-     * is false, then the method determines the new record length. If copy_phase is true
-     * then the new field is appended to the record.
+     * is false, then the method determines whether the field must be quoted. If
+     * copy_phase is true then the new field is appended to the record.
      */
-    private int join_append_data(String field, boolean quote_empty, boolean copy_phase) {
+    private void join_append_data(String field, boolean quote_empty, boolean copy_phase) {
         int i;
-
-        // If this is not the first field we need a field separator.
-        if (num_fields > 0) {
-            addChar(dialect.delimiter, copy_phase);
-        }
+        int len = field.length();
 
         // Handle preceding quote
         if (copy_phase && quoted) {
             addChar(dialect.quotechar, copy_phase);
         }
 
-        // parsing below is based on _csv.c which expects all strings to be terminated
-        // with a nul byte.
-        field += '\0';
-
-        // Copy/count field data.
-        for (i = 0;; i++) {
+        // Copy/count field data. Like _csv.c, stop at a nul character.
+        for (i = 0; i < len; i++) {
             char c = field.charAt(i);
             boolean want_escape = false;
 
@@ -245,23 +302,14 @@ public class PyWriter extends PyObject {
         }
 
         // Handle final quote character on field.
-        if (quoted) {
-            if (copy_phase) {
-                addChar(dialect.quotechar, copy_phase);
-            } else {
-                // Didn't know about leading quote until we found it necessary in field
-                // data - compensate for it now.
-                rec_len += 2;
-            }
+        if (copy_phase && quoted) {
+            addChar(dialect.quotechar, copy_phase);
         }
-
-        return rec_len;
     }
 
     private void addChar(char c, boolean copy_phase) {
         if (copy_phase) {
             rec.append(c);
         }
-        rec_len++;
     }
 }
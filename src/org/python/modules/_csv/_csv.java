@@ -1,6 +1,8 @@
 /* Copyright (c) Jython Developers */
 package org.python.modules._csv;
 
+import java.util.Arrays;
+
 import org.python.core.ArgParser;
 import org.python.core.ClassDictInit;
 import org.python.core.Py;
@@ -144,10 +146,27 @@ public class _csv implements ClassDictInit {
     }
 
     public static PyObject reader(PyObject[] args, String[] keywords) {
+        // intern is a reader option rather than a dialect setting
+        boolean intern = false;
+        int internIndex = Arrays.asList(keywords).indexOf("intern");
+        if (internIndex != -1) {
+            int argIndex = args.length - keywords.length + internIndex;
+            intern = args[argIndex].__nonzero__();
+            PyObject[] otherArgs = new PyObject[args.length - 1];
+            System.arraycopy(args, 0, otherArgs, 0, argIndex);
+            System.arraycopy(args, argIndex + 1, otherArgs, argIndex, otherArgs.length - argIndex);
+            String[] otherKeywords = new String[keywords.length - 1];
+            System.arraycopy(keywords, 0, otherKeywords, 0, internIndex);
+            System.arraycopy(keywords, internIndex + 1, otherKeywords, internIndex,
+                             otherKeywords.length - internIndex);
+            args = otherArgs;
+            keywords = otherKeywords;
+        }
+
         ArgParser ap = parseArgs("reader", args, keywords);
         PyObject iterator = Py.iter(ap.getPyObject(0), "argument 1 must be an iterator");
         PyObject dialect = ap.getPyObject(1, null);
-        return new PyReader(iterator, dialectFromKwargs(dialect, args, keywords));
+        return new PyReader(iterator, dialectFromKwargs(dialect, args, keywords), intern);
     }
 
     public static PyObject writer(PyObject[] args, String[] keywords) {
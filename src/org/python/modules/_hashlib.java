@@ -1,6 +1,9 @@
 /* Copyright (c) Jython Developers */
 package org.python.modules;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
@@ -9,10 +12,13 @@ import java.util.Map;
 import org.python.core.ClassDictInit;
 import org.python.core.Py;
 import org.python.core.PyArray;
+import org.python.core.PyFile;
 import org.python.core.PyObject;
 import org.python.core.PyString;
 import org.python.core.PyType;
 import org.python.core.PyUnicode;
+import org.python.core.io.FileIO;
+import org.python.core.io.RawIOBase;
 import org.python.core.util.StringUtil;
 import org.python.expose.ExposedGet;
 import org.python.expose.ExposedMethod;
@@ -35,6 +41,24 @@ public class _hashlib implements ClassDictInit {
             put("sha512", "sha-512");
     }};
 
+    /** The size of the chunks strings and files are fed to the digest in. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** Per thread buffers for file_digest, and for converting large strings to bytes. */
+    private static final ThreadLocal<Buffers> buffers = new ThreadLocal<Buffers>() {
+        @Override
+        protected Buffers initialValue() {
+            return new Buffers();
+        }
+    };
+
+    private static class Buffers {
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        final byte[] scratch = new byte[BUFFER_SIZE];
+    }
+
     public static void classDictInit(PyObject dict) {
         dict.__setitem__("__name__", Py.newString("_hashlib"));
         dict.__setitem__("algorithmMap", null);
@@ -59,6 +83,65 @@ public class _hashlib implements ClassDictInit {
         return hash;
     }
 
+    /**
+     * Hash the rest of a file, from its current position to EOF, and leave it at EOF.
+     *
+     * Files backed by a FileIO are read through their channel, a buffer at a time,
+     * without creating any strings. Other file-like objects are read with read().
+     *
+     * @param fileobj a file object
+     * @param digest an algorithm name, or a HASH object to update
+     * @return the updated HASH object
+     */
+    public static PyObject file_digest(PyObject fileobj, PyObject digest) {
+        Hash hash;
+        if (digest instanceof Hash) {
+            hash = (Hash)digest;
+        } else if (digest instanceof PyString) {
+            hash = (Hash)new$(digest.toString());
+        } else {
+            throw Py.TypeError("file_digest() argument 2 must be a hash name or object, not "
+                               + digest.getType().fastGetName());
+        }
+
+        FileChannel channel = null;
+        if (fileobj instanceof PyFile) {
+            Object raw = ((PyFile)fileobj).fileno().__tojava__(RawIOBase.class);
+            if (raw instanceof FileIO) {
+                ((FileIO)raw).checkReadable();
+                channel = ((FileIO)raw).getChannel();
+            }
+        }
+        if (channel == null) {
+            // Any other file-like object
+            for (PyObject chunk; (chunk = fileobj.invoke("read", Py.newInteger(BUFFER_SIZE)))
+                    .__len__() > 0; ) {
+                hash.update(chunk);
+            }
+            return hash;
+        }
+
+        PyFile file = (PyFile)fileobj;
+        long pos = file.tell();
+        ByteBuffer direct = buffers.get().direct;
+        try {
+            while (true) {
+                direct.clear();
+                int count = channel.read(direct, pos);
+                if (count <= 0) {
+                    break;
+                }
+                pos += count;
+                direct.flip();
+                hash.digest.update(direct);
+            }
+        } catch (IOException ioe) {
+            throw Py.IOError(ioe);
+        }
+        file.seek(pos);
+        return hash;
+    }
+
     public static PyObject openssl_md5() {
         return openssl_md5(null);
     }
@@ -169,19 +252,63 @@ public class _hashlib implements ClassDictInit {
 
         @ExposedMethod
         final void HASH_update(PyObject obj) {
-            String string;
             if (obj instanceof PyUnicode) {
-                string = ((PyUnicode)obj).encode();
+                update(((PyUnicode)obj).encode());
             } else if (obj instanceof PyString) {
-                string = obj.toString();
+                update(obj.toString());
             } else if (obj instanceof PyArray) {
-                string = ((PyArray)obj).tostring();
+                update((PyArray)obj);
+            } else {
+                Object buffer = obj.__tojava__(ByteBuffer.class);
+                if (!(buffer instanceof ByteBuffer)) {
+                    throw Py.TypeError("update() argument 1 must be string or read-only "
+                                       + "buffer, not " + obj.getType().fastGetName());
+                }
+                // The remaining bytes, direct or not, are read in place
+                digest.update(((ByteBuffer)buffer).duplicate());
+            }
+        }
+
+        /**
+         * Update with the bytes of a str. Large strings go through a scratch buffer rather
+         * than being copied whole.
+         */
+        public void update(String string) {
+            int length = string.length();
+            if (length <= BUFFER_SIZE) {
+                digest.update(StringUtil.toBytes(string));
+                return;
+            }
+            byte[] scratch = buffers.get().scratch;
+            for (int offset = 0; offset < length; offset += BUFFER_SIZE) {
+                int end = Math.min(offset + BUFFER_SIZE, length);
+                StringUtil.toBytes(string, offset, end, scratch, 0);
+                digest.update(scratch, 0, end - offset);
             }
-            else {
-                throw Py.TypeError("update() argument 1 must be string or read-only buffer, not "
-                                   + obj.getType().fastGetName());
+        }
+
+        /**
+         * Update with the contents of an array, straight from its storage when it's a byte
+         * or char array.
+         */
+        public void update(PyArray array) {
+            Object storage = array.getArrayStorage();
+            int length = array.__len__();
+            if (storage instanceof byte[]) {
+                digest.update((byte[])storage, 0, length);
+            } else if (storage instanceof char[]) {
+                char[] chars = (char[])storage;
+                byte[] scratch = buffers.get().scratch;
+                for (int offset = 0; offset < length; offset += BUFFER_SIZE) {
+                    int count = Math.min(BUFFER_SIZE, length - offset);
+                    for (int i = 0; i < count; i++) {
+                        scratch[i] = (byte)chars[offset + i];
+                    }
+                    digest.update(scratch, 0, count);
+                }
+            } else {
+                update(array.tostring());
             }
-            digest.update(StringUtil.toBytes(string));
         }
 
         public PyObject digest() {
@@ -1,11 +1,17 @@
 package org.python.modules;
 
 import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+
 import org.python.core.BaseSet;
 import org.python.core.ClassDictInit;
 import org.python.core.PyObject;
 import org.python.core.PyString;
 import org.python.core.Py;
+import org.python.core.PyArray;
 import org.python.core.PyBytecode;
 import org.python.core.PyComplex;
 import org.python.core.PyDictionary;
@@ -17,12 +23,48 @@ import org.python.core.PyLong;
 import org.python.core.PySet;
 import org.python.core.PyTuple;
 import org.python.core.PyUnicode;
+import org.python.core.util.StringUtil;
 
 public class _marshal implements ClassDictInit {
 
     public static void classDictInit(PyObject dict) {
         dict.__setitem__("__name__", Py.newString("_marshal"));
     }
+
+    /**
+     * Marshal value straight into a string, without going through a file.
+     */
+    public static PyString dumps(PyObject value) {
+        return dumps(value, CURRENT_VERSION);
+    }
+
+    public static PyString dumps(PyObject value, int version) {
+        Marshaller marshaller = new Marshaller(version);
+        marshaller.dump(value);
+        return new PyString(marshaller.getvalue());
+    }
+
+    /**
+     * Unmarshal the value held in a string, or in a byte array (without
+     * copying it), reading the data in bulk rather than through a file.
+     */
+    public static PyObject loads(PyObject data) {
+        ByteBuffer buffer;
+        if (data instanceof PyString) {
+            buffer = ByteBuffer.wrap(StringUtil.toBytes(((PyString) data).getString()));
+        } else if (data instanceof PyArray
+                   && ((PyArray) data).getArrayStorage() instanceof byte[]) {
+            byte[] bytes = (byte[]) ((PyArray) data).getArrayStorage();
+            buffer = ByteBuffer.wrap(bytes, 0, data.__len__());
+        } else if (data instanceof PyArray
+                   && ((PyArray) data).getArrayStorage() instanceof char[]) {
+            buffer = ByteBuffer.wrap(StringUtil.toBytes(((PyArray) data).tostring()));
+        } else {
+            throw Py.TypeError("loads() argument 1 must be string or byte array, not "
+                               + data.getType().fastGetName());
+        }
+        return new Unmarshaller(buffer).load();
+    }
     private final static char TYPE_NULL = '0';
     private final static char TYPE_NONE = 'N';
     private final static char TYPE_FALSE = 'F';
@@ -50,10 +92,19 @@ public class _marshal implements ClassDictInit {
     private final static int MAX_MARSHAL_STACK_DEPTH = 2000;
     private final static int CURRENT_VERSION = 2;
 
+    /**
+     * Writes marshal data through a buffer, which is handed to the file
+     * each time it fills up, so that big lists and dicts are streamed out
+     * rather than held in memory whole. Without a file (for dumps) the
+     * buffer grows to hold the complete output instead.
+     */
     public static class Marshaller extends PyObject {
 
+        private static final int BUFFER_SIZE = 64 * 1024;
+
         private final PyIOFile file;
         private final int version;
+        private ByteBuffer buffer;
 
         public Marshaller(PyObject file) {
             this(file, CURRENT_VERSION);
@@ -62,6 +113,13 @@ public class _marshal implements ClassDictInit {
         public Marshaller(PyObject file, int version) {
             this.file = PyIOFileFactory.createIOFile(file);
             this.version = version;
+            buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        Marshaller(int version) {
+            this.file = null;
+            this.version = version;
+            buffer = ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
         }
         private boolean debug = false;
 
@@ -71,17 +129,64 @@ public class _marshal implements ClassDictInit {
 
         public void dump(PyObject obj) {
             write_object(obj, 0);
+            if (file != null) {
+                drain();
+                file.flush();
+            }
+        }
+
+        String getvalue() {
+            return StringUtil.fromBytes(buffer.array(), 0, buffer.position());
+        }
+
+        /**
+         * Make room for n more bytes, passing what has been written so far
+         * on to the file, or growing the buffer if there is no file.
+         */
+        private void ensure(int n) {
+            if (buffer.remaining() >= n) {
+                return;
+            }
+            if (file != null) {
+                drain();
+                if (buffer.remaining() >= n) {
+                    return;
+                }
+            }
+            int capacity = Math.max(buffer.capacity() * 2, buffer.position() + n);
+            ByteBuffer bigger = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.flip();
+            bigger.put(buffer);
+            buffer = bigger;
+        }
+
+        private void drain() {
+            if (buffer.position() > 0) {
+                file.write(getvalue());
+                buffer.clear();
+            }
         }
 
         private void write_byte(char c) {
             if (debug) {
                 System.err.print("[" + (int) c + "]");
             }
-            file.write(c);
+            ensure(1);
+            buffer.put((byte) c);
         }
 
         private void write_string(String s) {
-            file.write(s);
+            int len = s.length();
+            int off = 0;
+            while (off < len) {
+                // a file gets long strings in buffer sized pieces
+                ensure(file == null ? len - off : 1);
+                int count = Math.min(len - off, buffer.remaining());
+                int pos = buffer.position();
+                StringUtil.toBytes(s, off, off + count, buffer.array(), pos);
+                buffer.position(pos + count);
+                off += count;
+            }
         }
 
         private void write_strings(String[] some_strings, int depth) {
@@ -93,20 +198,18 @@ public class _marshal implements ClassDictInit {
         }
 
         private void write_short(short x) {
-            write_byte((char) (x & 0xff));
-            write_byte((char) ((x >> 8) & 0xff));
+            ensure(2);
+            buffer.putShort(x);
         }
 
         private void write_int(int x) {
-            write_byte((char) (x & 0xff));
-            write_byte((char) ((x >> 8) & 0xff));
-            write_byte((char) ((x >> 16) & 0xff));
-            write_byte((char) ((x >> 24) & 0xff));
+            ensure(4);
+            buffer.putInt(x);
         }
 
         private void write_long64(long x) {
-            write_int((int) (x & 0xffffffff));
-            write_int((int) ((x >> 32) & 0xffffffff));
+            ensure(8);
+            buffer.putLong(x);
         }
 
         // writes output in 15 bit "digits"
@@ -126,7 +229,9 @@ public class _marshal implements ClassDictInit {
         }
 
         private void write_float(PyFloat f) {
-            write_string(f.__repr__().toString());
+            String repr = f.__repr__().toString();
+            write_byte((char) repr.length());
+            write_string(repr);
         }
 
         private void write_binary_float(PyFloat f) {
@@ -185,27 +290,24 @@ public class _marshal implements ClassDictInit {
                 write_string(v.toString());
             } else if (v instanceof PyTuple) {
                 write_byte(TYPE_TUPLE);
-                PyTuple t = (PyTuple) v;
-                int n = t.__len__();
-                write_int(n);
-                for (int i = 0; i < n; i++) {
-                    write_object(t.__getitem__(i), depth + 1);
+                PyObject[] items = ((PyTuple) v).getArray();
+                write_int(items.length);
+                for (int i = 0; i < items.length; i++) {
+                    write_object(items[i], depth + 1);
                 }
             } else if (v instanceof PyList) {
                 write_byte(TYPE_LIST);
-                PyList list = (PyList) v;
-                int n = list.__len__();
-                write_int(n);
-                for (int i = 0; i < n; i++) {
-                    write_object(list.__getitem__(i), depth + 1);
+                PyObject[] items = ((PyList) v).getArray();
+                write_int(items.length);
+                for (int i = 0; i < items.length; i++) {
+                    write_object(items[i], depth + 1);
                 }
             } else if (v instanceof PyDictionary) {
                 write_byte(TYPE_DICT);
                 PyDictionary dict = (PyDictionary) v;
-                for (PyObject item : dict.iteritems().asIterable()) {
-                    PyTuple pair = (PyTuple) item;
-                    write_object(pair.__getitem__(0), depth + 1);
-                    write_object(pair.__getitem__(1), depth + 1);
+                for (Map.Entry<PyObject, PyObject> entry : dict.getMap().entrySet()) {
+                    write_object(entry.getKey(), depth + 1);
+                    write_object(entry.getValue(), depth + 1);
                 }
                 write_object(null, depth + 1);
             } else if (v instanceof BaseSet) {
@@ -245,9 +347,14 @@ public class _marshal implements ClassDictInit {
         }
     }
 
+    /**
+     * Reads marshal data from a file, or directly from a ByteBuffer, in
+     * which case the primitive values are read in bulk.
+     */
     public static class Unmarshaller extends PyObject {
 
         private final PyIOFile file;
+        private final ByteBuffer in;
         private final PyList strings = new PyList();
         private final int version;
         int depth = 0;
@@ -258,8 +365,19 @@ public class _marshal implements ClassDictInit {
 
         public Unmarshaller(PyObject file, int version) {
             this.file = PyIOFileFactory.createIOFile(file);
+            this.in = null;
             this.version = version;
         }
+
+        /**
+         * Read the marshal data from the current position of in, leaving
+         * in positioned after each value loaded.
+         */
+        public Unmarshaller(ByteBuffer in) {
+            this.file = null;
+            this.in = in.order(ByteOrder.LITTLE_ENDIAN);
+            this.version = CURRENT_VERSION;
+        }
         private boolean debug = false;
 
         public void _debug() {
@@ -277,11 +395,13 @@ public class _marshal implements ClassDictInit {
                 // convert from our PyIOFile abstraction to what marshal in CPython returns
                 // (although it's really just looking for no bombing)
                 throw Py.EOFError("EOF read where object expected");
+            } catch (BufferUnderflowException e) {
+                throw Py.EOFError("EOF read where object expected");
             }
         }
 
         private int read_byte() {
-            int b = file.read(1).charAt(0);
+            int b = in != null ? in.get() & 0xff : file.read(1).charAt(0);
             if (debug) {
                 System.err.print("[" + b + "]");
             }
@@ -289,16 +409,37 @@ public class _marshal implements ClassDictInit {
         }
 
         private String read_string(int n) {
-            return file.read(n);
+            if (in == null) {
+                return file.read(n);
+            }
+            if (n < 0 || n > in.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            String s;
+            if (in.hasArray()) {
+                s = StringUtil.fromBytes(in.array(), in.arrayOffset() + in.position(), n);
+                in.position(in.position() + n);
+            } else {
+                byte[] bytes = new byte[n];
+                in.get(bytes);
+                s = StringUtil.fromBytes(bytes);
+            }
+            return s;
         }
 
         private int read_short() {
+            if (in != null) {
+                return in.getShort() & 0xffff;
+            }
             int x = read_byte();
             x |= read_byte() << 8;
             return x;
         }
 
         private int read_int() { // cpython calls this r_long
+            if (in != null) {
+                return in.getInt();
+            }
             int x = read_byte();
             x |= read_byte() << 8;
             x |= read_byte() << 16;
@@ -307,6 +448,9 @@ public class _marshal implements ClassDictInit {
         }
 
         private long read_long64() { // cpython calls this r_long64
+            if (in != null) {
+                return in.getLong();
+            }
             long lo4 = read_int();
             long hi4 = read_int();
             long x = (hi4 << 32) | (lo4 & 0xFFFFFFFFL);
@@ -322,8 +466,7 @@ public class _marshal implements ClassDictInit {
             }
             BigInteger result = BigInteger.ZERO;
             for (int i = 0; i < size; i++) {
-                String digits = String.valueOf(read_short());
-                result = result.or(new BigInteger(digits).shiftLeft(i * 15));
+                result = result.or(BigInteger.valueOf(read_short()).shiftLeft(i * 15));
             }
             if (sign < 0) {
                 result = result.negate();
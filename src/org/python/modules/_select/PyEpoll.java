@@ -0,0 +1,514 @@
+/* Copyright (c) Jython Developers */
+package org.python.modules._select;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.kenai.constantine.platform.Errno;
+
+import org.python.core.Py;
+import org.python.core.PyException;
+import org.python.core.PyList;
+import org.python.core.PyNewWrapper;
+import org.python.core.PyObject;
+import org.python.core.PyTuple;
+import org.python.core.PyType;
+import org.python.expose.ExposedGet;
+import org.python.expose.ExposedMethod;
+import org.python.expose.ExposedNew;
+import org.python.expose.ExposedType;
+import org.python.util.Generic;
+
+/**
+ * An epoll-like event loop over a single java.nio.channels.Selector.
+ *
+ * Unlike select.poll, objects are registered with the Selector once, and stay registered
+ * until they're unregistered or closed; poll() then only has to wait and translate the
+ * ready set. Registered objects may be Jython socket objects (anything with a getchannel()
+ * method) or SelectableChannels; poll() returns (object, eventmask) tuples holding the
+ * object that was registered.
+ *
+ * Events are level-triggered by default, as the Selector is. EPOLLONESHOT disarms an object
+ * after it has been reported once, until modify() rearms it. Sockets that don't have a
+ * channel yet (they haven't been connected or bound) are kept pending and registered on a
+ * subsequent poll().
+ *
+ * EPOLLET is only approximated. A Selector tells what is ready when it selects, not when
+ * readiness changes, so a socket drained and refilled between two polls can't be told apart
+ * from one that was never drained. An event is reported when it's found ready after a poll()
+ * found it not ready, and an event that was ready at the previous poll() is held back; but
+ * rather than wait for ever on a socket that may have been refilled, a poll() reports a held
+ * event again once it has stayed ready for {@link #EDGE_RECHECK_MILLIS}. For an event that
+ * stays ready EPOLLET is thus a level trigger limited to one report per waiting poll() every
+ * EDGE_RECHECK_MILLIS, and callers must tolerate repeated reports, reading until the socket
+ * would block as they would with epoll.
+ *
+ * poll() doesn't hold the object's monitor while waiting, so close() from another thread
+ * wakes up a blocked poll(), which then raises select.error. register(), modify() and
+ * unregister() wake it up too, as a channel can't be registered nor its interest changed
+ * while the Selector is selecting on some JVMs; the woken poll() waits for the change under
+ * the monitor and then selects again.
+ */
+@ExposedType(name = "select.epoll")
+public class PyEpoll extends PyObject {
+
+    public static final PyType TYPE = PyType.fromClass(PyEpoll.class);
+
+    private static final int READ_EVENTS = _select.EPOLLIN | _select.EPOLLPRI
+            | _select.EPOLLRDNORM | _select.EPOLLRDBAND;
+
+    private static final int WRITE_EVENTS = _select.EPOLLOUT | _select.EPOLLWRNORM
+            | _select.EPOLLWRBAND;
+
+    private static final int DEFAULT_EVENTS = _select.EPOLLIN | _select.EPOLLPRI
+            | _select.EPOLLOUT;
+
+    /** How long a poll() waits before reporting an edge-triggered event that stays ready */
+    static final long EDGE_RECHECK_MILLIS = 100;
+
+    private final Selector selector;
+
+    /** Registrations, keyed by the identity of the registered object. */
+    private final Map<PyObject, Registration> registrations =
+            new IdentityHashMap<PyObject, Registration>();
+
+    /** Registrations whose socket had no channel yet. */
+    private final List<Registration> pending = Generic.list();
+
+    /** Edge-triggered registrations with events that were ready at the last poll. */
+    private final Set<Registration> readyEdges = Generic.set();
+
+    public PyEpoll() {
+        try {
+            selector = Selector.open();
+        } catch (IOException ioe) {
+            throw _select.error(-1, ioe.getMessage());
+        }
+    }
+
+    @ExposedNew
+    final static PyObject epoll___new__(PyNewWrapper new_, boolean init, PyType subtype,
+                                        PyObject[] args, String[] keywords) {
+        if (args.length > 1) {
+            throw Py.TypeError("epoll() takes at most 1 argument (" + args.length + " given)");
+        }
+        // the sizehint argument is accepted for compatibility and ignored
+        return new PyEpoll();
+    }
+
+    @ExposedGet(name = "closed")
+    public boolean getClosed() {
+        return !selector.isOpen();
+    }
+
+    public void register(PyObject obj, int eventmask) {
+        epoll_register(obj, Py.newInteger(eventmask));
+    }
+
+    @ExposedMethod(defaults = {"null"})
+    final synchronized void epoll_register(PyObject obj, PyObject eventmask) {
+        checkOpen();
+        int events = eventmask == null ? DEFAULT_EVENTS : toEventMask(eventmask);
+        Registration existing = registrations.get(obj);
+        if (existing != null && existing.isValid()) {
+            throw _select.error(Errno.EEXIST.value(), "object is already registered");
+        }
+        Registration registration = new Registration(obj, events);
+        registrations.put(obj, registration);
+        selector.wakeup();
+        if (!registration.attach()) {
+            pending.add(registration);
+        }
+    }
+
+    public void modify(PyObject obj, int eventmask) {
+        epoll_modify(obj, Py.newInteger(eventmask));
+    }
+
+    @ExposedMethod
+    final synchronized void epoll_modify(PyObject obj, PyObject eventmask) {
+        checkOpen();
+        int events = toEventMask(eventmask);
+        Registration registration = lookup(obj);
+        registration.events = events;
+        registration.lastReady = 0;
+        readyEdges.remove(registration);
+        selector.wakeup();
+        registration.arm();
+    }
+
+    public void unregister(PyObject obj) {
+        epoll_unregister(obj);
+    }
+
+    @ExposedMethod
+    final synchronized void epoll_unregister(PyObject obj) {
+        checkOpen();
+        Registration registration = lookup(obj);
+        registrations.remove(obj);
+        readyEdges.remove(registration);
+        if (registration.key == null) {
+            pending.remove(registration);
+        } else {
+            registration.key.cancel();
+        }
+    }
+
+    public PyObject poll(PyObject timeout, int maxevents) {
+        return epoll_poll(timeout, maxevents);
+    }
+
+    @ExposedMethod(defaults = {"null", "-1"})
+    final PyObject epoll_poll(PyObject timeout, int maxevents) {
+        checkOpen();
+        long millis = toMillis(timeout);
+        long deadline = millis > 0 ? System.currentTimeMillis() + millis : 0;
+        PyList results = new PyList();
+        // Edge-triggered registrations still ready since the last poll, which would wake
+        // up every select; they're disarmed for the rest of this poll
+        List<Registration> held = Generic.list();
+        long heldSince = 0;
+        try {
+            while (true) {
+                synchronized (this) {
+                    // Waits for a register or modify that woke up the previous select
+                    if (!pending.isEmpty()) {
+                        attachPending();
+                    }
+                }
+                long wait = millis <= 0 ? millis
+                        : Math.max(1, deadline - System.currentTimeMillis());
+                if (!held.isEmpty() && wait != 0) {
+                    wait = wait < 0 ? EDGE_RECHECK_MILLIS : Math.min(wait, EDGE_RECHECK_MILLIS);
+                }
+                select(wait);
+                synchronized (this) {
+                    try {
+                        collect(results, maxevents, held);
+                    } catch (ClosedSelectorException cse) {
+                        // Closed by another thread since the select
+                        throw closedError();
+                    }
+                }
+                long now = System.currentTimeMillis();
+                if (results.size() > 0 || millis == 0 || millis > 0 && now >= deadline) {
+                    return results;
+                }
+                if (held.isEmpty()) {
+                    continue;
+                }
+                if (heldSince == 0) {
+                    heldSince = now;
+                } else if (now - heldSince >= EDGE_RECHECK_MILLIS) {
+                    // Report them on the next round
+                    synchronized (this) {
+                        for (Registration registration : held) {
+                            registration.lastReady = 0;
+                            registration.arm();
+                        }
+                    }
+                    held.clear();
+                    heldSince = 0;
+                }
+            }
+        } finally {
+            synchronized (this) {
+                for (Registration registration : held) {
+                    registration.arm();
+                }
+            }
+        }
+    }
+
+    private void select(long millis) {
+        try {
+            // Keys left over from a previous poll limited by maxevents are still ready
+            if (!selector.selectedKeys().isEmpty() || millis == 0) {
+                selector.selectNow();
+            } else if (millis < 0) {
+                selector.select();
+            } else {
+                selector.select(millis);
+            }
+        } catch (ClosedSelectorException cse) {
+            throw closedError();
+        } catch (IOException ioe) {
+            throw _select.error(-1, ioe.getMessage());
+        }
+    }
+
+    /**
+     * Append the events of the selected keys to results, up to maxevents, and track the
+     * readiness of edge-triggered registrations.
+     */
+    private void collect(PyList results, int maxevents, List<Registration> held) {
+        Set<Registration> seen = Generic.set();
+        int count = 0;
+        for (Iterator<SelectionKey> it = selector.selectedKeys().iterator(); it.hasNext();) {
+            SelectionKey key = it.next();
+            Registration registration = (Registration)key.attachment();
+            seen.add(registration);
+            if (maxevents >= 0 && count >= maxevents) {
+                // Left for the next poll
+                continue;
+            }
+            it.remove();
+            int events;
+            try {
+                events = registration.readyEvents();
+                if ((registration.events & _select.EPOLLET) != 0) {
+                    int edges = events & ~registration.lastReady;
+                    registration.lastReady = events;
+                    if (events != 0) {
+                        readyEdges.add(registration);
+                    }
+                    if (edges == 0 && events != 0
+                        && (registration.events & _select.EPOLLONESHOT) == 0) {
+                        registration.hold();
+                        held.add(registration);
+                    }
+                    events = edges;
+                }
+            } catch (CancelledKeyException cke) {
+                continue;
+            }
+            if (events != 0) {
+                results.append(new PyTuple(registration.obj, Py.newInteger(events)));
+                count++;
+            }
+        }
+        // Edge-triggered events not ready any more are reported when they're ready again
+        for (Iterator<Registration> it = readyEdges.iterator(); it.hasNext();) {
+            Registration registration = it.next();
+            if (!seen.contains(registration) && !held.contains(registration)) {
+                registration.lastReady = 0;
+                it.remove();
+            }
+        }
+    }
+
+    public void close() {
+        epoll_close();
+    }
+
+    @ExposedMethod
+    final synchronized void epoll_close() {
+        if (!selector.isOpen()) {
+            return;
+        }
+        registrations.clear();
+        pending.clear();
+        readyEdges.clear();
+        try {
+            selector.close();
+        } catch (IOException ioe) {
+            throw _select.error(-1, ioe.getMessage());
+        }
+    }
+
+    private void checkOpen() {
+        if (!selector.isOpen()) {
+            throw closedError();
+        }
+    }
+
+    private static PyException closedError() {
+        return _select.error(Errno.EBADF.value(), "I/O operation on closed epoll fd");
+    }
+
+    private Registration lookup(PyObject obj) {
+        Registration registration = registrations.get(obj);
+        if (registration == null) {
+            throw _select.error(Errno.ENOENT.value(), "object is not registered");
+        }
+        return registration;
+    }
+
+    private void attachPending() {
+        for (Iterator<Registration> it = pending.iterator(); it.hasNext();) {
+            if (it.next().attach()) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Convert an event mask to an int, accepting the unsigned value of masks with EPOLLET as
+     * well as the signed one.
+     */
+    private static int toEventMask(PyObject eventmask) {
+        long mask = eventmask.asLong();
+        if (mask < Integer.MIN_VALUE || mask > 0xFFFFFFFFL) {
+            throw Py.OverflowError("event mask out of range");
+        }
+        return (int)mask;
+    }
+
+    private static long toMillis(PyObject timeout) {
+        if (timeout == null || timeout == Py.None) {
+            return -1;
+        }
+        double seconds;
+        try {
+            seconds = timeout.asDouble();
+        } catch (PyException pye) {
+            throw Py.TypeError("timeout must be a number or None");
+        }
+        if (seconds < 0) {
+            return -1;
+        }
+        long millis = (long)(seconds * 1000);
+        // Selector.select treats 0 as forever, so round tiny positive timeouts up
+        return millis == 0 && seconds > 0 ? 1 : millis;
+    }
+
+    /**
+     * Resolve the SelectableChannel behind a registered object, or null if a socket has not
+     * created its channel yet.
+     */
+    private static SelectableChannel getChannel(PyObject obj) {
+        Object channel = obj.__tojava__(SelectableChannel.class);
+        if (channel != Py.NoConversion) {
+            return (SelectableChannel)channel;
+        }
+        PyObject getchannel = obj.__findattr__("getchannel");
+        if (getchannel == null) {
+            throw Py.TypeError("Object '" + obj + "' is not watchable");
+        }
+        PyObject pychannel = getchannel.__call__();
+        if (pychannel == Py.None) {
+            return null;
+        }
+        channel = pychannel.__tojava__(SelectableChannel.class);
+        if (channel == Py.NoConversion) {
+            throw Py.TypeError("Object '" + obj + "' is not watchable");
+        }
+        return (SelectableChannel)channel;
+    }
+
+    /**
+     * Translate an epoll event mask into the interest set of channel.
+     */
+    private static int interestOps(SelectableChannel channel, int events) {
+        int valid = channel.validOps();
+        int ops = 0;
+        if ((events & READ_EVENTS) != 0) {
+            // OP_READ isn't valid on server socket channels
+            ops |= (valid & SelectionKey.OP_ACCEPT) != 0 ? SelectionKey.OP_ACCEPT
+                    : valid & SelectionKey.OP_READ;
+        }
+        if ((events & WRITE_EVENTS) != 0) {
+            ops |= valid & SelectionKey.OP_WRITE;
+            if (channel instanceof SocketChannel
+                && ((SocketChannel)channel).isConnectionPending()) {
+                ops |= SelectionKey.OP_CONNECT;
+            }
+        }
+        return ops;
+    }
+
+    private class Registration {
+
+        final PyObject obj;
+
+        int events;
+
+        /** The events that were ready at the last poll, when edge-triggered */
+        int lastReady;
+
+        SelectionKey key;
+
+        Registration(PyObject obj, int events) {
+            this.obj = obj;
+            this.events = events;
+        }
+
+        boolean isValid() {
+            return key == null || key.isValid();
+        }
+
+        /**
+         * Register with the selector, returning false if the object has no channel yet.
+         */
+        boolean attach() {
+            SelectableChannel channel = getChannel(obj);
+            if (channel == null) {
+                return false;
+            }
+            SelectionKey previous = channel.keyFor(selector);
+            try {
+                if (previous != null) {
+                    if (previous.isValid()) {
+                        registrations.remove(obj);
+                        throw _select.error(Errno.EEXIST.value(), "channel is already registered");
+                    }
+                    // a cancelled key lingers until the next selection operation
+                    selector.selectNow();
+                }
+                key = channel.register(selector, interestOps(channel, events), this);
+            } catch (IllegalBlockingModeException ibme) {
+                registrations.remove(obj);
+                throw _select.error(20000, "socket must be in non-blocking mode");
+            } catch (ClosedChannelException cce) {
+                registrations.remove(obj);
+                throw _select.error(Errno.EBADF.value(), "socket is closed");
+            } catch (IOException ioe) {
+                registrations.remove(obj);
+                throw _select.error(-1, ioe.getMessage());
+            }
+            return true;
+        }
+
+        void arm() {
+            if (key != null && key.isValid()) {
+                key.interestOps(interestOps(key.channel(), events));
+            }
+        }
+
+        /**
+         * Stop selecting the ready operations of key until the next {@link #arm}.
+         */
+        void hold() {
+            key.interestOps(key.interestOps() & ~key.readyOps());
+        }
+
+        /**
+         * The epoll events for the ready operations of key, disarming them when requested.
+         */
+        int readyEvents() {
+            int ready = key.readyOps();
+            int result = 0;
+            if ((ready & (SelectionKey.OP_READ | SelectionKey.OP_ACCEPT)) != 0) {
+                result |= events & READ_EVENTS;
+            }
+            if ((ready & (SelectionKey.OP_WRITE | SelectionKey.OP_CONNECT)) != 0) {
+                result |= events & WRITE_EVENTS;
+            }
+
+            int interest = key.interestOps();
+            if ((events & _select.EPOLLONESHOT) != 0) {
+                interest = 0;
+            } else if ((interest & SelectionKey.OP_CONNECT) != 0
+                       && !((SocketChannel)key.channel()).isConnectionPending()) {
+                // finished connecting: stop asking for OP_CONNECT
+                interest = interestOps(key.channel(), events);
+            } else {
+                return result;
+            }
+            key.interestOps(interest);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/* Copyright (c) Jython Developers */
+package org.python.modules._select;
+
+import org.python.core.ClassDictInit;
+import org.python.core.Py;
+import org.python.core.PyException;
+import org.python.core.PyObject;
+import org.python.core.PyString;
+import org.python.core.PyStringMap;
+import org.python.core.PyTuple;
+
+/**
+ * The Python _select module.
+ *
+ * Provides the Java side of the select module: an epoll-like event loop over
+ * java.nio.channels.Selector. Users should import select.py instead.
+ */
+public class _select implements ClassDictInit {
+
+    public static final PyString __doc__ = Py.newString(
+        "Java implementation of the select module's event loop.\n" +
+        "\n" +
+        "epoll objects register socket objects (or Java SelectableChannels)\n" +
+        "once, and then repeatedly wait for them to become ready.");
+
+    public static final int EPOLLIN = 0x001;
+    public static final int EPOLLPRI = 0x002;
+    public static final int EPOLLOUT = 0x004;
+    public static final int EPOLLERR = 0x008;
+    public static final int EPOLLHUP = 0x010;
+    public static final int EPOLLRDNORM = 0x040;
+    public static final int EPOLLRDBAND = 0x080;
+    public static final int EPOLLWRNORM = 0x100;
+    public static final int EPOLLWRBAND = 0x200;
+    public static final int EPOLLMSG = 0x400;
+    public static final int EPOLLONESHOT = 1 << 30;
+    public static final int EPOLLET = 1 << 31;
+
+    /** select.error exception. */
+    public static final PyObject error = Py.makeClass("error", Py.Exception, exceptionNamespace());
+
+    public static PyException error(int errno, String message) {
+        return new PyException(error, new PyTuple(Py.newInteger(errno), Py.newString(message)));
+    }
+
+    public static void classDictInit(PyObject dict) {
+        dict.__setitem__("__name__", Py.newString("_select"));
+        dict.__setitem__("__doc__", __doc__);
+        dict.__setitem__("epoll", PyEpoll.TYPE);
+        dict.__setitem__("error", error);
+
+        dict.__setitem__("EPOLLIN", Py.newInteger(EPOLLIN));
+        dict.__setitem__("EPOLLPRI", Py.newInteger(EPOLLPRI));
+        dict.__setitem__("EPOLLOUT", Py.newInteger(EPOLLOUT));
+        dict.__setitem__("EPOLLERR", Py.newInteger(EPOLLERR));
+        dict.__setitem__("EPOLLHUP", Py.newInteger(EPOLLHUP));
+        dict.__setitem__("EPOLLRDNORM", Py.newInteger(EPOLLRDNORM));
+        dict.__setitem__("EPOLLRDBAND", Py.newInteger(EPOLLRDBAND));
+        dict.__setitem__("EPOLLWRNORM", Py.newInteger(EPOLLWRNORM));
+        dict.__setitem__("EPOLLWRBAND", Py.newInteger(EPOLLWRBAND));
+        dict.__setitem__("EPOLLMSG", Py.newInteger(EPOLLMSG));
+        dict.__setitem__("EPOLLONESHOT", Py.newInteger(EPOLLONESHOT));
+        // Event masks are unsigned
+        dict.__setitem__("EPOLLET", Py.newInteger(EPOLLET & 0xFFFFFFFFL));
+
+        dict.__setitem__("classDictInit", null);
+        dict.__setitem__("exceptionNamespace", null);
+    }
+
+    public static PyObject exceptionNamespace() {
+        PyObject dict = new PyStringMap();
+        dict.__setitem__("__module__", new PyString("select"));
+        return dict;
+    }
+}
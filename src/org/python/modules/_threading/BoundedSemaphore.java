@@ -0,0 +1,38 @@
+package org.python.modules._threading;
+
+import org.python.core.ArgParser;
+import org.python.core.Py;
+import org.python.core.PyNewWrapper;
+import org.python.core.PyObject;
+import org.python.core.PyType;
+import org.python.expose.ExposedNew;
+import org.python.expose.ExposedType;
+
+/**
+ * A Semaphore that raises ValueError when released more times than it was acquired.
+ */
+@ExposedType(name = "_threading.BoundedSemaphore")
+public class BoundedSemaphore extends Semaphore {
+
+    public static final PyType TYPE = PyType.fromClass(BoundedSemaphore.class);
+
+    public BoundedSemaphore(int value, boolean fair) {
+        this(TYPE, value, fair);
+    }
+
+    BoundedSemaphore(PyType subtype, int value, boolean fair) {
+        super(subtype, value, fair, value);
+    }
+
+    @ExposedNew
+    final static PyObject BoundedSemaphore___new__ (PyNewWrapper new_, boolean init,
+            PyType subtype, PyObject[] args, String[] keywords) {
+        ArgParser ap = parseArgs("BoundedSemaphore", args, keywords);
+        int value = ap.getInt(0, 1);
+        boolean fair = ap.getPyObject(2, Py.False).__nonzero__();
+        if (new_.for_type == subtype) {
+            return new BoundedSemaphore(value, fair);
+        }
+        return new BoundedSemaphoreDerived(subtype, value, fair);
+    }
+}
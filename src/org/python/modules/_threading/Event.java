@@ -0,0 +1,97 @@
+package org.python.modules._threading;
+
+import java.util.concurrent.locks.AbstractQueuedSynchronizer;
+import org.python.core.PyNewWrapper;
+import org.python.core.Py;
+import org.python.core.PyObject;
+import org.python.core.PyType;
+import org.python.expose.ExposedMethod;
+import org.python.expose.ExposedNew;
+import org.python.expose.ExposedType;
+
+/**
+ * A flag that threads can wait to be set. Checking a set flag doesn't lock.
+ */
+@ExposedType(name = "_threading.Event")
+public class Event extends PyObject {
+
+    public static final PyType TYPE = PyType.fromClass(Event.class);
+    private final Sync _sync = new Sync();
+
+    public Event() {
+        super(TYPE);
+    }
+
+    @ExposedNew
+    final static PyObject Event___new__ (PyNewWrapper new_, boolean init,
+            PyType subtype, PyObject[] args, String[] keywords) {
+        return new Event();
+    }
+
+    @ExposedMethod(names = {"isSet", "is_set"})
+    final boolean Event_isSet() {
+        return _sync.isSet();
+    }
+
+    public boolean isSet() {
+        return Event_isSet();
+    }
+
+    @ExposedMethod
+    final void Event_set() {
+        _sync.releaseShared(1);
+    }
+
+    public void set() {
+        Event_set();
+    }
+
+    @ExposedMethod
+    final void Event_clear() {
+        _sync.clear();
+    }
+
+    public void clear() {
+        Event_clear();
+    }
+
+    /**
+     * Wait until the flag is set, for up to timeout seconds unless timeout is None, and
+     * return the flag.
+     */
+    @ExposedMethod(defaults = "Py.None")
+    final boolean Event_wait(PyObject timeout) throws InterruptedException {
+        if (timeout == Py.None) {
+            _sync.acquireSharedInterruptibly(1);
+            return true;
+        }
+        long nanos = (long) (timeout.asDouble() * 1e9);
+        return _sync.tryAcquireSharedNanos(1, nanos);
+    }
+
+    /**
+     * The flag, held as the AQS state: waiting is a shared acquire that succeeds once it's
+     * 1, and setting it is a shared release that wakes all waiters.
+     */
+    private static final class Sync extends AbstractQueuedSynchronizer {
+
+        boolean isSet() {
+            return getState() != 0;
+        }
+
+        void clear() {
+            setState(0);
+        }
+
+        @Override
+        protected int tryAcquireShared(int ignored) {
+            return getState() != 0 ? 1 : -1;
+        }
+
+        @Override
+        protected boolean tryReleaseShared(int ignored) {
+            setState(1);
+            return true;
+        }
+    }
+}
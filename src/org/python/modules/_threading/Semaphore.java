@@ -0,0 +1,177 @@
+package org.python.modules._threading;
+
+import java.util.concurrent.locks.AbstractQueuedSynchronizer;
+import org.python.core.ArgParser;
+import org.python.core.ContextManager;
+import org.python.core.Py;
+import org.python.core.PyBuiltinCallable;
+import org.python.core.PyException;
+import org.python.core.PyNewWrapper;
+import org.python.core.PyObject;
+import org.python.core.PyType;
+import org.python.core.ThreadState;
+import org.python.expose.ExposedMethod;
+import org.python.expose.ExposedNew;
+import org.python.expose.ExposedType;
+
+/**
+ * A counting semaphore, optionally fair (waiting threads acquire it in arrival order).
+ * Permits are taken with a compare-and-set, so uncontended acquires and releases never block.
+ */
+@ExposedType(name = "_threading.Semaphore")
+public class Semaphore extends PyObject implements ContextManager {
+
+    public static final PyType TYPE = PyType.fromClass(Semaphore.class);
+    final Sync _sync;
+
+    public Semaphore(int value, boolean fair) {
+        this(TYPE, value, fair, -1);
+    }
+
+    Semaphore(PyType subtype, int value, boolean fair, int bound) {
+        super(subtype);
+        if (value < 0) {
+            throw Py.ValueError("Semaphore initial value must be >= 0");
+        }
+        _sync = new Sync(value, fair, bound);
+    }
+
+    @ExposedNew
+    final static PyObject Semaphore___new__ (PyNewWrapper new_, boolean init,
+            PyType subtype, PyObject[] args, String[] keywords) {
+        ArgParser ap = parseArgs("Semaphore", args, keywords);
+        int value = ap.getInt(0, 1);
+        boolean fair = ap.getPyObject(2, Py.False).__nonzero__();
+        if (new_.for_type == subtype) {
+            return new Semaphore(value, fair);
+        }
+        return new SemaphoreDerived(subtype, value, fair, -1);
+    }
+
+    /**
+     * Parse the arguments of a semaphore: value and verbose as in CPython, where verbose is
+     * ignored, and fair, which is keyword only.
+     */
+    static ArgParser parseArgs(String name, PyObject[] args, String[] keywords) {
+        int nargs = args.length - keywords.length;
+        if (nargs > 2) {
+            throw PyBuiltinCallable.DefaultInfo.unexpectedCall(nargs, false, name, 0, 2);
+        }
+        return new ArgParser(name, args, keywords, new String[] {"value", "verbose", "fair"}, 0);
+    }
+
+    /**
+     * Take a permit. If none is available, return false if blocking is false, otherwise wait
+     * for one, for up to timeout seconds unless timeout is None.
+     */
+    @ExposedMethod(defaults = {"true", "Py.None"})
+    final boolean Semaphore_acquire(boolean blocking, PyObject timeout)
+            throws InterruptedException {
+        if (!blocking) {
+            return _sync.nonfairTryAcquireShared() >= 0;
+        } else if (timeout == Py.None) {
+            _sync.acquireSharedInterruptibly(1);
+            return true;
+        } else {
+            long nanos = (long) (timeout.asDouble() * 1e9);
+            return _sync.tryAcquireSharedNanos(1, nanos);
+        }
+    }
+
+    public boolean acquire() throws InterruptedException {
+        return Semaphore_acquire(true, Py.None);
+    }
+
+    public boolean acquire(boolean blocking) throws InterruptedException {
+        return Semaphore_acquire(blocking, Py.None);
+    }
+
+    @ExposedMethod
+    final PyObject Semaphore___enter__() throws InterruptedException {
+        _sync.acquireSharedInterruptibly(1);
+        return this;
+    }
+
+    public PyObject __enter__(ThreadState ts) {
+        _sync.acquireShared(1);
+        return this;
+    }
+
+    @ExposedMethod
+    final void Semaphore_release() {
+        _sync.releaseShared(1);
+    }
+
+    public void release() {
+        Semaphore_release();
+    }
+
+    @ExposedMethod
+    final boolean Semaphore___exit__(PyObject type, PyObject value, PyObject traceback) {
+        Semaphore_release();
+        return false;
+    }
+
+    public boolean __exit__(ThreadState ts, PyException exception) {
+        Semaphore_release();
+        return false;
+    }
+
+    /**
+     * The permit count, held as the AQS state. With a bound, releasing beyond it raises
+     * ValueError instead of adding a permit.
+     */
+    static final class Sync extends AbstractQueuedSynchronizer {
+
+        private final boolean fair;
+        private final int bound;
+
+        Sync(int permits, boolean fair, int bound) {
+            this.fair = fair;
+            this.bound = bound;
+            setState(permits);
+        }
+
+        int nonfairTryAcquireShared() {
+            for (;;) {
+                int available = getState();
+                int remaining = available - 1;
+                if (remaining < 0 || compareAndSetState(available, remaining)) {
+                    return remaining;
+                }
+            }
+        }
+
+        @Override
+        protected int tryAcquireShared(int acquires) {
+            if (fair) {
+                // Don't overtake a thread that's already waiting
+                Thread first = getFirstQueuedThread();
+                if (first != null && first != Thread.currentThread()) {
+                    return -1;
+                }
+            }
+            for (;;) {
+                int available = getState();
+                int remaining = available - acquires;
+                if (remaining < 0 || compareAndSetState(available, remaining)) {
+                    return remaining;
+                }
+            }
+        }
+
+        @Override
+        protected boolean tryReleaseShared(int releases) {
+            for (;;) {
+                int current = getState();
+                int next = current + releases;
+                if (bound >= 0 && next > bound) {
+                    throw Py.ValueError("Semaphore released too many times");
+                }
+                if (compareAndSetState(current, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
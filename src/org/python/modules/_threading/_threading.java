@@ -15,6 +15,9 @@ public class _threading implements ClassDictInit {
         dict.__setitem__("_Lock", Lock.TYPE);
         dict.__setitem__("_RLock", Lock.TYPE);
         dict.__setitem__("Condition", Condition.TYPE);
+        dict.__setitem__("Semaphore", Semaphore.TYPE);
+        dict.__setitem__("BoundedSemaphore", BoundedSemaphore.TYPE);
+        dict.__setitem__("Event", Event.TYPE);
 //        dict.__setitem__("JavaThread", JavaThread.TYPE);
     }
 
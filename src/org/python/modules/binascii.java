@@ -9,7 +9,9 @@
 package org.python.modules;
 
 
+import java.util.Arrays;
 import java.util.regex.Pattern;
+import java.util.zip.CRC32;
 
 import org.python.core.ArgParser;
 import org.python.core.Py;
@@ -426,7 +428,7 @@ public class binascii {
         int ascii_len = ascii_data.length();
 
         int bin_len = 0;
-        StringBuilder bin_data = new StringBuilder();
+        byte[] bin_data = new byte[ascii_len / 4 * 3 + 3];
 
         for(int i = 0; ascii_len > 0 ; ascii_len--, i++) {
             // Skip some punctuation
@@ -459,8 +461,7 @@ public class binascii {
             leftbits += 6;
             if (leftbits >= 8) {
                 leftbits -= 8;
-                bin_data.append((char)((leftchar >> leftbits) & 0xff));
-                bin_len++;
+                bin_data[bin_len++] = (byte)(leftchar >> leftbits);
                 leftchar &= ((1 << leftbits) - 1);
             }
         }
@@ -468,7 +469,7 @@ public class binascii {
         if (leftbits != 0) {
             throw new PyException(Error, "Incorrect padding");
         }
-        return new PyString(bin_data.toString());
+        return new PyString(StringUtil.fromBytes(bin_data, 0, bin_len));
     }
 
 
@@ -483,40 +484,52 @@ public class binascii {
      * The return value is the converted line, including a newline char.
      */
     public static PyString b2a_base64(String bin_data) {
-        int leftbits = 0;
-        char this_ch;
-        int leftchar = 0;
-
-        StringBuilder ascii_data = new StringBuilder();
-
         int bin_len = bin_data.length();
         if (bin_len > BASE64_MAXBIN) {
             throw new PyException(Error,"Too much data for base64 line");
         }
 
-        for (int i = 0; bin_len > 0 ; bin_len--, i++) {
-            // Shift the data into our buffer
-            leftchar = (leftchar << 8) | bin_data.charAt(i);
-            leftbits += 8;
+        // The output size is known up front, so it's encoded straight into its final array
+        byte[] ascii_data = new byte[(bin_len + 2) / 3 * 4 + 1];
+        int pos = b2a_base64(StringUtil.toBytes(bin_data), 0, bin_len, ascii_data, 0);
+        ascii_data[pos] = '\n';  // Append a courtesy newline
 
-            // See if there are 6-bit groups ready
-            while (leftbits >= 6) {
-                this_ch = (char)((leftchar >> (leftbits-6)) & 0x3f);
-                leftbits -= 6;
-                ascii_data.append((char)table_b2a_base64[this_ch]);
-            }
+        return new PyString(StringUtil.fromBytes(ascii_data));
+    }
+
+    /**
+     * Base64 encode bin_data[start:end] into ascii_data from pos on, with padding if the
+     * length isn't a multiple of 3. Large inputs can be encoded a multiple of 3 bytes at a
+     * time.
+     *
+     * @return the position after the last byte written
+     */
+    public static int b2a_base64(byte[] bin_data, int start, int end, byte[] ascii_data,
+                                 int pos) {
+        byte[] table = table_b2a_base64;
+        int i = start;
+        for (int triples = end - (end - start) % 3; i < triples; i += 3) {
+            int group = (bin_data[i] & 0xff) << 16 | (bin_data[i + 1] & 0xff) << 8
+                    | bin_data[i + 2] & 0xff;
+            ascii_data[pos++] = table[group >>> 18];
+            ascii_data[pos++] = table[(group >>> 12) & 0x3f];
+            ascii_data[pos++] = table[(group >>> 6) & 0x3f];
+            ascii_data[pos++] = table[group & 0x3f];
         }
-        if (leftbits == 2) {
-            ascii_data.append((char)table_b2a_base64[(leftchar&3) << 4]);
-            ascii_data.append(BASE64_PAD);
-            ascii_data.append(BASE64_PAD);
-        } else if (leftbits == 4) {
-            ascii_data.append((char)table_b2a_base64[(leftchar&0xf) << 2]);
-            ascii_data.append(BASE64_PAD);
+        if (end - i == 1) {
+            int group = bin_data[i] & 0xff;
+            ascii_data[pos++] = table[group >>> 2];
+            ascii_data[pos++] = table[(group & 3) << 4];
+            ascii_data[pos++] = (byte)BASE64_PAD;
+            ascii_data[pos++] = (byte)BASE64_PAD;
+        } else if (end - i == 2) {
+            int group = (bin_data[i] & 0xff) << 8 | bin_data[i + 1] & 0xff;
+            ascii_data[pos++] = table[group >>> 10];
+            ascii_data[pos++] = table[(group >>> 4) & 0x3f];
+            ascii_data[pos++] = table[(group & 0xf) << 2];
+            ascii_data[pos++] = (byte)BASE64_PAD;
         }
-        ascii_data.append('\n');  // Append a courtesy newline
-
-        return new PyString(ascii_data.toString());
+        return pos;
     }
 
 
@@ -810,6 +823,9 @@ static long[] crc_32_tab = new long[] {
 
     public static int crc32(String bin_data, long crc) {
         int len = bin_data.length();
+        if (len >= (crc == 0 ? CRC32_BULK : CRC32_COMBINE_BULK)) {
+            return crc32(StringUtil.toBytes(bin_data), 0, len, crc);
+        }
 
         crc &= 0xFFFFFFFFL;
         crc = crc ^ 0xFFFFFFFFL;
@@ -825,9 +841,92 @@ static long[] crc_32_tab = new long[] {
             return (int)(crc & 0xFFFFFFFF);
     }
 
+    /*
+     * java.util.zip.CRC32 is much faster than the table, but always starts from 0. From
+     * another start value it takes a crc32_combine (O(log len)) to join the two, which
+     * only pays off for larger chunks.
+     */
+    private static final int CRC32_BULK = 32;
+    private static final int CRC32_COMBINE_BULK = 4096;
+
+    static int crc32(byte[] bin_data, int off, int len, long crc) {
+        if (len >= (crc == 0 ? CRC32_BULK : CRC32_COMBINE_BULK)) {
+            CRC32 checksum = new CRC32();
+            checksum.update(bin_data, off, len);
+            int bulk = (int)checksum.getValue();
+            return crc == 0 ? bulk : crc32_combine((int)crc, bulk, len);
+        }
+
+        crc &= 0xFFFFFFFFL;
+        crc = crc ^ 0xFFFFFFFFL;
+        for (int i = off, end = off + len; i < end; i++) {
+            crc = (int)crc_32_tab[(int) ((crc ^ bin_data[i]) & 0xffL)] ^ (crc >> 8);
+            crc &= 0xFFFFFFFFL;
+        }
+        return (int)(crc ^ 0xFFFFFFFFL);
+    }
+
+    /**
+     * The CRC-32 of A + B given the CRC-32 of A, of B and the length of B, as zlib's
+     * crc32_combine does it: by applying len2 zero bytes to crc1 with GF(2) matrices.
+     */
+    static int crc32_combine(int crc1, int crc2, long len2) {
+        if (len2 <= 0) {
+            return crc1;
+        }
+        int[] even = new int[32];
+        int[] odd = new int[32];
+
+        // The operator for one zero bit
+        odd[0] = 0xedb88320;
+        int row = 1;
+        for (int n = 1; n < 32; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+        gf2_matrix_square(even, odd);  // two zero bits
+        gf2_matrix_square(odd, even);  // four zero bits
+
+        // Apply len2 zero bytes, squaring for each bit of len2
+        do {
+            gf2_matrix_square(even, odd);
+            if ((len2 & 1) != 0) {
+                crc1 = gf2_matrix_times(even, crc1);
+            }
+            len2 >>= 1;
+            if (len2 == 0) {
+                break;
+            }
+            gf2_matrix_square(odd, even);
+            if ((len2 & 1) != 0) {
+                crc1 = gf2_matrix_times(odd, crc1);
+            }
+            len2 >>= 1;
+        } while (len2 != 0);
+        return crc1 ^ crc2;
+    }
+
+    private static int gf2_matrix_times(int[] mat, int vec) {
+        int sum = 0;
+        for (int i = 0; vec != 0; i++, vec >>>= 1) {
+            if ((vec & 1) != 0) {
+                sum ^= mat[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void gf2_matrix_square(int[] square, int[] mat) {
+        for (int n = 0; n < 32; n++) {
+            square[n] = gf2_matrix_times(mat, mat[n]);
+        }
+    }
+
 
     private static char[] hexdigit = "0123456789abcdef".toCharArray();
 
+    private static final byte[] hexdigit_bytes = StringUtil.toBytes("0123456789abcdef");
+
     public static PyString __doc__b2a_hex = new PyString(
         "b2a_hex(data) -> s; Hexadecimal representation of binary data.\n" +
         "\n" +
@@ -837,15 +936,16 @@ static long[] crc_32_tab = new long[] {
     public static PyString b2a_hex(String argbuf) {
         int arglen = argbuf.length();
 
-        StringBuilder retbuf = new StringBuilder(arglen*2);
+        byte[] bin = StringUtil.toBytes(argbuf);
+        byte[] retbuf = new byte[arglen * 2];
 
         /* make hex version of string, taken from shamodule.c */
-        for (int i = 0; i < arglen; i++) {
-            char ch = argbuf.charAt(i);
-            retbuf.append(hexdigit[(ch >>> 4) & 0xF]);
-            retbuf.append(hexdigit[ch & 0xF]);
+        for (int i = 0, j = 0; i < arglen; i++) {
+            int ch = bin[i];
+            retbuf[j++] = hexdigit_bytes[(ch >>> 4) & 0xF];
+            retbuf[j++] = hexdigit_bytes[ch & 0xF];
         }
-        return new PyString(retbuf.toString());
+        return new PyString(StringUtil.fromBytes(retbuf));
 
     }
 
@@ -874,16 +974,30 @@ static long[] crc_32_tab = new long[] {
         if (arglen % 2 != 0)
             throw Py.TypeError("Odd-length string");
 
-        StringBuilder retbuf = new StringBuilder(arglen/2);
+        byte[] retbuf = new byte[arglen / 2];
 
         for (int i = 0; i < arglen; i += 2) {
-            int top = Character.digit(argbuf.charAt(i), 16);
-            int bot = Character.digit(argbuf.charAt(i+1), 16);
+            int top = hexvalue(argbuf.charAt(i));
+            int bot = hexvalue(argbuf.charAt(i+1));
             if (top == -1 || bot == -1)
                 throw Py.TypeError("Non-hexadecimal digit found");
-            retbuf.append((char) ((top << 4) + bot));
+            retbuf[i / 2] = (byte) ((top << 4) + bot);
+        }
+        return new PyString(StringUtil.fromBytes(retbuf));
+    }
+
+    /** Hex digit values by char, -1 for chars that aren't hex digits */
+    private static final byte[] table_a2b_hex = new byte[128];
+    static {
+        Arrays.fill(table_a2b_hex, (byte)-1);
+        for (int i = 0; i < 16; i++) {
+            table_a2b_hex[hexdigit[i]] = (byte)i;
+            table_a2b_hex[Character.toUpperCase(hexdigit[i])] = (byte)i;
         }
-        return new PyString(retbuf.toString());
+    }
+
+    private static int hexvalue(char ch) {
+        return ch < 128 ? table_a2b_hex[ch] : -1;
     }
 
 
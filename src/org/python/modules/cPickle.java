@@ -13,10 +13,12 @@
 package org.python.modules;
 
 import java.math.BigInteger;
+import java.util.Iterator;
 import java.util.Map;
 
 import org.python.core.ClassDictInit;
 import org.python.core.Py;
+import org.python.core.PyArray;
 import org.python.core.PyBoolean;
 import org.python.core.PyBuiltinCallable;
 import org.python.core.PyClass;
@@ -482,6 +484,8 @@ public class cPickle implements ClassDictInit {
 
     private static PyType BoolType = PyType.fromClass(PyBoolean.class);
 
+    private static PyType ArrayType = PyType.fromClass(PyArray.class);
+
 
     private static PyObject dict;
 
@@ -621,9 +625,9 @@ public class cPickle implements ClassDictInit {
      * @return         a string representing the pickled object.
      */
     public static PyString dumps(PyObject object, int protocol) {
-        cStringIO.StringIO file = cStringIO.StringIO();
-        dump(object, file, protocol);
-        return file.getvalue();
+        Pickler pickler = new Pickler((PyIOFile) null, protocol);
+        pickler.dump(object);
+        return new PyString(pickler.file.getvalue());
     }
 
 
@@ -648,8 +652,7 @@ public class cPickle implements ClassDictInit {
      * @return         a new object.
      */
     public static Object loads(PyObject str) {
-        cStringIO.StringIO file = cStringIO.StringIO(str.toString());
-        return new Unpickler(file).load();
+        return new Unpickler(str.toString()).load();
     }
 
 
@@ -662,7 +665,7 @@ public class cPickle implements ClassDictInit {
      * @see cPickle#Pickler(PyObject,int)
      */
     static public class Pickler {
-        private PyIOFile file;
+        private final OutputBuffer file;
         private int protocol;
 
         /**
@@ -676,6 +679,9 @@ public class cPickle implements ClassDictInit {
 
         private PickleMemo memo = new PickleMemo();
 
+        /** Objects referenced from the pickle but not memoized; see keep_alive. */
+        private PyList keepAlive;
+
         /**
          * To write references to persistent objects, the persistent module
          * must assign a method to persistent_id which returns either None
@@ -695,7 +701,12 @@ public class cPickle implements ClassDictInit {
 
 
         public Pickler(PyObject file, int protocol) {
-            this.file = PyIOFileFactory.createIOFile(file);
+            this(PyIOFileFactory.createIOFile(file), protocol);
+        }
+
+
+        private Pickler(PyIOFile target, int protocol) {
+            this.file = new OutputBuffer(target);
             this.protocol = protocol;
         }
 
@@ -705,18 +716,29 @@ public class cPickle implements ClassDictInit {
          * @param object        The object which will be pickled.
          */
         public void dump(PyObject object) {
-            if (protocol >= 2) {
-                file.write(PROTO);
-                file.write((char) protocol);
+            try {
+                if (protocol >= 2) {
+                    file.write(PROTO);
+                    file.write((char) protocol);
+                }
+                save(object);
+                file.write(STOP);
+            } catch (RuntimeException e) {
+                // don't leave half a pickle behind for the next dump
+                file.discard();
+                throw e;
             }
-            save(object);
-            file.write(STOP);
             file.flush();
         }
 
-        private static final int get_id(PyObject o) {
-            // we don't pickle Java instances so we don't have to consider that case
-            return System.identityHashCode(o);
+
+        /**
+         * Clear the memo, so objects pickled by earlier dump calls are
+         * pickled again instead of being referenced.
+         */
+        public void clear_memo() {
+            memo.clear();
+            keepAlive = null;
         }
 
 
@@ -772,10 +794,12 @@ public class cPickle implements ClassDictInit {
                 return;
             }
 
-            int d = get_id(object);
-
             PyType t = object.getType();
 
+            if (save_atom(object, t)) {
+                return;
+            }
+
             if (t == TupleType && object.__len__() == 0) {
                 if (protocol > 0)
                     save_empty_tuple(object);
@@ -784,7 +808,7 @@ public class cPickle implements ClassDictInit {
                 return;
             }
 
-            int m = getMemoPosition(d, object);
+            int m = memo.get(object);
             if (m >= 0) {
                 get(m);
                 return;
@@ -802,8 +826,13 @@ public class cPickle implements ClassDictInit {
                 return;
             }
 
-            PyObject tup = null;
             PyObject reduce = dispatch_table.__finditem__(t);
+            if (reduce == null && t == ArrayType) {
+                save_array((PyArray)object);
+                return;
+            }
+
+            PyObject tup = null;
             if (reduce == null) {
                 reduce = object.__findattr__("__reduce_ex__");
                 if (reduce != null) {
@@ -893,7 +922,7 @@ public class cPickle implements ClassDictInit {
             }
 
             // Memoize
-            put(putMemo(get_id(object), object));
+            put(putMemo(object));
 
             if (listitems != Py.None) {
                 batch_appends(listitems);
@@ -909,6 +938,52 @@ public class cPickle implements ClassDictInit {
 
 
 
+        /**
+         * Ints, floats, bools and None are never memoized, so they are
+         * written without looking at the memo or for a reducer.
+         */
+        final private boolean save_atom(PyObject object, PyType type) {
+            if (type == IntType)
+                save_int(object);
+            else if (type == FloatType)
+                save_float(object);
+            else if (type == NoneType)
+                save_none(object);
+            else if (type == BoolType)
+                save_bool(object);
+            else
+                return false;
+            return true;
+        }
+
+
+        /**
+         * Saves the elements of lists, tuples and dicts, writing atoms
+         * directly unless a persistent_id has to see them first.
+         */
+        final private void save_item(PyObject object) {
+            if (persistent_id == null && save_atom(object, object.getType()))
+                return;
+            save(object, false);
+        }
+
+
+        /**
+         * The equivalent of saving the result of PyArray.__reduce__,
+         * without looking the reducer up and calling it.
+         */
+        final private void save_array(PyArray array) {
+            PyObject typecode = Py.newString(array.getTypecode());
+            PyObject args;
+            if (array.__len__() > 0) {
+                args = new PyTuple(typecode, Py.newString(array.tostring()));
+            } else {
+                args = new PyTuple(typecode);
+            }
+            save_reduce(ArrayType, args, Py.None, Py.None, Py.None, array);
+        }
+
+
         final private boolean save_type(PyObject object, PyType type) {
             //System.out.println("save_type " + object + " " + cls);
             if (type == NoneType)
@@ -1085,7 +1160,7 @@ public class cPickle implements ClassDictInit {
                 file.write(object.__repr__().toString());
                 file.write("\n");
             }
-            put(putMemo(get_id(object), object));
+            put(putMemo(object));
         }
 
         private void save_unicode(PyObject object) {
@@ -1100,18 +1175,17 @@ public class cPickle implements ClassDictInit {
                                                         "strict", true));
                 file.write("\n");
             }
-            put(putMemo(get_id(object), object));
+            put(putMemo(object));
         }
 
         private void save_tuple(PyObject object) {
-            int d = get_id(object);
-
-            int len = object.__len__();
+            PyObject[] items = ((PyTuple)object).getArray();
+            int len = items.length;
 
             if (len > 0 && len <= 3 && protocol >= 2) {
                 for (int i = 0; i < len; i++)
-                    save(object.__finditem__(i));
-                int m = getMemoPosition(d, object);
+                    save_item(items[i]);
+                int m = memo.get(object);
                 if (m >= 0) {
                     for (int i = 0; i < len; i++)
                         file.write(POP);
@@ -1120,7 +1194,7 @@ public class cPickle implements ClassDictInit {
                 else {
                     char opcode = (char) (TUPLE1 + len - 1);
                     file.write(opcode);
-                    put(putMemo(d, object));
+                    put(putMemo(object));
                 }
                 return;
             }
@@ -1128,10 +1202,10 @@ public class cPickle implements ClassDictInit {
             file.write(MARK);
 
             for (int i = 0; i < len; i++)
-                save(object.__finditem__(i));
+                save_item(items[i]);
 
             if (len > 0) {
-                int m = getMemoPosition(d, object);
+                int m = memo.get(object);
                 if (m >= 0) {
                     if (protocol > 0) {
                         file.write(POP_MARK);
@@ -1145,7 +1219,7 @@ public class cPickle implements ClassDictInit {
                 }
             }
             file.write(TUPLE);
-            put(putMemo(d, object));
+            put(putMemo(object));
         }
 
 
@@ -1161,9 +1235,27 @@ public class cPickle implements ClassDictInit {
                 file.write(LIST);
             }
 
-            put(putMemo(get_id(object), object));
+            put(putMemo(object));
 
-            batch_appends(object);
+            batch_appends(((PyList)object).getArray());
+        }
+
+        private void batch_appends(PyObject[] items) {
+            int len = items.length;
+            if (protocol == 0) {
+                for (int i = 0; i < len; i++) {
+                    save_item(items[i]);
+                    file.write(APPEND);
+                }
+                return;
+            }
+            for (int start = 0; start < len; start += BATCHSIZE) {
+                int end = Math.min(start + BATCHSIZE, len);
+                file.write(MARK);
+                for (int i = start; i < end; i++)
+                    save_item(items[i]);
+                file.write(APPENDS);
+            }
         }
 
         private void batch_appends(PyObject object) {
@@ -1197,9 +1289,47 @@ public class cPickle implements ClassDictInit {
                 file.write(DICT);
             }
 
-            put(putMemo(get_id(object), object));
+            put(putMemo(object));
+
+            // Read the entries directly only when iteritems can't have been overridden
+            if (object.getType() == DictionaryType) {
+                batch_setitems((PyDictionary)object);
+            } else {
+                batch_setitems(object.invoke("iteritems"));
+            }
+        }
 
-            batch_setitems(object.invoke("iteritems"));
+        private void batch_setitems(PyDictionary dict) {
+            Iterator<Map.Entry<PyObject, PyObject>> entries =
+                    dict.getMap().entrySet().iterator();
+            if (protocol == 0) {
+                while (entries.hasNext()) {
+                    Map.Entry<PyObject, PyObject> entry = entries.next();
+                    save_item(entry.getKey());
+                    save_item(entry.getValue());
+                    file.write(SETITEM);
+                }
+                return;
+            }
+            while (entries.hasNext()) {
+                Map.Entry<PyObject, PyObject> entry = entries.next();
+                if (!entries.hasNext()) {
+                    save_item(entry.getKey());
+                    save_item(entry.getValue());
+                    file.write(SETITEM);
+                    return;
+                }
+                file.write(MARK);
+                int n = 0;
+                while (true) {
+                    save_item(entry.getKey());
+                    save_item(entry.getValue());
+                    if (++n == BATCHSIZE || !entries.hasNext())
+                        break;
+                    entry = entries.next();
+                }
+                file.write(SETITEMS);
+            }
         }
 
         private void batch_setitems(PyObject object) {
@@ -1269,7 +1399,7 @@ public class cPickle implements ClassDictInit {
                     save(args.__finditem__(i));
             }
 
-            int mid = putMemo(get_id(object), object);
+            int mid = putMemo(object);
             if (protocol > 0) {
                 file.write(OBJ);
                 put(mid);
@@ -1333,39 +1463,30 @@ public class cPickle implements ClassDictInit {
             file.write("\n");
             file.write(name.toString());
             file.write("\n");
-            put(putMemo(get_id(object), object));
+            put(putMemo(object));
         }
 
 
-        final private int getMemoPosition(int id, Object o) {
-            return memo.findPosition(id, o);
-        }
-
-        final private int putMemo(int id, PyObject object) {
+        final private int putMemo(PyObject object) {
             int memo_len = memo.size() + 1;
-            memo.put(id, memo_len, object);
+            memo.put(object, memo_len);
             return memo_len;
         }
 
 
         /**
-         * Keeps a reference to the object x in the memo.
+         * Keeps a reference to the object x.
          *
-         * Because we remember objects by their id, we have
+         * Because we remember objects by their identity, we have
          * to assure that possibly temporary objects are kept
-         * alive by referencing them.
-         * We store a reference at the id of the memo, which should
-         * normally not be used unless someone tries to deepcopy
-         * the memo itself...
+         * alive by referencing them, or their identity could be
+         * reused by another object while pickling.
          */
         final private void keep_alive(PyObject obj) {
-            int id = System.identityHashCode(memo);
-            PyList list = (PyList) memo.findValue(id, memo);
-            if (list == null) {
-                list = new PyList();
-                memo.put(id, -1, list);
+            if (keepAlive == null) {
+                keepAlive = new PyList();
             }
-            list.append(obj);
+            keepAlive.append(obj);
         }
 
     }
@@ -1410,139 +1531,180 @@ public class cPickle implements ClassDictInit {
 
 
     /*
-     * A very specialized and simplified version of PyStringMap. It can
-     * only use integers as keys and stores both an integer and an object
-     * as value. It is very private! And should only be used thread-confined.
+     * An identity keyed hash map from objects to their memo positions,
+     * with the positions kept as primitive ints. Open addressing with
+     * linear probing over power of two tables. It is very private! And
+     * should only be used thread-confined.
      */
     static private class PickleMemo {
-        //Table of primes to cycle through
-        private final int[] primes = {
-            13, 61, 251, 1021, 4093,
-            5987, 9551, 15683, 19609, 31397,
-            65521, 131071, 262139, 524287, 1048573, 2097143,
-            4194301, 8388593, 16777213, 33554393, 67108859,
-            134217689, 268435399, 536870909, 1073741789,};
-
-        private transient int[] keys;
-        private transient int[] position;
-        private transient Object[] values;
-
+        private Object[] keys;
+        private int[] positions;
         private int size;
-        private transient int filled;
-        private transient int prime;
-
-        public PickleMemo(int capacity) {
-            prime = 0;
-            keys = null;
-            values = null;
-            resize(capacity);
-        }
 
         public PickleMemo() {
-            this(4);
+            clear();
         }
 
         public int size() {
             return size;
         }
 
-        private int findIndex(int key, Object value) {
-            int[] table = keys;
-            int maxindex = table.length;
-            int index = (key & 0x7fffffff) % maxindex;
-
-            // Fairly aribtrary choice for stepsize...
-            int stepsize = maxindex / 5;
+        private static int hash(Object key, int mask) {
+            int h = System.identityHashCode(key);
+            // spread the high bits, identity hashes vary little in the low ones
+            h ^= (h >>> 16);
+            return (h * 0x9E3779B9) & mask;
+        }
 
-            // Cycle through possible positions for the key;
-            //int collisions = 0;
+        /**
+         * @return the memo position of key, or -1 if it isn't memoized.
+         */
+        public int get(Object key) {
+            Object[] table = keys;
+            int mask = table.length - 1;
+            int index = hash(key, mask);
             while (true) {
-                int tkey = table[index];
-                if (tkey == key && value == values[index]) {
-                    return index;
+                Object tkey = table[index];
+                if (tkey == key) {
+                    return positions[index];
                 }
-                if (values[index] == null) return -1;
-                index = (index+stepsize) % maxindex;
+                if (tkey == null) {
+                    return -1;
+                }
+                index = (index + 1) & mask;
             }
         }
 
-        public int findPosition(int key, Object value) {
-            int idx = findIndex(key, value);
-            if (idx < 0) return -1;
-            return position[idx];
+        public void put(Object key, int pos) {
+            if (2 * (size + 1) > keys.length) {
+                resize(keys.length * 2);
+            }
+            Object[] table = keys;
+            int mask = table.length - 1;
+            int index = hash(key, mask);
+            while (true) {
+                Object tkey = table[index];
+                if (tkey == null) {
+                    table[index] = key;
+                    positions[index] = pos;
+                    size++;
+                    return;
+                }
+                if (tkey == key) {
+                    positions[index] = pos;
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
         }
 
+        public void clear() {
+            keys = new Object[16];
+            positions = new int[16];
+            size = 0;
+        }
 
-        public Object findValue(int key, Object value) {
-            int idx = findIndex(key, value);
-            if (idx < 0) return null;
-            return values[idx];
+        private void resize(int capacity) {
+            if (capacity <= 0) {
+                throw Py.ValueError("can't make hashtable of size: " + capacity);
+            }
+            Object[] oldKeys = keys;
+            int[] oldPositions = positions;
+            keys = new Object[capacity];
+            positions = new int[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                Object key = oldKeys[i];
+                if (key == null) {
+                    continue;
+                }
+                int index = hash(key, mask);
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                positions[index] = oldPositions[i];
+            }
         }
+    }
 
 
-        private final void insertkey(int key, int pos, Object value) {
-            int[] table = keys;
-            int maxindex = table.length;
-            int index = (key & 0x7fffffff) % maxindex;
+    /*
+     * The output of a Pickler: a growable buffer holding one char per
+     * byte, as Jython strings do, which is handed to the target file in
+     * large batches instead of one write per opcode. Without a target
+     * the pickle just accumulates, see dumps.
+     */
+    static private class OutputBuffer {
+        // hand the data over to the file once this much has accumulated
+        private static final int FLUSH_THRESHOLD = 64 * 1024;
 
-            // Fairly aribtrary choice for stepsize...
-            int stepsize = maxindex / 5;
+        private final PyIOFile target;
+        private char[] buf = new char[256];
+        private int count;
 
-            // Cycle through possible positions for the key;
-            while (true) {
-                int tkey = table[index];
-                if (values[index] == null) {
-                    table[index] = key;
-                    position[index] = pos;
-                    values[index] = value;
-                    filled++;
-                    size++;
-                    break;
-                } else if (tkey == key && values[index] == value) {
-                    position[index] = pos;
-                    break;
-                }
-                index = (index+stepsize) % maxindex;
+        OutputBuffer(PyIOFile target) {
+            this.target = target;
+        }
+
+        final void write(char ch) {
+            if (count == buf.length) {
+                makeRoom(1);
             }
+            buf[count++] = ch;
         }
 
+        final void write(String str) {
+            int len = str.length();
+            if (count + len > buf.length) {
+                if (target != null && len >= FLUSH_THRESHOLD) {
+                    // big strings go straight through
+                    drain();
+                    target.write(str);
+                    return;
+                }
+                makeRoom(len);
+            }
+            str.getChars(0, len, buf, count);
+            count += len;
+        }
 
-        private final void resize(int capacity) {
-            int p = prime;
-            for(; p<primes.length; p++) {
-                if (primes[p] >= capacity) break;
+        private void makeRoom(int len) {
+            if (target != null && count >= FLUSH_THRESHOLD) {
+                drain();
+                if (len <= buf.length) {
+                    return;
+                }
             }
-            if (primes[p] < capacity) {
-                throw Py.ValueError("can't make hashtable of size: " +
-                                    capacity);
+            int capacity = buf.length * 2;
+            if (capacity < count + len) {
+                capacity = count + len;
             }
-            capacity = primes[p];
-            prime = p;
-
-            int[] oldKeys = keys;
-            int[] oldPositions = position;
-            Object[] oldValues = values;
-
-            keys = new int[capacity];
-            position = new int[capacity];
-            values = new Object[capacity];
-            size = 0;
-            filled = 0;
+            char[] newbuf = new char[capacity];
+            System.arraycopy(buf, 0, newbuf, 0, count);
+            buf = newbuf;
+        }
 
-            if (oldValues != null) {
-                int n = oldValues.length;
+        private void drain() {
+            if (count > 0) {
+                target.write(new String(buf, 0, count));
+                count = 0;
+            }
+        }
 
-                for(int i=0; i<n; i++) {
-                    Object value = oldValues[i];
-                    if (value == null) continue;
-                    insertkey(oldKeys[i], oldPositions[i], value);
-                }
+        void flush() {
+            if (target != null) {
+                drain();
+                target.flush();
             }
         }
 
-        public void put(int key, int pos, Object value) {
-            if (2*filled > keys.length) resize(keys.length+1);
-            insertkey(key, pos, value);
+        void discard() {
+            count = 0;
+        }
+
+        String getvalue() {
+            return new String(buf, 0, count);
         }
     }
 
@@ -1560,6 +1722,16 @@ public class cPickle implements ClassDictInit {
 
         private PyIOFile file;
 
+        /*
+         * When unpickling from a string or a cStringIO, the data is read
+         * in place from here instead of through file, with pos as the
+         * read position (which is copied back to the cStringIO when load
+         * returns).
+         */
+        private CharSequence data;
+        private int pos;
+        private cStringIO.StringIO source;
+
         public Map<String,PyObject> memo = Generic.map();
 
         /**
@@ -1582,10 +1754,26 @@ public class cPickle implements ClassDictInit {
 
 
         Unpickler(PyObject file) {
+            Object f = file.__tojava__(cStringIO.StringIO.class);
+            if (f != Py.NoConversion) {
+                source = (cStringIO.StringIO)f;
+                return;
+            }
+            if (file.__findattr__("read") == null || file.__findattr__("readline") == null) {
+                throw Py.TypeError("argument must have 'read' and 'readline' attributes");
+            }
             this.file = PyIOFileFactory.createIOFile(file);
         }
 
 
+        /**
+         * An Unpickler of the pickle held in data, for loads.
+         */
+        private Unpickler(String data) {
+            this.data = data;
+        }
+
+
         /**
          * Unpickle and return an instance of the object represented by
          * the file.
@@ -1594,14 +1782,26 @@ public class cPickle implements ClassDictInit {
             stackTop = 0;
             stack = new PyObject[10];
 
+            if (source == null) {
+                return load_loop();
+            }
+            if (source.closed) {
+                throw Py.ValueError("I/O operation on closed file");
+            }
+            data = source.buffer();
+            pos = source.pos;
+            try {
+                return load_loop();
+            } finally {
+                source.pos = Math.min(pos, data.length());
+                data = null;
+            }
+        }
+
+
+        private PyObject load_loop() {
             while (true) {
-                String s = file.read(1);
-//              System.out.println("load:" + s);
-//              for (int i = 0; i < stackTop; i++)
-//                  System.out.println("   " + stack[i]);
-                if (s.length() < 1)
-                    load_eof();
-                char key = s.charAt(0);
+                char key = (char)read1();
                 switch (key) {
                 case PERSID:          load_persid(); break;
                 case BINPERSID:       load_binpersid(); break;
@@ -1678,15 +1878,70 @@ public class cPickle implements ClassDictInit {
             throw new PyException(Py.EOFError);
         }
 
+
+        /**
+         * Read a single byte, raising EOFError at the end of the data.
+         */
+        private int read1() {
+            if (data != null) {
+                if (pos >= data.length()) {
+                    load_eof();
+                }
+                return data.charAt(pos++);
+            }
+            String s = file.read(1);
+            if (s.length() < 1) {
+                load_eof();
+            }
+            return s.charAt(0);
+        }
+
+
+        /**
+         * Read len bytes, raising EOFError if there are fewer left.
+         */
+        private String read(int len) {
+            if (data != null) {
+                if (len > data.length() - pos) {
+                    pos = data.length();
+                    load_eof();
+                }
+                int start = pos;
+                pos += len;
+                return data.subSequence(start, pos).toString();
+            }
+            String s = file.read(len);
+            if (s.length() < len) {
+                load_eof();
+            }
+            return s;
+        }
+
+
+        private String readlineNoNl() {
+            if (data != null) {
+                int len = data.length();
+                int start = Math.min(pos, len);
+                int end = start;
+                while (end < len && data.charAt(end) != '\n') {
+                    end++;
+                }
+                // skip the newline
+                pos = end < len ? end + 1 : end;
+                return data.subSequence(start, end).toString();
+            }
+            return file.readlineNoNl();
+        }
+
         private void load_proto() {
-            int proto = file.read(1).charAt(0);
+            int proto = read1();
             if (proto < 0 || proto > 2)
                 throw Py.ValueError("unsupported pickle protocol: " + proto);
         }
 
 
         final private void load_persid() {
-            load_persid(new PyString(file.readlineNoNl()));
+            load_persid(new PyString(readlineNoNl()));
         }
 
 
@@ -1715,7 +1970,7 @@ public class cPickle implements ClassDictInit {
         }
 
         final private void load_int() {
-            String line = file.readlineNoNl();
+            String line = readlineNoNl();
             PyObject value;
             // The following could be abstracted into a common string
             // -> int/long method.
@@ -1745,36 +2000,34 @@ public class cPickle implements ClassDictInit {
 
         final private void load_binint() {
             int x = read_binint();
-            push(new PyInteger(x));
+            push(Py.newInteger(x));
         }
 
         private int read_binint() {
-            String s = file.read(4);
-            return s.charAt(0) |
-                   (s.charAt(1)<<8) |
-                   (s.charAt(2)<<16) |
-                   (s.charAt(3)<<24);
+            return read1() |
+                   (read1()<<8) |
+                   (read1()<<16) |
+                   (read1()<<24);
         }
 
 
         final private void load_binint1() {
-            int val = file.read(1).charAt(0);
-            push(new PyInteger(val));
+            int val = read1();
+            push(Py.newInteger(val));
         }
 
         final private void load_binint2() {
             int val = read_binint2();
-            push(new PyInteger(val));
+            push(Py.newInteger(val));
         }
 
         private int read_binint2() {
-            String s = file.read(2);
-            return (s.charAt(1)) << 8 | (s.charAt(0));
+            return read1() | (read1() << 8);
         }
 
 
         final private void load_long() {
-            String line = file.readlineNoNl();
+            String line = readlineNoNl();
             push(new PyLong(line.substring(0, line.length()-1)));
         }
 
@@ -1784,7 +2037,7 @@ public class cPickle implements ClassDictInit {
                 push(new PyLong(BigInteger.ZERO));
                 return;
             }
-            String s = file.read(longLength);
+            String s = read(longLength);
             byte[] bytes = new byte[s.length()];
             // Write to the byte array in reverse order: pickle orders
             // by little endian whereas BigInteger orders by big
@@ -1804,7 +2057,7 @@ public class cPickle implements ClassDictInit {
 
         private int read_binint(int length) {
             if (length == 1)
-                return file.read(1).charAt(0);
+                return read1();
             else if (length == 2)
                 return read_binint2();
             else
@@ -1812,25 +2065,20 @@ public class cPickle implements ClassDictInit {
         }
 
         final private void load_float() {
-            String line = file.readlineNoNl();
+            String line = readlineNoNl();
             push(new PyFloat(Double.valueOf(line).doubleValue()));
         }
 
         final private void load_binfloat() {
-            String s = file.read(8);
-            long bits = s.charAt(7) |
-                        ((long)s.charAt(6) << 8) |
-                        ((long)s.charAt(5) << 16) |
-                        ((long)s.charAt(4) << 24) |
-                        ((long)s.charAt(3) << 32) |
-                        ((long)s.charAt(2) << 40) |
-                        ((long)s.charAt(1) << 48) |
-                        ((long)s.charAt(0) << 56);
+            long bits = 0;
+            for (int i = 0; i < 8; i++) {
+                bits = (bits << 8) | read1();
+            }
             push(new PyFloat(Double.longBitsToDouble(bits)));
         }
 
         final private void load_string() {
-            String line = file.readlineNoNl();
+            String line = readlineNoNl();
 
             String value;
             char quote = line.charAt(0);
@@ -1866,18 +2114,18 @@ public class cPickle implements ClassDictInit {
 
         final private void load_binstring() {
             int len = read_binint();
-            push(new PyString(file.read(len)));
+            push(new PyString(read(len)));
         }
 
 
         final private void load_short_binstring() {
-            int len = file.read(1).charAt(0);
-            push(new PyString(file.read(len)));
+            int len = read1();
+            push(new PyString(read(len)));
         }
 
 
         final private void load_unicode() {
-            String line = file.readlineNoNl();
+            String line = readlineNoNl();
             String value = codecs.PyUnicode_DecodeRawUnicodeEscape(line,
                                                                    "strict");
             push(new PyUnicode(value));
@@ -1885,7 +2133,7 @@ public class cPickle implements ClassDictInit {
 
         final private void load_binunicode() {
             int len = read_binint();
-            String line = file.read(len);
+            String line = read(len);
             push(new PyUnicode(codecs.PyUnicode_DecodeUTF8(line, "strict")));
         }
 
@@ -1943,8 +2191,8 @@ public class cPickle implements ClassDictInit {
             pop(args);
             pop();
 
-            String module = file.readlineNoNl();
-            String name = file.readlineNoNl();
+            String module = readlineNoNl();
+            String name = readlineNoNl();
             PyObject klass = find_class(module, name);
 
             PyObject value = null;
@@ -1975,8 +2223,8 @@ public class cPickle implements ClassDictInit {
         }
 
         final private void load_global() {
-            String module = file.readlineNoNl();
-            String name = file.readlineNoNl();
+            String module = readlineNoNl();
+            String name = readlineNoNl();
             PyObject klass = find_class(module, name);
             push(klass);
         }
@@ -2064,7 +2312,7 @@ public class cPickle implements ClassDictInit {
         }
 
         final private void load_get() {
-            String py_str = file.readlineNoNl();
+            String py_str = readlineNoNl();
             PyObject value = memo.get(py_str);
             if (value == null) {
                 throw new PyException(BadPickleGet, py_str);
@@ -2073,7 +2321,7 @@ public class cPickle implements ClassDictInit {
         }
 
         final private void load_binget() {
-            String py_key = String.valueOf((int)file.read(1).charAt(0));
+            String py_key = String.valueOf((int)read1());
             PyObject value = memo.get(py_key);
             if (value == null) {
                 throw new PyException(BadPickleGet, py_key);
@@ -2093,12 +2341,12 @@ public class cPickle implements ClassDictInit {
 
 
         final private void load_put() {
-            memo.put(file.readlineNoNl(), peek());
+            memo.put(readlineNoNl(), peek());
         }
 
 
         final private void load_binput() {
-            int i = file.read(1).charAt(0);
+            int i = read1();
             memo.put(String.valueOf(i), peek());
         }
 
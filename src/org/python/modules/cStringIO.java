@@ -6,17 +6,17 @@
  * The Netherlands.
  */
 
-// cStringIO with StringBuilder semantics - don't use without using external
-// synchronization. Java does provide other alternatives.
-
 package org.python.modules;
 
+import java.util.Arrays;
+
 import org.python.core.Py;
 import org.python.core.PyIterator;
 import org.python.core.PyList;
 import org.python.core.PyObject;
 import org.python.core.PyString;
 import org.python.core.PyType;
+import org.python.core.util.StringUtil;
 
 /**
  * This module implements a file-like class, StringIO, that reads and
@@ -62,15 +62,50 @@ public class cStringIO {
         public boolean closed = false;
         public int pos = 0;
 
-        private final StringBuilder buf;
+        /** The size of the chunks the contents are stored in. */
+        private static final int CHUNK_SHIFT = 13;
+        private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+        private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+        /** The size the first chunk starts at, unless the initial value is bigger. */
+        private static final int MIN_CHUNK_SIZE = 64;
+
+        /**
+         * The contents as a String, when known: the initial value until the first write,
+         * and the result of getvalue() until the next one. Reads use it in place of the
+         * chunks.
+         */
+        private String snapshot;
+
+        /** getvalue()'s result for the current snapshot. */
+        private PyString value;
+
+        /**
+         * The contents, one byte per char, in fixed size chunks so writes never move
+         * what's already there. Only valid when materialized is set.
+         */
+        private byte[][] chunks = new byte[0][];
+
+        /** Whether chunks (or wide) holds the contents. */
+        private boolean materialized;
+
+        /**
+         * The contents once they hold a char above \xff, which doesn't fit in the chunks;
+         * null until then. Such chars are kept as written, as they always have been.
+         */
+        private StringBuilder wide;
+
+        /** The length of the contents. */
+        private int count;
 
         public StringIO() {
-            buf = new StringBuilder();
+            materialized = true;
         }
 
 
         public StringIO(String buffer) {
-            buf = new StringBuilder(buffer);
+            snapshot = buffer;
+            count = buffer.length();
         }
 
         private void _complain_ifclosed() {
@@ -143,7 +178,7 @@ public class cStringIO {
                     this.pos += pos;
                     break;
                 case os.SEEK_END:
-                    this.pos = _convert_to_int(pos + buf.length());
+                    this.pos = _convert_to_int(pos + count);
                     break;
                 case os.SEEK_SET:
                 default:
@@ -192,18 +227,19 @@ public class cStringIO {
         public synchronized PyString read(long size) {
             _complain_ifclosed();
             _convert_to_int(size);
-            int len = buf.length();
-            String substr;
+            int start = Math.min(pos, count);
+            int newpos;
             if (size < 0) {
-                substr = pos >= len ? "" : buf.substring(pos);
-                pos = len;
+                newpos = count;
             } else {
                 // ensure no overflow
-                int newpos = _convert_to_int(Math.min(pos + size, len));
-                substr = buf.substring(pos, newpos);
-                pos = newpos;
+                newpos = _convert_to_int(Math.min(start + size, count));
             }
-            return new PyString(substr);
+            pos = Math.max(pos, newpos);
+            if (start == 0 && newpos == count) {
+                return getvalue();
+            }
+            return new PyString(substring(start, newpos));
         }
 
         /**
@@ -230,16 +266,15 @@ public class cStringIO {
         public synchronized PyString readline(long size) {
             _complain_ifclosed();
             _convert_to_int(size);
-            int len = buf.length();
-            if (pos == len) {
+            if (pos >= count) {
                 return new PyString("");
             }
-            int i = buf.indexOf("\n", pos);
-            int newpos = (i < 0) ? len : i + 1;
+            int i = indexOfNewline(pos);
+            int newpos = (i < 0) ? count : i + 1;
             if (size >= 0) {
                 newpos = _convert_to_int(Math.min(newpos - pos, size) + pos);
             }
-            String r = buf.substring(pos, newpos);
+            String r = substring(pos, newpos);
             pos = newpos;
             return new PyString(r);
         }
@@ -251,12 +286,12 @@ public class cStringIO {
          */
         public synchronized PyString readlineNoNl() {
             _complain_ifclosed();
-            int len = buf.length();
-            int i = buf.indexOf("\n", pos);
-            int newpos = (i < 0) ? len : i;
-            String r = buf.substring(pos, newpos);
+            int start = Math.min(pos, count);
+            int i = indexOfNewline(start);
+            int newpos = (i < 0) ? count : i;
+            String r = substring(start, newpos);
             pos = newpos;
-            if (pos  < len) // Skip the newline
+            if (pos  < count) // Skip the newline
                 pos++;
             return new PyString(r);
         }
@@ -309,7 +344,16 @@ public class cStringIO {
             int pos_int = _convert_to_int(pos);
             if (pos_int < 0)
                 pos_int = this.pos;
-            buf.setLength(pos_int);
+            if (pos_int < count) {
+                if (snapshot != null) {
+                    snapshot = snapshot.substring(0, pos_int);
+                    value = null;
+                }
+                if (wide != null) {
+                    wide.setLength(pos_int);
+                }
+                count = pos_int;
+            }
             this.pos = pos_int;
         }
 
@@ -324,57 +368,63 @@ public class cStringIO {
 
         public synchronized void write(String s) {
             _complain_ifclosed();
-
-            int spos = pos;
-            int slen = buf.length();
-
-            if (spos == slen) {
-                buf.append(s);
-                buf.setLength(slen + s.length());
-                pos = spos + s.length();
-
+            int len = s.length();
+            if (len == 0) {
                 return;
             }
-
-            if (spos > slen) {
-                int l = spos - slen;
-                char[] bytes = new char[l];
-
-                for (int i = 0; i < l - 1; i++)
-                    bytes[i] = '\0';
-
-                buf.append(bytes);
-                slen = spos;
+            materialize();
+            if (wide == null && !isBytes(s)) {
+                widen();
             }
-
-            int newpos = spos + s.length();
-
-            if (spos < slen) {
-                if (newpos > slen) {
-                    buf.replace(spos, slen - spos, s);
-                    buf.append(s.substring(slen));
-                    slen = newpos;
-                } else {
-                    buf.replace(spos, spos + s.length(), s);
+            int end = pos + len;
+            if (wide != null) {
+                // setLength fills the gap left by seeking past the end with zeros
+                if (pos > count) {
+                    wide.setLength(pos);
                 }
-            } else {
-                buf.append(s);
-                slen = newpos;
+                wide.replace(pos, Math.min(end, wide.length()), s);
+                pos = end;
+                count = wide.length();
+                snapshot = null;
+                value = null;
+                return;
+            }
+            ensureCapacity(end);
+            if (pos > count) {
+                // Fill the gap left by seeking past the end
+                fill(count, pos);
             }
+            for (int i = 0; i < len; ) {
+                int at = pos + i;
+                byte[] chunk = chunks[at >>> CHUNK_SHIFT];
+                int offset = at & CHUNK_MASK;
+                int n = Math.min(len - i, CHUNK_SIZE - offset);
+                StringUtil.toBytes(s, i, i + n, chunk, offset);
+                i += n;
+            }
+            pos = end;
+            count = Math.max(count, end);
+            snapshot = null;
+            value = null;
+        }
 
-            buf.setLength(slen);
-            pos = newpos;
+        /**
+         * The contents of the file, read in place by cPickle as an
+         * optimization. Only valid until the next write.
+         */
+        CharSequence buffer() {
+            if (snapshot != null) {
+                return snapshot;
+            }
+            return wide != null ? wide : new ChunkSequence();
         }
 
         /**
          * Write a char to the file. Used by cPickle as an optimization.
          * @param ch    The data to write.
          */
-        public synchronized void writeChar(char ch) {
-            int len = buf.length();
-            if (len <= pos)
-                buf.setLength(pos + 1);
-            buf.setCharAt(pos++, ch);
+        public void writeChar(char ch) {
+            write(getString(ch));
         }
 
 
@@ -399,12 +449,171 @@ public class cStringIO {
         /**
          * Retrieve the entire contents of the ``file'' at any time
          * before the StringIO object's close() method is called.
+         *
+         * The result is kept, so calls without writes in between are cheap.
          * @return      the contents of the StringIO.
          */
         public synchronized PyString getvalue() {
-            return new PyString(buf.toString());
+            if (value == null) {
+                if (snapshot == null) {
+                    snapshot = substring(0, count);
+                }
+                value = new PyString(snapshot);
+            }
+            return value;
         }
 
+        private int indexOfNewline(int start) {
+            if (snapshot != null) {
+                return snapshot.indexOf('\n', start);
+            } else if (wide != null) {
+                return wide.indexOf("\n", start);
+            }
+            for (int at = start; at < count; ) {
+                byte[] chunk = chunks[at >>> CHUNK_SHIFT];
+                int offset = at & CHUNK_MASK;
+                int end = Math.min(CHUNK_SIZE, offset + count - at);
+                for (int i = offset; i < end; i++) {
+                    if (chunk[i] == '\n') {
+                        return at + i - offset;
+                    }
+                }
+                at += end - offset;
+            }
+            return -1;
+        }
+
+        /**
+         * The contents from start to end, which must be within the file.
+         */
+        private String substring(int start, int end) {
+            if (snapshot != null) {
+                return snapshot.substring(start, end);
+            } else if (wide != null) {
+                return wide.substring(start, end);
+            }
+            int len = end - start;
+            int offset = start & CHUNK_MASK;
+            if (offset + len <= CHUNK_SIZE) {
+                return len == 0 ? "" : StringUtil.fromBytes(chunks[start >>> CHUNK_SHIFT],
+                                                            offset, len);
+            }
+            byte[] bytes = new byte[len];
+            for (int i = 0; i < len; ) {
+                int at = start + i;
+                offset = at & CHUNK_MASK;
+                int n = Math.min(len - i, CHUNK_SIZE - offset);
+                System.arraycopy(chunks[at >>> CHUNK_SHIFT], offset, bytes, i, n);
+                i += n;
+            }
+            return StringUtil.fromBytes(bytes);
+        }
+
+        /**
+         * Copy the initial value into chunks, before the first write.
+         */
+        private void materialize() {
+            if (materialized) {
+                return;
+            }
+            String contents = snapshot;
+            materialized = true;
+            if (!isBytes(contents)) {
+                wide = new StringBuilder(contents);
+                return;
+            }
+            ensureCapacity(count);
+            for (int at = 0; at < count; at += CHUNK_SIZE) {
+                StringUtil.toBytes(contents, at, Math.min(at + CHUNK_SIZE, count),
+                                   chunks[at >>> CHUNK_SHIFT], 0);
+            }
+        }
+
+        /**
+         * Move the contents from the chunks to wide, before writing a char above \xff.
+         */
+        private void widen() {
+            String contents = substring(0, count);
+            wide = new StringBuilder(contents);
+            chunks = new byte[0][];
+        }
+
+        /**
+         * Whether every char of s fits in a byte.
+         */
+        private static boolean isBytes(String s) {
+            int len = s.length();
+            char bits = 0;
+            for (int i = 0; i < len; i++) {
+                bits |= s.charAt(i);
+            }
+            return bits <= 0xff;
+        }
+
+        private void ensureCapacity(int size) {
+            int needed = (size + CHUNK_MASK) >>> CHUNK_SHIFT;
+            if (needed > chunks.length) {
+                byte[][] grown = new byte[Math.max(needed, chunks.length * 2)][];
+                System.arraycopy(chunks, 0, grown, 0, chunks.length);
+                chunks = grown;
+            }
+            byte[] first = chunks.length > 0 ? chunks[0] : null;
+            if (needed == 1) {
+                // The only chunk grows with the contents, so small files stay small
+                if (first == null || first.length < size) {
+                    int length = Math.max(size, first == null ? MIN_CHUNK_SIZE
+                                                              : first.length << 1);
+                    resizeFirst(Math.min(length, CHUNK_SIZE));
+                }
+                return;
+            }
+            if (first != null && first.length < CHUNK_SIZE) {
+                resizeFirst(CHUNK_SIZE);
+            }
+            for (int i = needed - 1; i >= 0 && chunks[i] == null; i--) {
+                chunks[i] = new byte[CHUNK_SIZE];
+            }
+        }
+
+        private void resizeFirst(int length) {
+            byte[] first = new byte[length];
+            if (chunks[0] != null) {
+                System.arraycopy(chunks[0], 0, first, 0, Math.min(count, length));
+            }
+            chunks[0] = first;
+        }
+
+        private void fill(int start, int end) {
+            for (int at = start; at < end; ) {
+                int offset = at & CHUNK_MASK;
+                int n = Math.min(end - at, CHUNK_SIZE - offset);
+                Arrays.fill(chunks[at >>> CHUNK_SHIFT], offset, offset + n, (byte)0);
+                at += n;
+            }
+        }
+
+        /**
+         * A view of the chunks, for buffer().
+         */
+        private class ChunkSequence implements CharSequence {
+
+            public int length() {
+                return count;
+            }
+
+            public char charAt(int index) {
+                return (char)(chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK] & 0xff);
+            }
+
+            public CharSequence subSequence(int start, int end) {
+                return substring(start, end);
+            }
+
+            @Override
+            public String toString() {
+                return substring(0, count);
+            }
+        }
     }
 
     private static String[] strings = new String[256];
@@ -1,6 +1,7 @@
 
 package org.python.modules;
 
+import org.python.core.DirectoryCache;
 import org.python.core.Py;
 import org.python.core.PyFile;
 import org.python.core.PyList;
@@ -58,10 +59,6 @@ public class imp {
         }
     }
 
-    private static boolean caseok(File file, String filename) {
-        return org.python.core.imp.caseok(file, filename);
-    }
-
     /**
      * This needs to be consolidated with the code in (@see org.python.core.imp).
      *
@@ -85,8 +82,10 @@ public class imp {
         File sourceFile = new File(dir, sourceName);
         File compiledFile = new File(dir, compiledName);
 
-        boolean pkg = dir.isDirectory() && caseok(dir, name) && (sourceFile.isFile()
-                                                                 || compiledFile.isFile());
+        DirectoryCache.Listing listing = DirectoryCache.list(dir);
+        boolean pkg = (findingPackage || DirectoryCache.list(new File(directoryName))
+                       .isDirectory(name))
+                && (listing.isFile(sourceName) || listing.isFile(compiledName));
 
         if(!findingPackage) {
             if(pkg) {
@@ -98,11 +97,12 @@ public class imp {
                 compiledName = name + "$py.class";
                 sourceFile = new File(directoryName, sourceName);
                 compiledFile = new File(directoryName, compiledName);
+                listing = DirectoryCache.list(new File(directoryName));
             }
         }
 
-        if (sourceFile.isFile() && caseok(sourceFile, sourceName)) {
-            if (!preferSource && compiledFile.isFile() && caseok(compiledFile, compiledName)) {
+        if (listing.isFile(sourceName)) {
+            if (!preferSource && listing.isFile(compiledName)) {
                 Py.writeDebug("import", "trying precompiled " + compiledFile.getPath());
                 long pyTime = sourceFile.lastModified();
                 long classTime = compiledFile.lastModified();
@@ -119,7 +119,7 @@ public class imp {
 
         // If no source, try loading precompiled
         Py.writeDebug("import", "trying " + compiledFile.getPath());
-        if (compiledFile.isFile() && caseok(compiledFile, compiledName)) {
+        if (listing.isFile(compiledName)) {
             return new ModuleInfo(newFile(compiledFile),
                     new File(displayDirName, compiledName).getPath(),
                                   ".class", "rb", PY_COMPILED);
@@ -282,6 +282,14 @@ public class imp {
         return false;
     }
 
+    /**
+     * Forget the cached directory listings used to find modules, so that files created
+     * since aren't missed.
+     */
+    public static void invalidate_caches() {
+        DirectoryCache.invalidate();
+    }
+
     /**
      * Acquires the interpreter's import lock for the current thread.
      *
@@ -10,10 +10,13 @@ import org.python.core.Py;
 import org.python.core.PyException;
 import org.python.core.PyInteger;
 import org.python.core.PyIterator;
+import org.python.core.PyList;
 import org.python.core.PyNone;
 import org.python.core.PyObject;
+import org.python.core.PySequence;
 import org.python.core.PyString;
 import org.python.core.PyTuple;
+import org.python.core.PyType;
 import org.python.core.PyXRange;
 
 /**
@@ -65,6 +68,58 @@ public class itertools implements ClassDictInit {
             }
             return element;
         }
+
+        /**
+         * Returns the element at index of a source from {@link itertools#source}: a list,
+         * tuple or xrange is indexed directly, anything else is an iterator whose next element
+         * is returned.
+         */
+        protected PyObject nextElement(PyObject source, int index) {
+            if (source instanceof PySequence) {
+                return source.__finditem__(index);
+            }
+            return nextElement(source);
+        }
+    }
+
+    /**
+     * Return what the iterators here take their elements from: list, tuple and xrange
+     * objects themselves, as they're cheaper to index than iterate, otherwise an iterator
+     * over iterable.
+     */
+    private static PyObject source(PyObject iterable) {
+        PyType type = iterable.getType();
+        if (type == PyList.TYPE || type == PyTuple.TYPE || type == PyXRange.TYPE) {
+            return iterable;
+        }
+        return iterable.__iter__();
+    }
+
+    /**
+     * Return the number of elements of a source left after index, or -1 if unknown.
+     */
+    private static int lengthHint(PyObject source, int index) {
+        if (source instanceof PySequence) {
+            return Math.max(0, source.__len__() - index);
+        } else if (source instanceof PyIterator) {
+            return ((PyIterator)source).__length_hint__();
+        }
+        return -1;
+    }
+
+    /**
+     * Return the smallest of the sources' length hints, or -1 if any is unknown.
+     */
+    private static int minLengthHint(PyObject[] sources, int index) {
+        int min = Integer.MAX_VALUE;
+        for (PyObject source : sources) {
+            int hint = lengthHint(source, index);
+            if (hint < 0) {
+                return -1;
+            }
+            min = Math.min(min, hint);
+        }
+        return min;
     }
 
     public static void classDictInit(PyObject dict) {
@@ -154,23 +209,39 @@ public class itertools implements ClassDictInit {
     public static PyIterator chain(final PyObject[] iterables) {
         final PyObject[] iterators = new PyObject[iterables.length];
         for (int i = 0; i < iterables.length; i++) {
-            iterators[i] = iterables[i].__iter__();
+            iterators[i] = source(iterables[i]);
         }
 
         return new ItertoolsIterator() {
             int iteratorIndex = 0;
 
+            // position in the current iterator, when it's indexed
+            int index = 0;
+
             public PyObject __iternext__() {
                 PyObject next = null;
-                for (; iteratorIndex < iterators.length; iteratorIndex++) {
-                    next = nextElement(iterators[iteratorIndex]);
+                for (; iteratorIndex < iterators.length; iteratorIndex++, index = 0) {
+                    next = nextElement(iterators[iteratorIndex], index);
                     if (next != null) {
+                        index++;
                         break;
                     }
                 }
                 return next;
             }
 
+            public int __length_hint__() {
+                int total = 0;
+                for (int i = iteratorIndex; i < iterators.length; i++) {
+                    int hint = lengthHint(iterators[i], i == iteratorIndex ? index : 0);
+                    if (hint < 0) {
+                        return -1;
+                    }
+                    total += hint;
+                }
+                return total;
+            }
+
         };
     }
 
@@ -197,6 +268,10 @@ public class itertools implements ClassDictInit {
             public int __len__() {
                return times; 
             }
+
+            public int __length_hint__() {
+                return Math.max(0, counter);
+            }
             
             public PyString __repr__() {
                 return (PyString)(Py.newString("repeat(%r, %d)").
@@ -241,8 +316,14 @@ public class itertools implements ClassDictInit {
         final PyObject[] iters = new PyObject[n];
 
         for (int j = 0; j < n; j++) {
-            iters[j] = Py.iter(argstar[j + 1], "argument " + (j + 1)
-                    + " to imap() must support iteration");
+            PyObject arg = argstar[j + 1];
+            PyType type = arg.getType();
+            if (type == PyList.TYPE || type == PyTuple.TYPE || type == PyXRange.TYPE) {
+                iters[j] = arg;
+            } else {
+                iters[j] = Py.iter(arg, "argument " + (j + 1)
+                        + " to imap() must support iteration");
+            }
         }
 
         return new PyIterator() {
@@ -250,10 +331,16 @@ public class itertools implements ClassDictInit {
 
             PyObject element = null;
 
+            // position in the indexed iterables
+            int index = 0;
+
             public PyObject __iternext__() {
 
                 for (int i = 0; i < n; i++) {
-                    if ((element = iters[i].__iternext__()) != null) {
+                    PyObject iter = iters[i];
+                    element = iter instanceof PySequence ? iter.__finditem__(index)
+                            : iter.__iternext__();
+                    if (element != null) {
                         // collect the arguments for the callable
                         args[i] = element;
                     } else {
@@ -261,18 +348,23 @@ public class itertools implements ClassDictInit {
                         return null;
                     }
                 }
+                index++;
                 if (callable == Py.None) {
                     // if None is supplied as callable we just return what's in
                     // the iterable(s)
                     if (n == 1) {
                         return args[0];
                     } else {
-                        return new PyTuple(args.clone());
+                        return new PyTuple(args.clone(), false);
                     }
                 } else {
                     return callable.__call__(args);
                 }
             }
+
+            public int __length_hint__() {
+                return minLengthHint(iters, index);
+            }
         };
     }
 
@@ -332,7 +424,7 @@ public class itertools implements ClassDictInit {
 
             int lastCount = 0;
 
-            PyObject iter = iterable.__iter__();
+            PyObject iter = source(iterable);
 
             public PyObject __iternext__() {
                 PyObject result = null;
@@ -341,14 +433,40 @@ public class itertools implements ClassDictInit {
                     return null;
                 }
 
-                while (lastCount <= counter) {
-                    result = nextElement(iter);
-                    lastCount++;
+                if (iter instanceof PySequence) {
+                    // Go straight to the element, skipping those before it
+                    result = iter.__finditem__(counter);
+                    if (result == null) {
+                        // Stop for good, even if the list grows
+                        counter = Integer.MAX_VALUE;
+                        return null;
+                    }
+                } else {
+                    while (lastCount <= counter) {
+                        result = nextElement(iter);
+                        lastCount++;
+                    }
                 }
                 counter += step;
                 return result;
             }
 
+            public int __length_hint__() {
+                if (counter >= stop && !stopNone) {
+                    return 0;
+                }
+                int consumed = iter instanceof PySequence ? 0 : lastCount;
+                int available = lengthHint(iter, consumed);
+                if (available < 0) {
+                    return -1;
+                }
+                long end = (long)consumed + available;
+                if (!stopNone) {
+                    end = Math.min(end, stop);
+                }
+                return end > counter ? (int)((end - counter + step - 1) / step) : 0;
+            }
+
         };
 
     }
@@ -465,7 +583,7 @@ public class itertools implements ClassDictInit {
         final PyObject[] iters = new PyObject[itemsize];
 
         for (int i = 0; i < itemsize; i++) {
-            PyObject iter = argstar[i].__iter__();
+            PyObject iter = source(argstar[i]);
             if (iter == null) {
                 throw Py.TypeError("izip argument #" + (i + 1)
                         + " must support iteration");
@@ -475,6 +593,9 @@ public class itertools implements ClassDictInit {
 
         return new ItertoolsIterator() {
 
+            // position in the indexed iterables
+            int index = 0;
+
             public PyObject __iternext__() {
                 if (itemsize == 0)
                     return null;
@@ -484,14 +605,20 @@ public class itertools implements ClassDictInit {
 
                 for (int i = 0; i < itemsize; i++) {
 
-                    item = nextElement(iters[i]);
+                    item = nextElement(iters[i], index);
 
                     if (item == null) {
                         return null;
                     }
                     next[i] = item;
                 }
-                return new PyTuple(next);
+                index++;
+                // next is never seen again, so the tuple can have it
+                return new PyTuple(next, false);
+            }
+
+            public int __length_hint__() {
+                return minLengthHint(iters, index);
             }
 
         };
@@ -616,20 +743,25 @@ public class itertools implements ClassDictInit {
     private final static class GroupBy extends ItertoolsIterator {
 
         private final PyObject iterator;
+        private int index;
         private final PyObject keyFunc;
         private PyObject currentKey;
         private PyObject currentValue;
         private PyObject targetKey;
 
         private GroupBy(PyObject iterable, PyObject key) {
-            iterator = iterable.__iter__();
+            iterator = source(iterable);
             keyFunc = key;
             targetKey = currentKey = currentValue = new PyXRange(0);
         }
 
+        private boolean sameKey() {
+            return currentKey == targetKey || currentKey.equals(targetKey);
+        }
+
         public PyObject __iternext__() {
-            while (currentKey.equals(targetKey)) {
-                currentValue = nextElement(iterator);
+            while (sameKey()) {
+                currentValue = nextElement(iterator, index++);
                 if (currentValue == null) {
                     return null;
                 }
@@ -652,7 +784,7 @@ public class itertools implements ClassDictInit {
                 if (completed) {
                     return null;
                 }
-                currentValue = nextElement(iterator);
+                currentValue = nextElement(iterator, index++);
                 if (currentValue == null) {
                     completed = true;
                 } else {
@@ -662,7 +794,7 @@ public class itertools implements ClassDictInit {
                         currentKey = keyFunc.__call__(currentValue);
                     }
                 }
-                if (!currentKey.equals(targetKey)) {
+                if (!sameKey()) {
                     completed = true;
                 }
                 return item;
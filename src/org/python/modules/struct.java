@@ -11,14 +11,18 @@ package org.python.modules;
 import org.python.core.Py;
 import org.python.core.PyException;
 import org.python.core.PyFloat;
-import org.python.core.PyList;
 import org.python.core.PyLong;
 import org.python.core.PyObject;
 import org.python.core.PyString;
 import org.python.core.PyStringMap;
 import org.python.core.PyTuple;
+import org.python.core.util.StringUtil;
+import org.python.util.Generic;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ConcurrentMap;
 import org.python.core.PyArray;
 
 /**
@@ -286,6 +290,11 @@ public class struct {
         "The variable struct.error is an exception raised on errors.";
 
 
+    /**
+     * A format item. Values are packed into and unpacked from a ByteBuffer
+     * at absolute indexes, in the byte order of the buffer, so the same
+     * definitions serve both byte orders.
+     */
     static class FormatDef {
         char name;
         int size;
@@ -298,25 +307,27 @@ public class struct {
             return this;
         }
 
-        void pack(ByteStream buf, PyObject value)  {}
+        void pack(ByteBuffer buf, int index, PyObject value)  {}
 
-        Object unpack(ByteStream buf) {
+        PyObject unpack(ByteBuffer buf, int index) {
             return null;
         }
 
-        int doPack(ByteStream buf, int count, int pos, PyObject[] args) {
-            if (pos + count > args.length)
-                throw StructError("insufficient arguments to pack");
+        /**
+         * The number of values count repetitions of this item stand for.
+         */
+        int nvalues(int count) {
+            return count;
+        }
 
-            int cnt = count;
-            while (count-- > 0)
-                pack(buf, args[pos++]);
-            return cnt;
+        void doPack(ByteBuffer buf, int index, int count, int pos, PyObject[] args) {
+            for (int i = 0; i < count; i++, index += size)
+                pack(buf, index, args[pos++]);
         }
 
-        void doUnpack(ByteStream buf, int count, PyList list) {
-            while (count-- > 0)
-                list.append(Py.java2py(unpack(buf)));
+        void doUnpack(ByteBuffer buf, int index, int count, PyObject[] values, int pos) {
+            for (int i = 0; i < count; i++, index += size)
+                values[pos++] = unpack(buf, index);
         }
 
 
@@ -353,409 +364,190 @@ public class struct {
         double get_float(PyObject value) {
             return value.asDouble();
         }
-
-
-        void BEwriteInt(ByteStream buf, int v) {
-            buf.writeByte((v >>> 24) & 0xFF);
-            buf.writeByte((v >>> 16) & 0xFF);
-            buf.writeByte((v >>>  8) & 0xFF);
-            buf.writeByte((v >>>  0) & 0xFF);
-        }
-
-        void LEwriteInt(ByteStream buf, int v) {
-            buf.writeByte((v >>>  0) & 0xFF);
-            buf.writeByte((v >>>  8) & 0xFF);
-            buf.writeByte((v >>> 16) & 0xFF);
-            buf.writeByte((v >>> 24) & 0xFF);
-        }
-
-        int BEreadInt(ByteStream buf) {
-            int b1 = buf.readByte();
-            int b2 = buf.readByte();
-            int b3 = buf.readByte();
-            int b4 = buf.readByte();
-            return ((b1 << 24) + (b2 << 16) + (b3 << 8) + (b4 << 0));
-        }
-
-        int LEreadInt(ByteStream buf) {
-            int b1 = buf.readByte();
-            int b2 = buf.readByte();
-            int b3 = buf.readByte();
-            int b4 = buf.readByte();
-            return ((b1 << 0) + (b2 << 8) + (b3 << 16) + (b4 << 24));
-        }
     }
 
 
-    static class ByteStream {
-        char[] data;
-        int len;
-        int pos;
-
-        ByteStream() {
-            data = new char[10];
-            len = 0;
-            pos = 0;
-        }
-
-        ByteStream(String s) {
-            this(s, 0);
-        }
-        
-        ByteStream(String s, int offset) {
-            int size = s.length() - offset;
-            data = new char[size];
-            s.getChars(offset, s.length(), data, 0);
-            len = size;
-            pos = 0;
-            
-//            System.out.println("s.length()=" + s.length() + ",offset=" + offset + ",size=" + size + ",data=" + Arrays.toString(data));
-        }
-
-        int readByte() {
-            return data[pos++] & 0xFF;
-        }
-
-        void read(char[] buf, int pos, int len) {
-            System.arraycopy(data, this.pos, buf, pos, len);
-            this.pos += len;
-        }
-
-
-        String readString(int l) {
-            char[] data = new char[l];
-            read(data, 0, l);
-            return new String(data);
-        }
-
-
-        private void ensureCapacity(int l) {
-            if (pos + l >= data.length) {
-                char[] b = new char[(pos + l) * 2];
-                System.arraycopy(data, 0, b, 0, pos);
-                data = b;
-            }
-        }
-
-
-        void writeByte(int b) {
-            ensureCapacity(1);
-            data[pos++] = (char)(b & 0xFF);
-        }
-
-
-        void write(char[] buf, int pos, int len) {
-            ensureCapacity(len);
-            System.arraycopy(buf, pos, data, this.pos, len);
-            this.pos += len;
-        }
-
-        void writeString(String s, int pos, int len) {
-            char[] data = new char[len];
-            s.getChars(pos, len, data, 0);
-            write(data, 0, len);
-        }
-
-
-        int skip(int l) {
-            pos += l;
-            return pos;
+    static class PadFormatDef extends FormatDef {
+        int nvalues(int count) {
+            return 0;
         }
 
-        int size() {
-            return pos;
+        void doPack(ByteBuffer buf, int index, int count, int pos, PyObject[] args) {
+            // the packed area is zeroed beforehand
         }
 
-        public String toString() {
-            return new String(data, 0, pos);
+        void doUnpack(ByteBuffer buf, int index, int count, PyObject[] values, int pos) {
         }
     }
 
 
-    static class PadFormatDef extends FormatDef {
-        int doPack(ByteStream buf, int count, int pos, PyObject[] args) {
-            while (count-- > 0)
-                buf.writeByte(0);
-            return 0;
-        }
-
-        void doUnpack(ByteStream buf, int count, PyList list) {
-            while (count-- > 0)
-                buf.readByte();
+    static class StringFormatDef extends FormatDef {
+        int nvalues(int count) {
+            return 1;
         }
-    }
 
-
-    static class StringFormatDef extends FormatDef {
-        int doPack(ByteStream buf, int count, int pos, PyObject[] args) {
+        void doPack(ByteBuffer buf, int index, int count, int pos, PyObject[] args) {
             PyObject value = args[pos];
 
             if (!(value instanceof PyString))
                 throw StructError("argument for 's' must be a string");
 
             String s = value.toString();
-            int len = s.length();
-            buf.writeString(s, 0, Math.min(count, len));
-            if (len < count) {
-                count -= len;
-                for (int i = 0; i < count; i++)
-                    buf.writeByte(0);
+            int len = Math.min(count, s.length());
+            // any remaining bytes are already zero
+            if (buf.hasArray()) {
+                StringUtil.toBytes(s, 0, len, buf.array(), buf.arrayOffset() + index);
+            } else {
+                for (int i = 0; i < len; i++)
+                    buf.put(index + i, (byte)s.charAt(i));
             }
-            return 1;
         }
 
-        void doUnpack(ByteStream buf, int count, PyList list) {
-            list.append(Py.newString(buf.readString(count)));
+        void doUnpack(ByteBuffer buf, int index, int count, PyObject[] values, int pos) {
+            values[pos] = Py.newString(getString(buf, index, count));
+        }
+
+        static String getString(ByteBuffer buf, int index, int count) {
+            if (buf.hasArray()) {
+                return StringUtil.fromBytes(buf.array(), buf.arrayOffset() + index, count);
+            }
+            char[] chars = new char[count];
+            for (int i = 0; i < count; i++)
+                chars[i] = (char)(buf.get(index + i) & 0xFF);
+            return new String(chars);
         }
     }
 
 
     static class PascalStringFormatDef extends StringFormatDef {
-        int doPack(ByteStream buf, int count, int pos, PyObject[] args) {
+        void doPack(ByteBuffer buf, int index, int count, int pos, PyObject[] args) {
             PyObject value = args[pos];
 
             if (!(value instanceof PyString))
                 throw StructError("argument for 'p' must be a string");
 
-            buf.writeByte(Math.min(0xFF, Math.min(value.toString().length(), count-1)));
-            return super.doPack(buf, count-1, pos, args);
+            buf.put(index, (byte)Math.min(0xFF, Math.min(value.toString().length(), count-1)));
+            super.doPack(buf, index + 1, count-1, pos, args);
         }
 
-        void doUnpack(ByteStream buf, int count, PyList list) {
-            int n = buf.readByte();
+        void doUnpack(ByteBuffer buf, int index, int count, PyObject[] values, int pos) {
+            int n = buf.get(index) & 0xFF;
             if (n >= count)
                 n = count-1;
-            super.doUnpack(buf, n, list);
-            buf.skip(Math.max(count-n-1, 0));
+            super.doUnpack(buf, index + 1, n, values, pos);
         }
     }
 
 
     static class CharFormatDef extends FormatDef {
-        void pack(ByteStream buf, PyObject value) {
+        void pack(ByteBuffer buf, int index, PyObject value) {
             if (!(value instanceof PyString) || value.__len__() != 1)
                 throw StructError("char format require string of length 1");
-            buf.writeByte(value.toString().charAt(0));
+            buf.put(index, (byte)value.toString().charAt(0));
         }
 
-        Object unpack(ByteStream buf) {
-            return Py.newString((char)buf.readByte());
+        PyObject unpack(ByteBuffer buf, int index) {
+            return Py.newString((char)(buf.get(index) & 0xFF));
         }
     }
 
 
     static class ByteFormatDef extends FormatDef {
-        void pack(ByteStream buf, PyObject value) {
-            buf.writeByte(get_int(value));
+        void pack(ByteBuffer buf, int index, PyObject value) {
+            buf.put(index, (byte)get_int(value));
         }
 
-        Object unpack(ByteStream buf) {
-            int b = buf.readByte();
-            if (b > Byte.MAX_VALUE)
-                b -= 0x100;
-            return Py.newInteger(b);
+        PyObject unpack(ByteBuffer buf, int index) {
+            return Py.newInteger(buf.get(index));
         }
     }
 
     static class UnsignedByteFormatDef extends ByteFormatDef {
-        Object unpack(ByteStream buf) {
-            return Py.newInteger(buf.readByte());
+        PyObject unpack(ByteBuffer buf, int index) {
+            return Py.newInteger(buf.get(index) & 0xFF);
         }
     }
 
-    static class LEShortFormatDef extends FormatDef {
-        void pack(ByteStream buf, PyObject value) {
-            int v = get_int(value);
-            buf.writeByte(v & 0xFF);
-            buf.writeByte((v >> 8) & 0xFF);
-        }
 
-        Object unpack(ByteStream buf) {
-            int v = buf.readByte() |
-                   (buf.readByte() << 8);
-            if (v > Short.MAX_VALUE)
-                v -= 0x10000 ;
-            return Py.newInteger(v);
+    static class ShortFormatDef extends FormatDef {
+        void pack(ByteBuffer buf, int index, PyObject value) {
+            buf.putShort(index, (short)get_int(value));
         }
-    }
 
-    static class LEUnsignedShortFormatDef extends LEShortFormatDef {
-        Object unpack(ByteStream buf) {
-            int v = buf.readByte() |
-                   (buf.readByte() << 8);
-            return Py.newInteger(v);
+        PyObject unpack(ByteBuffer buf, int index) {
+            return Py.newInteger(buf.getShort(index));
         }
     }
 
-
-    static class BEShortFormatDef extends FormatDef {
-        void pack(ByteStream buf, PyObject value) {
-            int v = get_int(value);
-            buf.writeByte((v >> 8) & 0xFF);
-            buf.writeByte(v & 0xFF);
-        }
-
-        Object unpack(ByteStream buf) {
-            int v = (buf.readByte() << 8) |
-                     buf.readByte();
-            if (v > Short.MAX_VALUE)
-                v -= 0x10000;
-            return Py.newInteger(v);
-        }
-    }
-
-
-    static class BEUnsignedShortFormatDef extends BEShortFormatDef {
-        Object unpack(ByteStream buf) {
-            int v = (buf.readByte() << 8) |
-                     buf.readByte();
-            return Py.newInteger(v);
+    static class UnsignedShortFormatDef extends ShortFormatDef {
+        PyObject unpack(ByteBuffer buf, int index) {
+            return Py.newInteger(buf.getShort(index) & 0xFFFF);
         }
     }
 
 
-    static class LEIntFormatDef extends FormatDef {
-        void pack(ByteStream buf, PyObject value) {
-            LEwriteInt(buf, get_int(value));
+    static class IntFormatDef extends FormatDef {
+        void pack(ByteBuffer buf, int index, PyObject value) {
+            buf.putInt(index, get_int(value));
         }
 
-        Object unpack(ByteStream buf) {
-            int v = LEreadInt(buf);
-            return Py.newInteger(v);
+        PyObject unpack(ByteBuffer buf, int index) {
+            return Py.newInteger(buf.getInt(index));
         }
     }
 
 
-    static class LEUnsignedIntFormatDef extends FormatDef {
-        void pack(ByteStream buf, PyObject value) {
-            LEwriteInt(buf, (int)(get_long(value) & 0xFFFFFFFF));
+    static class UnsignedIntFormatDef extends FormatDef {
+        void pack(ByteBuffer buf, int index, PyObject value) {
+            buf.putInt(index, (int)get_long(value));
         }
 
-        Object unpack(ByteStream buf) {
-            long v = LEreadInt(buf);
-            if (v < 0)
-                v += 0x100000000L;
-            return new PyLong(v);
+        PyObject unpack(ByteBuffer buf, int index) {
+            return new PyLong(buf.getInt(index) & 0xFFFFFFFFL);
         }
     }
 
 
-    static class BEIntFormatDef extends FormatDef {
-        void pack(ByteStream buf, PyObject value) {
-            BEwriteInt(buf, get_int(value));
+    static class LongFormatDef extends FormatDef {
+        void pack(ByteBuffer buf, int index, PyObject value) {
+            buf.putLong(index, get_long(value));
         }
 
-        Object unpack(ByteStream buf) {
-            return Py.newInteger(BEreadInt(buf));
+        PyObject unpack(ByteBuffer buf, int index) {
+            return new PyLong(buf.getLong(index));
         }
     }
 
 
-    static class BEUnsignedIntFormatDef extends FormatDef {
-        void pack(ByteStream buf, PyObject value) {
-            BEwriteInt(buf, (int)(get_long(value) & 0xFFFFFFFF));
-        }
-        Object unpack(ByteStream buf) {
-            long v = BEreadInt(buf);
-            if (v < 0)
-                v += 0x100000000L;
-            return new PyLong(v);
-        }
-    }
-
-    static class LEUnsignedLongFormatDef extends FormatDef {
-        void pack(ByteStream buf, PyObject value) {
+    static class UnsignedLongFormatDef extends FormatDef {
+        void pack(ByteBuffer buf, int index, PyObject value) {
             BigInteger bi = get_ulong(value);
             if (bi.compareTo(BigInteger.valueOf(0)) < 0) {
                 throw StructError("can't convert negative long to unsigned");
             }
-            long lvalue = bi.longValue(); // underflow is OK -- the bits are correct
-            int high    = (int) ( (lvalue & 0xFFFFFFFF00000000L)>>32 );
-            int low     = (int) ( lvalue & 0x00000000FFFFFFFFL );
-            LEwriteInt( buf, low );
-            LEwriteInt( buf, high );
+            // underflow is OK -- the bits are correct
+            buf.putLong(index, bi.longValue());
         }
 
-        Object unpack(ByteStream buf) {
-            long low       = ( LEreadInt( buf ) & 0X00000000FFFFFFFFL );
-            long high      = ( LEreadInt( buf ) & 0X00000000FFFFFFFFL );
-                java.math.BigInteger result=java.math.BigInteger.valueOf(high);
-            result=result.multiply(java.math.BigInteger.valueOf(0x100000000L));
-            result=result.add(java.math.BigInteger.valueOf(low));
-            return new PyLong(result);
-        }
-    }
-
-
-    static class BEUnsignedLongFormatDef extends FormatDef {
-        void pack(ByteStream buf, PyObject value) {
-            BigInteger bi = get_ulong(value);
-            if (bi.compareTo(BigInteger.valueOf(0)) < 0) {
-                throw StructError("can't convert negative long to unsigned");
+        PyObject unpack(ByteBuffer buf, int index) {
+            long value = buf.getLong(index);
+            if (value >= 0) {
+                return new PyLong(value);
             }
-            long lvalue = bi.longValue(); // underflow is OK -- the bits are correct
-            int high    = (int) ( (lvalue & 0xFFFFFFFF00000000L)>>32 );
-            int low     = (int) ( lvalue & 0x00000000FFFFFFFFL );
-            BEwriteInt( buf, high );
-            BEwriteInt( buf, low );
-        }
-
-        Object unpack(ByteStream buf) {
-            long high      = ( BEreadInt( buf ) & 0X00000000FFFFFFFFL );
-            long low       = ( BEreadInt( buf ) & 0X00000000FFFFFFFFL );
-            java.math.BigInteger result=java.math.BigInteger.valueOf(high);
-            result=result.multiply(java.math.BigInteger.valueOf(0x100000000L));
-            result=result.add(java.math.BigInteger.valueOf(low));
-            return new PyLong(result);
-        }
-    }
-
-
-    static class LELongFormatDef extends FormatDef {
-        void pack(ByteStream buf, PyObject value) {
-            long lvalue  = get_long( value );
-            int high    = (int) ( (lvalue & 0xFFFFFFFF00000000L)>>32 );
-            int low     = (int) ( lvalue & 0x00000000FFFFFFFFL );
-            LEwriteInt( buf, low );
-            LEwriteInt( buf, high );
+            return new PyLong(BigInteger.valueOf(value).add(TWO_64));
         }
 
-        Object unpack(ByteStream buf) {
-            long low = LEreadInt(buf) & 0x00000000FFFFFFFFL;
-            long high = ((long)(LEreadInt(buf))<<32) & 0xFFFFFFFF00000000L;
-            long result=(high|low);
-            return new PyLong(result);
-        }
+        private static final BigInteger TWO_64 = BigInteger.ONE.shiftLeft(64);
     }
 
 
-    static class BELongFormatDef extends FormatDef {
-        void pack(ByteStream buf, PyObject value) {
-            long lvalue  = get_long( value );
-            int high    = (int) ( (lvalue & 0xFFFFFFFF00000000L)>>32 );
-            int low     = (int) ( lvalue & 0x00000000FFFFFFFFL );
-            BEwriteInt( buf, high );
-            BEwriteInt( buf, low );
-        }
-
-        Object unpack(ByteStream buf) {
-            long high = ((long)(BEreadInt(buf))<<32) & 0xFFFFFFFF00000000L;
-            long low = BEreadInt(buf) & 0x00000000FFFFFFFFL;
-            long result=(high|low);
-            return new PyLong(result);
+    static class FloatFormatDef extends FormatDef {
+        void pack(ByteBuffer buf, int index, PyObject value) {
+            buf.putInt(index, Float.floatToIntBits((float)get_float(value)));
         }
-    }
-
 
-    static class LEFloatFormatDef extends FormatDef {
-        void pack(ByteStream buf, PyObject value) {
-            int bits = Float.floatToIntBits((float)get_float(value));
-            LEwriteInt(buf, bits);
-        }
-
-        Object unpack(ByteStream buf) {
-            int bits = LEreadInt(buf);
-            float v = Float.intBitsToFloat(bits);
+        PyObject unpack(ByteBuffer buf, int index) {
+            float v = Float.intBitsToFloat(buf.getInt(index));
             if (PyFloat.float_format == PyFloat.Format.UNKNOWN && (
                     Float.isInfinite(v) || Float.isNaN(v))) {
                 throw Py.ValueError("can't unpack IEEE 754 special value on non-IEEE platform");
@@ -764,54 +556,14 @@ public class struct {
         }
     }
 
-    static class LEDoubleFormatDef extends FormatDef {
-        void pack(ByteStream buf, PyObject value) {
-            long bits = Double.doubleToLongBits(get_float(value));
-            LEwriteInt(buf, (int)(bits & 0xFFFFFFFF));
-            LEwriteInt(buf, (int)(bits >>> 32));
-        }
 
-        Object unpack(ByteStream buf) {
-            long bits = (LEreadInt(buf) & 0xFFFFFFFFL) +
-                        (((long)LEreadInt(buf)) << 32);
-            double v = Double.longBitsToDouble(bits);
-            if (PyFloat.double_format == PyFloat.Format.UNKNOWN &&
-                    (Double.isInfinite(v) || Double.isNaN(v))) {
-                throw Py.ValueError("can't unpack IEEE 754 special value on non-IEEE platform");
-            }
-            return Py.newFloat(v);
-        }
-    }
-
-
-    static class BEFloatFormatDef extends FormatDef {
-        void pack(ByteStream buf, PyObject value) {
-            int bits = Float.floatToIntBits((float)get_float(value));
-            BEwriteInt(buf, bits);
+    static class DoubleFormatDef extends FormatDef {
+        void pack(ByteBuffer buf, int index, PyObject value) {
+            buf.putLong(index, Double.doubleToLongBits(get_float(value)));
         }
 
-        Object unpack(ByteStream buf) {
-            int bits = BEreadInt(buf);
-            float v = Float.intBitsToFloat(bits);
-            if (PyFloat.float_format == PyFloat.Format.UNKNOWN && (
-                    Float.isInfinite(v) || Float.isNaN(v))) {
-                throw Py.ValueError("can't unpack IEEE 754 special value on non-IEEE platform");
-            }
-            return Py.newFloat(v);
-        }
-    }
-
-    static class BEDoubleFormatDef extends FormatDef {
-        void pack(ByteStream buf, PyObject value) {
-            long bits = Double.doubleToLongBits(get_float(value));
-            BEwriteInt(buf, (int)(bits >>> 32));
-            BEwriteInt(buf, (int)(bits & 0xFFFFFFFF));
-        }
-
-        Object unpack(ByteStream buf) {
-            long bits = (((long) BEreadInt(buf)) << 32) +
-                    (BEreadInt(buf) & 0xFFFFFFFFL);
-            double v = Double.longBitsToDouble(bits);
+        PyObject unpack(ByteBuffer buf, int index) {
+            double v = Double.longBitsToDouble(buf.getLong(index));
             if (PyFloat.double_format == PyFloat.Format.UNKNOWN &&
                     (Double.isInfinite(v) || Double.isNaN(v))) {
                 throw Py.ValueError("can't unpack IEEE 754 special value on non-IEEE platform");
@@ -821,42 +573,23 @@ public class struct {
     }
 
 
-    private static FormatDef[] lilendian_table = {
+    private static FormatDef[] standard_table = {
         new PadFormatDef()              .init('x', 1, 0),
         new ByteFormatDef()             .init('b', 1, 0),
         new UnsignedByteFormatDef()     .init('B', 1, 0),
         new CharFormatDef()             .init('c', 1, 0),
         new StringFormatDef()           .init('s', 1, 0),
         new PascalStringFormatDef()     .init('p', 1, 0),
-        new LEShortFormatDef()          .init('h', 2, 0),
-        new LEUnsignedShortFormatDef()  .init('H', 2, 0),
-        new LEIntFormatDef()            .init('i', 4, 0),
-        new LEUnsignedIntFormatDef()    .init('I', 4, 0),
-        new LEIntFormatDef()            .init('l', 4, 0),
-        new LEUnsignedIntFormatDef()    .init('L', 4, 0),
-        new LELongFormatDef()           .init('q', 8, 0),
-        new LEUnsignedLongFormatDef()   .init('Q', 8, 0),
-        new LEFloatFormatDef()          .init('f', 4, 0),
-        new LEDoubleFormatDef()         .init('d', 8, 0),
-    };
-
-    private static FormatDef[] bigendian_table = {
-        new PadFormatDef()              .init('x', 1, 0),
-        new ByteFormatDef()             .init('b', 1, 0),
-        new UnsignedByteFormatDef()     .init('B', 1, 0),
-        new CharFormatDef()             .init('c', 1, 0),
-        new StringFormatDef()           .init('s', 1, 0),
-        new PascalStringFormatDef()     .init('p', 1, 0),
-        new BEShortFormatDef()          .init('h', 2, 0),
-        new BEUnsignedShortFormatDef()  .init('H', 2, 0),
-        new BEIntFormatDef()            .init('i', 4, 0),
-        new BEUnsignedIntFormatDef()    .init('I', 4, 0),
-        new BEIntFormatDef()            .init('l', 4, 0),
-        new BEUnsignedIntFormatDef()    .init('L', 4, 0),
-        new BELongFormatDef()           .init('q', 8, 0),
-        new BEUnsignedLongFormatDef()   .init('Q', 8, 0),
-        new BEFloatFormatDef()          .init('f', 4, 0),
-        new BEDoubleFormatDef()         .init('d', 8, 0),
+        new ShortFormatDef()            .init('h', 2, 0),
+        new UnsignedShortFormatDef()    .init('H', 2, 0),
+        new IntFormatDef()              .init('i', 4, 0),
+        new UnsignedIntFormatDef()      .init('I', 4, 0),
+        new IntFormatDef()              .init('l', 4, 0),
+        new UnsignedIntFormatDef()      .init('L', 4, 0),
+        new LongFormatDef()             .init('q', 8, 0),
+        new UnsignedLongFormatDef()     .init('Q', 8, 0),
+        new FloatFormatDef()            .init('f', 4, 0),
+        new DoubleFormatDef()           .init('d', 8, 0),
     };
 
     private static FormatDef[] native_table = {
@@ -866,31 +599,28 @@ public class struct {
         new CharFormatDef()             .init('c', 1, 0),
         new StringFormatDef()           .init('s', 1, 0),
         new PascalStringFormatDef()     .init('p', 1, 0),
-        new BEShortFormatDef()          .init('h', 2, 2),
-        new BEUnsignedShortFormatDef()  .init('H', 2, 2),
-        new BEIntFormatDef()            .init('i', 4, 4),
-        new BEUnsignedIntFormatDef()    .init('I', 4, 4),
-        new BEIntFormatDef()            .init('l', 4, 4),
-        new BEUnsignedIntFormatDef()    .init('L', 4, 4),
-        new BELongFormatDef()           .init('q', 8, 8),
-        new BEUnsignedLongFormatDef()   .init('Q', 8, 8),
-        new BEFloatFormatDef()          .init('f', 4, 4),
-        new BEDoubleFormatDef()         .init('d', 8, 8),
+        new ShortFormatDef()            .init('h', 2, 2),
+        new UnsignedShortFormatDef()    .init('H', 2, 2),
+        new IntFormatDef()              .init('i', 4, 4),
+        new UnsignedIntFormatDef()      .init('I', 4, 4),
+        new IntFormatDef()              .init('l', 4, 4),
+        new UnsignedIntFormatDef()      .init('L', 4, 4),
+        new LongFormatDef()             .init('q', 8, 8),
+        new UnsignedLongFormatDef()     .init('Q', 8, 8),
+        new FloatFormatDef()            .init('f', 4, 4),
+        new DoubleFormatDef()           .init('d', 8, 8),
     };
 
 
 
     static FormatDef[] whichtable(String pfmt) {
-        char c = pfmt.charAt(0);
+        char c = pfmt.length() > 0 ? pfmt.charAt(0) : '@';
         switch (c) {
         case '<' :
-            return lilendian_table;
         case '>':
         case '!':
-            // Network byte order is big-endian
-            return bigendian_table;
         case '=':
-            return bigendian_table;
+            return standard_table;
         case '@':
         default:
             return native_table;
@@ -898,6 +628,13 @@ public class struct {
     }
 
 
+    static ByteOrder byteorder(String pfmt) {
+        // native (and =) byte order is big-endian, as on the JVM
+        return pfmt.length() > 0 && pfmt.charAt(0) == '<' ? ByteOrder.LITTLE_ENDIAN
+                                                            : ByteOrder.BIG_ENDIAN;
+    }
+
+
     private static FormatDef getentry(char c, FormatDef[] f) {
         for (int i = 0; i < f.length; i++) {
             if (f[i].name == c)
@@ -918,41 +655,252 @@ public class struct {
     }
 
 
-
-    static int calcsize(String format, FormatDef[] f) {
-        int size = 0;
-
-        int len = format.length();
-        for (int j = 0; j < len; j++) {
-            char c = format.charAt(j);
-            if (j == 0 && (c=='@' || c=='<' || c=='>' || c=='=' || c=='!'))
-                continue;
-            if (Character.isWhitespace(c))
-                continue;
-            int num = 1;
-            if (Character.isDigit(c)) {
-                num = Character.digit(c, 10);
-                while (++j < len &&
-                          Character.isDigit((c = format.charAt(j)))) {
-                    int x = num*10 + Character.digit(c, 10);
-                    if (x/10 != num)
-                        throw StructError("overflow in item count");
-                    num = x;
+    /**
+     * A format string parsed once into its items, their repeat counts and
+     * their offsets, which packs and unpacks values with a ByteBuffer in
+     * the byte order of the format.
+     */
+    static class CompiledFormat {
+        final String format;
+        final ByteOrder order;
+        final int size;
+        /** The number of values packed or unpacked. */
+        final int nvalues;
+
+        private final FormatDef[] items;
+        private final int[] counts;
+        private final int[] offsets;
+
+        CompiledFormat(String format) {
+            this.format = format;
+            order = byteorder(format);
+            FormatDef[] f = whichtable(format);
+
+            int len = format.length();
+            FormatDef[] items = new FormatDef[len];
+            int[] counts = new int[len];
+            int[] offsets = new int[len];
+            int n = 0;
+            int size = 0;
+            int nvalues = 0;
+            for (int j = 0; j < len; j++) {
+                char c = format.charAt(j);
+                if (j == 0 && (c=='@' || c=='<' || c=='>' || c=='=' || c=='!'))
+                    continue;
+                if (Character.isWhitespace(c))
+                    continue;
+                int num = 1;
+                if (Character.isDigit(c)) {
+                    num = Character.digit(c, 10);
+                    while (++j < len &&
+                              Character.isDigit((c = format.charAt(j)))) {
+                        int x = num*10 + Character.digit(c, 10);
+                        if (x/10 != num)
+                            throw StructError("overflow in item count");
+                        num = x;
+                    }
+                    if (j >= len)
+                        break;
                 }
-                if (j >= len)
-                    break;
+
+                FormatDef e = getentry(c, f);
+
+                int itemsize = e.size;
+                size = align(size, e);
+                items[n] = e;
+                counts[n] = num;
+                offsets[n] = size;
+                n++;
+                int x = num * itemsize;
+                size += x;
+                if (x/itemsize != num || size < 0)
+                    throw StructError("total struct size too long");
+                nvalues += e.nvalues(num);
             }
+            this.items = new FormatDef[n];
+            this.counts = new int[n];
+            this.offsets = new int[n];
+            System.arraycopy(items, 0, this.items, 0, n);
+            System.arraycopy(counts, 0, this.counts, 0, n);
+            System.arraycopy(offsets, 0, this.offsets, 0, n);
+            this.size = size;
+            this.nvalues = nvalues;
+        }
 
-            FormatDef e = getentry(c, f);
+        /**
+         * Pack args[start:] into a new string.
+         */
+        PyString pack(PyObject[] args, int start) {
+            byte[] bytes = new byte[size];
+            pack(ByteBuffer.wrap(bytes), 0, args, start);
+            return new PyString(StringUtil.fromBytes(bytes));
+        }
 
-            int itemsize = e.size;
-            size = align(size, e);
-            int x = num * itemsize;
-            size += x;
-            if (x/itemsize != num || size < 0)
-                throw StructError("total struct size too long");
+        /**
+         * Pack args[start:] into buf at index, which has to leave room for
+         * size bytes.
+         */
+        void pack(ByteBuffer buf, int index, PyObject[] args, int start) {
+            int nargs = args.length - start;
+            if (nargs < nvalues)
+                throw StructError("insufficient arguments to pack");
+            if (nargs > nvalues)
+                throw StructError("too many arguments for pack format");
+
+            buf = buf.duplicate().order(order);
+            // zero pad bytes and the remainder of strings
+            for (int i = 0; i < size; i++)
+                buf.put(index + i, (byte)0);
+            int pos = start;
+            for (int i = 0; i < items.length; i++) {
+                FormatDef e = items[i];
+                e.doPack(buf, index + offsets[i], counts[i], pos, args);
+                pos += e.nvalues(counts[i]);
+            }
         }
-        return size;
+
+        /**
+         * Unpack the size bytes found in buf at index.
+         */
+        PyTuple unpack(ByteBuffer buf, int index) {
+            buf = buf.duplicate().order(order);
+            PyObject[] values = new PyObject[nvalues];
+            int pos = 0;
+            for (int i = 0; i < items.length; i++) {
+                FormatDef e = items[i];
+                e.doUnpack(buf, index + offsets[i], counts[i], values, pos);
+                pos += e.nvalues(counts[i]);
+            }
+            return new PyTuple(values);
+        }
+
+        /**
+         * Pack args[start:] into buffer (an array, or any object that
+         * converts to a java.nio.ByteBuffer, such as a mapped file) at
+         * offset.
+         */
+        void pack_into(PyObject buffer, int offset, PyObject[] args, int start) {
+            ByteBuffer buf = asByteBuffer(buffer);
+            if (buf != null) {
+                offset = checkOffset("pack_into", offset, buf.limit());
+                pack(buf, offset, args, start);
+                return;
+            }
+            if (!(buffer instanceof PyArray))
+                throw Py.TypeError("pack_into takes an array arg"); // as well as a buffer, what else?
+            PyArray array = (PyArray)buffer;
+            offset = checkOffset("pack_into", offset, array.__len__());
+            byte[] bytes = new byte[size];
+            pack(ByteBuffer.wrap(bytes), 0, args, start);
+            Object storage = array.getArrayStorage();
+            if (storage instanceof char[]) {
+                char[] chars = (char[])storage;
+                for (int i = 0; i < size; i++)
+                    chars[offset + i] = (char)(bytes[i] & 0xFF);
+            } else {
+                for (int i = 0; i < size; i++)
+                    array.set(offset + i, (char)(bytes[i] & 0xFF));
+            }
+        }
+
+        /**
+         * Unpack size bytes from a string, array, or object that converts to
+         * a java.nio.ByteBuffer at offset.
+         */
+        PyTuple unpack_from(PyObject buffer, int offset) {
+            ByteBuffer buf = asByteBuffer(buffer);
+            if (buf != null) {
+                return unpack(buf, checkOffset("unpack_from", offset, buf.limit()));
+            }
+            String s;
+            if (buffer instanceof PyString)
+                s = ((PyString)buffer).getString();
+            else if (buffer instanceof PyArray)
+                s = ((PyArray)buffer).tostring();
+            else
+                throw Py.TypeError("unpack_from requires a string or array argument");
+            offset = checkOffset("unpack_from", offset, s.length());
+            return unpack(wrap(s, offset), 0);
+        }
+
+        /**
+         * Unpack a string or array of exactly size bytes.
+         */
+        PyTuple unpack(PyObject buffer) {
+            if (buffer instanceof PyString) {
+                String s = ((PyString)buffer).getString();
+                if (s.length() != size)
+                    throw StructError("unpack str size does not match format");
+                return unpack(wrap(s, 0), 0);
+            }
+            if (!(buffer instanceof PyArray))
+                throw Py.TypeError("unpack of a str or array");
+            ByteBuffer buf = asByteBuffer(buffer);
+            if (buf == null) {
+                String s = ((PyArray)buffer).tostring();
+                if (s.length() != size)
+                    throw StructError("unpack str size does not match format");
+                return unpack(wrap(s, 0), 0);
+            }
+            if (buf.limit() != size)
+                throw StructError("unpack str size does not match format");
+            return unpack(buf, 0);
+        }
+
+        private int checkOffset(String function, int offset, int length) {
+            if (offset < 0)
+                offset += length;
+            if (offset < 0 || length - offset < size)
+                throw StructError(function + " requires a buffer of at least " + size
+                                  + " bytes");
+            return offset;
+        }
+
+        private ByteBuffer wrap(String s, int offset) {
+            byte[] bytes = new byte[size];
+            StringUtil.toBytes(s, offset, offset + size, bytes, 0);
+            return ByteBuffer.wrap(bytes);
+        }
+
+        /**
+         * The bytes of buffer in place as a ByteBuffer, or null for strings
+         * and arrays other than byte arrays.
+         */
+        private static ByteBuffer asByteBuffer(PyObject buffer) {
+            if (buffer instanceof PyArray) {
+                Object storage = ((PyArray)buffer).getArrayStorage();
+                if (storage instanceof byte[])
+                    return ByteBuffer.wrap((byte[])storage, 0, buffer.__len__());
+                return null;
+            }
+            if (buffer instanceof PyString)
+                return null;
+            Object buf = buffer.__tojava__(ByteBuffer.class);
+            if (buf == Py.NoConversion)
+                return null;
+            ByteBuffer bytes = ((ByteBuffer)buf).duplicate();
+            // index from the start of the buffer's current view
+            return bytes.slice();
+        }
+    }
+
+
+    private static final int MAXCACHE = 100;
+
+    private static final ConcurrentMap<String, CompiledFormat> cache = Generic.concurrentMap();
+
+    /**
+     * The compiled form of format, from a cache of recently used formats.
+     */
+    static CompiledFormat compile(String format) {
+        CompiledFormat compiled = cache.get(format);
+        if (compiled == null) {
+            compiled = new CompiledFormat(format);
+            if (cache.size() >= MAXCACHE)
+                cache.clear();
+            cache.put(format, compiled);
+        }
+        return compiled;
     }
 
 
@@ -961,8 +909,7 @@ public class struct {
      * corresponding to the given format.
      */
     static public int calcsize(String format) {
-        FormatDef[] f = whichtable(format);
-        return calcsize(format, f);
+        return compile(format).size;
     }
 
 
@@ -973,78 +920,19 @@ public class struct {
      */
     static public PyString pack(PyObject[] args) {
         if (args.length < 1)
-            Py.TypeError("illegal argument type for built-in operation");
-
-        String format = args[0].toString();
+            throw Py.TypeError("illegal argument type for built-in operation");
 
-        FormatDef[] f = whichtable(format);
-        int size = calcsize(format, f);
-        
-        return new PyString(pack(format, f, size, 1, args).toString());
+        return compile(args[0].toString()).pack(args, 1);
     }
-    
-    // xxx - may need to consider doing a generic arg parser here
+
+    /**
+     * Pack the values v1, v2, ... according to the given format into
+     * buffer (a writable array or java.nio.ByteBuffer) starting at offset.
+     */
     static public void pack_into(PyObject[] args) {
         if (args.length < 3)
-            Py.TypeError("illegal argument type for built-in operation");
-        String format = args[0].toString();
-        FormatDef[] f = whichtable(format);
-        int size = calcsize(format, f);
-        pack_into(format, f, size, 1, args);
-    }
-    
-    static void pack_into(String format, FormatDef[] f, int size, int argstart, PyObject[] args) {
-        if (args.length - argstart < 2)
-            Py.TypeError("illegal argument type for built-in operation");
-        if (!(args[argstart] instanceof PyArray)) {
-            throw Py.TypeError("pack_into takes an array arg"); // as well as a buffer, what else?
-        }
-        PyArray buffer = (PyArray)args[argstart];
-        int offset = args[argstart + 1].asInt();
-
-        ByteStream res = pack(format, f, size, argstart + 2, args);
-        if (res.pos > buffer.__len__()) {
-            throw StructError("pack_into requires a buffer of at least " + res.pos + " bytes, got " + buffer.__len__());
-        }
-        for (int i = 0; i < res.pos; i++, offset++) {
-            char val = res.data[i];
-            buffer.set(offset, val);
-        }
-    }
-    
-    static ByteStream pack(String format, FormatDef[] f, int size, int start, PyObject[] args) {
-        ByteStream res = new ByteStream();
-
-        int i = start;
-        int len = format.length();
-        for (int j = 0; j < len; j++) {
-            char c = format.charAt(j);
-            if (j == 0 && (c=='@' || c=='<' || c=='>' || c=='=' || c=='!'))
-                continue;
-            if (Character.isWhitespace(c))
-                continue;
-            int num = 1;
-            if (Character.isDigit(c)) {
-                num = Character.digit(c, 10);
-                while (++j < len && Character.isDigit((c = format.charAt(j))))
-                    num = num*10 + Character.digit(c, 10);
-                if (j >= len)
-                    break;
-            }
-
-            FormatDef e = getentry(c, f);
-
-            // Fill pad bytes with zeros
-            int nres = align(res.size(), e) - res.size();
-            while (nres-- > 0)
-                res.writeByte(0);
-            i += e.doPack(res, num, i, args);
-        }
-
-        if (i < args.length)
-            throw StructError("too many arguments for pack format");
-
-        return res;
+            throw Py.TypeError("illegal argument type for built-in operation");
+        compile(args[0].toString()).pack_into(args[1], args[2].asInt(), args, 3);
     }
 
 
@@ -1056,65 +944,21 @@ public class struct {
      * The string must contain exactly the amount of data required by
      * the format (i.e. len(string) must equal calcsize(fmt)).
      */
-   
-    public static PyTuple unpack(String format, String string) {
-        FormatDef[] f = whichtable(format);
-        int size = calcsize(format, f);
-        int len = string.length();
-        if (size != len) 
-            throw StructError("unpack str size does not match format");
-         return unpack(f, size, format, new ByteStream(string));
-    }
-    
-    public static PyTuple unpack(String format, PyArray buffer) {
-        String string = buffer.tostring();
-        FormatDef[] f = whichtable(format);
-        int size = calcsize(format, f);
-        int len = string.length();
-        if (size != len) 
-            throw StructError("unpack str size does not match format");
-         return unpack(f, size, format, new ByteStream(string));
+    public static PyTuple unpack(String format, PyObject buffer) {
+        return compile(format).unpack(buffer);
     }
-    
-    public static PyTuple unpack_from(String format, String string) {
-        return unpack_from(format, string, 0);   
-    }
-        
-    public static PyTuple unpack_from(String format, String string, int offset) {
-        FormatDef[] f = whichtable(format);
-        int size = calcsize(format, f);
-        int len = string.length();
-        if (size >= (len - offset + 1))
-            throw StructError("unpack_from str size does not match format");
-        return unpack(f, size, format, new ByteStream(string, offset));
-    }
-    
-    static PyTuple unpack(FormatDef[] f, int size, String format, ByteStream str) {
-        PyList res = new PyList();
-        int flen = format.length();
-        for (int j = 0; j < flen; j++) {
-            char c = format.charAt(j);
-            if (j == 0 && (c=='@' || c=='<' || c=='>' || c=='=' || c=='!'))
-                continue;
-            if (Character.isWhitespace(c))
-                continue;
-            int num = 1;
-            if (Character.isDigit(c)) {
-                num = Character.digit(c, 10);
-                while (++j < flen &&
-                           Character.isDigit((c = format.charAt(j))))
-                    num = num*10 + Character.digit(c, 10);
-                if (j > flen)
-                    break;
-            }
-
-            FormatDef e = getentry(c, f);
 
-            str.skip(align(str.size(), e) - str.size());
+    public static PyTuple unpack_from(String format, PyObject buffer) {
+        return unpack_from(format, buffer, 0);
+    }
 
-            e.doUnpack(str, num, res);
-        }
-        return PyTuple.fromIterable(res);
+    /**
+     * Unpack the buffer (a string, array or java.nio.ByteBuffer) starting
+     * at offset according to the given format. The buffer must hold at
+     * least calcsize(fmt) bytes from offset on.
+     */
+    public static PyTuple unpack_from(String format, PyObject buffer, int offset) {
+        return compile(format).unpack_from(buffer, offset);
     }
 
 
@@ -1132,4 +976,3 @@ public class struct {
         return new PyStruct(args, keywords);
     }
 }
-
@@ -1,22 +1,47 @@
 /* Copyright (c) Jython Developers */
 package org.python.modules.thread;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
 import org.python.core.Py;
 import org.python.core.PyDictionary;
 import org.python.core.PyNewWrapper;
 import org.python.core.PyObject;
 import org.python.core.PyType;
+import org.python.core.ThreadState;
 import org.python.expose.ExposedGet;
 import org.python.expose.ExposedNew;
 import org.python.expose.ExposedSet;
 import org.python.expose.ExposedType;
 
+/**
+ * Thread local storage. Each instance's per thread dicts live in an array on the threads'
+ * ThreadStates, at a slot allocated to the instance, so that finding the current dict is an
+ * array load. Slots are reused once their instances are garbage collected.
+ */
 @ExposedType(name = "thread._local")
 public class PyLocal extends PyObject {
 
     public static final PyType TYPE = PyType.fromClass(PyLocal.class);
 
-    private ThreadLocal<PyDictionary> tdict = new ThreadLocal<PyDictionary>();
+    /** Slots of collected instances, pending reuse */
+    private static final ReferenceQueue<PyLocal> releasedSlots = new ReferenceQueue<PyLocal>();
+
+    /** The key of each slot in use, keeping it reachable until it's enqueued */
+    private static SlotKey[] slotKeys = new SlotKey[8];
+
+    private static int[] freeSlots = new int[8];
+
+    private static int freeSlotCount;
+
+    private static int nextSlot;
+
+    /**
+     * Identifies this instance's values in the ThreadStates. A new key is made each time a
+     * slot is reused, so values left in a slot by a collected instance aren't seen.
+     */
+    private final SlotKey key = allocateSlot(this);
 
     private PyObject args[];
 
@@ -30,7 +55,7 @@ public class PyLocal extends PyObject {
         super(subType);
         // Don't lazy load the underlying dict in the instantiating thread; that would
         // call __init__ a the second time
-        tdict.set(new PyDictionary());
+        Py.getThreadState().setLocal(key.slot, key, new PyDictionary());
     }
 
     @ExposedNew
@@ -71,12 +96,48 @@ public class PyLocal extends PyObject {
 
     @Override
     public PyObject fastGetDict() {
-        PyDictionary ldict = tdict.get();
+        ThreadState ts = Py.getThreadState();
+        PyObject ldict = ts.getLocal(key.slot, key);
         if (ldict == null) {
             ldict = new PyDictionary();
-            tdict.set(ldict);
+            ts.setLocal(key.slot, key, ldict);
             dispatch__init__(args, keywords);
         }
         return ldict;
     }
+
+    private static synchronized SlotKey allocateSlot(PyLocal local) {
+        SlotKey released;
+        while ((released = (SlotKey)releasedSlots.poll()) != null) {
+            if (freeSlotCount == freeSlots.length) {
+                int[] grown = new int[freeSlots.length * 2];
+                System.arraycopy(freeSlots, 0, grown, 0, freeSlotCount);
+                freeSlots = grown;
+            }
+            freeSlots[freeSlotCount++] = released.slot;
+            slotKeys[released.slot] = null;
+        }
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        } else {
+            slot = nextSlot++;
+            if (slot == slotKeys.length) {
+                SlotKey[] grown = new SlotKey[slotKeys.length * 2];
+                System.arraycopy(slotKeys, 0, grown, 0, slot);
+                slotKeys = grown;
+            }
+        }
+        return slotKeys[slot] = new SlotKey(local, slot);
+    }
+
+    private static final class SlotKey extends WeakReference<PyLocal> {
+
+        final int slot;
+
+        SlotKey(PyLocal local, int slot) {
+            super(local, releasedSlots);
+            this.slot = slot;
+        }
+    }
 }
@@ -1,48 +1,59 @@
 // Copyright (c) Corporation for National Research Initiatives
 package org.python.modules.thread;
 
+import java.util.concurrent.locks.AbstractQueuedSynchronizer;
+
 import org.python.core.Py;
 import org.python.core.PyObject;
 
 public class PyLock extends PyObject {
 
-    private boolean locked = false;
+    private final Sync sync = new Sync();
 
     public boolean acquire() {
         return acquire(true);
     }
 
-    public synchronized boolean acquire(boolean waitflag) {
-        if (waitflag) {
-            while (locked) {
-                try {
-                    wait();
-                } catch (InterruptedException e) {
-                    System.err.println("Interrupted thread");
-                }
-            }
-            locked = true;
+    public boolean acquire(boolean waitflag) {
+        // An uncontended lock is taken with a single compare-and-set
+        if (sync.tryAcquire(1)) {
             return true;
-        } else {
-            if (locked) {
-                return false;
-            } else {
-                locked = true;
-                return true;
-            }
+        } else if (!waitflag) {
+            return false;
         }
+        sync.acquire(1);
+        return true;
     }
 
-    public synchronized void release() {
-        if (locked) {
-            locked = false;
-            notifyAll();
-        } else {
-            throw Py.ValueError("lock not acquired");
-        }
+    public void release() {
+        sync.release(1);
     }
 
     public boolean locked() {
-        return locked;
+        return sync.isLocked();
+    }
+
+    /**
+     * A non-reentrant mutex that any thread may release, as thread locks can be released by
+     * a thread other than the one that acquired them. Waiters aren't interruptible.
+     */
+    private static final class Sync extends AbstractQueuedSynchronizer {
+
+        boolean isLocked() {
+            return getState() != 0;
+        }
+
+        @Override
+        protected boolean tryAcquire(int ignored) {
+            return compareAndSetState(0, 1);
+        }
+
+        @Override
+        protected boolean tryRelease(int ignored) {
+            if (!compareAndSetState(1, 0)) {
+                throw Py.ValueError("lock not acquired");
+            }
+            return true;
+        }
     }
 }
@@ -0,0 +1,596 @@
+/* Copyright (c) Jython Developers */
+package org.python.modules;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.python.core.ArgParser;
+import org.python.core.ClassDictInit;
+import org.python.core.Py;
+import org.python.core.PyArray;
+import org.python.core.PyException;
+import org.python.core.PyObject;
+import org.python.core.PyString;
+import org.python.core.PyStringMap;
+import org.python.core.PyType;
+import org.python.core.PyUnicode;
+import org.python.core.util.StringUtil;
+import org.python.expose.ExposedGet;
+import org.python.expose.ExposedMethod;
+import org.python.expose.ExposedType;
+import org.python.util.Generic;
+
+/**
+ * The Python zlib module: compression and decompression via java.util.zip's Deflater and
+ * Inflater.
+ *
+ * Data goes straight from the input's bytes through the engines into a per thread output
+ * buffer, and idle Deflaters and Inflaters are cached per thread, so neither the module
+ * functions nor the streaming objects set up a new zlib stream for each use.
+ *
+ * flush(Z_SYNC_FLUSH) and flush(Z_FULL_FLUSH) use the flushing Deflater.deflate that's new
+ * in Java 7, found by reflection; on older JVMs they raise zlib.error, as java.util.zip
+ * can't flush a Deflater without finishing the stream there. Only the sign of wbits is used,
+ * to decide whether to write and expect a zlib header.
+ */
+public class zlib implements ClassDictInit {
+
+    public static final PyString __doc__ = new PyString(
+        "The functions in this module allow compression and decompression using the\n" +
+        "zlib library, which is based on GNU zip.\n" +
+        "\n" +
+        "adler32(string[, start]) -- Compute an Adler-32 checksum.\n" +
+        "compress(string[, level]) -- Compress string, with compression level in 1-9.\n" +
+        "compressobj([level]) -- Return a compressor object.\n" +
+        "crc32(string[, start]) -- Compute a CRC-32 checksum.\n" +
+        "decompress(string,[wbits],[bufsize]) -- Decompresses a compressed string.\n" +
+        "decompressobj([wbits]) -- Return a decompressor object.\n" +
+        "\n" +
+        "'wbits' is window buffer size.\n" +
+        "Compressor objects support compress() and flush() methods; decompressor\n" +
+        "objects support decompress() and flush().");
+
+    public static final int DEFLATED = 8;
+    public static final int MAX_WBITS = 15;
+    public static final int DEF_MEM_LEVEL = 8;
+    public static final String ZLIB_VERSION = "1.1.3";
+
+    public static final int Z_NO_COMPRESSION = 0;
+    public static final int Z_BEST_SPEED = 1;
+    public static final int Z_BEST_COMPRESSION = 9;
+    public static final int Z_DEFAULT_COMPRESSION = -1;
+
+    public static final int Z_FILTERED = 1;
+    public static final int Z_HUFFMAN_ONLY = 2;
+    public static final int Z_DEFAULT_STRATEGY = 0;
+
+    public static final int Z_NO_FLUSH = 0;
+    public static final int Z_SYNC_FLUSH = 2;
+    public static final int Z_FULL_FLUSH = 3;
+    public static final int Z_FINISH = 4;
+
+    /** Deflater.deflate(byte[], int, int, int), which flushes (Java 7 and later), or null. */
+    private static final Method deflateFlush = getDeflateFlush();
+
+    /** Default size of the output buffer for decompression. */
+    private static final int DEF_BUF_SIZE = 16384;
+
+    /** Output buffers larger than this aren't kept around between calls. */
+    private static final int MAX_RETAINED_BUFFER = 256 * 1024;
+
+    /** The most idle Deflaters (and Inflaters) of each kind cached per thread. */
+    private static final int MAX_CACHED_ENGINES = 4;
+
+    public static final PyObject error = Py.makeClass("error", Py.Exception,
+                                                      exceptionNamespace());
+
+    public static void classDictInit(PyObject dict) {
+        dict.__setitem__("__name__", Py.newString("zlib"));
+        dict.__setitem__("__doc__", __doc__);
+        dict.__setitem__("Compress", Compress.TYPE);
+        dict.__setitem__("Decompress", Decompress.TYPE);
+        dict.__setitem__("error", error);
+
+        // Hide from Python
+        dict.__setitem__("classDictInit", null);
+        dict.__setitem__("exceptionNamespace", null);
+    }
+
+    public static PyObject exceptionNamespace() {
+        PyObject dict = new PyStringMap();
+        dict.__setitem__("__module__", new PyString("zlib"));
+        return dict;
+    }
+
+    private static PyException error(String message) {
+        return new PyException(error, message);
+    }
+
+    public static int adler32(PyObject data) {
+        return adler32(data, 1L);
+    }
+
+    public static int adler32(PyObject data, long value) {
+        byte[] bytes = getBytes(data, "adler32");
+        int length = getLength(data, bytes);
+        long a = value & 0xffff;
+        long b = (value >>> 16) & 0xffff;
+        int i = 0;
+        while (i < length) {
+            // 5552 is the most bytes that can be summed before b overflows 32 bits
+            int end = Math.min(i + 5552, length);
+            for (; i < end; i++) {
+                a += bytes[i] & 0xff;
+                b += a;
+            }
+            a %= 65521;
+            b %= 65521;
+        }
+        return (int)((b << 16) | a);
+    }
+
+    public static int crc32(PyObject data) {
+        return crc32(data, 0L);
+    }
+
+    public static int crc32(PyObject data, long value) {
+        byte[] bytes = getBytes(data, "crc32");
+        return binascii.crc32(bytes, 0, getLength(data, bytes), value);
+    }
+
+    public static PyString compress(PyObject data) {
+        return compress(data, Z_DEFAULT_COMPRESSION);
+    }
+
+    public static PyString compress(PyObject data, int level) {
+        byte[] bytes = getBytes(data, "compress");
+        Deflater deflater = acquireDeflater(level, Z_DEFAULT_STRATEGY, false);
+        try {
+            deflater.setInput(bytes, 0, getLength(data, bytes));
+            deflater.finish();
+            OutputBuffer out = OutputBuffer.get();
+            out.deflate(deflater);
+            return out.toPyString();
+        } finally {
+            releaseDeflater(deflater, false);
+        }
+    }
+
+    public static PyString decompress(PyObject data) {
+        return decompress(data, MAX_WBITS, DEF_BUF_SIZE);
+    }
+
+    public static PyString decompress(PyObject data, int wbits) {
+        return decompress(data, wbits, DEF_BUF_SIZE);
+    }
+
+    public static PyString decompress(PyObject data, int wbits, int bufsize) {
+        byte[] bytes = getBytes(data, "decompress");
+        boolean nowrap = wbits < 0;
+        Inflater inflater = acquireInflater(nowrap);
+        try {
+            inflater.setInput(bytes, 0, getLength(data, bytes));
+            OutputBuffer out = OutputBuffer.get();
+            out.ensureCapacity(Math.max(bufsize, 1));
+            out.inflate(inflater, 0);
+            return out.toPyString();
+        } finally {
+            releaseInflater(inflater, nowrap);
+        }
+    }
+
+    public static PyObject compressobj(PyObject[] args, String[] kwds) {
+        ArgParser ap = new ArgParser("compressobj", args, kwds,
+                                     new String[] {"level", "method", "wbits", "memlevel",
+                                                   "strategy"}, 0);
+        int level = ap.getInt(0, Z_DEFAULT_COMPRESSION);
+        int method = ap.getInt(1, DEFLATED);
+        int wbits = ap.getInt(2, MAX_WBITS);
+        ap.getInt(3, DEF_MEM_LEVEL);
+        int strategy = ap.getInt(4, Z_DEFAULT_STRATEGY);
+        if (method != DEFLATED || !validWbits(wbits)) {
+            throw Py.ValueError("Invalid initialization option");
+        }
+        return new Compress(level, strategy, wbits < 0);
+    }
+
+    public static PyObject decompressobj(PyObject[] args, String[] kwds) {
+        ArgParser ap = new ArgParser("decompressobj", args, kwds, new String[] {"wbits"}, 0);
+        int wbits = ap.getInt(0, MAX_WBITS);
+        if (!validWbits(wbits)) {
+            throw Py.ValueError("Invalid initialization option");
+        }
+        return new Decompress(wbits < 0);
+    }
+
+    private static Method getDeflateFlush() {
+        try {
+            return Deflater.class.getMethod("deflate", byte[].class, int.class, int.class,
+                                            int.class);
+        } catch (NoSuchMethodException nsme) {
+            return null;
+        }
+    }
+
+    private static boolean validWbits(int wbits) {
+        int abs = Math.abs(wbits);
+        return abs >= 8 && abs <= MAX_WBITS;
+    }
+
+    /**
+     * The bytes of a str, unicode (in the default encoding) or array argument. Byte arrays
+     * are returned without copying, so the data may be shorter than the returned array: see
+     * getLength.
+     */
+    private static byte[] getBytes(PyObject data, String funcname) {
+        if (data instanceof PyUnicode) {
+            return StringUtil.toBytes(((PyUnicode)data).encode());
+        } else if (data instanceof PyString) {
+            return StringUtil.toBytes(((PyString)data).getString());
+        } else if (data instanceof PyArray) {
+            Object storage = ((PyArray)data).getArrayStorage();
+            if (storage instanceof byte[]) {
+                return (byte[])storage;
+            }
+            return StringUtil.toBytes(((PyArray)data).tostring());
+        }
+        throw Py.TypeError(funcname + "() argument 1 must be string or read-only buffer, not "
+                           + data.getType().fastGetName());
+    }
+
+    private static int getLength(PyObject data, byte[] bytes) {
+        if (data instanceof PyArray && ((PyArray)data).getArrayStorage() == bytes) {
+            return data.__len__();
+        }
+        return bytes.length;
+    }
+
+    private static final ThreadLocal<Engines> engines = new ThreadLocal<Engines>() {
+        @Override
+        protected Engines initialValue() {
+            return new Engines();
+        }
+    };
+
+    /** Idle Deflaters and Inflaters of the current thread, with and without zlib headers. */
+    private static class Engines {
+
+        final List<Deflater> deflaters = Generic.list();
+
+        final List<Deflater> nowrapDeflaters = Generic.list();
+
+        final List<Inflater> inflaters = Generic.list();
+
+        final List<Inflater> nowrapInflaters = Generic.list();
+    }
+
+    static Deflater acquireDeflater(int level, int strategy, boolean nowrap) {
+        if (level < Z_DEFAULT_COMPRESSION || level > Z_BEST_COMPRESSION) {
+            throw error("Bad compression level");
+        }
+        Engines cache = engines.get();
+        List<Deflater> idle = nowrap ? cache.nowrapDeflaters : cache.deflaters;
+        Deflater deflater;
+        if (idle.isEmpty()) {
+            deflater = new Deflater(level, nowrap);
+        } else {
+            deflater = idle.remove(idle.size() - 1);
+            deflater.setLevel(level);
+        }
+        try {
+            deflater.setStrategy(strategy);
+        } catch (IllegalArgumentException iae) {
+            releaseDeflater(deflater, nowrap);
+            throw Py.ValueError("Invalid initialization option");
+        }
+        return deflater;
+    }
+
+    static void releaseDeflater(Deflater deflater, boolean nowrap) {
+        Engines cache = engines.get();
+        List<Deflater> idle = nowrap ? cache.nowrapDeflaters : cache.deflaters;
+        if (idle.size() < MAX_CACHED_ENGINES) {
+            deflater.reset();
+            idle.add(deflater);
+        } else {
+            deflater.end();
+        }
+    }
+
+    static Inflater acquireInflater(boolean nowrap) {
+        Engines cache = engines.get();
+        List<Inflater> idle = nowrap ? cache.nowrapInflaters : cache.inflaters;
+        return idle.isEmpty() ? new Inflater(nowrap) : idle.remove(idle.size() - 1);
+    }
+
+    static void releaseInflater(Inflater inflater, boolean nowrap) {
+        Engines cache = engines.get();
+        List<Inflater> idle = nowrap ? cache.nowrapInflaters : cache.inflaters;
+        if (idle.size() < MAX_CACHED_ENGINES) {
+            inflater.reset();
+            idle.add(inflater);
+        } else {
+            inflater.end();
+        }
+    }
+
+    /**
+     * A growable byte buffer, reused by the current thread, that output is deflated or
+     * inflated into.
+     */
+    private static class OutputBuffer {
+
+        private static final ThreadLocal<OutputBuffer> buffers =
+                new ThreadLocal<OutputBuffer>() {
+            @Override
+            protected OutputBuffer initialValue() {
+                return new OutputBuffer();
+            }
+        };
+
+        byte[] buf = new byte[DEF_BUF_SIZE];
+
+        int count;
+
+        static OutputBuffer get() {
+            OutputBuffer out = buffers.get();
+            out.count = 0;
+            return out;
+        }
+
+        void ensureCapacity(int capacity) {
+            if (capacity > buf.length) {
+                byte[] newBuf = new byte[Math.max(capacity, buf.length << 1)];
+                System.arraycopy(buf, 0, newBuf, 0, count);
+                buf = newBuf;
+            }
+        }
+
+        /**
+         * Deflate until the deflater needs more input (or has finished, once finish() was
+         * called on it).
+         */
+        void deflate(Deflater deflater) {
+            while (true) {
+                if (count == buf.length) {
+                    ensureCapacity(count + 1);
+                }
+                int n = deflater.deflate(buf, count, buf.length - count);
+                count += n;
+                if (n == 0 && (deflater.finished() || deflater.needsInput())) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Deflate with the sync or full flush mode (the same in zlib and java.util.zip)
+         * until all the pending output has been written.
+         */
+        void flush(Deflater deflater, int mode) {
+            while (true) {
+                if (count == buf.length) {
+                    ensureCapacity(count + 1);
+                }
+                int space = buf.length - count;
+                int n;
+                try {
+                    n = (Integer)deflateFlush.invoke(deflater, buf, count, space, mode);
+                } catch (InvocationTargetException ite) {
+                    throw Py.JavaError(ite.getCause());
+                } catch (IllegalAccessException iae) {
+                    throw Py.JavaError(iae);
+                }
+                count += n;
+                if (n < space) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Inflate until the inflater needs more input or has finished, or until
+         * maxLength bytes are output when maxLength is positive.
+         */
+        void inflate(Inflater inflater, int maxLength) {
+            while (!inflater.finished()) {
+                if (maxLength > 0 && count >= maxLength) {
+                    return;
+                }
+                if (count == buf.length) {
+                    ensureCapacity(count + 1);
+                }
+                int space = buf.length - count;
+                if (maxLength > 0) {
+                    space = Math.min(space, maxLength - count);
+                }
+                int n;
+                try {
+                    n = inflater.inflate(buf, count, space);
+                } catch (DataFormatException dfe) {
+                    throw error("Error -3 while decompressing data: " + dfe.getMessage());
+                }
+                count += n;
+                if (n == 0) {
+                    if (inflater.needsDictionary()) {
+                        throw error("Error 2 while decompressing data");
+                    }
+                    if (inflater.needsInput()) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        PyString toPyString() {
+            PyString result = new PyString(StringUtil.fromBytes(buf, 0, count));
+            count = 0;
+            if (buf.length > MAX_RETAINED_BUFFER) {
+                buf = new byte[DEF_BUF_SIZE];
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A compression object, as returned by compressobj().
+     */
+    @ExposedType(name = "zlib.Compress", isBaseType = false)
+    public static class Compress extends PyObject {
+
+        public static final PyType TYPE = PyType.fromClass(Compress.class);
+
+        private Deflater deflater;
+
+        private final boolean nowrap;
+
+        public Compress(int level, int strategy, boolean nowrap) {
+            super(TYPE);
+            this.nowrap = nowrap;
+            deflater = acquireDeflater(level, strategy, nowrap);
+        }
+
+        public PyString compress(PyObject data) {
+            return Compress_compress(data);
+        }
+
+        @ExposedMethod
+        final synchronized PyString Compress_compress(PyObject data) {
+            checkOpen();
+            byte[] bytes = getBytes(data, "compress");
+            deflater.setInput(bytes, 0, getLength(data, bytes));
+            OutputBuffer out = OutputBuffer.get();
+            out.deflate(deflater);
+            return out.toPyString();
+        }
+
+        public PyString flush(int mode) {
+            return Compress_flush(mode);
+        }
+
+        @ExposedMethod(defaults = {"" + Z_FINISH})
+        final synchronized PyString Compress_flush(int mode) {
+            if (mode == Z_NO_FLUSH) {
+                return Py.EmptyString;
+            } else if (mode != Z_SYNC_FLUSH && mode != Z_FULL_FLUSH && mode != Z_FINISH) {
+                throw Py.ValueError("Invalid flush option");
+            }
+            checkOpen();
+            OutputBuffer out = OutputBuffer.get();
+            if (mode != Z_FINISH) {
+                if (deflateFlush == null) {
+                    throw error("Z_SYNC_FLUSH and Z_FULL_FLUSH need Java 7 or later");
+                }
+                out.flush(deflater, mode);
+                return out.toPyString();
+            }
+            deflater.finish();
+            out.deflate(deflater);
+            releaseDeflater(deflater, nowrap);
+            deflater = null;
+            return out.toPyString();
+        }
+
+        private void checkOpen() {
+            if (deflater == null) {
+                throw error("compressobj may not be used after flush(Z_FINISH)");
+            }
+        }
+    }
+
+    /**
+     * A decompression object, as returned by decompressobj().
+     */
+    @ExposedType(name = "zlib.Decompress", isBaseType = false)
+    public static class Decompress extends PyObject {
+
+        public static final PyType TYPE = PyType.fromClass(Decompress.class);
+
+        /**
+         * The unused bytes of the input once the end of the compressed stream has been
+         * reached, empty otherwise.
+         */
+        @ExposedGet
+        public PyString unused_data = Py.EmptyString;
+
+        /**
+         * Input that wasn't used because max_length was reached first; it has to be passed
+         * to the next decompress call.
+         */
+        @ExposedGet
+        public PyString unconsumed_tail = Py.EmptyString;
+
+        private Inflater inflater;
+
+        private final boolean nowrap;
+
+        public Decompress(boolean nowrap) {
+            super(TYPE);
+            this.nowrap = nowrap;
+            inflater = acquireInflater(nowrap);
+        }
+
+        public PyString decompress(PyObject data, int max_length) {
+            return Decompress_decompress(data, max_length);
+        }
+
+        @ExposedMethod(defaults = {"0"})
+        final synchronized PyString Decompress_decompress(PyObject data, int max_length) {
+            if (inflater == null) {
+                throw error("decompressobj may not be used after flush()");
+            }
+            if (max_length < 0) {
+                throw Py.ValueError("max_length must be a positive integer");
+            }
+            unused_data = Py.EmptyString;
+            unconsumed_tail = Py.EmptyString;
+
+            byte[] bytes = getBytes(data, "decompress");
+            int length = getLength(data, bytes);
+            inflater.setInput(bytes, 0, length);
+            OutputBuffer out = OutputBuffer.get();
+            out.inflate(inflater, max_length);
+
+            int remaining = inflater.getRemaining();
+            if (remaining > 0) {
+                PyString rest = new PyString(StringUtil.fromBytes(bytes, length - remaining,
+                                                                  remaining));
+                if (inflater.finished()) {
+                    unused_data = rest;
+                } else {
+                    unconsumed_tail = rest;
+                }
+            }
+            return out.toPyString();
+        }
+
+        public PyString flush(int length) {
+            return Decompress_flush(length);
+        }
+
+        @ExposedMethod(defaults = {"0"})
+        final synchronized PyString Decompress_flush(int length) {
+            if (inflater == null) {
+                throw error("decompressobj may not be used after flush()");
+            }
+            if (length < 0) {
+                throw Py.ValueError("length must be greater than zero");
+            }
+            // length is only the initial size of the output buffer, flush returns all of
+            // the output still pending, including that of the unconsumed tail
+            OutputBuffer out = OutputBuffer.get();
+            if (length > 0) {
+                out.ensureCapacity(length);
+            }
+            out.inflate(inflater, 0);
+            releaseInflater(inflater, nowrap);
+            inflater = null;
+            unconsumed_tail = Py.EmptyString;
+            return out.toPyString();
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package org.python.util;
 
 import java.io.File;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
 import org.apache.tools.ant.BuildException;
-import org.python.core.PyException;
 import org.python.core.PySystemState;
 import org.python.core.imp;
 import org.python.modules._py_compile;
@@ -13,9 +13,33 @@ import org.python.modules._py_compile;
 /**
  * Compiles all python files in a directory to bytecode, and writes them to another directory,
  * possibly the same one.
+ *
+ * Files are compiled on as many threads as the threads attribute says, by default one per
+ * processor. With incremental set, files whose contents are unchanged since they were last
+ * compiled are skipped, as recorded in a manifest in the destination directory.
+ *
+ * @see ParallelCompiler
  */
 public class JycompileAntTask extends GlobMatchingTask {
 
+    private int threads;
+
+    private boolean incremental;
+
+    /**
+     * Set the number of threads to compile on; 0, the default, means one per processor.
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Set whether to skip files whose contents haven't changed since they were last compiled.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
     @Override
     public void process(Set<File> toCompile) throws BuildException {
         if (toCompile.size() == 0) {
@@ -28,6 +52,16 @@ public class JycompileAntTask extends GlobMatchingTask {
         Properties props = new Properties();
         props.setProperty(PySystemState.PYTHON_CACHEDIR_SKIP, "true");
         PySystemState.initialize(System.getProperties(), props);
+        ParallelCompiler compiler = new ParallelCompiler(threads) {
+            @Override
+            protected void compile(File src, byte[] contents, File compiled, String moduleName) {
+                JycompileAntTask.this.compile(src, compiled, moduleName);
+            }
+        };
+        if (incremental) {
+            File manifestDir = destDir != null ? destDir : getProject().getBaseDir();
+            compiler.setManifest(new File(manifestDir, ParallelCompiler.MANIFEST));
+        }
         for (File src : toCompile) {
             String name = _py_compile.getModuleName(src);
             String compiledFilePath = name.replace('.', '/');
@@ -35,7 +69,23 @@ public class JycompileAntTask extends GlobMatchingTask {
                 compiledFilePath += "/__init__";
             }
             File compiled = new File(destDir, compiledFilePath + "$py.class");
-            compile(src, compiled, name);
+            compiler.add(src, compiled, name);
+        }
+        boolean ok = compiler.run();
+        if (compiler.getSkipped() > 0) {
+            log("Skipped " + compiler.getSkipped() + " unchanged files");
+        }
+        if (!ok) {
+            for (Map.Entry<File, RuntimeException> failure : compiler.getFailures().entrySet()) {
+                RuntimeException e = failure.getValue();
+                if (e instanceof BuildException) {
+                    log(failure.getKey() + ": " + e.getMessage());
+                } else {
+                    log("Compiling " + failure.getKey() + " failed:");
+                    e.printStackTrace();
+                }
+            }
+            throw new BuildException("Compile failed; see the compiler error output for details.");
         }
     }
 
@@ -43,20 +93,18 @@ public class JycompileAntTask extends GlobMatchingTask {
      * Compiles the python file <code>src</code> to bytecode filling in <code>moduleName</code> as
      * its name, and stores it in <code>compiled</code>. This is called by process for every file
      * that's compiled, so subclasses can override this method to affect or track the compilation.
+     * It's called on several threads at once.
      */
     protected void compile(File src, File compiled, String moduleName) {
-        byte[] bytes;
-        try {
-            bytes = imp.compileSource(moduleName, src);
-        } catch (PyException pye) {
-            pye.printStackTrace();
-            throw new BuildException("Compile failed; see the compiler error output for details.");
-        }
+        byte[] bytes = imp.compileSource(moduleName, src);
         File dir = compiled.getParentFile();
-        if (!dir.exists() && !compiled.getParentFile().mkdirs()) {
+        if (!dir.exists() && !compiled.getParentFile().mkdirs() && !dir.isDirectory()) {
             throw new BuildException("Unable to make directory for compiled file: " + compiled);
         }
-        imp.cacheCompiledSource(src.getAbsolutePath(), compiled.getAbsolutePath(), bytes);
+        if (imp.cacheCompiledSource(src.getAbsolutePath(), compiled.getAbsolutePath(),
+                                    bytes) == null) {
+            throw new BuildException("Unable to write compiled file: " + compiled);
+        }
     }
 
     protected String getFrom() {
@@ -0,0 +1,484 @@
+/* Copyright (c) Jython Developers */
+package org.python.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassAdapter;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Type;
+import org.python.compiler.MTime;
+import org.python.core.AnnotationReader;
+import org.python.core.Py;
+import org.python.core.PyException;
+import org.python.core.PySystemState;
+import org.python.core.imp;
+import org.python.modules._py_compile;
+
+/**
+ * Compiles python files to $py.class files on several threads.
+ *
+ * Each thread takes the next file not yet taken, largest first, so threads that draw small
+ * files come back for more while others are busy with big ones. Each $py.class file is
+ * written to a temporary file and then renamed, so it's never seen partly written.
+ *
+ * With a manifest, compilation is incremental: a hash of each file's contents is recorded
+ * in the manifest, and a file whose hash and $py.class file are unchanged since is skipped
+ * even if its modification time has moved on. A $py.class file skipped like that has the new
+ * modification time written into it in place of the old one, and is made at least as new as
+ * its .py file, so that imports (and build tools comparing the two) take it as up to date.
+ *
+ * Also usable from the command line; see {@link #main}.
+ */
+public class ParallelCompiler {
+
+    /** The name of the manifest in the destination directory, used by default */
+    public static final String MANIFEST = ".jycompile";
+
+    private static final String usage =
+        "usage: java " + ParallelCompiler.class.getName()
+        + " [-j threads] [-d destdir] [-i] path ...\n"
+        + "Compile the .py files at path, or under it if it's a directory.\n"
+        + "-j threads : compile on this many threads (default: one per processor)\n"
+        + "-d destdir : write $py.class files under destdir, named after their modules\n"
+        + "             (default: next to each .py file)\n"
+        + "-i         : skip files whose contents haven't changed since they were last\n"
+        + "             compiled, as recorded in " + MANIFEST + " in destdir (default: the\n"
+        + "             current directory)\n";
+
+    private final int threads;
+
+    private final List<Job> jobs = Generic.list();
+
+    private File manifest;
+
+    /** The hashes read from the manifest, by compiled file path */
+    private Properties hashes;
+
+    /** The hashes to write to the manifest, by compiled file path */
+    private final Map<String, String> newHashes = new ConcurrentHashMap<String, String>();
+
+    private final Map<File, RuntimeException> failures =
+            new ConcurrentHashMap<File, RuntimeException>();
+
+    private final AtomicInteger compiled = new AtomicInteger();
+
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    /**
+     * @param threads the number of threads to compile on, or 0 for one per processor
+     */
+    public ParallelCompiler(int threads) {
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Make compilation incremental, recording the hashes of the files compiled in manifest.
+     */
+    public void setManifest(File manifest) {
+        this.manifest = manifest;
+    }
+
+    /**
+     * Add a file to be compiled by {@link #run}.
+     */
+    public void add(File source, File compiled, String moduleName) {
+        jobs.add(new Job(source, compiled, moduleName));
+    }
+
+    /**
+     * Compile the files added, returning once they're all done.
+     *
+     * @return true if they all compiled; otherwise see {@link #getFailures}
+     */
+    public boolean run() {
+        if (manifest != null) {
+            hashes = loadManifest(manifest);
+        }
+        final Job[] todo = jobs.toArray(new Job[jobs.size()]);
+        Arrays.sort(todo, new Comparator<Job>() {
+            public int compare(Job a, Job b) {
+                return a.size < b.size ? 1 : a.size > b.size ? -1 : 0;
+            }
+        });
+        final AtomicInteger next = new AtomicInteger();
+        Runnable worker = new Runnable() {
+            public void run() {
+                int i;
+                while ((i = next.getAndIncrement()) < todo.length) {
+                    process(todo[i]);
+                }
+            }
+        };
+        int count = Math.min(threads, todo.length);
+        Thread[] workers = new Thread[Math.max(count - 1, 0)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Thread(worker, "jycompile-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+        // The calling thread does its share too
+        worker.run();
+        boolean interrupted = false;
+        for (Thread thread : workers) {
+            while (true) {
+                try {
+                    thread.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (manifest != null) {
+            saveManifest();
+        }
+        return failures.isEmpty();
+    }
+
+    /**
+     * Return the number of files compiled by {@link #run}.
+     */
+    public int getCompiled() {
+        return compiled.get();
+    }
+
+    /**
+     * Return the number of files skipped by {@link #run} as unchanged.
+     */
+    public int getSkipped() {
+        return skipped.get();
+    }
+
+    /**
+     * Return the exceptions raised compiling files, by source file.
+     */
+    public Map<File, RuntimeException> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    private void process(Job job) {
+        try {
+            String key = job.compiled.getAbsolutePath();
+            byte[] source = null;
+            if (hashes != null) {
+                source = readFile(job.source);
+                String hash = hash(source);
+                if (hash.equals(hashes.getProperty(key)) && job.compiled.isFile()
+                        && makeCurrent(job.source, job.compiled)) {
+                    newHashes.put(key, hash);
+                    skipped.incrementAndGet();
+                    return;
+                }
+                // Not recorded until it's compiled, so a failed file is tried again
+                compile(job.source, source, job.compiled, job.moduleName);
+                newHashes.put(key, hash);
+            } else {
+                compile(job.source, source, job.compiled, job.moduleName);
+            }
+            compiled.incrementAndGet();
+        } catch (RuntimeException e) {
+            failures.put(job.source, e);
+        } catch (IOException e) {
+            failures.put(job.source, Py.IOError(e));
+        }
+    }
+
+    /**
+     * Compile the python file <code>source</code> to bytecode, filling in
+     * <code>moduleName</code> as its name, and store it in <code>compiled</code>. This is
+     * called on one of the compiling threads for every file that's compiled, so subclasses
+     * can override it to affect or track the compilation.
+     *
+     * @param contents the contents of source, if they've already been read, otherwise null
+     */
+    protected void compile(File source, byte[] contents, File compiled, String moduleName) {
+        InputStream stream;
+        try {
+            stream = contents != null ? new ByteArrayInputStream(contents)
+                    : new FileInputStream(source);
+        } catch (IOException e) {
+            throw Py.IOError(e);
+        }
+        byte[] bytes = imp.compileSource(moduleName, stream, source.toString(),
+                                         source.lastModified());
+        File dir = compiled.getAbsoluteFile().getParentFile();
+        if (!dir.isDirectory() && !dir.mkdirs() && !dir.isDirectory()) {
+            throw Py.IOError("Unable to make directory for compiled file: " + compiled);
+        }
+        if (imp.cacheCompiledSource(source.getAbsolutePath(), compiled.getAbsolutePath(),
+                                    bytes) == null) {
+            throw Py.IOError("Unable to write compiled file: " + compiled);
+        }
+    }
+
+    /**
+     * Make compiled, compiled from the same contents as source, current for source's
+     * modification time, which imp looks for in it and which it must be no older than.
+     * Returns false if that can't be done.
+     */
+    private static boolean makeCurrent(File source, File compiled) {
+        long mtime = source.lastModified();
+        try {
+            byte[] bytes = readFile(compiled);
+            if (new AnnotationReader(bytes).getMTime() != mtime) {
+                if (imp.cacheCompiledSource(source.getAbsolutePath(), compiled.getAbsolutePath(),
+                                            restamp(bytes, mtime)) == null) {
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            return false;
+        } catch (RuntimeException e) {
+            // Not a class file ASM can read
+            return false;
+        }
+        return compiled.lastModified() >= mtime || compiled.setLastModified(mtime);
+    }
+
+    /**
+     * Return the class file bytes with mtime as the modification time of its source.
+     */
+    private static byte[] restamp(byte[] bytes, final long mtime) {
+        final String mtimeDesc = Type.getDescriptor(MTime.class);
+        ClassReader reader = new ClassReader(bytes);
+        ClassWriter writer = new ClassWriter(reader, 0);
+        reader.accept(new ClassAdapter(writer) {
+            @Override
+            public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+                AnnotationVisitor av = super.visitAnnotation(desc, visible);
+                if (!desc.equals(mtimeDesc)) {
+                    return av;
+                }
+                av.visit("value", new Long(mtime));
+                av.visitEnd();
+                // Leave out the old value
+                return null;
+            }
+        }, 0);
+        return writer.toByteArray();
+    }
+
+    private static byte[] readFile(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            byte[] bytes = new byte[(int)file.length()];
+            int n = 0;
+            while (n < bytes.length) {
+                int read = in.read(bytes, n, bytes.length - n);
+                if (read == -1) {
+                    break;
+                }
+                n += read;
+            }
+            if (n < bytes.length || in.read() != -1) {
+                // Changed while being read; take another look next time
+                throw new IOException("file changed while being read: " + file);
+            }
+            return bytes;
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Return a hash of the contents of a file and the version of the compiler, so that a
+     * new compiler compiles everything again.
+     */
+    private static String hash(byte[] contents) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw Py.JavaError(e);
+        }
+        byte[] bytes = digest.digest(contents);
+        StringBuilder hash = new StringBuilder(bytes.length * 2 + 4);
+        for (byte b : bytes) {
+            hash.append(Character.forDigit((b >> 4) & 0xf, 16));
+            hash.append(Character.forDigit(b & 0xf, 16));
+        }
+        return hash.append('-').append(imp.getAPIVersion()).toString();
+    }
+
+    private static Properties loadManifest(File manifest) {
+        Properties props = new Properties();
+        if (!manifest.isFile()) {
+            return props;
+        }
+        try {
+            InputStream in = new FileInputStream(manifest);
+            try {
+                props.load(in);
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            // Start afresh
+            props.clear();
+        }
+        return props;
+    }
+
+    private void saveManifest() {
+        Properties props = new Properties();
+        // Keep the entries of files not compiled this time
+        props.putAll(hashes);
+        for (Job job : jobs) {
+            props.remove(job.compiled.getAbsolutePath());
+        }
+        props.putAll(newHashes);
+        File temp = null;
+        try {
+            File dir = manifest.getAbsoluteFile().getParentFile();
+            temp = File.createTempFile(manifest.getName(), ".tmp", dir);
+            OutputStream out = new FileOutputStream(temp);
+            try {
+                props.store(out, "Hashes of the files compiled by " + getClass().getName());
+            } finally {
+                out.close();
+            }
+            if (!temp.renameTo(manifest)) {
+                manifest.delete();
+                if (!temp.renameTo(manifest)) {
+                    throw new IOException("unable to rename " + temp);
+                }
+            }
+            temp = null;
+        } catch (IOException e) {
+            // Only costs compiling everything again next time
+            Py.writeWarning("jycompile", "Unable to write manifest '" + manifest + "' due to "
+                            + e);
+        } finally {
+            if (temp != null) {
+                temp.delete();
+            }
+        }
+    }
+
+    /**
+     * Add the .py files at path, or under it if it's a directory, to compiler.
+     */
+    private static void addPath(ParallelCompiler compiler, File path, File destDir) {
+        if (path.isDirectory()) {
+            File[] children = path.listFiles();
+            if (children != null) {
+                for (File child : children) {
+                    if (child.isDirectory() || child.getName().endsWith(".py")) {
+                        addPath(compiler, child, destDir);
+                    }
+                }
+            }
+            return;
+        }
+        String name = _py_compile.getModuleName(path);
+        File compiled;
+        if (destDir == null) {
+            compiled = new File(imp.makeCompiledFilename(path.getPath()));
+        } else {
+            String compiledPath = name.replace('.', '/');
+            if (path.getName().equals("__init__.py")) {
+                compiledPath += "/__init__";
+            }
+            compiled = new File(destDir, compiledPath + "$py.class");
+        }
+        compiler.add(path, compiled, name);
+    }
+
+    public static void main(String[] args) {
+        int threads = 0;
+        File destDir = null;
+        boolean incremental = false;
+        int i = 0;
+        try {
+            for (; i < args.length && args[i].startsWith("-"); i++) {
+                if (args[i].equals("-j")) {
+                    threads = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("-d")) {
+                    destDir = new File(args[++i]);
+                } else if (args[i].equals("-i")) {
+                    incremental = true;
+                } else {
+                    throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            // a bad option, a missing argument or a bad number
+            System.err.print(usage);
+            System.exit(2);
+        }
+        if (i == args.length) {
+            System.err.print(usage);
+            System.exit(2);
+        }
+
+        Properties props = new Properties();
+        props.setProperty(PySystemState.PYTHON_CACHEDIR_SKIP, "true");
+        PySystemState.initialize(System.getProperties(), props);
+
+        ParallelCompiler compiler = new ParallelCompiler(threads);
+        if (incremental) {
+            compiler.setManifest(new File(destDir != null ? destDir : new File("."), MANIFEST));
+        }
+        for (; i < args.length; i++) {
+            File path = new File(args[i]);
+            if (!path.exists()) {
+                System.err.println("Can't find '" + path + "'");
+                System.exit(2);
+            }
+            addPath(compiler, path, destDir);
+        }
+        boolean ok = compiler.run();
+        for (Map.Entry<File, RuntimeException> failure : compiler.getFailures().entrySet()) {
+            System.err.println("Compiling " + failure.getKey() + " failed:");
+            RuntimeException e = failure.getValue();
+            if (e instanceof PyException) {
+                Py.printException(e);
+            } else {
+                e.printStackTrace();
+            }
+        }
+        System.out.println("Compiled " + compiler.getCompiled() + " files, skipped "
+                           + compiler.getSkipped() + " unchanged, "
+                           + compiler.getFailures().size() + " failed");
+        System.exit(ok ? 0 : 1);
+    }
+
+    private static final class Job {
+
+        final File source;
+
+        final File compiled;
+
+        final String moduleName;
+
+        final long size;
+
+        Job(File source, File compiled, String moduleName) {
+            this.source = source;
+            this.compiled = compiled;
+            this.moduleName = moduleName;
+            size = source.length();
+        }
+    }
+}
@@ -170,6 +170,8 @@ goto scanArgs
 
 :argsDone
 rem do not use 'if () else ()': this does not work with CLASSPATH containing '(x86)'
+rem map in the classes of startup dumped by 'ant startup-image', if there's an archive
+if not defined _BOOT_CP if exist "%_JYTHON_HOME:"=%\jython.jsa" set _JAVA_OPTS=%_JAVA_OPTS% -XX:+IgnoreUnrecognizedVMOptions -Xshare:auto -XX:SharedArchiveFile="%_JYTHON_HOME:"=%\jython.jsa"
 if defined _BOOT_CP goto fullCmd
 if defined CLASSPATH goto classpathDefined
 set CLASSPATH=%_CP:"=%
@@ -0,0 +1,140 @@
+package org.python.core;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for running code compiled at runtime interpreted before compiling it.
+ */
+public class TieredFunctionTableTest extends TestCase {
+
+    private int threshold;
+
+    @Override
+    protected void setUp() throws Exception {
+        PySystemState.initialize();
+        threshold = Options.compileThreshold;
+        Options.compileThreshold = 2;
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        Options.compileThreshold = threshold;
+    }
+
+    private PyCode compile(String source, CompileMode kind) {
+        return Py.compile_flags(source, "<test>", kind, new CompilerFlags());
+    }
+
+    private static boolean isTiered(PyCode code) {
+        return ((PyTableCode)code).funcs instanceof TieredFunctionTable;
+    }
+
+    public void testStraightLineCodeInterpretedThenCompiled() {
+        PyCode code = compile("spam = [eggs, eggs * 2][1:]\neggs += 1", CompileMode.exec);
+        assertTrue(isTiered(code));
+        PyStringMap globals = new PyStringMap();
+        globals.__setitem__("eggs", Py.newInteger(1));
+        for (int i = 1; i <= 4; i++) {
+            Py.runCode(code, null, globals);
+            assertEquals(new PyList(new PyObject[] {Py.newInteger(i * 2)}),
+                         globals.__getitem__("spam"));
+            assertEquals(Py.newInteger(i + 1), globals.__getitem__("eggs"));
+        }
+    }
+
+    public void testExpressionInterpretedThenCompiled() {
+        PyCode code = compile("'%s-%d' % ('x', 6 * 7)", CompileMode.eval);
+        assertTrue(isTiered(code));
+        for (int i = 0; i < 4; i++) {
+            assertEquals(new PyString("x-42"), Py.runCode(code, null, new PyStringMap()));
+        }
+    }
+
+    public void testNamesLookedUpLikeCompiledCode() {
+        PyStringMap globals = new PyStringMap();
+        Py.runCode(compile("def f(a=1): pass", CompileMode.exec), null, globals);
+        PyCode code = compile("flags = f.func_code.co_flags & 4\nname = f.func_code.co_name\n"
+                              + "f(a=2)", CompileMode.exec);
+        assertTrue(isTiered(code));
+        for (int i = 0; i < 4; i++) {
+            Py.runCode(code, null, globals);
+            assertEquals(Py.newInteger(0), globals.__getitem__("flags"));
+            assertEquals(new PyString("f"), globals.__getitem__("name"));
+        }
+    }
+
+    public void testErrorsRaisedAtTheirLine() {
+        PyCode code = compile("a = 1\n\nb = a.missing", CompileMode.exec);
+        for (int i = 0; i < 4; i++) {
+            try {
+                Py.runCode(code, null, new PyStringMap());
+                fail("expected an AttributeError");
+            } catch (PyException pye) {
+                assertTrue(pye.match(Py.AttributeError));
+                assertEquals(3, pye.traceback.tb_lineno);
+            }
+        }
+    }
+
+    public void testTracedLikeCompiledCode() {
+        String source = "a = 1\nb = (a\n     if a else\n     2)\nc = [a,\n     b]";
+        Options.compileThreshold = 0;
+        // Under another name, so it isn't taken from the compiled code cache below
+        String compiled = trace(Py.compile_flags(source, "<compiled>", CompileMode.exec,
+                                                 new CompilerFlags()));
+        Options.compileThreshold = 2;
+        PyCode code = compile(source, CompileMode.exec);
+        assertTrue(isTiered(code));
+        for (int i = 0; i < 4; i++) {
+            assertEquals(compiled, trace(code));
+        }
+    }
+
+    /**
+     * Run code with a trace function, returning the events traced.
+     */
+    private static String trace(PyCode code) {
+        final StringBuilder events = new StringBuilder();
+        ThreadState ts = Py.getThreadState();
+        ts.tracefunc = new TraceFunction() {
+            @Override
+            public TraceFunction traceCall(PyFrame frame) {
+                events.append("call ");
+                return this;
+            }
+
+            @Override
+            public TraceFunction traceReturn(PyFrame frame, PyObject ret) {
+                events.append("return ");
+                return this;
+            }
+
+            @Override
+            public TraceFunction traceLine(PyFrame frame, int line) {
+                events.append("line ").append(line).append(' ');
+                return this;
+            }
+
+            @Override
+            public TraceFunction traceException(PyFrame frame, PyException exc) {
+                events.append("exception ");
+                return this;
+            }
+        };
+        try {
+            Py.runCode(code, null, new PyStringMap());
+        } finally {
+            ts.tracefunc = null;
+        }
+        return events.toString();
+    }
+
+    public void testOtherCodeCompiledStraightAway() {
+        assertFalse(isTiered(compile("for i in range(3): pass", CompileMode.exec)));
+        assertFalse(isTiered(compile("def f(): pass", CompileMode.exec)));
+        assertFalse(isTiered(compile("from __future__ import division", CompileMode.exec)));
+        assertFalse(isTiered(compile("[i for i in range(3)]", CompileMode.eval)));
+        Options.compileThreshold = 0;
+        assertFalse(isTiered(compile("a = 1", CompileMode.exec)));
+    }
+}
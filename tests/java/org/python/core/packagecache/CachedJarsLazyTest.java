@@ -0,0 +1,83 @@
+package org.python.core.packagecache;
+
+import java.io.File;
+
+import org.python.core.PyJavaPackage;
+import org.python.core.PyList;
+
+import junit.framework.TestCase;
+
+public class CachedJarsLazyTest extends TestCase {
+
+    private File cachedir;
+
+    private File jarFile;
+
+    @Override
+    public void setUp() throws Exception {
+        cachedir = File.createTempFile("lazycache", "");
+        cachedir.delete();
+        File cwd = new File(System.getProperty("python.test.source.dir"),
+                            getClass().getPackage().getName().replace(".", "/"));
+        jarFile = new File(cwd, "vim25-small.jar");
+    }
+
+    @Override
+    public void tearDown() {
+        File[] files = cachedir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        cachedir.delete();
+    }
+
+    public void testUnindexedJarGatheredOnFirstLookup() {
+        LazyPackageManager packageManager = new LazyPackageManager(cachedir);
+        packageManager.addJarToPackages(jarFile, true);
+        assertNull(packageManager.topLevelPackage.__dict__.__finditem__("com"));
+        assertTrue(packageManager.loadPackages("org"));
+        assertNotNull(packageManager.topLevelPackage.__dict__.__finditem__("com"));
+        assertFalse(packageManager.loadPackages("com"));
+    }
+
+    public void testIndexedJarGatheredForItsPackages() {
+        LazyPackageManager packageManager = new LazyPackageManager(cachedir);
+        packageManager.addJarToPackages(jarFile, true);
+        // Gathering the jar indexes it
+        packageManager.loadPackages("");
+        packageManager = new LazyPackageManager(cachedir);
+        packageManager.addJarToPackages(jarFile, true);
+        assertFalse(packageManager.loadPackages("org"));
+        assertFalse(packageManager.loadPackages("com.vmware.vim"));
+        assertNull(packageManager.topLevelPackage.__dict__.__finditem__("com"));
+        assertTrue(packageManager.loadPackages("com.vmware"));
+        assertNotNull(packageManager.lookupName("com.vmware.vim25"));
+    }
+
+    private class LazyPackageManager extends CachedJarsPackageManager {
+
+        public LazyPackageManager(File cachedir) {
+            if (useCacheDir(cachedir)) {
+                initCache();
+            }
+            setLazy(true);
+        }
+
+        @Override
+        public void addDirectory(File dir) {}
+        @Override
+        public void addJar(String jarfile, boolean cache) {}
+        @Override
+        public void addJarDir(String dir, boolean cache) {}
+        @Override
+        public PyList doDir(PyJavaPackage jpkg, boolean instantiate, boolean exclpkgs) {
+            return null;
+        }
+        @Override
+        public Class<?> findClass(String pkg, String name, String reason) { return null; }
+        @Override
+        public boolean packageExists(String pkg, String name) { return false; }
+    }
+}
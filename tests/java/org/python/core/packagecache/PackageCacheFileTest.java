@@ -0,0 +1,155 @@
+package org.python.core.packagecache;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.python.core.PyJavaPackage;
+import org.python.core.PyList;
+import org.python.util.Generic;
+
+import junit.framework.TestCase;
+
+public class PackageCacheFileTest extends TestCase {
+
+    private File cachedir;
+
+    @Override
+    public void setUp() throws Exception {
+        cachedir = File.createTempFile("packagecache", "");
+        cachedir.delete();
+        cachedir.mkdir();
+    }
+
+    @Override
+    public void tearDown() {
+        for (File file : cachedir.listFiles()) {
+            file.delete();
+        }
+        cachedir.delete();
+    }
+
+    public void testRoundTrip() throws IOException {
+        Map<String, String> packages = Generic.map();
+        packages.put("a.b", "C,D@E");
+        packages.put("a", "F");
+        packages.put("a.c", "@G,H");
+        Map<String, PackageCacheFile.Jar> jars = Generic.map();
+        jars.put("/x.jar", new PackageCacheFile.Jar(42, packages));
+        jars.put("/y.jar", new PackageCacheFile.Jar(43, Generic.<String, String>map()));
+
+        PackageCacheFile cacheFile = PackageCacheFile.update(cachedir, jars);
+        assertEquals(packages, cacheFile.get("/x.jar").packages);
+        assertEquals(42, cacheFile.get("/x.jar").mtime);
+        assertEquals(0, cacheFile.get("/y.jar").packages.size());
+        assertNull(cacheFile.get("/z.jar"));
+        String[] names = cacheFile.getPackageNames("/x.jar", 42);
+        Arrays.sort(names);
+        assertEquals(Arrays.asList("a", "a.b", "a.c"), Arrays.asList(names));
+        assertNull(cacheFile.getPackageNames("/x.jar", 41));
+    }
+
+    public void testCorruptCountsIgnored() throws IOException {
+        Map<String, String> packages = Generic.map();
+        packages.put("a.b", "C,D@E");
+        Map<String, PackageCacheFile.Jar> jars = Generic.map();
+        jars.put("/x.jar", new PackageCacheFile.Jar(42, packages));
+        PackageCacheFile.update(cachedir, jars);
+        File file = cachedir.listFiles(new FilenameFilter() {
+            public boolean accept(File dir, String name) {
+                return name.endsWith(".cache");
+            }
+        })[0];
+        // The package count, then the public and other class counts of the only package
+        for (int offset : new int[] {12, 20, 24}) {
+            for (int count : new int[] {-1, Integer.MAX_VALUE, 1 << 29}) {
+                RandomAccessFile raf = new RandomAccessFile(file, "rw");
+                int record = 0;
+                try {
+                    // The first (only) non-empty slot of the hash table after the header
+                    for (int slot = 24; record == 0; slot += 8) {
+                        raf.seek(slot + 4);
+                        record = raf.readInt();
+                    }
+                    raf.seek(record + offset);
+                    int saved = raf.readInt();
+                    raf.seek(record + offset);
+                    raf.writeInt(count);
+                    PackageCacheFile cacheFile = PackageCacheFile.open(cachedir);
+                    assertNull(cacheFile.getPackageNames("/x.jar", 42));
+                    assertNull(cacheFile.get("/x.jar"));
+                    raf.seek(record + offset);
+                    raf.writeInt(saved);
+                } finally {
+                    raf.close();
+                }
+            }
+        }
+        assertEquals(packages, PackageCacheFile.open(cachedir).get("/x.jar").packages);
+    }
+
+    public void testConcurrentUpdatesMerged() throws IOException {
+        File jar1 = makeJar("one.jar", "p/q/A.class");
+        File jar2 = makeJar("two.jar", "r/B.class");
+        // As if in two JVMs started together
+        TestPackageManager first = new TestPackageManager(cachedir);
+        TestPackageManager second = new TestPackageManager(cachedir);
+        first.addJarToPackages(jar1, true);
+        first.saveCache();
+        second.addJarToPackages(jar2, true);
+        second.saveCache();
+
+        PackageCacheFile cacheFile = PackageCacheFile.open(cachedir);
+        assertEquals(Arrays.asList("p.q"), Arrays.asList(cacheFile.getPackageNames(
+                jar1.getCanonicalPath(), jar1.lastModified())));
+        assertEquals(Arrays.asList("r"), Arrays.asList(cacheFile.getPackageNames(
+                jar2.getCanonicalPath(), jar2.lastModified())));
+        // Only the newest generation is kept
+        int cacheFiles = 0;
+        for (String name : cachedir.list()) {
+            if (name.endsWith(".cache")) {
+                cacheFiles++;
+            }
+        }
+        assertEquals(1, cacheFiles);
+    }
+
+    private File makeJar(String name, String entry) throws IOException {
+        File jar = new File(cachedir, name);
+        ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar));
+        out.putNextEntry(new ZipEntry(entry));
+        out.write(new byte[] {(byte)0xca, (byte)0xfe});
+        out.close();
+        return jar;
+    }
+
+    private class TestPackageManager extends CachedJarsPackageManager {
+
+        public TestPackageManager(File cachedir) {
+            if (useCacheDir(cachedir)) {
+                initCache();
+            }
+        }
+
+        @Override
+        public void addDirectory(File dir) {}
+        @Override
+        public void addJar(String jarfile, boolean cache) {}
+        @Override
+        public void addJarDir(String dir, boolean cache) {}
+        @Override
+        public PyList doDir(PyJavaPackage jpkg, boolean instantiate, boolean exclpkgs) {
+            return null;
+        }
+        @Override
+        public Class<?> findClass(String pkg, String name, String reason) { return null; }
+        @Override
+        public boolean packageExists(String pkg, String name) { return false; }
+    }
+}
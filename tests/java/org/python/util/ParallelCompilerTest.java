@@ -0,0 +1,137 @@
+package org.python.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+import org.python.core.Py;
+import org.python.core.PyString;
+import org.python.core.PySystemState;
+import org.python.core.imp;
+
+public class ParallelCompilerTest extends TestCase {
+
+    private File dir;
+
+    @Override
+    protected void setUp() throws Exception {
+        PySystemState.initialize();
+        dir = File.createTempFile("parallelcompiler", "");
+        dir.delete();
+        dir.mkdir();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        for (File file : dir.listFiles()) {
+            file.delete();
+        }
+        dir.delete();
+    }
+
+    private File writeModule(String name, String source) throws IOException {
+        File file = new File(dir, name + ".py");
+        FileWriter out = new FileWriter(file);
+        try {
+            out.write(source);
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+
+    private static File compiledFile(File source) {
+        return new File(imp.makeCompiledFilename(source.getPath()));
+    }
+
+    private ParallelCompiler compiler(boolean incremental, File... sources) {
+        ParallelCompiler compiler = new ParallelCompiler(2);
+        if (incremental) {
+            compiler.setManifest(new File(dir, ParallelCompiler.MANIFEST));
+        }
+        for (File source : sources) {
+            String name = source.getName();
+            compiler.add(source, compiledFile(source), name.substring(0, name.length() - 3));
+        }
+        return compiler;
+    }
+
+    private static byte[] read(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            byte[] bytes = new byte[(int)file.length()];
+            int n = 0;
+            while (n < bytes.length) {
+                n += in.read(bytes, n, bytes.length - n);
+            }
+            return bytes;
+        } finally {
+            in.close();
+        }
+    }
+
+    public void testCompile() throws IOException {
+        File[] sources = new File[5];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = writeModule("pcmod" + i, "x = " + i + "\n");
+        }
+        ParallelCompiler compiler = compiler(false, sources);
+        assertTrue(compiler.run());
+        assertEquals(sources.length, compiler.getCompiled());
+        assertEquals(0, compiler.getSkipped());
+        for (File source : sources) {
+            assertTrue(compiledFile(source).isFile());
+        }
+    }
+
+    public void testFailuresReported() throws IOException {
+        File good = writeModule("pcgood", "x = 1\n");
+        File bad = writeModule("pcbad", "x = (\n");
+        ParallelCompiler compiler = compiler(false, good, bad);
+        assertFalse(compiler.run());
+        assertEquals(1, compiler.getCompiled());
+        assertEquals(Arrays.asList(bad), Arrays.asList(compiler.getFailures().keySet().toArray()));
+        assertTrue(compiledFile(good).isFile());
+        assertFalse(compiledFile(bad).exists());
+    }
+
+    public void testIncrementalSkipsUnchanged() throws IOException {
+        File same = writeModule("pcsame", "x = 1\n");
+        File changed = writeModule("pcchanged", "x = 1\n");
+        assertTrue(compiler(true, same, changed).run());
+        writeModule("pcchanged", "x = 2\n");
+        ParallelCompiler compiler = compiler(true, same, changed);
+        assertTrue(compiler.run());
+        assertEquals(1, compiler.getCompiled());
+        assertEquals(1, compiler.getSkipped());
+    }
+
+    public void testSkippedModuleImportedWithoutRecompiling() throws IOException {
+        File source = writeModule("pcskipped", "x = 42\n");
+        assertTrue(compiler(true, source).run());
+        // Only the modification time changes
+        assertTrue(source.setLastModified(source.lastModified() + 60000));
+        ParallelCompiler compiler = compiler(true, source);
+        assertTrue(compiler.run());
+        assertEquals(1, compiler.getSkipped());
+
+        File compiled = compiledFile(source);
+        byte[] bytes = read(compiled);
+        long mtime = compiled.lastModified();
+        PySystemState sys = Py.getSystemState();
+        sys.path.insert(0, new PyString(dir.getPath()));
+        try {
+            assertEquals(42, imp.importName("pcskipped", true).__getattr__("x").asInt());
+        } finally {
+            sys.path.remove(new PyString(dir.getPath()));
+            sys.modules.__delitem__("pcskipped");
+        }
+        assertEquals(mtime, compiled.lastModified());
+        assertTrue(Arrays.equals(bytes, read(compiled)));
+    }
+}